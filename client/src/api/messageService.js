@@ -1,5 +1,10 @@
 import api from './axiosConfig';
 
+// 이보다 큰 이미지는 청크로 나눠 이어 올리기 (모바일 등 불안정한 네트워크에서 처음부터 다시 보내지 않도록)
+const RESUMABLE_THRESHOLD = 1024 * 1024;
+const RESUMABLE_MAX_RETRIES = 5;
+const RESUMABLE_RETRY_DELAY_MS = 1000;
+
 /**
  * 메시지 관련 API 서비스
  */
@@ -107,26 +112,79 @@ export const messageService = {
   },
 
   /**
-   * 이미지를 단일 multipart 요청으로 업로드 (대용량 파일용)
+   * 이미지를 요청 본문에 그대로 실어 업로드 (대용량 파일용, 형식은 서버가 첫 바이트로 판별)
    * @param chatRoomId 채팅방 ID
    * @param userId 사용자 ID
    * @param file 파일 객체
    * @returns 전송된 메시지
    */
   uploadImageFile: async (chatRoomId, userId, file) => {
+    if (file.size > RESUMABLE_THRESHOLD) {
+      return messageService.uploadImageResumable(chatRoomId, userId, file);
+    }
     try {
-      const formData = new FormData();
-      formData.append('file', file);
-      formData.append('userId', userId);
-
-      const response = await api.post(`/chat-rooms/${chatRoomId}/messages/upload?userId=${userId}`, formData, {
+      // 본문에 파일을 그대로 실어 보낸다 (멀티파트 없이 서버가 바로 스트리밍 저장)
+      const response = await api.post(`/chat-rooms/${chatRoomId}/messages/upload/stream`, file, {
+        params: { userId, fileName: file.name },
         headers: {
-          'Content-Type': 'multipart/form-data'
+          'Content-Type': file.type || 'application/octet-stream'
         }
       });
       return response.data;
     } catch (error) {
       throw error.response?.data || error;
     }
+  },
+
+  /**
+   * 이미지를 청크로 나눠 이어 올리기 (끊기면 서버가 받은 위치부터 나머지만 다시 보냄)
+   * @param chatRoomId 채팅방 ID
+   * @param userId 사용자 ID
+   * @param file 파일 객체
+   * @returns 전송된 메시지
+   */
+  uploadImageResumable: async (chatRoomId, userId, file) => {
+    try {
+      const { data: session } = await api.post('/uploads', null, {
+        params: { type: 'messages', size: file.size, fileName: file.name }
+      });
+      let offset = session.offset;
+      let failures = 0;
+
+      while (offset < file.size) {
+        const chunk = file.slice(offset, offset + session.chunkSize);
+        try {
+          const { data } = await api.put(`/uploads/${session.uploadId}`, chunk, {
+            params: { offset },
+            headers: { 'Content-Type': 'application/octet-stream' }
+          });
+          offset = data.offset;
+          failures = 0;
+        } catch (error) {
+          const status = error.response?.status;
+          // 400(형식·크기 오류)은 재시도해도 같으므로 중단
+          if (status === 400 || ++failures > RESUMABLE_MAX_RETRIES) {
+            throw error;
+          }
+          if (status === 409) {
+            offset = Number(error.response.data?.details?.offset ?? offset);
+          } else {
+            await new Promise(resolve => setTimeout(resolve, RESUMABLE_RETRY_DELAY_MS * failures));
+            // 끊긴 청크도 받은 만큼은 서버에 남아 있으므로 위치를 다시 확인 (실패하면 다음 시도에서 확인)
+            offset = await api.get(`/uploads/${session.uploadId}`)
+              .then(({ data }) => data.offset)
+              .catch(() => offset);
+          }
+        }
+      }
+
+      const response = await api.post(
+        `/chat-rooms/${chatRoomId}/messages/upload/resumable/${session.uploadId}`, null, {
+          params: { userId }
+        });
+      return response.data;
+    } catch (error) {
+      throw error.response?.data || error;
+    }
   }
-};
\ No newline at end of file
+};
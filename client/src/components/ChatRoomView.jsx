@@ -139,9 +139,13 @@ function ChatRoomView({ user, chatRoom, onLeave }) {
         setReconnectVersion((prev) => prev + 1);
         wasInactiveRef.current = false;
       }
+      // 재구독 시 last-seq로 놓친 메시지를 재전송받을 수 있으면 히스토리 재조회 생략
+      const canReplay = webSocketService.canReplay(chatRoom.id);
       subscribeToRoom();
       loadMembers();
-      loadMessages();
+      if (!canReplay) {
+        loadMessages();
+      }
     },
     onInactive: () => {
       wasInactiveRef.current = true;
@@ -308,8 +312,9 @@ function ChatRoomView({ user, chatRoom, onLeave }) {
     }
     console.log('[ChatRoomView] 채팅방 구독:', chatRoom.id);
     setConnected(true);
-    webSocketService.subscribeToChatRoom(chatRoom.id, handleMessageReceived);
-    webSocketService.subscribeToReadStatus(chatRoom.id, handleReadStatusUpdate);
+    // 재전송 범위를 벗어나면(REPLAY_GAP) 히스토리 API로 복구
+    webSocketService.subscribeToChatRoom(chatRoom.id, handleMessageReceived, loadMessages);
+    webSocketService.subscribeToReadStatus(chatRoom.id, handleReadStatusUpdate, loadMembers);
   };
 
   const handleReadStatusUpdate = (readStatusData) => {
@@ -384,12 +389,14 @@ function ChatRoomView({ user, chatRoom, onLeave }) {
         message.senderId === user.id &&
         (message.type === 'TEXT' || message.messageType === 'TEXT')
       ) {
+        // clientMessageId가 있으면 그것으로, 없으면 내용으로 매칭
         const tempIdx = prevMessages.findIndex(
           m =>
             typeof m.id === 'string' &&
             m.id.startsWith('temp-') &&
-            m.content === message.content &&
-            m.senderId === message.senderId
+            (message.clientMessageId
+              ? m.clientMessageId === message.clientMessageId
+              : m.content === message.content && m.senderId === message.senderId)
         );
         if (tempIdx !== -1) {
           const updated = [...prevMessages];
@@ -436,8 +443,11 @@ function ChatRoomView({ user, chatRoom, onLeave }) {
     }
 
     const tempId = `temp-${Date.now()}`;
+    // 재시도 시 서버가 중복 저장하지 않도록 전송마다 고유 키 부여
+    const clientMessageId = webSocketService.createClientMessageId();
     const tempMessage = {
       id: tempId,
+      clientMessageId,
       chatRoomId: chatRoom.id,
       senderId: user.id,
       senderNickname: user.nickname,
@@ -450,7 +460,7 @@ function ChatRoomView({ user, chatRoom, onLeave }) {
     setMessages(prev => [...prev, tempMessage]);
 
     try {
-      webSocketService.sendMessage(chatRoom.id, user.id, content);
+      webSocketService.sendMessage(chatRoom.id, user.id, content, 'TEXT', clientMessageId);
     } catch (error) {
       console.error('Failed to send message:', error);
       setMessages(prev => prev.filter(m => m.id !== tempId));
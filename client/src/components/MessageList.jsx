@@ -399,8 +399,11 @@ function MessageList({
                 style={bounceStyle}
               >
                 <img
-                  src={message.attachmentUrl || message.content}
+                  src={message.thumbnailUrl || message.attachmentUrl || message.content}
                   alt="사용자가 전송한 이미지"
+                  width={message.imageWidth || undefined}
+                  height={message.imageHeight || undefined}
+                  style={message.imagePlaceholder ? { backgroundColor: message.imagePlaceholder } : undefined}
                   className="max-w-full h-auto max-h-64 object-cover"
                   loading="eager"
                 />
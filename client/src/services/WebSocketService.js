@@ -1,6 +1,9 @@
 import { Client } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
 
+// destination별로 기억하는 최근 seq 개수 (재전송/실시간 경계 중복 제거용)
+const SEEN_SEQ_LIMIT = 512;
+
 /**
  * WebSocket 연결 관리 클래스
  * - 싱글톤으로 앱 전체에서 하나의 연결을 공유
@@ -12,6 +15,63 @@ class WebSocketService {
     this.connected = false;
     this.subscriptions = new Map();
     this._connectionListeners = new Set();
+    // destination -> { lastSeq, epoch, seen } — 재구독 시 last-seq로 놓친 이벤트만 재전송받는다
+    this._seqState = new Map();
+  }
+
+  /**
+   * 재구독 시 보낼 헤더 (받은 seq가 없으면 빈 객체)
+   */
+  _subscribeHeaders(destination) {
+    const state = this._seqState.get(destination);
+    if (!state || state.lastSeq == null) return {};
+    const headers = { 'last-seq': String(state.lastSeq) };
+    if (state.epoch) headers['seq-epoch'] = state.epoch;
+    return headers;
+  }
+
+  /**
+   * seq 추적. 이미 받은 seq면 false (중복 프레임)
+   */
+  _trackSeq(destination, headers) {
+    if (!headers || headers.seq === undefined) return true;
+    const seq = Number(headers.seq);
+    if (Number.isNaN(seq)) return true;
+
+    const epoch = headers['seq-epoch'];
+    let state = this._seqState.get(destination);
+    if (!state || (epoch && state.epoch && state.epoch !== epoch)) {
+      state = { lastSeq: null, epoch, seen: new Set() };
+      this._seqState.set(destination, state);
+    }
+    if (state.seen.has(seq)) return false;
+
+    state.seen.add(seq);
+    if (state.seen.size > SEEN_SEQ_LIMIT) {
+      state.seen.delete(state.seen.values().next().value);
+    }
+    if (epoch) state.epoch = epoch;
+    state.lastSeq = state.lastSeq == null ? seq : Math.max(state.lastSeq, seq);
+    return true;
+  }
+
+  /**
+   * 재전송 범위를 벗어났다는 서버 안내(REPLAY_GAP) 처리 — seq 상태를 버리고 호출측이 히스토리를 다시 불러온다
+   */
+  _handleReplayGap(destination, message, onReplayGap) {
+    if (message.headers?.replay !== 'gap') return false;
+    this._seqState.delete(destination);
+    console.log('[REPLAY] 재전송 범위 초과, 히스토리 재조회 필요:', destination);
+    if (onReplayGap) onReplayGap();
+    return true;
+  }
+
+  /**
+   * 이전 구독에서 받은 seq가 있어 재구독만으로 놓친 메시지를 복구할 수 있는지 여부
+   */
+  canReplay(chatRoomId) {
+    const state = this._seqState.get(`/topic/chatroom.${chatRoomId}`);
+    return !!state && state.lastSeq != null;
   }
 
   /**
@@ -109,7 +169,7 @@ class WebSocketService {
   /**
    * 채팅방 구독
    */
-  subscribeToChatRoom(chatRoomId, onMessageReceived) {
+  subscribeToChatRoom(chatRoomId, onMessageReceived, onReplayGap) {
     if (!this.client || !this.connected) {
       console.error('Not connected to WebSocket');
       return null;
@@ -123,6 +183,8 @@ class WebSocketService {
     }
 
     const subscription = this.client.subscribe(destination, (message) => {
+      if (this._handleReplayGap(destination, message, onReplayGap)) return;
+      if (!this._trackSeq(destination, message.headers)) return;
       try {
         const messageData = JSON.parse(message.body);
         console.log('Message received:', messageData);
@@ -132,7 +194,7 @@ class WebSocketService {
       } catch (error) {
         console.error('Error parsing message:', error);
       }
-    });
+    }, this._subscribeHeaders(destination));
 
     this.subscriptions.set(destination, subscription);
     console.log('Subscribed to:', destination);
@@ -167,7 +229,7 @@ class WebSocketService {
   /**
    * 채팅방 읽음 상태 업데이트 구독
    */
-  subscribeToReadStatus(chatRoomId, onReadStatusUpdate) {
+  subscribeToReadStatus(chatRoomId, onReadStatusUpdate, onReplayGap) {
     if (!this.client || !this.connected) {
       console.error('Not connected to WebSocket');
       return null;
@@ -181,6 +243,8 @@ class WebSocketService {
     }
 
     const subscription = this.client.subscribe(destination, (message) => {
+      if (this._handleReplayGap(destination, message, onReplayGap)) return;
+      if (!this._trackSeq(destination, message.headers)) return;
       try {
         const readStatusData = JSON.parse(message.body);
         console.log('[READ STATUS] 읽음 상태 업데이트 수신:', readStatusData);
@@ -190,7 +254,7 @@ class WebSocketService {
       } catch (error) {
         console.error('Error parsing read status update:', error);
       }
-    });
+    }, this._subscribeHeaders(destination));
 
     this.subscriptions.set(destination, subscription);
     console.log('Subscribed to read status:', destination);
@@ -198,10 +262,21 @@ class WebSocketService {
     return subscription;
   }
 
+  /**
+   * 메시지 멱등성 키 생성 — 같은 메시지를 재전송할 때는 같은 값을 다시 보낸다
+   */
+  createClientMessageId() {
+    if (typeof crypto !== 'undefined' && crypto.randomUUID) {
+      return crypto.randomUUID();
+    }
+    return `${Date.now().toString(36)}-${Math.random().toString(36).slice(2, 12)}`;
+  }
+
   /**
    * 메시지 전송
+   * clientMessageId를 함께 보내면 서버가 재시도를 중복 저장하지 않는다.
    */
-  sendMessage(chatRoomId, senderId, content, type = 'TEXT') {
+  sendMessage(chatRoomId, senderId, content, type = 'TEXT', clientMessageId) {
     if (!this.client || !this.connected) {
       console.error('Not connected to WebSocket');
       throw new Error('WebSocket is not connected');
@@ -213,6 +288,9 @@ class WebSocketService {
       content,
       type
     };
+    if (clientMessageId) {
+      message.clientMessageId = clientMessageId;
+    }
 
     this.client.publish({
       destination: '/app/chat.sendMessage',
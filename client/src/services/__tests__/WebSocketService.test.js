@@ -197,7 +197,8 @@ describe('WebSocketService', () => {
       expect(sub).not.toBeNull();
       expect(mockSubscribe).toHaveBeenCalledWith(
         '/topic/chatroom.1',
-        expect.any(Function)
+        expect.any(Function),
+        {}
       );
     });
 
@@ -227,6 +228,41 @@ describe('WebSocketService', () => {
 
       expect(callback).toHaveBeenCalledWith(messageData);
     });
+
+    it('받은 seq를 재구독 헤더로 보내고 중복 seq는 무시한다', async () => {
+      const promise = webSocketService.connect();
+      capturedConfig.onConnect({});
+      await promise;
+
+      const callback = vi.fn();
+      webSocketService.subscribeToChatRoom(7, callback);
+      const stompCallback = mockSubscribe.mock.calls[0][1];
+      stompCallback({ headers: { seq: '4', 'seq-epoch': 'e1' }, body: JSON.stringify({ id: 10 }) });
+      stompCallback({ headers: { seq: '4', 'seq-epoch': 'e1', replay: 'true' }, body: JSON.stringify({ id: 10 }) });
+
+      expect(callback).toHaveBeenCalledTimes(1);
+      expect(webSocketService.canReplay(7)).toBe(true);
+
+      webSocketService.subscribeToChatRoom(7, callback);
+      expect(mockSubscribe.mock.calls[1][2]).toEqual({ 'last-seq': '4', 'seq-epoch': 'e1' });
+    });
+
+    it('REPLAY_GAP 수신 시 seq 상태를 버리고 gap 콜백을 호출한다', async () => {
+      const promise = webSocketService.connect();
+      capturedConfig.onConnect({});
+      await promise;
+
+      const callback = vi.fn();
+      const onGap = vi.fn();
+      webSocketService.subscribeToChatRoom(8, callback, onGap);
+      const stompCallback = mockSubscribe.mock.calls[0][1];
+      stompCallback({ headers: { seq: '1', 'seq-epoch': 'e1' }, body: JSON.stringify({ id: 1 }) });
+      stompCallback({ headers: { replay: 'gap' }, body: JSON.stringify({ type: 'REPLAY_GAP' }) });
+
+      expect(onGap).toHaveBeenCalledTimes(1);
+      expect(callback).toHaveBeenCalledTimes(1);
+      expect(webSocketService.canReplay(8)).toBe(false);
+    });
   });
 
   // --- unsubscribeFromChatRoom ---
@@ -276,6 +312,29 @@ describe('WebSocketService', () => {
         }),
       });
     });
+
+    it('clientMessageId가 있으면 함께 publish한다', async () => {
+      const promise = webSocketService.connect();
+      capturedConfig.onConnect({});
+      await promise;
+
+      webSocketService.sendMessage(1, 2, '안녕하세요', 'TEXT', 'cmid-1');
+
+      expect(mockPublish).toHaveBeenCalledWith({
+        destination: '/app/chat.sendMessage',
+        body: JSON.stringify({
+          chatRoomId: 1,
+          senderId: 2,
+          content: '안녕하세요',
+          type: 'TEXT',
+          clientMessageId: 'cmid-1',
+        }),
+      });
+    });
+
+    it('createClientMessageId는 매번 다른 값을 만든다', () => {
+      expect(webSocketService.createClientMessageId()).not.toBe(webSocketService.createClientMessageId());
+    });
   });
 
   // --- notifyUserJoined ---
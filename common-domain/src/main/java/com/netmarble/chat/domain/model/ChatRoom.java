@@ -1,12 +1,15 @@
 package com.netmarble.chat.domain.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * 채팅방 도메인 모델 (순수 POJO - 인프라 의존 없음)
@@ -23,6 +26,13 @@ public class ChatRoom {
     private boolean active;
     private List<ChatRoomMember> members = new ArrayList<>();
 
+    // userId → 멤버 인덱스와 활성 멤버 수 캐시 (첫 사용 시 members로 한 번 구성, 이후 도메인 메서드가 유지)
+    @Getter(AccessLevel.NONE)
+    private Map<Long, ChatRoomMember> memberIndex;
+
+    @Getter(AccessLevel.NONE)
+    private long activeMemberCount;
+
     public ChatRoom(String name, String imageUrl, User creator) {
         validateName(name);
         this.name = name;
@@ -57,26 +67,22 @@ public class ChatRoom {
             throw new IllegalArgumentException("유효한 사용자(ID 포함)가 필요합니다.");
         }
 
-        boolean alreadyActiveMember = members.stream()
-            .anyMatch(m -> Objects.equals(m.getUserId(), user.getId()) && m.isActive());
+        ChatRoomMember member = memberIndex().get(user.getId());
 
-        if (alreadyActiveMember) {
+        if (member != null && member.isActive()) {
             return false;
         }
 
-        ChatRoomMember inactiveMember = members.stream()
-            .filter(m -> Objects.equals(m.getUserId(), user.getId()) && !m.isActive())
-            .findFirst()
-            .orElse(null);
-
-        if (inactiveMember != null) {
-            inactiveMember.rejoin();
-            return true;
+        if (member != null) {
+            member.rejoin();
         } else {
             // chatRoomId는 ChatRoom이 저장된 뒤 인프라 계층에서 채워진다
-            members.add(new ChatRoomMember(user.getId()));
-            return true;
+            member = new ChatRoomMember(user.getId());
+            members.add(member);
+            memberIndex.put(user.getId(), member);
         }
+        activeMemberCount++;
+        return true;
     }
 
     public void removeMember(User user) {
@@ -84,24 +90,45 @@ public class ChatRoom {
             throw new IllegalArgumentException("유효한 사용자(ID 포함)가 필요합니다.");
         }
 
-        ChatRoomMember member = members.stream()
-            .filter(m -> Objects.equals(m.getUserId(), user.getId()) && m.isActive())
-            .findFirst()
+        ChatRoomMember member = findActiveMember(user.getId())
             .orElseThrow(() -> new IllegalArgumentException("채팅방에 참여하지 않은 사용자입니다."));
 
         member.leave();
+        activeMemberCount--;
+    }
+
+    public Optional<ChatRoomMember> findActiveMember(Long userId) {
+        ChatRoomMember member = memberIndex().get(userId);
+        return member != null && member.isActive() ? Optional.of(member) : Optional.empty();
     }
 
     public long getActiveMemberCount() {
-        return members.stream().filter(ChatRoomMember::isActive).count();
+        memberIndex();
+        return activeMemberCount;
     }
 
     public boolean isActiveMember(User user) {
         if (user == null || user.getId() == null) {
             return false;
         }
-        return members.stream()
-            .anyMatch(m -> Objects.equals(m.getUserId(), user.getId()) && m.isActive());
+        return findActiveMember(user.getId()).isPresent();
+    }
+
+    private Map<Long, ChatRoomMember> memberIndex() {
+        if (memberIndex == null) {
+            Map<Long, ChatRoomMember> index = new HashMap<>();
+            long count = 0;
+            for (ChatRoomMember member : members) {
+                if (member.isActive()) {
+                    count++;
+                }
+                // 같은 사용자의 행이 여러 개면 활성 행을 우선
+                index.merge(member.getUserId(), member, (current, other) -> current.isActive() ? current : other);
+            }
+            memberIndex = index;
+            activeMemberCount = count;
+        }
+        return memberIndex;
     }
 
     public void deactivate() {
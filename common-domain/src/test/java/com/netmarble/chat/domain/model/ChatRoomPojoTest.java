@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -205,4 +206,20 @@ class ChatRoomPojoTest {
         assertNotNull(chatRoom.getMembers());
         assertEquals(1L, chatRoom.getId());
     }
+
+    @Test
+    void 복원_생성자_멤버로_활성_멤버_수와_조회_인덱스_구성() {
+        ChatRoomMember active = new ChatRoomMember(1L, 1L, 1L, null, null, true, true, null, null);
+        ChatRoomMember left = new ChatRoomMember(2L, 1L, 2L, null, null, false, false, null, null);
+        ChatRoom chatRoom = new ChatRoom(1L, "복원방", null, 1L, null, true, new ArrayList<>(List.of(active, left)));
+
+        assertEquals(1, chatRoom.getActiveMemberCount());
+        assertSame(active, chatRoom.findActiveMember(1L).orElseThrow());
+        assertTrue(chatRoom.findActiveMember(2L).isEmpty());
+
+        // 퇴장했던 멤버는 기존 행을 재활성화 (행 추가 없음)
+        assertTrue(chatRoom.addMember(otherUser));
+        assertEquals(2, chatRoom.getMembers().size());
+        assertEquals(2, chatRoom.getActiveMemberCount());
+    }
 }
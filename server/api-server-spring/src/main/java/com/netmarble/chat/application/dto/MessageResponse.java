@@ -27,4 +27,7 @@ public class MessageResponse {
     private Integer unreadCount;
     private String attachmentUrl;
     private String attachmentType;
+    private Integer imageWidth;
+    private Integer imageHeight;
+    private String imagePlaceholder;
 }
@@ -111,6 +111,9 @@ public class MessageQueryService {
             .messageType(doc.getType())
             .sentAt(doc.getCreatedAt())
             .deleted(false)
+            .imageWidth(doc.getImageWidth())
+            .imageHeight(doc.getImageHeight())
+            .imagePlaceholder(doc.getImagePlaceholder())
             .build();
     }
 }
@@ -39,6 +39,11 @@ public class MessageDocument {
     private String content;
     private String type;
 
+    // 이미지 메타데이터 (chat-server가 서버 저장 IMAGE에만 기록)
+    private Integer imageWidth;
+    private Integer imageHeight;
+    private String imagePlaceholder;
+
     // 읽음 카운트 (Redis와 주기적 동기화)
     private int readCount = 0;
 
@@ -0,0 +1,21 @@
+package com.netmarble.chat.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 사전 생성 요청 DTO (부하 테스트/마이그레이션용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateUserRequest {
+
+    private List<String> nicknames;
+
+    /** 모든 사용자에게 적용할 프로필 색상 (선택) */
+    private String profileColor;
+}
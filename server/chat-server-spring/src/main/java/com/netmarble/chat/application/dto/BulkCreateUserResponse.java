@@ -0,0 +1,16 @@
+package com.netmarble.chat.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 일괄 사전 생성 결과 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class BulkCreateUserResponse {
+
+    private int requested;   // 중복 제거 후 요청 인원
+    private int created;     // 새로 만든 사용자
+    private int existing;    // 이미 있던 닉네임
+}
@@ -0,0 +1,20 @@
+package com.netmarble.chat.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 채팅방 일괄 입장(초대) 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJoinChatRoomRequest {
+
+    @NotEmpty(message = "사용자 ID 목록은 비어있을 수 없습니다.")
+    private List<Long> userIds;
+}
@@ -0,0 +1,23 @@
+package com.netmarble.chat.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채팅방 일괄 입장(초대) 결과 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class BulkJoinChatRoomResponse {
+
+    private Long chatRoomId;
+    private int requested;        // 중복 제거 후 요청 인원
+    private int joined;           // 새로 입장 + 재입장
+    private int alreadyMembers;   // 이미 활성 멤버
+    private List<Long> notFoundUserIds;
+    private long memberCount;     // 처리 후 활성 멤버 수
+}
@@ -46,6 +46,13 @@ public class ChatRoomResponse {
      * Domain Entity로부터 DTO 생성 (목록/상세 기본값 — memberAvatars 미포함)
      */
     public static ChatRoomResponse from(ChatRoom chatRoom) {
+        return from(chatRoom, chatRoom.getActiveMemberCount());
+    }
+
+    /**
+     * 멤버 수를 따로 조회한 경우 (멤버 컬렉션을 로드하지 않음)
+     */
+    public static ChatRoomResponse from(ChatRoom chatRoom, long memberCount) {
         return ChatRoomResponse.builder()
             .id(chatRoom.getId())
             .name(chatRoom.getName())
@@ -54,7 +61,7 @@ public class ChatRoomResponse {
             .creatorNickname(chatRoom.getCreator().getNickname())
             .createdAt(chatRoom.getCreatedAt())
             .active(chatRoom.isActive())
-            .memberCount(chatRoom.getActiveMemberCount())
+            .memberCount(memberCount)
             .build();
     }
 }
@@ -16,6 +16,6 @@ public class CreateChatRoomRequest {
 
     private Long creatorId;
 
-    /** Base64 인코딩된 이미지 Data URL (선택). 예: "data:image/png;base64,..." */
+    /** 저장된 채팅방 이미지 URL (선택). 예: "/uploads/rooms/2026/03/04/uuid.png" */
     private String imageUrl;
 }
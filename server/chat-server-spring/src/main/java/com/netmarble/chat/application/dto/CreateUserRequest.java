@@ -17,6 +17,6 @@ public class CreateUserRequest {
     /** 프로필 아바타 색상 (hex 코드, 선택) */
     private String profileColor;
 
-    /** Base64 인코딩된 프로필 이미지 Data URL (선택). 예: "data:image/png;base64,..." */
+    /** 저장된 프로필 이미지 URL (선택). 예: "/uploads/profiles/2026/03/04/uuid.png" */
     private String profileImage;
 }
@@ -1,7 +1,9 @@
 package com.netmarble.chat.application.dto;
 
 import com.netmarble.chat.domain.model.Attachment;
+import com.netmarble.chat.domain.model.ImageDerivative;
 import com.netmarble.chat.domain.model.Message;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,7 +14,7 @@ import java.time.LocalDateTime;
  * 메시지 응답 DTO
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class MessageResponse {
 
@@ -30,6 +32,17 @@ public class MessageResponse {
     // 첨부파일 정보 (IMAGE / STICKER 메시지에 존재)
     private String attachmentUrl;  // 파일 URL (이미지: URL 또는 Base64, 스티커: 스티커 ID)
     private String attachmentType; // IMAGE / STICKER
+    private String thumbnailUrl;   // 미리보기 썸네일 URL (서버에 저장된 IMAGE만, 생성 전에는 nginx가 원본으로 대체)
+    private Integer imageWidth;       // 원본 크기 (px) — 이미지 로드 전 레이아웃 확보용
+    private Integer imageHeight;
+    private String imagePlaceholder;  // 평균 색 (#rrggbb)
+
+    // 요청에 담겨 온 멱등성 키 (클라이언트가 낙관적 전송 메시지와 매칭)
+    private String clientMessageId;
+
+    // 같은 clientMessageId 재시도에 원본을 돌려준 경우 — 재저장·재브로드캐스트 생략용 (응답 본문에는 제외)
+    @JsonIgnore
+    private boolean replayed;
 
     /**
      * Domain Entity로부터 DTO 생성 (첨부파일 포함)
@@ -49,6 +62,20 @@ public class MessageResponse {
             .deleted(message.isDeleted())
             .attachmentUrl(attachment != null ? attachment.getFileUrl() : null)
             .attachmentType(attachment != null ? attachment.getFileType() : null)
+            .thumbnailUrl(thumbnailUrlOf(attachment))
+            .imageWidth(attachment != null ? attachment.getWidth() : null)
+            .imageHeight(attachment != null ? attachment.getHeight() : null)
+            .imagePlaceholder(attachment != null ? attachment.getPlaceholder() : null)
             .build();
     }
+
+    /**
+     * IMAGE 첨부의 미리보기 썸네일 URL (스티커·Base64 이미지는 null)
+     */
+    public static String thumbnailUrlOf(Attachment attachment) {
+        if (attachment == null || !"IMAGE".equals(attachment.getFileType())) {
+            return null;
+        }
+        return ImageDerivative.PREVIEW.urlFor(attachment.getFileUrl());
+    }
 }
@@ -1,5 +1,7 @@
 package com.netmarble.chat.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.netmarble.chat.domain.model.ImageMetadata;
 import com.netmarble.chat.domain.model.Message;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -36,6 +38,21 @@ public class SendMessageRequest {
 
     private String fileName;
 
+    // 클라이언트가 생성한 멱등성 키 (선택) — 타임아웃 후 재시도 시 중복 저장·중복 브로드캐스트 방지
+    @Size(max = 64, message = "clientMessageId는 64자를 초과할 수 없습니다.")
+    private String clientMessageId;
+
+    // 업로드 파일에서 서버가 읽은 이미지 크기·평균 색 — 클라이언트 입력은 받지 않음
+    @JsonIgnore
+    private ImageMetadata imageMetadata;
+
+    /**
+     * 멱등성 키가 있는 요청인지 여부
+     */
+    public boolean hasClientMessageId() {
+        return clientMessageId != null && !clientMessageId.isBlank();
+    }
+
     /**
      * 클라이언트에서 보낸 messageType 문자열을 Message.MessageType enum으로 변환
      */
@@ -0,0 +1,45 @@
+package com.netmarble.chat.application.dto;
+
+import java.util.Map;
+
+/**
+ * 브로드캐스트 시 STOMP MESSAGE 프레임에 싣는 네이티브 헤더 이름
+ *
+ * SimpMessagingTemplate.convertAndSend(destination, payload, headers)로 전달하면
+ * 클라이언트 프레임 헤더로 그대로 내려가며, 서버 측 아웃바운드 큐가 프레임 분류에 사용한다.
+ */
+public final class StompEventHeaders {
+
+    /**
+     * 같은 값을 가진 이전 프레임이 아직 전송 대기 중이면 새 프레임으로 대체해도 되는 이벤트 키
+     * (예: 같은 사용자의 읽음 상태 — 최신 값만 의미가 있다)
+     */
+    public static final String COALESCE_KEY = "coalesce-key";
+
+    /**
+     * 전송 우선순위 — 값이 PRIORITY_LOW면 저우선 레인으로 보낸다 (헤더가 없으면 일반 채팅 메시지와 같은 고우선)
+     */
+    public static final String PRIORITY = "priority";
+
+    /**
+     * 저우선: 읽음 상태, 입장/퇴장 시스템 메시지, 프레즌스 — 채팅 메시지에 항상 밀리고 부하 시 먼저 버려진다
+     */
+    public static final String PRIORITY_LOW = "low";
+
+    private StompEventHeaders() {
+    }
+
+    /**
+     * 저우선 이벤트 헤더
+     */
+    public static Map<String, Object> lowPriority() {
+        return Map.of(PRIORITY, PRIORITY_LOW);
+    }
+
+    /**
+     * 저우선 + 최신 값만 의미 있는 이벤트 헤더
+     */
+    public static Map<String, Object> lowPriority(String coalesceKey) {
+        return Map.of(PRIORITY, PRIORITY_LOW, COALESCE_KEY, coalesceKey);
+    }
+}
@@ -0,0 +1,34 @@
+package com.netmarble.chat.application.dto;
+
+import com.netmarble.chat.domain.model.UploadSession;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이어 올리기 세션 응답 DTO
+ * 클라이언트는 offset부터 chunkSize 이하의 청크를 이어 보낸다.
+ */
+@Getter
+@AllArgsConstructor
+public class UploadSessionResponse {
+
+    private String uploadId;
+    private String type;
+    private String fileName;
+    private long size;
+    private long offset;        // 서버가 받은 바이트 수 (다음 청크 시작 위치)
+    private long chunkSize;     // 요청당 최대 청크 크기
+    private String url;         // 완료 후 저장된 파일 URL
+
+    public static UploadSessionResponse from(UploadSession session, long chunkSize) {
+        return new UploadSessionResponse(
+            session.uploadId(),
+            session.type(),
+            session.fileName(),
+            session.size(),
+            session.offset(),
+            chunkSize,
+            session.url()
+        );
+    }
+}
@@ -25,8 +25,15 @@ public class UserResponse {
      * Domain Entity로부터 DTO 생성
      */
     public static UserResponse from(User user) {
+        return from(user.getId(), user);
+    }
+
+    /**
+     * 엔티티를 거치지 않고 저장한 경우 (upsert로 생성된 ID 사용)
+     */
+    public static UserResponse from(Long id, User user) {
         return new UserResponse(
-            user.getId(),
+            id,
             user.getNickname(),
             user.getCreatedAt(),
             user.getLastActiveAt(),
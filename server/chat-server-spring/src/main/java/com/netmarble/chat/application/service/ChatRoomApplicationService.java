@@ -9,21 +9,30 @@ import com.netmarble.chat.domain.repository.ChatRoomMemberRepository;
 import com.netmarble.chat.domain.repository.ChatRoomRepository;
 import com.netmarble.chat.domain.repository.MessageRepository;
 import com.netmarble.chat.domain.repository.UserRepository;
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import com.netmarble.chat.domain.service.CacheInvalidationPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * ChatRoom 애플리케이션 서비스
+ * 생성·입장·퇴장은 커밋 후 캐시 무효화 이벤트를 발행한다.
+ * 온라인 상태·읽음 위치(하트비트)는 캐시 대상이 아니므로 발행하지 않는다.
+ * 붐비는 방에 몰리는 조회(채팅방 목록, 채팅방 상세, 멤버 목록)는 ReadCoalescer로 동시 요청을 한 번의 조회로 합친다.
  */
 @Slf4j
 @Service
@@ -31,12 +40,32 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ChatRoomApplicationService {
 
+    /** 일괄 입장 한 번에 받을 수 있는 최대 인원 */
+    static final int BULK_JOIN_MAX_USERS = 5000;
+
+    /** 일괄 입장 시 IN 절 조회·배치 INSERT 한 번에 처리하는 인원 */
+    static final int BULK_JOIN_BATCH_SIZE = 500;
+
+    /** 채팅방 목록 최대 방 수 */
+    private static final int ROOM_LIST_LIMIT = 100;
+
+    /** 채팅방 목록 아바타 수 (본인 제외) */
+    private static final int AVATAR_LIMIT = 4;
+
+    /** 병합 조회 이름 — ReadCoalescerInvalidator가 멤버십·요약 변경 시 같은 이름으로 내린다 */
+    public static final String ROOM_READ = "chat-room";
+    public static final String MEMBERS_READ = "members";
+    public static final String ACTIVE_ROOMS_READ = "chat-rooms";
+    public static final String ACTIVE_ROOMS_ID = "active";
+
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
     private final MessageRepository messageRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final ReadStatusApplicationService readStatusApplicationService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final MembershipEventCoalescer membershipEventCoalescer;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final ReadCoalescer readCoalescer;
 
     /**
      * 채팅방 생성
@@ -57,6 +86,10 @@ public class ChatRoomApplicationService {
             creator.getNickname() + "님이 채팅방을 생성했습니다."
         );
         messageRepository.save(systemMessage);
+
+        cacheInvalidationPublisher.publish(new CacheInvalidation.RoomSummaryChanged(savedChatRoom.getId()));
+        cacheInvalidationPublisher.publish(
+            new CacheInvalidation.RoomMembershipChanged(savedChatRoom.getId(), List.of(creator.getId())));
         
         log.info("Chat room created: id={}, name={}", savedChatRoom.getId(), savedChatRoom.getName());
         
@@ -65,40 +98,77 @@ public class ChatRoomApplicationService {
 
     /**
      * 채팅방 목록 조회 (활성 채팅방, isMember/읽지 않은 수/마지막 메시지/멤버 아바타 포함)
+     * 방 정보와 아바타 후보는 사용자와 무관하므로 동시 요청이 한 번의 로드를 나눠 쓰고,
+     * 참여 여부·읽지 않은 수·마지막 메시지만 사용자별로 조회한다.
+     * 사용자별 조회는 병합하지 않지만 읽기 전용 트랜잭션 하나로 묶는다 (replica 라우팅, 요청당 커넥션 1개).
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ChatRoomResponse> getAllActiveChatRooms(Long userId) {
-        // 최근 100개 방만 조회 (N+1 쿼리 부하 제한 - 방이 누적될수록 응답 지연 방지)
-        List<ChatRoom> chatRooms = chatRoomRepository.findAllActive().stream()
-            .limit(100)
-            .collect(Collectors.toList());
+        List<RoomSnapshot> rooms = readCoalescer.execute(ACTIVE_ROOMS_READ, ACTIVE_ROOMS_ID, this::loadActiveRoomSnapshots);
 
-        // 단일 쿼리로 유저가 참가 중인 채팅방 ID Set 조회 (lazy loading 의존 제거)
-        Set<Long> memberRoomIds = (userId != null)
-            ? chatRoomMemberRepository.findActiveChatRoomIdsByUserId(userId)
-            : Set.of();
+        return readCoalescer.readOnly(() -> {
+            // 단일 쿼리로 유저가 참가 중인 채팅방 ID Set 조회 (lazy loading 의존 제거)
+            Set<Long> memberRoomIds = (userId != null)
+                ? chatRoomMemberRepository.findActiveChatRoomIdsByUserId(userId)
+                : Set.of();
 
-        return chatRooms.stream()
-            .map(chatRoom -> buildRoomResponse(chatRoom, userId, memberRoomIds))
-            .collect(Collectors.toList());
+            return rooms.stream()
+                .map(room -> buildRoomResponse(room, userId, memberRoomIds))
+                .collect(Collectors.toList());
+        });
     }
 
     /**
-     * 채팅방 응답 DTO 빌드 (공통 로직)
+     * 사용자와 무관한 방 목록 부분 — 아바타는 본인을 빼고도 AVATAR_LIMIT명이 남도록 한 명 더 담는다
      */
-    private ChatRoomResponse buildRoomResponse(ChatRoom chatRoom, Long userId, Set<Long> memberRoomIds) {
+    private List<RoomSnapshot> loadActiveRoomSnapshots() {
+        // 최근 100개 방만 조회 (N+1 쿼리 부하 제한 - 방이 누적될수록 응답 지연 방지)
+        return chatRoomRepository.findAllActive().stream()
+            .limit(ROOM_LIST_LIMIT)
+            .map(chatRoom -> new RoomSnapshot(
+                ChatRoomResponse.builder()
+                    .id(chatRoom.getId())
+                    .name(chatRoom.getName())
+                    .imageUrl(storedImageUrl(chatRoom.getImageUrl()))
+                    .creatorId(chatRoom.getCreator().getId())
+                    .creatorNickname(chatRoom.getCreator().getNickname())
+                    .createdAt(chatRoom.getCreatedAt())
+                    .active(chatRoom.isActive())
+                    .memberCount(chatRoom.getActiveMemberCount())
+                    .build(),
+                // 현재 참여 중인 멤버만, 입장 시간순
+                chatRoom.getMembers().stream()
+                    .filter(ChatRoomMember::isActive)
+                    .sorted(Comparator.comparing(ChatRoomMember::getJoinedAt))
+                    .limit(AVATAR_LIMIT + 1)
+                    .map(m -> new AvatarCandidate(m.getUser().getId(), new ChatRoomResponse.MemberAvatar(
+                        m.getUser().getProfileColor(),
+                        storedImageUrl(m.getUser().getProfileImage()),
+                        m.getUser().getNickname()
+                    )))
+                    .toList()))
+            .toList();
+    }
+
+    /**
+     * 채팅방 응답 DTO 빌드 (공유 스냅샷 + 사용자별 값)
+     */
+    private ChatRoomResponse buildRoomResponse(RoomSnapshot room, Long userId, Set<Long> memberRoomIds) {
+        ChatRoomResponse summary = room.summary();
+
         // 1. 멤버 여부 — DB에서 직접 조회한 Set으로 판단 (lazy loading 불필요)
-        boolean isMember = memberRoomIds.contains(chatRoom.getId());
+        boolean isMember = memberRoomIds.contains(summary.getId());
 
         // 2. 읽지 않은 메시지 수 — 참가 중인 방에만 계산
         long unreadCount = (userId != null && isMember)
-            ? readStatusApplicationService.getUnreadCount(userId, chatRoom.getId())
+            ? readStatusApplicationService.getUnreadCount(userId, summary.getId())
             : 0L;
 
         // 3. 마지막 메시지 — 참가 중인 방에만 조회 (비멤버는 내용 미공개)
         String lastMessageContent = null;
         LocalDateTime lastMessageAt = null;
         if (isMember) {
-            Optional<Message> lastMsgOpt = messageRepository.findLastByChatRoomId(chatRoom.getId());
+            Optional<Message> lastMsgOpt = messageRepository.findLastByChatRoomId(summary.getId());
             lastMessageContent = lastMsgOpt.map(m -> switch (m.getType()) {
                 case IMAGE   -> "[사진]";
                 case STICKER -> "[스티커]";
@@ -107,28 +177,22 @@ public class ChatRoomApplicationService {
             lastMessageAt = lastMsgOpt.map(Message::getSentAt).orElse(null);
         }
 
-        // 4. 멤버 아바타 (최대 4명 — 현재 참여 중인 멤버만, 본인 항상 제외, 입장 시간순)
-        List<ChatRoomResponse.MemberAvatar> memberAvatars = chatRoom.getMembers().stream()
-            .filter(ChatRoomMember::isActive)
-            .filter(m -> userId == null || !m.getUser().getId().equals(userId))
-            .sorted(Comparator.comparing(ChatRoomMember::getJoinedAt))
-            .limit(4)
-            .map(m -> new ChatRoomResponse.MemberAvatar(
-                m.getUser().getProfileColor(),
-                m.getUser().getProfileImage(),
-                m.getUser().getNickname()
-            ))
+        // 4. 멤버 아바타 (최대 4명 — 본인 항상 제외)
+        List<ChatRoomResponse.MemberAvatar> memberAvatars = room.avatars().stream()
+            .filter(candidate -> userId == null || !candidate.userId().equals(userId))
+            .limit(AVATAR_LIMIT)
+            .map(AvatarCandidate::avatar)
             .collect(Collectors.toList());
 
         return ChatRoomResponse.builder()
-            .id(chatRoom.getId())
-            .name(chatRoom.getName())
-            .imageUrl(chatRoom.getImageUrl())
-            .creatorId(chatRoom.getCreator().getId())
-            .creatorNickname(chatRoom.getCreator().getNickname())
-            .createdAt(chatRoom.getCreatedAt())
-            .active(chatRoom.isActive())
-            .memberCount(chatRoom.getActiveMemberCount())
+            .id(summary.getId())
+            .name(summary.getName())
+            .imageUrl(summary.getImageUrl())
+            .creatorId(summary.getCreatorId())
+            .creatorNickname(summary.getCreatorNickname())
+            .createdAt(summary.getCreatedAt())
+            .active(summary.isActive())
+            .memberCount(summary.getMemberCount())
             .unreadCount(unreadCount)
             .isMember(isMember)
             .lastMessageContent(lastMessageContent)
@@ -138,16 +202,36 @@ public class ChatRoomApplicationService {
     }
 
     /**
-     * 채팅방 상세 조회
+     * 채팅방 목록의 사용자 무관 부분 (여러 요청이 공유 — 수정하지 않는다)
      */
+    private record RoomSnapshot(ChatRoomResponse summary, List<AvatarCandidate> avatars) {
+    }
+
+    private record AvatarCandidate(Long userId, ChatRoomResponse.MemberAvatar avatar) {
+    }
+
+    /**
+     * 아직 이전되지 않은 Base64 Data URL은 목록 응답에서 빼고 색상 아바타로 대체 (방 목록이 MB 단위로 커지는 것 방지)
+     */
+    private static String storedImageUrl(String imageUrl) {
+        return imageUrl != null && imageUrl.startsWith("data:") ? null : imageUrl;
+    }
+
+    /**
+     * 채팅방 상세 조회 (동시 요청은 한 번의 조회를 공유)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChatRoomResponse getChatRoomById(Long id) {
-        ChatRoom chatRoom = chatRoomRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + id));
-        return ChatRoomResponse.from(chatRoom);
+        return readCoalescer.execute(ROOM_READ, id, () -> {
+            ChatRoom chatRoom = chatRoomRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + id));
+            return ChatRoomResponse.from(chatRoom);
+        });
     }
 
     /**
      * 채팅방 입장
+     * 멤버 컬렉션을 로드하지 않고 (채팅방, 사용자) 행만 추가/재활성화한다 — 방 크기와 무관한 비용
      */
     @Transactional
     public ChatRoomResponse joinChatRoom(JoinChatRoomRequest request) {
@@ -159,23 +243,18 @@ public class ChatRoomApplicationService {
         User user = userRepository.findById(request.getUserId())
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + request.getUserId()));
         
-        // 멤버 추가 (중복 입장 시 false 반환)
-        boolean isNewJoin = chatRoom.addMember(user);
+        // 멤버 행 추가 또는 재활성화 (이미 활성 멤버면 false)
+        LocalDateTime now = LocalDateTime.now();
+        boolean isNewJoin = chatRoomMemberRepository.findActiveFlag(chatRoom.getId(), user.getId())
+            .map(active -> !active && chatRoomMemberRepository.reactivate(chatRoom.getId(), user.getId(), now) > 0)
+            .orElseGet(() -> chatRoomMemberRepository.insertIfAbsent(chatRoom.getId(), user.getId(), now) > 0);
+        long memberCount = chatRoomMemberRepository.countActiveByChatRoomId(chatRoom.getId());
 
         if (isNewJoin) {
-            // 새로 입장하거나 재입장한 경우에만 시스템 메시지 생성
-            Message systemMessage = Message.createSystemMessage(
-                chatRoom,
-                user.getNickname() + "님이 입장했습니다."
-            );
-            Message savedSystemMessage = messageRepository.save(systemMessage);
-
-            // WebSocket을 통해 실시간으로 브로드캐스트
-            MessageResponse response = MessageResponse.from(savedSystemMessage);
-            messagingTemplate.convertAndSend(
-                "/topic/chatroom." + chatRoom.getId(),
-                response
-            );
+            // 새로 입장하거나 재입장한 경우에만 시스템 메시지 생성 (몰리는 입장은 요약 1건으로 병합)
+            membershipEventCoalescer.joined(chatRoom, List.of(user.getNickname()), memberCount);
+            cacheInvalidationPublisher.publish(
+                new CacheInvalidation.RoomMembershipChanged(chatRoom.getId(), List.of(user.getId())));
 
             log.info("User {} joined chat room {} (new join)", user.getNickname(), chatRoom.getName());
         } else {
@@ -186,20 +265,15 @@ public class ChatRoomApplicationService {
         // 입장 시 마지막 메시지까지 읽음 처리 (최신 메시지 1건만 조회)
         messageRepository.findLastByChatRoomId(chatRoom.getId())
             .ifPresent(lastMessage -> {
-                chatRoom.getMembers().stream()
-                    .filter(member -> member.getUser().getId().equals(user.getId()))
-                    .findFirst()
-                    .ifPresent(member -> member.updateLastReadMessage(lastMessage));
+                chatRoomMemberRepository.advanceLastReadMessage(chatRoom.getId(), user.getId(), lastMessage.getId(), now);
                 log.info("Last read message updated for user {} in chat room {}", user.getNickname(), chatRoom.getName());
             });
 
-        chatRoomRepository.save(chatRoom);
-        
-        return ChatRoomResponse.from(chatRoom);
+        return ChatRoomResponse.from(chatRoom, memberCount);
     }
 
     /**
-     * 채팅방 퇴장
+     * 채팅방 퇴장 (멤버 행 하나만 비활성화)
      */
     @Transactional
     public void leaveChatRoom(Long chatRoomId, Long userId) {
@@ -211,37 +285,111 @@ public class ChatRoomApplicationService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
         
-        chatRoom.removeMember(user);
-        chatRoomRepository.save(chatRoom);
-        
-        // 시스템 메시지: 사용자 퇴장
-        Message systemMessage = Message.createSystemMessage(
-            chatRoom,
-            user.getNickname() + "님이 퇴장했습니다."
-        );
-        Message savedSystemMessage = messageRepository.save(systemMessage);
+        if (chatRoomMemberRepository.deactivate(chatRoomId, userId, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("채팅방에 참여하지 않은 사용자입니다.");
+        }
         
-        // WebSocket을 통해 실시간으로 브로드캠스트
-        MessageResponse response = MessageResponse.from(savedSystemMessage);
-        messagingTemplate.convertAndSend(
-            "/topic/chatroom." + chatRoom.getId(),
-            response
-        );
+        // 시스템 메시지: 사용자 퇴장 (몰리는 퇴장은 요약 1건으로 병합)
+        membershipEventCoalescer.left(chatRoom, List.of(user.getNickname()),
+                                      chatRoomMemberRepository.countActiveByChatRoomId(chatRoomId));
+        cacheInvalidationPublisher.publish(new CacheInvalidation.RoomMembershipChanged(chatRoomId, List.of(userId)));
         
         log.info("User {} left chat room {}", user.getNickname(), chatRoom.getName());
     }
 
     /**
-     * 채팅방 멤버 목록 조회 (활성 멤버만)
+     * 채팅방 일괄 입장 (이벤트/길드 초대)
+     * BULK_JOIN_BATCH_SIZE명씩 조회·배치 INSERT하고, 입장 시스템 메시지는 인원과 상관없이 요약 1건만 남긴다.
+     * 없는 사용자는 건너뛰고 결과에 포함한다.
      */
-    public List<ChatRoomMemberResponse> getActiveChatRoomMembers(Long chatRoomId) {
+    @Transactional
+    public BulkJoinChatRoomResponse bulkJoinChatRoom(Long chatRoomId, List<Long> userIds) {
+        List<Long> distinctIds = userIds == null ? List.of()
+            : userIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty()) {
+            throw new IllegalArgumentException("사용자 ID 목록은 비어있을 수 없습니다.");
+        }
+        if (distinctIds.size() > BULK_JOIN_MAX_USERS) {
+            throw new IllegalArgumentException("한 번에 입장시킬 수 있는 인원은 최대 " + BULK_JOIN_MAX_USERS + "명입니다.");
+        }
+        log.info("Bulk joining {} users into chat room {}", distinctIds.size(), chatRoomId);
+
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
             .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + chatRoomId));
-        
-        return chatRoom.getMembers().stream()
-            .filter(member -> member.isActive())
-            .map(ChatRoomMemberResponse::from)
-            .collect(Collectors.toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> joinedNicknames = new ArrayList<>();
+        List<Long> joinedUserIds = new ArrayList<>();
+        List<Long> notFoundUserIds = new ArrayList<>();
+        int alreadyMembers = 0;
+
+        for (int from = 0; from < distinctIds.size(); from += BULK_JOIN_BATCH_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_JOIN_BATCH_SIZE, distinctIds.size()));
+            Map<Long, User> users = userRepository.findAllById(chunk).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+            if (users.isEmpty()) {
+                notFoundUserIds.addAll(chunk);
+                continue;
+            }
+
+            Set<Long> activeIds = chatRoomMemberRepository.findUserIdsByActive(chatRoomId, users.keySet(), true);
+            Set<Long> inactiveIds = chatRoomMemberRepository.findUserIdsByActive(chatRoomId, users.keySet(), false);
+            List<Long> newIds = new ArrayList<>();
+            for (Long userId : chunk) {
+                User user = users.get(userId);
+                if (user == null) {
+                    notFoundUserIds.add(userId);
+                } else if (activeIds.contains(userId)) {
+                    alreadyMembers++;
+                } else {
+                    if (!inactiveIds.contains(userId)) {
+                        newIds.add(userId);
+                    }
+                    joinedNicknames.add(user.getNickname());
+                    joinedUserIds.add(userId);
+                }
+            }
+
+            if (!inactiveIds.isEmpty()) {
+                chatRoomMemberRepository.reactivateAll(chatRoomId, inactiveIds, now);
+            }
+            chatRoomMemberRepository.insertAllIfAbsent(chatRoomId, newIds, now);
+        }
+
+        long memberCount = chatRoomMemberRepository.countActiveByChatRoomId(chatRoomId);
+        // 몇 명이든 요약 시스템 메시지 1건 ("A, B님 외 998명이 입장했습니다.")
+        membershipEventCoalescer.joined(chatRoom, joinedNicknames, memberCount);
+        if (!joinedUserIds.isEmpty()) {
+            cacheInvalidationPublisher.publish(new CacheInvalidation.RoomMembershipChanged(chatRoomId, joinedUserIds));
+        }
+
+        log.info("Bulk join finished: chatRoomId={}, joined={}, alreadyMembers={}, notFound={}",
+                 chatRoomId, joinedNicknames.size(), alreadyMembers, notFoundUserIds.size());
+
+        return BulkJoinChatRoomResponse.builder()
+            .chatRoomId(chatRoomId)
+            .requested(distinctIds.size())
+            .joined(joinedNicknames.size())
+            .alreadyMembers(alreadyMembers)
+            .notFoundUserIds(notFoundUserIds)
+            .memberCount(memberCount)
+            .build();
+    }
+
+    /**
+     * 채팅방 멤버 목록 조회 (활성 멤버만, 동시 요청은 한 번의 조회를 공유)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ChatRoomMemberResponse> getActiveChatRoomMembers(Long chatRoomId) {
+        return readCoalescer.execute(MEMBERS_READ, chatRoomId, () -> {
+            ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + chatRoomId));
+
+            return chatRoom.getMembers().stream()
+                .filter(member -> member.isActive())
+                .map(ChatRoomMemberResponse::from)
+                .toList();
+        });
     }
     
     /**
@@ -253,26 +401,23 @@ public class ChatRoomApplicationService {
         log.info("Updating member active status: chatRoomId={}, userId={}, online={}", 
                  chatRoomId, userId, online);
         
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-            .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + chatRoomId));
-        
-        chatRoom.getMembers().stream()
-            .filter(member -> member.getUser().getId().equals(userId))
-            .findFirst()
-            .ifPresent(member -> {
-                member.updateActiveStatus(online);
-                
-                // 온라인 상태로 전환 시 마지막 메시지까지 읽음 처리 (최신 메시지 1건만 조회)
-                if (online) {
-                    messageRepository.findLastByChatRoomId(chatRoomId)
-                        .ifPresent(lastMessage -> {
-                            member.updateLastReadMessage(lastMessage);
-                            log.info("Auto-marked as read for user {} when going online in chat room {}", userId, chatRoomId);
-                        });
-                }
-            });
+        LocalDateTime now = LocalDateTime.now();
+        int updated = online
+            ? chatRoomMemberRepository.markOnline(chatRoomId, userId, now)
+            : chatRoomMemberRepository.markOffline(chatRoomId, userId);
+        if (updated == 0) {
+            requireChatRoom(chatRoomId);
+            return;
+        }
         
-        chatRoomRepository.save(chatRoom);
+        // 온라인 상태로 전환 시 마지막 메시지까지 읽음 처리 (최신 메시지 1건만 조회)
+        if (online) {
+            messageRepository.findLastByChatRoomId(chatRoomId)
+                .ifPresent(lastMessage -> {
+                    chatRoomMemberRepository.advanceLastReadMessage(chatRoomId, userId, lastMessage.getId(), now);
+                    log.info("Auto-marked as read for user {} when going online in chat room {}", userId, chatRoomId);
+                });
+        }
     }
     
     /**
@@ -281,19 +426,24 @@ public class ChatRoomApplicationService {
      */
     @Transactional
     public void updateMemberActivity(Long chatRoomId, Long userId) {
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-            .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + chatRoomId));
-        
-        chatRoom.getMembers().stream()
-            .filter(member -> member.getUser().getId().equals(userId))
-            .findFirst()
-            .ifPresent(member -> {
-                member.updateActivity();
-                // 활동 중인 사용자는 자동으로 읽음 처리 (최신 메시지 1건만 조회)
-                messageRepository.findLastByChatRoomId(chatRoomId)
-                    .ifPresent(member::updateLastReadMessage);
-            });
+        LocalDateTime now = LocalDateTime.now();
+        if (chatRoomMemberRepository.markOnline(chatRoomId, userId, now) == 0) {
+            requireChatRoom(chatRoomId);
+            return;
+        }
         
-        chatRoomRepository.save(chatRoom);
+        // 활동 중인 사용자는 자동으로 읽음 처리 (최신 메시지 1건만 조회)
+        messageRepository.findLastByChatRoomId(chatRoomId)
+            .ifPresent(lastMessage ->
+                chatRoomMemberRepository.advanceLastReadMessage(chatRoomId, userId, lastMessage.getId(), now));
+    }
+
+    /**
+     * 갱신할 멤버 행이 없을 때만 채팅방 존재 여부 확인 (기존과 같은 예외 유지)
+     */
+    private void requireChatRoom(Long chatRoomId) {
+        if (chatRoomRepository.findById(chatRoomId).isEmpty()) {
+            throw new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + chatRoomId);
+        }
     }
 }
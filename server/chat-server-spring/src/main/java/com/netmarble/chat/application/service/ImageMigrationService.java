@@ -0,0 +1,128 @@
+package com.netmarble.chat.application.service;
+
+import com.netmarble.chat.domain.model.ChatRoom;
+import com.netmarble.chat.domain.model.User;
+import com.netmarble.chat.domain.repository.ChatRoomRepository;
+import com.netmarble.chat.domain.repository.UserRepository;
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import com.netmarble.chat.domain.service.CacheInvalidationPublisher;
+import com.netmarble.chat.domain.service.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Base64 Data URL 이미지 이전 (users.profile_image, chat_rooms.image_url → FileStorageService)
+ *
+ * id 순으로 100행씩 읽어 파일로 저장하고 행에는 URL만 남긴 뒤 배치마다 커밋한다.
+ * 중간에 멈춰도 다시 실행하면 남은 Data URL 행만 처리한다.
+ * 디코딩/저장에 실패한 행은 그대로 두고 건수만 보고한다.
+ * 바꾼 행은 배치가 커밋된 뒤 캐시 무효화 이벤트로 알린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageMigrationService {
+
+    private static final String DATA_URL_PREFIX = "data:";
+
+    private final UserRepository userRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    public Report migrateAll() {
+        int[] users = {0, 0};
+        long lastUserId = 0L;
+        while (true) {
+            long afterId = lastUserId;
+            List<Long> batch = transactionTemplate.execute(status -> {
+                List<User> rows = userRepository
+                    .findTop100ByIdGreaterThanAndProfileImageStartingWithOrderByIdAsc(afterId, DATA_URL_PREFIX);
+                for (User user : rows) {
+                    String url = storeDataUrl(user.getProfileImage(), "profiles", "user", user.getId());
+                    if (url != null) {
+                        user.updateProfileImage(url);
+                        cacheInvalidationPublisher.publish(new CacheInvalidation.UserChanged(user.getId()));
+                        users[0]++;
+                    } else {
+                        users[1]++;
+                    }
+                }
+                return rows.stream().map(User::getId).toList();
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            lastUserId = batch.get(batch.size() - 1);
+            log.info("프로필 이미지 이전 진행: lastUserId={}, migrated={}, failed={}", lastUserId, users[0], users[1]);
+        }
+
+        int[] rooms = {0, 0};
+        long lastRoomId = 0L;
+        while (true) {
+            long afterId = lastRoomId;
+            List<Long> batch = transactionTemplate.execute(status -> {
+                List<ChatRoom> rows = chatRoomRepository
+                    .findTop100ByIdGreaterThanAndImageUrlStartingWithOrderByIdAsc(afterId, DATA_URL_PREFIX);
+                for (ChatRoom chatRoom : rows) {
+                    String url = storeDataUrl(chatRoom.getImageUrl(), "rooms", "room", chatRoom.getId());
+                    if (url != null) {
+                        chatRoom.updateInfo(null, url);
+                        cacheInvalidationPublisher.publish(new CacheInvalidation.RoomSummaryChanged(chatRoom.getId()));
+                        rooms[0]++;
+                    } else {
+                        rooms[1]++;
+                    }
+                }
+                return rows.stream().map(ChatRoom::getId).toList();
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            lastRoomId = batch.get(batch.size() - 1);
+            log.info("채팅방 이미지 이전 진행: lastRoomId={}, migrated={}, failed={}", lastRoomId, rooms[0], rooms[1]);
+        }
+
+        Report report = new Report(users[0], rooms[0], users[1] + rooms[1]);
+        log.info("Data URL 이미지 이전 완료: {}", report);
+        return report;
+    }
+
+    /**
+     * "data:image/png;base64,...." → 파일 저장 후 URL (형식 오류/저장 실패면 null)
+     */
+    private String storeDataUrl(String dataUrl, String type, String owner, Long ownerId) {
+        try {
+            int comma = dataUrl.indexOf(',');
+            String header = comma > 0 ? dataUrl.substring(DATA_URL_PREFIX.length(), comma) : "";
+            if (!header.endsWith(";base64")) {
+                throw new IllegalArgumentException("base64 Data URL이 아닙니다.");
+            }
+            String contentType = header.substring(0, header.length() - ";base64".length()).toLowerCase();
+            if (contentType.equals("image/jpg")) {
+                contentType = "image/jpeg";
+            }
+            byte[] bytes = Base64.getMimeDecoder().decode(dataUrl.substring(comma + 1));
+            return fileStorageService.store(new ByteArrayInputStream(bytes), contentType,
+                                            owner + "-" + ownerId, bytes.length, type);
+        } catch (RuntimeException e) {
+            log.warn("Data URL 이미지 이전 실패: {}={}, error={}", owner, ownerId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @param users  URL로 바꾼 사용자 수
+     * @param rooms  URL로 바꾼 채팅방 수
+     * @param failed 이전하지 못한 행 수 (Data URL 유지)
+     */
+    public record Report(int users, int rooms, int failed) {
+    }
+}
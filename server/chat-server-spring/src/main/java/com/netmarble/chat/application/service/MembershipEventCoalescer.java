@@ -0,0 +1,250 @@
+package com.netmarble.chat.application.service;
+
+import com.netmarble.chat.application.dto.MessageResponse;
+import com.netmarble.chat.application.dto.StompEventHeaders;
+import com.netmarble.chat.domain.model.ChatRoom;
+import com.netmarble.chat.domain.model.Message;
+import com.netmarble.chat.domain.repository.ChatRoomRepository;
+import com.netmarble.chat.domain.repository.MessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 입장/퇴장 시스템 메시지 병합기 (채팅방별)
+ *
+ * 조용한 방의 첫 입장/퇴장은 지금처럼 바로 저장·브로드캐스트하고, 그 뒤 window 동안 들어온 이벤트는 모아 두었다가
+ * window가 끝날 때 "A, B님 외 48명이 입장했습니다." 요약 시스템 메시지 1건으로 저장·브로드캐스트한다.
+ * 이벤트가 이어지는 동안은 window마다 요약 1건이고, 한 window 동안 조용하면 다음 이벤트는 다시 바로 전송된다.
+ * 활성 멤버 수가 broadcastThreshold를 넘는 방은 요약을 저장만 하고 브로드캐스트하지 않는다 (0이면 항상 전송).
+ */
+@Slf4j
+public class MembershipEventCoalescer {
+
+    public enum Kind {
+        JOIN("입장했습니다."),
+        LEAVE("퇴장했습니다.");
+
+        private final String verb;
+
+        Kind(String verb) {
+            this.verb = verb;
+        }
+    }
+
+    private final MessageRepository messageRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TaskScheduler scheduler;
+    private final long windowMillis;
+    private final int summaryNames;
+    private final int broadcastThreshold;
+    private final Map<Long, RoomWindow> windows = new ConcurrentHashMap<>();
+
+    public MembershipEventCoalescer(MessageRepository messageRepository,
+                                    ChatRoomRepository chatRoomRepository,
+                                    SimpMessagingTemplate messagingTemplate,
+                                    TaskScheduler scheduler,
+                                    long windowMillis,
+                                    int summaryNames,
+                                    int broadcastThreshold) {
+        this.messageRepository = messageRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.scheduler = scheduler;
+        this.windowMillis = windowMillis;
+        this.summaryNames = Math.max(1, summaryNames);
+        this.broadcastThreshold = broadcastThreshold;
+    }
+
+    public void joined(ChatRoom chatRoom, List<String> nicknames, long activeMembers) {
+        record(chatRoom, Kind.JOIN, nicknames, activeMembers);
+    }
+
+    public void left(ChatRoom chatRoom, List<String> nicknames, long activeMembers) {
+        record(chatRoom, Kind.LEAVE, nicknames, activeMembers);
+    }
+
+    private void record(ChatRoom chatRoom, Kind kind, List<String> nicknames, long activeMembers) {
+        if (nicknames.isEmpty()) {
+            return;
+        }
+        if (windowMillis <= 0) {
+            Batch batch = new Batch(summaryNames);
+            batch.add(kind, nicknames);
+            emit(chatRoom, batch, activeMembers);
+            return;
+        }
+
+        RoomWindow window;
+        boolean leading;
+        while (true) {
+            window = windows.computeIfAbsent(chatRoom.getId(), id -> new RoomWindow(summaryNames));
+            synchronized (window) {
+                if (window.retired) {
+                    // flush가 방금 맵에서 뺀 window — 새 window로 다시 시도
+                    continue;
+                }
+                window.activeMembers = activeMembers;
+                leading = !window.open;
+                if (leading) {
+                    window.open = true;
+                } else {
+                    window.pending.add(kind, nicknames);
+                }
+            }
+            break;
+        }
+
+        if (leading) {
+            // 저장이 실패해도 window가 닫히도록 flush를 먼저 예약한 뒤,
+            // 호출한 트랜잭션 안에서 바로 저장·전송 (조용한 방은 기존과 동일)
+            scheduleFlush(chatRoom.getId(), window);
+            Batch batch = new Batch(summaryNames);
+            batch.add(kind, nicknames);
+            emit(chatRoom, batch, activeMembers);
+        }
+    }
+
+    private void scheduleFlush(Long chatRoomId, RoomWindow window) {
+        try {
+            scheduler.schedule(() -> flush(chatRoomId), Instant.now().plusMillis(windowMillis));
+        } catch (TaskRejectedException e) {
+            // 종료 중 — 남은 이벤트는 버리고 window를 닫는다
+            synchronized (window) {
+                window.open = false;
+                window.pending = new Batch(summaryNames);
+                retire(chatRoomId, window);
+            }
+        }
+    }
+
+    /**
+     * window 종료 — 모인 이벤트가 있으면 요약 1건을 보내고 window를 연장, 없으면 닫고 맵에서 제거한다
+     */
+    void flush(Long chatRoomId) {
+        RoomWindow window = windows.get(chatRoomId);
+        if (window == null) {
+            return;
+        }
+        Batch batch;
+        long activeMembers;
+        synchronized (window) {
+            if (window.pending.isEmpty()) {
+                window.open = false;
+                retire(chatRoomId, window);
+                return;
+            }
+            batch = window.pending;
+            window.pending = new Batch(summaryNames);
+            activeMembers = window.activeMembers;
+        }
+
+        try {
+            chatRoomRepository.findById(chatRoomId)
+                .ifPresent(chatRoom -> emit(chatRoom, batch, activeMembers));
+        } catch (RuntimeException e) {
+            log.warn("입장/퇴장 요약 메시지 전송 실패: chatRoomId={}, error={}", chatRoomId, e.getMessage());
+        }
+        scheduleFlush(chatRoomId, window);
+    }
+
+    /**
+     * 닫힌 window를 맵에서 뺀다 (window 잠금을 잡은 상태에서 호출) — 입장/퇴장이 있었던 모든 방이 남지 않도록
+     */
+    private void retire(Long chatRoomId, RoomWindow window) {
+        window.retired = true;
+        windows.remove(chatRoomId, window);
+    }
+
+    int windowCount() {
+        return windows.size();
+    }
+
+    private void emit(ChatRoom chatRoom, Batch batch, long activeMembers) {
+        Message saved = messageRepository.save(Message.createSystemMessage(chatRoom, batch.text()));
+        if (broadcastThreshold > 0 && activeMembers > broadcastThreshold) {
+            log.debug("대형 채팅방 입장/퇴장 브로드캐스트 생략: chatRoomId={}, activeMembers={}",
+                      chatRoom.getId(), activeMembers);
+            return;
+        }
+        // 입장/퇴장 알림은 저우선 레인
+        messagingTemplate.convertAndSend(
+            "/topic/chatroom." + chatRoom.getId(),
+            MessageResponse.from(saved),
+            StompEventHeaders.lowPriority()
+        );
+    }
+
+    private static final class RoomWindow {
+
+        private boolean open;
+        private boolean retired;
+        private long activeMembers;
+        private Batch pending;
+
+        RoomWindow(int summaryNames) {
+            this.pending = new Batch(summaryNames);
+        }
+    }
+
+    /**
+     * window 동안 모인 이벤트 — 종류별로 앞쪽 summaryNames명의 닉네임과 전체 인원 수만 보관한다
+     */
+    static final class Batch {
+
+        private final int summaryNames;
+        private final Map<Kind, List<String>> names = new EnumMap<>(Kind.class);
+        private final Map<Kind, Integer> counts = new EnumMap<>(Kind.class);
+
+        Batch(int summaryNames) {
+            this.summaryNames = summaryNames;
+        }
+
+        void add(Kind kind, List<String> nicknames) {
+            List<String> kept = names.computeIfAbsent(kind, k -> new ArrayList<>(summaryNames));
+            for (String nickname : nicknames) {
+                if (kept.size() >= summaryNames) {
+                    break;
+                }
+                kept.add(nickname);
+            }
+            counts.merge(kind, nicknames.size(), Integer::sum);
+        }
+
+        boolean isEmpty() {
+            return counts.isEmpty();
+        }
+
+        /**
+         * 예) "A님이 입장했습니다." / "A, B님 외 48명이 입장했습니다. C님이 퇴장했습니다."
+         */
+        String text() {
+            StringBuilder text = new StringBuilder();
+            for (Kind kind : Kind.values()) {
+                Integer count = counts.get(kind);
+                if (count == null) {
+                    continue;
+                }
+                List<String> kept = names.get(kind);
+                if (text.length() > 0) {
+                    text.append(' ');
+                }
+                text.append(String.join(", ", kept)).append("님");
+                if (count > kept.size()) {
+                    text.append(" 외 ").append(count - kept.size()).append("명");
+                }
+                text.append("이 ").append(kind.verb);
+            }
+            return text.toString();
+        }
+    }
+}
@@ -11,10 +11,13 @@ import com.netmarble.chat.domain.repository.ChatRoomMemberRepository;
 import com.netmarble.chat.domain.repository.ChatRoomRepository;
 import com.netmarble.chat.domain.repository.MessageRepository;
 import com.netmarble.chat.domain.repository.UserRepository;
+import com.netmarble.chat.domain.service.MessageIdempotencyStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -33,14 +36,46 @@ public class MessageApplicationService {
     private final UserRepository userRepository;
     private final AttachmentRepository attachmentRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final MessageIdempotencyStore messageIdempotencyStore;
 
     /**
      * 메시지 전송
+     * clientMessageId가 있으면 발신자별로 중복을 제거한다.
+     * 이미 처리된 요청의 재시도에는 저장 없이 원본 메시지 응답(replayed=true)을 돌려주고,
+     * 첫 요청이 아직 처리 중이면 InFlightException(409)으로 재시도를 미룬다.
      */
     @Transactional
     public MessageResponse sendMessage(SendMessageRequest request) {
         log.info("Sending message to chat room {}", request.getChatRoomId());
-        
+
+        if (!request.hasClientMessageId() || request.getSenderId() == null) {
+            return saveMessage(request);
+        }
+
+        Long senderId = request.getSenderId();
+        String clientMessageId = request.getClientMessageId();
+        MessageIdempotencyStore.Reservation reservation = messageIdempotencyStore.reserve(senderId, clientMessageId);
+        if (reservation.isCompleted()) {
+            log.info("Duplicate message replayed: senderId={}, clientMessageId={}, messageId={}",
+                     senderId, clientMessageId, reservation.messageId());
+            return replayResponse(reservation.messageId(), clientMessageId);
+        }
+        if (!reservation.acquired()) {
+            throw new MessageIdempotencyStore.InFlightException(clientMessageId);
+        }
+
+        MessageResponse response;
+        try {
+            response = saveMessage(request);
+        } catch (RuntimeException e) {
+            messageIdempotencyStore.release(senderId, clientMessageId);
+            throw e;
+        }
+        completeAfterCommit(senderId, clientMessageId, response.getId());
+        return response.toBuilder().clientMessageId(clientMessageId).build();
+    }
+
+    private MessageResponse saveMessage(SendMessageRequest request) {
         // 메시지 타입별 유효성 검증
         request.validateByMessageType();
         
@@ -65,7 +100,7 @@ public class MessageApplicationService {
             savedMessage = messageRepository.save(
                 new Message(chatRoom, sender, request.getFileName(), Message.MessageType.IMAGE));
             Attachment imageAttachment = attachmentRepository.save(
-                new Attachment(savedMessage, request.getContent(), "IMAGE"));
+                new Attachment(savedMessage, request.getContent(), "IMAGE", request.getImageMetadata()));
 
             log.info("Message sent: id={}, chatRoomId={}, sender={}, type={}",
                      savedMessage.getId(), chatRoom.getId(), sender.getNickname(), request.getType());
@@ -108,6 +143,39 @@ public class MessageApplicationService {
             .build();
     }
 
+    /**
+     * 커밋된 뒤에만 완료로 기록 — 롤백되면 선점을 풀어 재시도가 다시 저장되게 한다
+     */
+    private void completeAfterCommit(Long senderId, String clientMessageId, Long messageId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            messageIdempotencyStore.complete(senderId, clientMessageId, messageId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    messageIdempotencyStore.complete(senderId, clientMessageId, messageId);
+                } else {
+                    messageIdempotencyStore.release(senderId, clientMessageId);
+                }
+            }
+        });
+    }
+
+    /**
+     * 중복 요청에 돌려줄 원본 메시지 응답
+     */
+    private MessageResponse replayResponse(Long messageId, String clientMessageId) {
+        Message original = messageRepository.findById(messageId)
+            .orElseThrow(() -> new IllegalArgumentException("메시지를 찾을 수 없습니다: " + messageId));
+        return MessageResponse.from(original).toBuilder()
+            .unreadCount(calculateUnreadCount(original.getChatRoom(), original))
+            .clientMessageId(clientMessageId)
+            .replayed(true)
+            .build();
+    }
+
     /**
      * 채팅방의 메시지 목록 조회 (안읽은 사람 수 포함)
      * userId가 제공되면 해당 사용자의 입장 시점(joinedAt) 이후 메시지만 반환한다.
@@ -142,18 +210,7 @@ public class MessageApplicationService {
                 // 안읽은 사람 수 계산 (시스템 메시지가 아닌 경우만)
                 if (message.getSender() != null) {
                     int unreadCount = calculateUnreadCount(chatRoom, message);
-                    return MessageResponse.builder()
-                        .id(response.getId())
-                        .chatRoomId(response.getChatRoomId())
-                        .senderId(response.getSenderId())
-                        .senderNickname(response.getSenderNickname())
-                        .content(response.getContent())
-                        .type(response.getType())
-                        .messageType(response.getMessageType())
-                        .attachmentUrl(response.getAttachmentUrl())
-                        .attachmentType(response.getAttachmentType())
-                        .sentAt(response.getSentAt())
-                        .deleted(response.isDeleted())
+                    return response.toBuilder()
                         .unreadCount(unreadCount)
                         .build();
                 }
@@ -180,6 +237,10 @@ public class MessageApplicationService {
             .deleted(message.isDeleted())
             .attachmentUrl(attachment.getFileUrl())
             .attachmentType(attachment.getFileType())
+            .thumbnailUrl(MessageResponse.thumbnailUrlOf(attachment))
+            .imageWidth(attachment.getWidth())
+            .imageHeight(attachment.getHeight())
+            .imagePlaceholder(attachment.getPlaceholder())
             .unreadCount(unreadCount)
             .build();
     }
@@ -264,18 +325,7 @@ public class MessageApplicationService {
                 // 안읽은 사람 수 계산 (시스템 메시지가 아닌 경우만)
                 if (message.getSender() != null) {
                     int unreadCount = calculateUnreadCount(chatRoom, message);
-                    return MessageResponse.builder()
-                        .id(response.getId())
-                        .chatRoomId(response.getChatRoomId())
-                        .senderId(response.getSenderId())
-                        .senderNickname(response.getSenderNickname())
-                        .content(response.getContent())
-                        .type(response.getType())
-                        .messageType(response.getMessageType())
-                        .attachmentUrl(response.getAttachmentUrl())
-                        .attachmentType(response.getAttachmentType())
-                        .sentAt(response.getSentAt())
-                        .deleted(response.isDeleted())
+                    return response.toBuilder()
                         .unreadCount(unreadCount)
                         .build();
                 }
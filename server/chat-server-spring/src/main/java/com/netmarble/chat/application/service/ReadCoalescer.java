@@ -0,0 +1,179 @@
+package com.netmarble.chat.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 조회 요청 병합 (single-flight)
+ *
+ * 큰 방이 붐비면 같은 멤버 목록·채팅방·채팅방 목록 조회가 동시에 수십 건 들어온다.
+ * 같은 key로 진행 중인 조회가 있으면 새로 DB에 가지 않고 그 결과를 함께 받는다.
+ * - 먼저 온 요청(leader)만 읽기 전용 트랜잭션을 열고, 기다리는 요청은 커넥션을 잡지 않는다.
+ *   그래서 호출하는 서비스 메서드는 트랜잭션 밖(NOT_SUPPORTED)에서 이 메서드를 불러야 한다.
+ * - ttl이 0보다 크면 끝난 결과를 ttl 동안 그대로 돌려준다. 쓰기가 반영되는 시간이 그만큼 늦어진다.
+ * - leader가 실패하면 기다리던 요청도 같은 예외를 받고, 실패는 남기지 않는다.
+ * - bypass가 true인 요청(예: read-your-writes로 primary에 고정된 요청)은 병합하지 않고 직접 조회한다.
+ * - 쓰기가 커밋되면 invalidate로 해당 key의 조회를 내린다. 이후 요청은 진행 중인 (쓰기 이전) 조회에 합류하지 않고 새로 읽는다.
+ * 결과는 여러 요청이 공유하므로 불변 DTO만 돌려준다.
+ *
+ * - chat.read.coalesce{name, result} : leader / shared / cached
+ * - chat.read.coalesce.flights : 진행 중이거나 ttl 안에 있는 조회 수
+ */
+public class ReadCoalescer {
+
+    private final Settings settings;
+    private final TransactionOperations readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final BooleanSupplier bypass;
+    private final LongSupplier clock;
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    public ReadCoalescer(Settings settings, TransactionOperations readOnlyTransaction, MeterRegistry meterRegistry) {
+        this(settings, readOnlyTransaction, meterRegistry, () -> false);
+    }
+
+    public ReadCoalescer(Settings settings, TransactionOperations readOnlyTransaction, MeterRegistry meterRegistry,
+                         BooleanSupplier bypass) {
+        this(settings, readOnlyTransaction, meterRegistry, bypass, System::nanoTime);
+    }
+
+    ReadCoalescer(Settings settings, TransactionOperations readOnlyTransaction, MeterRegistry meterRegistry,
+                  BooleanSupplier bypass, LongSupplier clock) {
+        this.settings = settings;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.meterRegistry = meterRegistry;
+        this.bypass = bypass;
+        this.clock = clock;
+        Gauge.builder("chat.read.coalesce.flights", flights, Map::size)
+                .description("진행 중이거나 ttl 안에 있는 병합 조회 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param name   조회 종류 (메트릭 태그, 예: "members")
+     * @param id     조회 대상 (null 허용)
+     * @param loader 읽기 전용 트랜잭션 안에서 실행할 조회
+     */
+    public <T> T execute(String name, Object id, Supplier<T> loader) {
+        if (!settings.enabled() || bypass.getAsBoolean()) {
+            return load(loader);
+        }
+        String key = key(name, id);
+        while (true) {
+            long now = clock.getAsLong();
+            Flight existing = flights.get(key);
+            if (existing != null) {
+                if (!existing.future.isDone()) {
+                    count(name, "shared");
+                    return await(existing);
+                }
+                if (existing.expiresAt - now > 0) {
+                    count(name, "cached");
+                    return await(existing);
+                }
+                flights.remove(key, existing);
+            }
+
+            Flight flight = new Flight();
+            if (flights.putIfAbsent(key, flight) != null) {
+                continue;
+            }
+            count(name, "leader");
+            evictExpiredIfFull(now);
+            try {
+                T result = load(loader);
+                flight.expiresAt = clock.getAsLong() + settings.ttl().toNanos();
+                if (settings.ttl().isZero()) {
+                    flights.remove(key, flight);
+                }
+                flight.future.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                flights.remove(key, flight);
+                flight.future.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 진행 중이거나 ttl 안에 있는 조회를 내린다 — 이미 합류한 요청은 그 결과를 받고, 이후 요청은 새로 조회한다.
+     */
+    public void invalidate(String name, Object id) {
+        flights.remove(key(name, id));
+    }
+
+    private static String key(String name, Object id) {
+        return name + ":" + id;
+    }
+
+    /**
+     * 병합하지 않는 조회를 leader와 같은 읽기 전용 트랜잭션으로 실행한다.
+     * NOT_SUPPORTED로 병합하는 메서드에서 나머지(사용자별) 조회를 트랜잭션 하나로 묶어 replica로 보낼 때 쓴다.
+     */
+    public <T> T readOnly(Supplier<T> work) {
+        return load(work);
+    }
+
+    private <T> T load(Supplier<T> loader) {
+        return readOnlyTransaction.execute(status -> loader.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T await(Flight flight) {
+        try {
+            return (T) flight.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evictExpiredIfFull(long now) {
+        if (flights.size() > settings.maxEntries()) {
+            flights.values().removeIf(f -> f.future.isDone() && f.expiresAt - now <= 0);
+        }
+    }
+
+    private void count(String name, String result) {
+        Counter.builder("chat.read.coalesce")
+                .tag("name", name)
+                .tag("result", result)
+                .description("병합 조회 요청 수 (leader만 DB 조회)")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    int flightCount() {
+        return flights.size();
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile long expiresAt;
+    }
+
+    /**
+     * @param enabled    false면 병합 없이 매번 조회
+     * @param ttl        끝난 결과를 재사용하는 시간 (0이면 진행 중인 조회만 공유)
+     * @param maxEntries 유지 중인 조회 수가 넘으면 만료된 결과를 정리
+     */
+    public record Settings(boolean enabled, Duration ttl, int maxEntries) {
+    }
+}
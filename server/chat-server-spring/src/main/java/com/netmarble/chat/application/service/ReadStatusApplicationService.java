@@ -1,6 +1,7 @@
 package com.netmarble.chat.application.service;
 
 import com.netmarble.chat.application.dto.ReadStatusUpdateEvent;
+import com.netmarble.chat.application.dto.StompEventHeaders;
 import com.netmarble.chat.application.dto.UnreadCountResponse;
 import com.netmarble.chat.domain.model.ChatRoom;
 import com.netmarble.chat.domain.model.ChatRoomMember;
@@ -79,7 +80,9 @@ public class ReadStatusApplicationService {
             .type("READ_STATUS_UPDATE")
             .build();
         
-        messagingTemplate.convertAndSend("/topic/chatroom." + chatRoomId + ".read-status", event);
+        // 저우선 레인으로 전송 — 같은 사용자의 이전 읽음 이벤트가 아직 전송 대기 중이면 최신 값으로 대체된다
+        messagingTemplate.convertAndSend("/topic/chatroom." + chatRoomId + ".read-status", event,
+            StompEventHeaders.lowPriority("read-status." + userId));
         log.info("[READ STATUS] 읽음 상태 업데이트 전송 - chatRoomId={}, userId={}, lastReadMessageId={}", 
                  chatRoomId, userId, lastMessage.getId());
     }
@@ -91,10 +94,7 @@ public class ReadStatusApplicationService {
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
             .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + chatRoomId));
         
-        var member = chatRoom.getMembers().stream()
-            .filter(m -> m.getUser().getId().equals(userId) && m.isActive())
-            .findFirst()
-            .orElse(null);
+        var member = chatRoom.findActiveMember(userId).orElse(null);
         
         if (member == null) {
             return 0;
@@ -141,8 +141,7 @@ public class ReadStatusApplicationService {
         
         for (ChatRoom chatRoom : activeChatRooms) {
             // 사용자가 해당 채팅방의 멤버인지 확인
-            boolean isMember = chatRoom.getMembers().stream()
-                .anyMatch(m -> m.getUser().getId().equals(userId) && m.isActive());
+            boolean isMember = chatRoom.findActiveMember(userId).isPresent();
             
             if (isMember) {
                 long unreadCount = getUnreadCount(userId, chatRoom.getId());
@@ -160,8 +159,7 @@ public class ReadStatusApplicationService {
         List<ChatRoom> activeChatRooms = chatRoomRepository.findAllActive();
         
         return activeChatRooms.stream()
-            .filter(chatRoom -> chatRoom.getMembers().stream()
-                .anyMatch(m -> m.getUser().getId().equals(userId) && m.isActive()))
+            .filter(chatRoom -> chatRoom.findActiveMember(userId).isPresent())
             .map(chatRoom -> {
                 long unreadCount = getUnreadCount(userId, chatRoom.getId());
                 return UnreadCountResponse.builder()
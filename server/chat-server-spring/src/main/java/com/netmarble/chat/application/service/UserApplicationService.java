@@ -1,9 +1,13 @@
 package com.netmarble.chat.application.service;
 
+import com.netmarble.chat.application.dto.BulkCreateUserRequest;
+import com.netmarble.chat.application.dto.BulkCreateUserResponse;
 import com.netmarble.chat.application.dto.CreateUserRequest;
 import com.netmarble.chat.application.dto.UserResponse;
 import com.netmarble.chat.domain.model.User;
 import com.netmarble.chat.domain.repository.UserRepository;
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import com.netmarble.chat.domain.service.CacheInvalidationPublisher;
 import com.netmarble.chat.domain.service.UserDomainService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +15,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -23,39 +29,84 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class UserApplicationService {
 
+    /** 일괄 생성 한 번에 받을 수 있는 최대 인원 */
+    static final int BULK_CREATE_MAX_USERS = 10000;
+
+    /** 일괄 생성 시 닉네임 조회·배치 INSERT 한 번에 처리하는 인원 */
+    static final int BULK_CREATE_BATCH_SIZE = 500;
+
     private final UserRepository userRepository;
     private final UserDomainService userDomainService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     /**
      * 새로운 사용자 생성 또는 기존 사용자 로그인
+     * 닉네임 기준 upsert 한 문장으로 처리한다 — 같은 닉네임의 동시 로그인도 유니크 키 경합 없이 성공한다.
+     * 새 사용자는 upsert 결과만으로 응답하고, 기존 사용자는 갱신된 행을 한 번 읽어 응답한다.
+     * 값이 없는 profileColor/profileImage는 기존 값을 유지한다.
+     * 기존 사용자는 프로필이 바뀌었을 수 있으므로 커밋 후 캐시 무효화 이벤트를 발행한다.
      */
     @Transactional
     public UserResponse createUser(CreateUserRequest request) {
         log.info("Creating or logging in user with nickname: {}", request.getNickname());
         
-        // 기존 닉네임이 있으면 해당 사용자 반환
-        return userRepository.findByNickname(request.getNickname())
-            .map(existingUser -> {
-                log.info("User already exists, logging in: id={}, nickname={}",
-                         existingUser.getId(), existingUser.getNickname());
-                // 활동 시간 업데이트, 프로필 색상 및 이미지 갱신 후 저장
-                existingUser.updateLastActive();
-                existingUser.updateProfileColor(request.getProfileColor());
-                existingUser.updateProfileImage(request.getProfileImage());
-                User updated = userRepository.save(existingUser);
-                return UserResponse.from(updated);
+        // 닉네임 검증 + 신규 가입 시 INSERT할 값 (기본 색상 포함)
+        User candidate = new User(request.getNickname(), request.getProfileColor(), request.getProfileImage());
+        String profileColor = (request.getProfileColor() != null && !request.getProfileColor().isBlank())
+            ? request.getProfileColor() : null;
+        
+        return userRepository.upsertByNickname(candidate, profileColor, request.getProfileImage())
+            .map(id -> {
+                log.info("User created successfully: id={}, nickname={}", id, candidate.getNickname());
+                return UserResponse.from(id, candidate);
             })
             .orElseGet(() -> {
-                // 새로운 사용자 생성
-                log.info("Creating new user with nickname: {}", request.getNickname());
-                User user = new User(request.getNickname(), request.getProfileColor(), request.getProfileImage());
-                User savedUser = userRepository.save(user);
-                log.info("User created successfully: id={}, nickname={}", 
-                         savedUser.getId(), savedUser.getNickname());
-                return UserResponse.from(savedUser);
+                User existingUser = userRepository.findByNickname(candidate.getNickname())
+                    .orElseThrow(() -> new IllegalStateException("upsert 이후 사용자를 찾을 수 없습니다: " + candidate.getNickname()));
+                log.info("User already exists, logging in: id={}, nickname={}",
+                         existingUser.getId(), existingUser.getNickname());
+                cacheInvalidationPublisher.publish(new CacheInvalidation.UserChanged(existingUser.getId()));
+                return UserResponse.from(existingUser);
             });
     }
 
+    /**
+     * 사용자 일괄 사전 생성 (부하 테스트/마이그레이션용)
+     * BULK_CREATE_BATCH_SIZE명씩 이미 있는 닉네임을 걸러 배치 INSERT한다.
+     */
+    @Transactional
+    public BulkCreateUserResponse bulkCreateUsers(BulkCreateUserRequest request) {
+        List<String> nicknames = request.getNicknames() == null ? List.of()
+            : request.getNicknames().stream().filter(Objects::nonNull).distinct().toList();
+        if (nicknames.isEmpty()) {
+            throw new IllegalArgumentException("닉네임 목록은 비어있을 수 없습니다.");
+        }
+        if (nicknames.size() > BULK_CREATE_MAX_USERS) {
+            throw new IllegalArgumentException("한 번에 생성할 수 있는 사용자는 최대 " + BULK_CREATE_MAX_USERS + "명입니다.");
+        }
+        log.info("Bulk creating {} users", nicknames.size());
+
+        // 전부 검증한 뒤 INSERT (잘못된 닉네임이 있으면 아무것도 만들지 않음)
+        List<User> users = nicknames.stream()
+            .map(nickname -> new User(nickname, request.getProfileColor()))
+            .toList();
+
+        int created = 0;
+        for (int from = 0; from < users.size(); from += BULK_CREATE_BATCH_SIZE) {
+            List<User> chunk = users.subList(from, Math.min(from + BULK_CREATE_BATCH_SIZE, users.size()));
+            Set<String> existing = userRepository.findExistingNicknames(
+                chunk.stream().map(User::getNickname).toList());
+            List<User> newUsers = chunk.stream()
+                .filter(user -> !existing.contains(user.getNickname()))
+                .toList();
+            // 조회와 INSERT 사이에 다른 요청이 만든 닉네임은 INSERT IGNORE가 건너뛰므로 실제 추가 수를 쓴다
+            created += userRepository.insertAllIfAbsent(newUsers);
+        }
+
+        log.info("Bulk create finished: requested={}, created={}", nicknames.size(), created);
+        return new BulkCreateUserResponse(nicknames.size(), created, nicknames.size() - created);
+    }
+
     /**
      * 사용자 ID로 조회
      */
@@ -92,6 +143,7 @@ public class UserApplicationService {
 
     /**
      * 사용자 활동 시간 업데이트
+     * 하트비트마다 오므로 무효화 이벤트는 발행하지 않는다 — 다른 인스턴스 캐시의 lastActiveAt은 캐시 TTL만큼 늦을 수 있다.
      */
     @Transactional
     public void updateUserActivity(Long userId) {
@@ -30,10 +30,25 @@ public class Attachment {
     @Column(name = "file_type", nullable = false, length = 50)
     private String fileType;
 
+    // 이미지 메타데이터 (서버에 저장된 IMAGE만, 그 외에는 null)
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    // 평균 색 (#rrggbb) — 이미지 로드 전 자리 표시용
+    @Column(name = "placeholder", length = 7)
+    private String placeholder;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
     public Attachment(Message message, String fileUrl, String fileType) {
+        this(message, fileUrl, fileType, null);
+    }
+
+    public Attachment(Message message, String fileUrl, String fileType, ImageMetadata imageMetadata) {
         if (fileUrl == null || fileUrl.isBlank()) {
             throw new IllegalArgumentException("첨부파일 URL은 비어있을 수 없습니다.");
         }
@@ -43,6 +58,11 @@ public class Attachment {
         this.message = message;
         this.fileUrl = fileUrl;
         this.fileType = fileType;
+        if (imageMetadata != null) {
+            this.width = imageMetadata.width();
+            this.height = imageMetadata.height();
+            this.placeholder = imageMetadata.placeholder();
+        }
         this.createdAt = LocalDateTime.now();
     }
 }
@@ -4,13 +4,20 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Entity
 @Table(name = "chat_rooms")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "chat.room")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatRoom {
@@ -22,7 +29,8 @@ public class ChatRoom {
     @Column(nullable = false, length = 100)
     private String name;
 
-    @Column(columnDefinition = "MEDIUMTEXT")
+    /** 채팅방 이미지 URL (FileStorageService 저장 경로) */
+    @Column(length = 512)
     private String imageUrl;
 
     @Column(nullable = false)
@@ -41,11 +49,20 @@ public class ChatRoom {
     @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ChatRoomMember> members = new ArrayList<>();
 
+    // userId → 멤버 인덱스와 활성 멤버 수 캐시 (members 로드 후 첫 사용 시 한 번 구성, 이후 도메인 메서드가 유지)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private Map<Long, ChatRoomMember> memberIndex;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private long activeMemberCount;
+
     // 비즈니스 로직을 위한 생성자
     public ChatRoom(String name, String imageUrl, User creator) {
         validateName(name);
         this.name = name;
-        this.imageUrl = imageUrl;
+        this.imageUrl = User.validateImageUrl(imageUrl);
         this.creator = creator;
         this.createdAt = LocalDateTime.now();
         this.active = true;
@@ -66,54 +83,67 @@ public class ChatRoom {
 
     // 도메인 로직: 멤버 추가
     public boolean addMember(User user) {
-        // 이미 활성 멤버인지 확인
-        boolean alreadyActiveMember = members.stream()
-            .anyMatch(m -> m.getUser().getId().equals(user.getId()) && m.isActive());
+        ChatRoomMember member = memberIndex().get(user.getId());
         
-        if (alreadyActiveMember) {
+        if (member != null && member.isActive()) {
             // 이미 활성 멤버면 false 반환 (중복 입장)
             return false;
         }
         
-        // 비활성 멤버가 있는지 확인 (재입장)
-        ChatRoomMember inactiveMember = members.stream()
-            .filter(m -> m.getUser().getId().equals(user.getId()) && !m.isActive())
-            .findFirst()
-            .orElse(null);
-        
-        if (inactiveMember != null) {
+        if (member != null) {
             // 재입장
-            inactiveMember.rejoin();
-            return true;
+            member.rejoin();
         } else {
             // 새로운 멤버 추가
-            ChatRoomMember member = new ChatRoomMember(this, user);
+            member = new ChatRoomMember(this, user);
             members.add(member);
-            return true;
+            memberIndex.put(user.getId(), member);
         }
+        activeMemberCount++;
+        return true;
     }
 
     // 도메인 로직: 멤버 제거 (퇴장)
     public void removeMember(User user) {
-        ChatRoomMember member = members.stream()
-            .filter(m -> m.getUser().getId().equals(user.getId()) && m.isActive())
-            .findFirst()
+        ChatRoomMember member = findActiveMember(user.getId())
             .orElseThrow(() -> new IllegalArgumentException("채팅방에 참여하지 않은 사용자입니다."));
         
         member.leave();
+        activeMemberCount--;
+    }
+
+    // 도메인 로직: 활성 멤버 단건 조회
+    public Optional<ChatRoomMember> findActiveMember(Long userId) {
+        ChatRoomMember member = memberIndex().get(userId);
+        return member != null && member.isActive() ? Optional.of(member) : Optional.empty();
     }
 
     // 도메인 로직: 활성 멤버 수 조회
     public long getActiveMemberCount() {
-        return members.stream()
-            .filter(ChatRoomMember::isActive)
-            .count();
+        memberIndex();
+        return activeMemberCount;
     }
 
     // 도메인 로직: 사용자가 활성 멤버인지 확인
     public boolean isActiveMember(User user) {
-        return members.stream()
-            .anyMatch(m -> m.getUser().getId().equals(user.getId()) && m.isActive());
+        return findActiveMember(user.getId()).isPresent();
+    }
+
+    private Map<Long, ChatRoomMember> memberIndex() {
+        if (memberIndex == null) {
+            Map<Long, ChatRoomMember> index = new HashMap<>();
+            long count = 0;
+            for (ChatRoomMember member : members) {
+                if (member.isActive()) {
+                    count++;
+                }
+                // 같은 사용자의 행이 여러 개면 활성 행을 우선
+                index.merge(member.getUser().getId(), member, (current, other) -> current.isActive() ? current : other);
+            }
+            memberIndex = index;
+            activeMemberCount = count;
+        }
+        return memberIndex;
     }
 
     // 도메인 로직: 채팅방 비활성화
@@ -128,7 +158,7 @@ public class ChatRoom {
             this.name = name;
         }
         if (imageUrl != null) {
-            this.imageUrl = imageUrl;
+            this.imageUrl = User.validateImageUrl(imageUrl);
         }
     }
 }
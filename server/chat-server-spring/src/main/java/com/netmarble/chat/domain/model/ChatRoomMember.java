@@ -9,10 +9,13 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "chat_room_members",
+        uniqueConstraints = {
+                // 입장 upsert와 행 단위 갱신의 키 (채팅방당 사용자 1행)
+                @UniqueConstraint(name = "uk_crm_room_user", columnNames = {"chat_room_id", "user_id"})
+        },
         indexes = {
                 @Index(name = "idx_crm_room_id",      columnList = "chat_room_id"),
                 @Index(name = "idx_crm_user_id",      columnList = "user_id"),
-                @Index(name = "idx_crm_room_user",    columnList = "chat_room_id, user_id"),
                 @Index(name = "idx_crm_room_active",  columnList = "chat_room_id, active")
         }
 )
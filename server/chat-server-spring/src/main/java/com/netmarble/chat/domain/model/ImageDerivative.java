@@ -0,0 +1,78 @@
+package com.netmarble.chat.domain.model;
+
+import java.util.List;
+
+/**
+ * 업로드 이미지의 파생(썸네일) 규격
+ *
+ * 파생 이미지는 원본 옆에 {원본 파일명}_{suffix}.jpg 로 저장되므로 URL을 원본 URL만으로 계산할 수 있다.
+ * 예) /uploads/messages/2026/03/04/uuid.png → /uploads/messages/2026/03/04/uuid_w480.jpg
+ * 아직 생성되지 않았거나 원본이 이미 규격보다 작으면 nginx가 원본으로 대체해 서빙한다.
+ */
+public enum ImageDerivative {
+
+    /** 채팅 말풍선 미리보기 — 긴 변 480px 이내 */
+    PREVIEW("w480", 480),
+    /** 프로필·채팅방 아바타 — 긴 변 128px 이내 */
+    AVATAR("s128", 128);
+
+    private static final String UPLOAD_URL_PREFIX = "/uploads/";
+
+    private final String suffix;
+    private final int maxSize;
+
+    ImageDerivative(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 저장 유형별 생성할 파생 이미지 (messages → 미리보기, profiles·rooms → 아바타)
+     */
+    public static List<ImageDerivative> forType(String type) {
+        if ("messages".equals(type)) {
+            return List.of(PREVIEW);
+        }
+        if ("profiles".equals(type) || "rooms".equals(type)) {
+            return List.of(AVATAR);
+        }
+        return List.of();
+    }
+
+    /**
+     * 원본 파일명 → 파생 파일명 (uuid.png → uuid_w480.jpg)
+     */
+    public String fileNameFor(String originalFileName) {
+        int dot = originalFileName.lastIndexOf('.');
+        String baseName = dot > 0 ? originalFileName.substring(0, dot) : originalFileName;
+        return baseName + "_" + suffix + ".jpg";
+    }
+
+    /**
+     * 파생 파일명이면 원본의 확장자를 뺀 이름, 아니면 null (uuid_w480.jpg → uuid)
+     */
+    public static String originalBaseNameOf(String fileName) {
+        for (ImageDerivative derivative : values()) {
+            String ending = "_" + derivative.suffix + ".jpg";
+            if (fileName.endsWith(ending) && fileName.length() > ending.length()) {
+                return fileName.substring(0, fileName.length() - ending.length());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 원본 URL → 파생 URL (서버에 저장된 업로드 파일이 아니면 null — Base64, 스티커 ID 등)
+     */
+    public String urlFor(String originalUrl) {
+        if (originalUrl == null || !originalUrl.startsWith(UPLOAD_URL_PREFIX)) {
+            return null;
+        }
+        int slash = originalUrl.lastIndexOf('/');
+        return originalUrl.substring(0, slash + 1) + fileNameFor(originalUrl.substring(slash + 1));
+    }
+}
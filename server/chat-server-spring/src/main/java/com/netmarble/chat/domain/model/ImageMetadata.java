@@ -0,0 +1,20 @@
+package com.netmarble.chat.domain.model;
+
+/**
+ * 업로드 이미지 메타데이터 — 클라이언트가 이미지를 받기 전에 타임라인 레이아웃을 잡는 데 쓴다
+ *
+ * @param width       원본 가로 (px)
+ * @param height      원본 세로 (px)
+ * @param placeholder 평균 색 (#rrggbb, 알 수 없으면 null)
+ */
+public record ImageMetadata(int width, int height, String placeholder) {
+
+    public ImageMetadata {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("이미지 크기가 올바르지 않습니다: " + width + "x" + height);
+        }
+        if (placeholder != null && !placeholder.matches("#[0-9a-f]{6}")) {
+            throw new IllegalArgumentException("플레이스홀더 색상 형식이 올바르지 않습니다: " + placeholder);
+        }
+    }
+}
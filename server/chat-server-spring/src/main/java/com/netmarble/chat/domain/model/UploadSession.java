@@ -0,0 +1,24 @@
+package com.netmarble.chat.domain.model;
+
+/**
+ * 이어 올리기(재개 가능) 업로드 세션
+ *
+ * offset은 서버가 지금까지 받은 바이트 수로, 클라이언트는 이 위치부터 다음 청크를 보낸다.
+ * 완료되면 url이 채워지고, 같은 세션의 완료 재시도는 같은 URL을 돌려받는다.
+ *
+ * @param type 저장 유형 (profiles, rooms, messages)
+ * @param size 전체 파일 크기 (bytes)
+ */
+public record UploadSession(String uploadId, String type, String fileName, long size, long offset, String url) {
+
+    /**
+     * 모든 바이트를 받았는지 여부
+     */
+    public boolean isReceived() {
+        return offset == size;
+    }
+
+    public boolean isCompleted() {
+        return url != null;
+    }
+}
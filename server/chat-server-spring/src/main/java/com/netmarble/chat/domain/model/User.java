@@ -4,11 +4,15 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "chat.user") // 2차 캐시를 켰을 때만 사용 (SecondLevelCacheConfig)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
@@ -32,8 +36,8 @@ public class User {
     @Column(length = 20)
     private String profileColor;
 
-    /** 프로필 이미지 (Base64 Data URL). null이면 profileColor 기반 아바타를 사용한다. */
-    @Column(columnDefinition = "MEDIUMTEXT")
+    /** 프로필 이미지 URL (FileStorageService 저장 경로). null이면 profileColor 기반 아바타를 사용한다. */
+    @Column(length = 512)
     private String profileImage;
 
     // 비즈니스 로직을 위한 생성자
@@ -49,7 +53,7 @@ public class User {
         validateNickname(nickname);
         this.nickname = nickname;
         this.profileColor = (profileColor != null && !profileColor.isBlank()) ? profileColor : "#4f85c8";
-        this.profileImage = profileImage;
+        this.profileImage = validateImageUrl(profileImage);
         this.createdAt = LocalDateTime.now();
         this.lastActiveAt = LocalDateTime.now();
         this.active = true;
@@ -68,6 +72,17 @@ public class User {
         }
     }
 
+    // 도메인 로직: 이미지는 저장소 URL만 허용 (Base64 Data URL을 행에 넣지 않음)
+    static String validateImageUrl(String imageUrl) {
+        if (imageUrl != null && imageUrl.regionMatches(true, 0, "data:", 0, 5)) {
+            throw new IllegalArgumentException("이미지는 파일로 업로드해야 합니다 (Data URL 불가).");
+        }
+        if (imageUrl != null && imageUrl.length() > 512) {
+            throw new IllegalArgumentException("이미지 URL은 512자 이하여야 합니다.");
+        }
+        return imageUrl;
+    }
+
     // 도메인 로직: 프로필 색상 업데이트
     public void updateProfileColor(String profileColor) {
         if (profileColor != null && !profileColor.isBlank()) {
@@ -77,7 +92,7 @@ public class User {
 
     // 도메인 로직: 프로필 이미지 업데이트 (null 허용 - 이미지 제거)
     public void updateProfileImage(String profileImage) {
-        this.profileImage = profileImage;
+        this.profileImage = validateImageUrl(profileImage);
     }
 
     // 도메인 로직: 활동 시간 업데이트
@@ -2,7 +2,9 @@ package com.netmarble.chat.domain.repository;
 
 import com.netmarble.chat.domain.model.Attachment;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Attachment 저장소 인터페이스 (DDD - 인프라 독립)
@@ -14,4 +16,10 @@ public interface AttachmentRepository {
     Optional<Attachment> findByMessageId(Long messageId);
 
     void delete(Attachment attachment);
+
+    /**
+     * 업로드 정리용 — fileUrls 중 삭제되지 않은 메시지의 첨부로 쓰이는 URL
+     * (소프트 삭제된 메시지만 가리키는 파일은 정리 대상)
+     */
+    Set<String> findLiveFileUrlsIn(Collection<String> fileUrls);
 }
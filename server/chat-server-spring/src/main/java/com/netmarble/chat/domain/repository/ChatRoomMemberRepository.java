@@ -2,11 +2,17 @@ package com.netmarble.chat.domain.repository;
 
 import com.netmarble.chat.domain.model.ChatRoomMember;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 /**
  * ChatRoomMember 도메인 리포지토리 인터페이스
+ *
+ * 입장/퇴장/온라인/하트비트는 ChatRoom 애그리거트를 로드하지 않고 (chat_room_id, user_id) 행 하나만 갱신한다.
+ * 갱신 메서드는 영향받은 행 수를 반환한다.
  */
 public interface ChatRoomMemberRepository {
 
@@ -21,4 +27,59 @@ public interface ChatRoomMemberRepository {
      * 유저가 활성 멤버로 참가 중인 채팅방 ID 목록 조회 (단일 쿼리)
      */
     Set<Long> findActiveChatRoomIdsByUserId(Long userId);
+
+    /**
+     * 멤버 행의 active 값만 조회 (행이 없으면 empty)
+     */
+    Optional<Boolean> findActiveFlag(Long chatRoomId, Long userId);
+
+    /**
+     * 채팅방 활성 멤버 수 (멤버 컬렉션 로드 없이 COUNT)
+     */
+    long countActiveByChatRoomId(Long chatRoomId);
+
+    /**
+     * 멤버 행 추가 — 이미 (chat_room_id, user_id) 행이 있으면 아무것도 하지 않고 0 반환
+     */
+    int insertIfAbsent(Long chatRoomId, Long userId, LocalDateTime now);
+
+    /**
+     * 퇴장한 멤버 재입장 (비활성 행만 갱신)
+     */
+    int reactivate(Long chatRoomId, Long userId, LocalDateTime now);
+
+    /**
+     * 퇴장 (활성 행만 갱신)
+     */
+    int deactivate(Long chatRoomId, Long userId, LocalDateTime now);
+
+    /**
+     * 온라인 전환 + 마지막 활동 시간 갱신 (하트비트 포함)
+     */
+    int markOnline(Long chatRoomId, Long userId, LocalDateTime now);
+
+    /**
+     * 오프라인 전환
+     */
+    int markOffline(Long chatRoomId, Long userId);
+
+    /**
+     * 마지막 읽은 메시지를 더 최신 메시지로만 갱신
+     */
+    int advanceLastReadMessage(Long chatRoomId, Long userId, Long messageId, LocalDateTime now);
+
+    /**
+     * 주어진 사용자 중 멤버 행이 있고 active 값이 일치하는 사용자 ID (일괄 입장용)
+     */
+    Set<Long> findUserIdsByActive(Long chatRoomId, Collection<Long> userIds, boolean active);
+
+    /**
+     * 멤버 행 일괄 추가 (배치 INSERT, 이미 행이 있는 사용자는 건너뜀) — 추가된 행 수 반환
+     */
+    int insertAllIfAbsent(Long chatRoomId, List<Long> userIds, LocalDateTime now);
+
+    /**
+     * 퇴장한 멤버 일괄 재입장 (오프라인 상태로)
+     */
+    int reactivateAll(Long chatRoomId, Collection<Long> userIds, LocalDateTime now);
 }
@@ -2,8 +2,10 @@ package com.netmarble.chat.domain.repository;
 
 import com.netmarble.chat.domain.model.ChatRoom;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * ChatRoom 도메인 리포지토리 인터페이스
@@ -18,5 +20,15 @@ public interface ChatRoomRepository {
     
     List<ChatRoom> findByCreatorId(Long creatorId);
     
+    /**
+     * 이미지 이전용 — id 이후에서 imageUrl이 prefix로 시작하는 채팅방 100개 (id 순)
+     */
+    List<ChatRoom> findTop100ByIdGreaterThanAndImageUrlStartingWithOrderByIdAsc(Long id, String prefix);
+    
+    /**
+     * 업로드 정리용 — urls 중 채팅방 이미지로 쓰이는 URL (비활성 채팅방 포함)
+     */
+    Set<String> findImageUrlsIn(Collection<String> urls);
+    
     void delete(ChatRoom chatRoom);
 }
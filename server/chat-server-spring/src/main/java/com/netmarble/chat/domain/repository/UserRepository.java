@@ -2,8 +2,10 @@ package com.netmarble.chat.domain.repository;
 
 import com.netmarble.chat.domain.model.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * User 도메인 리포지토리 인터페이스
@@ -15,11 +17,37 @@ public interface UserRepository {
     
     Optional<User> findById(Long id);
     
+    List<User> findAllById(Iterable<Long> ids);
+    
     Optional<User> findByNickname(String nickname);
     
     List<User> findAllActiveUsers();
     
     boolean existsByNickname(String nickname);
     
+    Set<String> findExistingNicknames(Collection<String> nicknames);
+    
+    /**
+     * 이미지 이전용 — id 이후에서 profileImage가 prefix로 시작하는 사용자 100명 (id 순)
+     */
+    List<User> findTop100ByIdGreaterThanAndProfileImageStartingWithOrderByIdAsc(Long id, String prefix);
+    
+    /**
+     * 업로드 정리용 — urls 중 프로필 이미지로 쓰이는 URL
+     */
+    Set<String> findProfileImagesIn(Collection<String> urls);
+    
+    /**
+     * 닉네임 기준 단일 문장 upsert (로그인/가입)
+     * 새 사용자면 user를 그대로 INSERT하고 생성된 ID를 반환한다.
+     * 이미 있으면 last_active_at과 null이 아닌 profileColor/profileImage만 갱신하고 empty를 반환한다.
+     */
+    Optional<Long> upsertByNickname(User user, String profileColor, String profileImage);
+    
+    /**
+     * 사용자 일괄 INSERT (이미 있는 닉네임은 건너뜀) — 추가된 행 수 반환
+     */
+    int insertAllIfAbsent(List<User> users);
+    
     void delete(User user);
 }
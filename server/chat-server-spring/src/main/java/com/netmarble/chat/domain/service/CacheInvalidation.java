@@ -0,0 +1,57 @@
+package com.netmarble.chat.domain.service;
+
+import java.util.List;
+
+/**
+ * 인스턴스 간 캐시 무효화 이벤트
+ * 애플리케이션 서비스가 도메인 쓰기 후 발행하고, 모든 인스턴스의 로컬 캐시가 key()에 해당하는 항목을 내린다.
+ * 같은 key의 이벤트는 버전 순서로만 적용되므로 늦게 도착한 이전 이벤트는 무시된다.
+ */
+public sealed interface CacheInvalidation
+        permits CacheInvalidation.UserChanged, CacheInvalidation.RoomMembershipChanged,
+                CacheInvalidation.RoomSummaryChanged {
+
+    /**
+     * 버전을 비교하는 단위 ("user:1", "membership:10", "room:10")
+     */
+    String key();
+
+    /**
+     * 사용자 프로필(닉네임, 색상, 이미지) 변경
+     */
+    record UserChanged(Long userId) implements CacheInvalidation {
+
+        @Override
+        public String key() {
+            return "user:" + userId;
+        }
+    }
+
+    /**
+     * 채팅방 입장·퇴장 — 멤버 목록, 멤버 수, 해당 사용자들의 참여 채팅방 목록이 바뀐다
+     *
+     * @param userIds 입장·퇴장한 사용자 (일괄 입장이면 여러 명)
+     */
+    record RoomMembershipChanged(Long chatRoomId, List<Long> userIds) implements CacheInvalidation {
+
+        public RoomMembershipChanged {
+            userIds = List.copyOf(userIds);
+        }
+
+        @Override
+        public String key() {
+            return "membership:" + chatRoomId;
+        }
+    }
+
+    /**
+     * 채팅방 요약(이름, 이미지, 생성) 변경
+     */
+    record RoomSummaryChanged(Long chatRoomId) implements CacheInvalidation {
+
+        @Override
+        public String key() {
+            return "room:" + chatRoomId;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.netmarble.chat.domain.service;
+
+/**
+ * 캐시 무효화 이벤트 발행 인터페이스
+ * 트랜잭션 안에서 호출하면 커밋된 뒤에 전파되고, 롤백되면 버려진다.
+ * 전파 실패는 호출자에게 예외로 돌아가지 않는다 — 도메인 쓰기는 이미 끝났기 때문이다.
+ */
+public interface CacheInvalidationPublisher {
+
+    void publish(CacheInvalidation invalidation);
+}
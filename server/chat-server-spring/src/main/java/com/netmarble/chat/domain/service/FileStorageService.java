@@ -1,6 +1,9 @@
 package com.netmarble.chat.domain.service;
 
+import com.netmarble.chat.domain.model.ImageMetadata;
+
 import java.io.InputStream;
+import java.util.Optional;
 
 /**
  * 파일 저장소 인터페이스
@@ -28,4 +31,12 @@ public interface FileStorageService {
      * @param filePath 파일 접근 URL
      */
     void delete(String filePath);
+
+    /**
+     * 저장된 이미지의 크기와 평균 색을 읽는다.
+     *
+     * @param filePath 파일 접근 URL
+     * @return 이미지 메타데이터 (저장된 이미지가 아니거나 읽을 수 없으면 empty)
+     */
+    Optional<ImageMetadata> readImageMetadata(String filePath);
 }
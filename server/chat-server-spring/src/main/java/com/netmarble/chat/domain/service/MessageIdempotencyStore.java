@@ -0,0 +1,69 @@
+package com.netmarble.chat.domain.service;
+
+/**
+ * 메시지 전송 멱등성 저장소 인터페이스
+ * 발신자별 clientMessageId → 저장된 messageId를 일정 시간 동안 기억해
+ * 타임아웃 후 재시도된 전송이 중복 저장·중복 브로드캐스트되지 않게 한다.
+ * 프레임워크(Spring) 타입에 의존하지 않고 순수 Java 타입만 사용한다.
+ */
+public interface MessageIdempotencyStore {
+
+    /**
+     * clientMessageId 처리 권한을 선점한다.
+     *
+     * @param senderId 발신자 ID
+     * @param clientMessageId 클라이언트가 생성한 메시지 ID
+     * @return 선점 결과 (새로 선점 / 이미 처리 완료 / 다른 요청이 처리 중)
+     */
+    Reservation reserve(Long senderId, String clientMessageId);
+
+    /**
+     * 처리 완료 — 이후 같은 clientMessageId 요청은 messageId를 돌려받는다.
+     */
+    void complete(Long senderId, String clientMessageId, Long messageId);
+
+    /**
+     * 처리 실패 — 선점을 풀어 재시도가 다시 처리될 수 있게 한다.
+     */
+    void release(Long senderId, String clientMessageId);
+
+    /**
+     * @param acquired  이 요청이 처리 권한을 얻음
+     * @param messageId 이미 처리 완료된 경우 원본 메시지 ID (아니면 null)
+     */
+    record Reservation(boolean acquired, Long messageId) {
+
+        public static Reservation acquired() {
+            return new Reservation(true, null);
+        }
+
+        public static Reservation completed(Long messageId) {
+            return new Reservation(false, messageId);
+        }
+
+        public static Reservation inFlight() {
+            return new Reservation(false, null);
+        }
+
+        public boolean isCompleted() {
+            return messageId != null;
+        }
+    }
+
+    /**
+     * 같은 clientMessageId의 첫 요청이 아직 처리 중 (409 Conflict + Retry-After) — 잠시 뒤 재시도하면 원본 응답을 받는다
+     */
+    class InFlightException extends RuntimeException {
+
+        private final String clientMessageId;
+
+        public InFlightException(String clientMessageId) {
+            super("같은 clientMessageId로 전송 중인 메시지가 있습니다. 잠시 후 다시 시도해주세요: " + clientMessageId);
+            this.clientMessageId = clientMessageId;
+        }
+
+        public String getClientMessageId() {
+            return clientMessageId;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.netmarble.chat.domain.service;
+
+import com.netmarble.chat.domain.model.UploadSession;
+
+import java.io.InputStream;
+
+/**
+ * 이어 올리기(재개 가능) 업로드 인터페이스
+ * 시작 → 오프셋 위치에 청크 추가(반복) → 완료 순서로 호출한다.
+ * 전송이 끊기면 find로 받은 위치(offset)를 확인하고 나머지 청크만 다시 보낸다.
+ * 완료 시 FileStorageService.store와 같은 검증을 거쳐 같은 저장 경로로 옮긴다.
+ */
+public interface ResumableUploadService {
+
+    /**
+     * 업로드 세션을 시작한다.
+     *
+     * @param type 저장 유형 (profiles, rooms, messages)
+     * @param size 전체 파일 크기 (bytes)
+     * @param fileName 원본 파일명 (선택)
+     */
+    UploadSession initiate(String type, long size, String fileName);
+
+    /**
+     * 세션 상태를 조회한다 (없거나 만료되면 IllegalArgumentException).
+     */
+    UploadSession find(String uploadId);
+
+    /**
+     * offset 위치에 청크를 이어 쓴다.
+     * offset이 서버가 받은 바이트 수와 다르면 OffsetMismatchException을 던진다.
+     * 청크 도중 연결이 끊기면 받은 바이트까지는 남아 다음 요청에서 이어 받는다.
+     *
+     * @return 기록 후 세션 상태
+     */
+    UploadSession append(String uploadId, long offset, InputStream chunk);
+
+    /**
+     * 모든 바이트를 받은 세션을 검증해 저장소로 옮기고 URL을 채운 세션을 반환한다.
+     * 이미 완료된 세션이면 같은 결과를 다시 반환한다.
+     */
+    UploadSession complete(String uploadId);
+
+    /**
+     * 저장 유형을 확인한 뒤 완료한다 (다른 용도로 시작한 세션을 가져다 쓰지 못하도록).
+     */
+    default UploadSession complete(String uploadId, String expectedType) {
+        UploadSession session = find(uploadId);
+        if (!session.type().equals(expectedType)) {
+            throw new IllegalArgumentException("저장 유형이 다른 업로드입니다: " + session.type());
+        }
+        return complete(uploadId);
+    }
+
+    /**
+     * 세션과 받은 데이터를 버린다.
+     */
+    void abort(String uploadId);
+
+    /**
+     * 클라이언트에게 권장하는 청크 크기이자 요청당 최대 청크 크기 (bytes)
+     */
+    long chunkSize();
+
+    /**
+     * 요청한 오프셋이 서버가 받은 위치와 다름 (또는 같은 세션에 다른 청크를 기록 중)
+     */
+    class OffsetMismatchException extends RuntimeException {
+
+        private final long currentOffset;
+
+        public OffsetMismatchException(long currentOffset) {
+            super("업로드 위치가 맞지 않습니다. 현재 위치부터 다시 보내주세요: " + currentOffset);
+            this.currentOffset = currentOffset;
+        }
+
+        public long getCurrentOffset() {
+            return currentOffset;
+        }
+    }
+}
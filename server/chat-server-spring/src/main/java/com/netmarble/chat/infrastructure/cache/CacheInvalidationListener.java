@@ -0,0 +1,12 @@
+package com.netmarble.chat.infrastructure.cache;
+
+import com.netmarble.chat.domain.service.CacheInvalidation;
+
+/**
+ * 로컬 캐시 무효화 구독자
+ * 발행한 인스턴스는 커밋 직후, 다른 인스턴스는 Redis로 받은 뒤 호출된다. 같은 이벤트가 두 번 와도 안전해야 한다.
+ */
+public interface CacheInvalidationListener {
+
+    void onInvalidation(CacheInvalidation invalidation);
+}
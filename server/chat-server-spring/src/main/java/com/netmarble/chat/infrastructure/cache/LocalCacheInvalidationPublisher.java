@@ -0,0 +1,55 @@
+package com.netmarble.chat.infrastructure.cache;
+
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import com.netmarble.chat.domain.service.CacheInvalidationPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * JVM 내 캐시 무효화 — 단일 인스턴스/테스트용이며 Redis 버스의 로컬 전달도 맡는다
+ * 트랜잭션 안에서 발행하면 커밋 후에 구독자를 호출한다 (롤백이면 버린다).
+ */
+@Slf4j
+public class LocalCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+    private final List<CacheInvalidationListener> listeners;
+
+    public LocalCacheInvalidationPublisher(List<CacheInvalidationListener> listeners) {
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        runAfterCommit(() -> dispatch(invalidation));
+    }
+
+    /**
+     * 구독자 하나의 실패가 나머지 구독자의 무효화를 막지 않는다
+     */
+    void dispatch(CacheInvalidation invalidation) {
+        for (CacheInvalidationListener listener : listeners) {
+            try {
+                listener.onInvalidation(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("캐시 무효화 처리 실패: listener={}, invalidation={}, error={}",
+                        listener.getClass().getSimpleName(), invalidation, e.getMessage());
+            }
+        }
+    }
+
+    static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package com.netmarble.chat.infrastructure.cache;
+
+import com.netmarble.chat.application.service.ChatRoomApplicationService;
+import com.netmarble.chat.application.service.ReadCoalescer;
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import com.netmarble.chat.domain.service.CacheInvalidation.RoomMembershipChanged;
+import com.netmarble.chat.domain.service.CacheInvalidation.RoomSummaryChanged;
+
+/**
+ * 캐시 무효화 이벤트 → 병합 조회(ReadCoalescer)
+ *
+ * 입장 직후 멤버 목록을 다시 읽는 요청이 입장 전에 시작된 조회에 합류하면 자기 자신이 빠진 결과를 받는다.
+ * 커밋 직후 해당 방의 조회를 내려 이후 요청이 새로 읽게 한다.
+ * - RoomMembershipChanged → 멤버 목록, 채팅방 상세(멤버 수), 채팅방 목록
+ * - RoomSummaryChanged → 채팅방 상세, 채팅방 목록
+ */
+public class ReadCoalescerInvalidator implements CacheInvalidationListener {
+
+    private final ReadCoalescer readCoalescer;
+
+    public ReadCoalescerInvalidator(ReadCoalescer readCoalescer) {
+        this.readCoalescer = readCoalescer;
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation instanceof RoomMembershipChanged membership) {
+            readCoalescer.invalidate(ChatRoomApplicationService.MEMBERS_READ, membership.chatRoomId());
+            invalidateRoom(membership.chatRoomId());
+        } else if (invalidation instanceof RoomSummaryChanged room) {
+            invalidateRoom(room.chatRoomId());
+        }
+    }
+
+    private void invalidateRoom(Long chatRoomId) {
+        readCoalescer.invalidate(ChatRoomApplicationService.ROOM_READ, chatRoomId);
+        readCoalescer.invalidate(ChatRoomApplicationService.ACTIVE_ROOMS_READ,
+                ChatRoomApplicationService.ACTIVE_ROOMS_ID);
+    }
+}
@@ -0,0 +1,177 @@
+package com.netmarble.chat.infrastructure.cache;
+
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import com.netmarble.chat.domain.service.CacheInvalidation.RoomMembershipChanged;
+import com.netmarble.chat.domain.service.CacheInvalidation.RoomSummaryChanged;
+import com.netmarble.chat.domain.service.CacheInvalidation.UserChanged;
+import com.netmarble.chat.domain.service.CacheInvalidationPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Redis pub/sub 기반 인스턴스 간 캐시 무효화 버스
+ *
+ * 커밋 후 Lua 스크립트 한 번으로 전역 시퀀스를 INCR하고 그 값을 버전으로 붙여 PUBLISH한다.
+ * 스크립트는 원자적이므로 채널에 실리는 순서와 버전 순서가 같다.
+ * - 발행한 인스턴스는 Redis 왕복을 기다리지 않고 바로 로컬 구독자를 호출하고, 돌아온 자기 메시지는 건너뛴다.
+ * - 받는 쪽은 key별 마지막 적용 버전을 기억하고, 그보다 작거나 같은 버전은 버린다.
+ *   로컬 무효화(v7) 뒤에 다른 인스턴스의 이전 이벤트(v6)가 늦게 도착하는 경우가 그렇다 —
+ *   v6의 쓰기는 v7 발행 전에 이미 커밋됐으므로 v7의 무효화가 이를 덮는다.
+ * - Redis 장애 시에는 로컬만 무효화한다. 다른 인스턴스는 각 캐시의 TTL이 상한이다.
+ * 기억하는 key 수는 maxTrackedKeys로 제한한다. 밀려난 key의 이전 이벤트는 한 번 더 내릴 뿐이라 안전하다.
+ *
+ * 메시지: "{origin}|{type}|{id}|{userIds,...}|{version}"
+ * - chat.cache.invalidation{result} : published / received / stale / failed
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationPublisher, MessageListener {
+
+    private static final RedisScript<Long> STAMP_AND_PUBLISH = new DefaultRedisScript<>(
+            "local version = redis.call('INCR', KEYS[1]) " +
+            "redis.call('PUBLISH', ARGV[1], ARGV[2] .. '|' .. version) " +
+            "return version", Long.class);
+
+    private static final String USER = "user";
+    private static final String MEMBERSHIP = "membership";
+    private static final String ROOM = "room";
+
+    private final StringRedisTemplate redisTemplate;
+    private final LocalCacheInvalidationPublisher local;
+    private final String channel;
+    private final String sequenceKey;
+    private final String origin;
+    private final Map<String, Long> appliedVersions;
+    private final Counter published;
+    private final Counter received;
+    private final Counter stale;
+    private final Counter failed;
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                     LocalCacheInvalidationPublisher local,
+                                     String channel,
+                                     String sequenceKey,
+                                     String origin,
+                                     int maxTrackedKeys,
+                                     MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.local = local;
+        this.channel = channel;
+        this.sequenceKey = sequenceKey;
+        this.origin = origin;
+        this.appliedVersions = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxTrackedKeys;
+            }
+        };
+        this.published = counter("published", meterRegistry);
+        this.received = counter("received", meterRegistry);
+        this.stale = counter("stale", meterRegistry);
+        this.failed = counter("failed", meterRegistry);
+    }
+
+    private static Counter counter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("chat.cache.invalidation")
+                .tag("result", result)
+                .description("인스턴스 간 캐시 무효화 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        LocalCacheInvalidationPublisher.runAfterCommit(() -> {
+            long version = stampAndPublish(invalidation);
+            if (version < 0 || advance(invalidation.key(), version)) {
+                local.dispatch(invalidation);
+            }
+        });
+    }
+
+    private long stampAndPublish(CacheInvalidation invalidation) {
+        try {
+            Long version = redisTemplate.execute(STAMP_AND_PUBLISH, List.of(sequenceKey),
+                    channel, origin + "|" + encode(invalidation));
+            published.increment();
+            return version != null ? version : -1;
+        } catch (DataAccessException e) {
+            failed.increment();
+            log.warn("캐시 무효화 발행 실패, 로컬만 무효화: {}, error={}", invalidation, e.getMessage());
+            return -1;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        handle(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    void handle(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 5 || origin.equals(parts[0])) {
+            return;
+        }
+        try {
+            CacheInvalidation invalidation = decode(parts[1], parts[2], parts[3]);
+            if (!advance(invalidation.key(), Long.parseLong(parts[4]))) {
+                stale.increment();
+                return;
+            }
+            received.increment();
+            local.dispatch(invalidation);
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 캐시 무효화 메시지: {}", payload);
+        }
+    }
+
+    /**
+     * key의 마지막 적용 버전보다 새 버전이면 기록하고 true
+     */
+    private boolean advance(String key, long version) {
+        synchronized (appliedVersions) {
+            Long applied = appliedVersions.get(key);
+            if (applied != null && applied >= version) {
+                return false;
+            }
+            appliedVersions.put(key, version);
+            return true;
+        }
+    }
+
+    static String encode(CacheInvalidation invalidation) {
+        if (invalidation instanceof UserChanged user) {
+            return USER + "|" + user.userId() + "|";
+        }
+        if (invalidation instanceof RoomMembershipChanged membership) {
+            return MEMBERSHIP + "|" + membership.chatRoomId() + "|" + membership.userIds().stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+        }
+        RoomSummaryChanged room = (RoomSummaryChanged) invalidation;
+        return ROOM + "|" + room.chatRoomId() + "|";
+    }
+
+    static CacheInvalidation decode(String type, String id, String userIds) {
+        Long targetId = Long.valueOf(id);
+        return switch (type) {
+            case USER -> new UserChanged(targetId);
+            case MEMBERSHIP -> new RoomMembershipChanged(targetId, userIds.isEmpty() ? List.of()
+                    : Arrays.stream(userIds.split(",")).map(Long::valueOf).toList());
+            case ROOM -> new RoomSummaryChanged(targetId);
+            default -> throw new IllegalArgumentException("unknown type: " + type);
+        };
+    }
+}
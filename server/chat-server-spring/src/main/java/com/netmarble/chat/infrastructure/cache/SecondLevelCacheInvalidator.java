@@ -0,0 +1,41 @@
+package com.netmarble.chat.infrastructure.cache;
+
+import com.netmarble.chat.domain.model.ChatRoom;
+import com.netmarble.chat.domain.model.User;
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import com.netmarble.chat.domain.service.CacheInvalidation.RoomSummaryChanged;
+import com.netmarble.chat.domain.service.CacheInvalidation.UserChanged;
+
+/**
+ * 캐시 무효화 이벤트 → Hibernate 2차 캐시 항목
+ *
+ * 2차 캐시는 인스턴스마다 로컬(Caffeine)이므로 다른 인스턴스의 갱신은 무효화 버스로 받아 내린다.
+ * 발행한 인스턴스에서도 호출된다 — JdbcTemplate upsert처럼 Hibernate를 거치지 않은 갱신도 함께 내리기 위해서다.
+ * - UserChanged → User 항목, RoomSummaryChanged → ChatRoom 항목
+ * - RoomMembershipChanged는 다루지 않는다 — 멤버십 조회는 2차 캐시에 두지 않는다 (읽음 처리마다 버려져 적중하지 않으므로)
+ */
+public class SecondLevelCacheInvalidator implements CacheInvalidationListener {
+
+    private final SecondLevelCache cache;
+
+    public SecondLevelCacheInvalidator(SecondLevelCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation instanceof UserChanged user) {
+            cache.evictEntity(User.class, user.userId());
+        } else if (invalidation instanceof RoomSummaryChanged room) {
+            cache.evictEntity(ChatRoom.class, room.chatRoomId());
+        }
+    }
+
+    /**
+     * 로컬 2차 캐시 조작 (EntityManagerFactory 캐시 래핑 — 테스트에서 대체)
+     */
+    public interface SecondLevelCache {
+
+        void evictEntity(Class<?> entityClass, Object id);
+    }
+}
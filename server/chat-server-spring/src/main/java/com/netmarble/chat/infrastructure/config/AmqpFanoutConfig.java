@@ -0,0 +1,149 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.infrastructure.messaging.AmqpFanoutDispatcher;
+import com.netmarble.chat.infrastructure.messaging.AmqpFanoutPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 네이티브 AMQP fan-out 설정 (amqp 프로파일)
+ *
+ * STOMP Relay(scale 프로파일)는 클라이언트 세션마다 브로커 연결을 하나씩 연다.
+ * 이 모드는 SimpleBroker(WebSocketConfig)를 그대로 쓰면서 /topic 브로드캐스트만 RabbitMQ topic exchange로
+ * 배치 발행하고, 인스턴스마다 큐 1개로 수신해 자기 WebSocket 세션에만 전달한다.
+ * 브로커 연결 수는 세션 수와 무관하게 인스턴스당 발행/구독 몇 개로 고정된다.
+ */
+@Slf4j
+@Configuration
+@Profile("amqp & !scale")
+public class AmqpFanoutConfig {
+
+    @Value("${rabbitmq.fanout.exchange:chat.fanout}")
+    private String exchangeName;
+
+    @Value("${rabbitmq.fanout.binding-key:#}")
+    private String bindingKey;
+
+    @Value("${rabbitmq.fanout.batch-size:100}")
+    private int batchSize;
+
+    @Value("${rabbitmq.fanout.buffer-limit:65536}")
+    private int bufferLimit;
+
+    @Value("${rabbitmq.fanout.batch-timeout-ms:5}")
+    private long batchTimeoutMs;
+
+    @Value("${rabbitmq.fanout.prefetch:250}")
+    private int prefetch;
+
+    @Value("${info.app.instance-id:default}")
+    private String instanceId;
+
+    @Bean
+    public TopicExchange chatFanoutExchange() {
+        return new TopicExchange(exchangeName, true, false);
+    }
+
+    /**
+     * 인스턴스 전용 큐 (서버 명명, exclusive + auto-delete) — 인스턴스가 내려가면 큐도 함께 정리된다.
+     */
+    @Bean
+    public AnonymousQueue chatFanoutInstanceQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(exchangeName + "." + instanceId + "."));
+    }
+
+    @Bean
+    public Binding chatFanoutBinding(TopicExchange chatFanoutExchange, AnonymousQueue chatFanoutInstanceQueue) {
+        return BindingBuilder.bind(chatFanoutInstanceQueue).to(chatFanoutExchange).with(bindingKey);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskScheduler chatFanoutBatchScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("amqp-fanout-batch-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * 발행 템플릿 — 배치는 AmqpFanoutPublisher가 직접 묶으므로 동기 발행 템플릿을 쓴다.
+     * BatchingRabbitTemplate은 타이머 스레드에서 난 발행 실패를 호출자에게 알리지 않아 로컬 전달 폴백을 걸 수 없다.
+     */
+    @Bean
+    public RabbitTemplate chatFanoutRabbitTemplate(ConnectionFactory connectionFactory) {
+        return new RabbitTemplate(connectionFactory);
+    }
+
+    @Bean
+    public AmqpFanoutDispatcher amqpFanoutDispatcher(SimpMessagingTemplate messagingTemplate) {
+        return new AmqpFanoutDispatcher(messagingTemplate);
+    }
+
+    /**
+     * batchSize건/bufferLimit 바이트/batchTimeoutMs 중 먼저 도달한 조건에서 방별 배치를 한 번에 전송.
+     * 종료 시 남은 배치를 비운다.
+     */
+    @Bean(destroyMethod = "flush")
+    public AmqpFanoutPublisher amqpFanoutPublisher(@Qualifier("chatFanoutRabbitTemplate") RabbitTemplate chatFanoutRabbitTemplate,
+                                                   @Qualifier("chatFanoutBatchScheduler")
+                                                   ThreadPoolTaskScheduler chatFanoutBatchScheduler,
+                                                   ObjectProvider<AmqpFanoutDispatcher> amqpFanoutDispatcher) {
+        return new AmqpFanoutPublisher(chatFanoutRabbitTemplate, exchangeName,
+                new AmqpFanoutPublisher.Settings(batchSize, bufferLimit, batchTimeoutMs),
+                chatFanoutBatchScheduler, amqpFanoutDispatcher::getObject);
+    }
+
+    /**
+     * 인스턴스 큐 소비자 — 방 단위 순서 보장을 위해 consumer 1개로 고정, 배치 본문은 디스패처가 분해한다
+     */
+    @Bean
+    public SimpleMessageListenerContainer chatFanoutListenerContainer(ConnectionFactory connectionFactory,
+                                                                      AnonymousQueue chatFanoutInstanceQueue,
+                                                                      AmqpFanoutDispatcher amqpFanoutDispatcher) {
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueues(chatFanoutInstanceQueue);
+        container.setConcurrentConsumers(1);
+        container.setPrefetchCount(prefetch);
+        container.setMessageListener(amqpFanoutDispatcher);
+        log.info("AMQP fan-out 활성화: exchange={}, queue={}", exchangeName, chatFanoutInstanceQueue.getName());
+        return container;
+    }
+
+    /**
+     * brokerChannel 인터셉터 등록 — SimpleBroker 설정 자체는 WebSocketConfig가 담당한다.
+     * seq 발급(ReplayConfig, 최우선)과 재전송 링 기록(최후) 사이에 등록되도록 순서를 고정한다.
+     */
+    @Configuration
+    @Profile("amqp & !scale")
+    @Order(0)
+    @RequiredArgsConstructor
+    static class BrokerChannelConfig implements WebSocketMessageBrokerConfigurer {
+
+        private final AmqpFanoutPublisher amqpFanoutPublisher;
+
+        @Override
+        public void configureMessageBroker(MessageBrokerRegistry registry) {
+            registry.configureBrokerChannel().interceptors(amqpFanoutPublisher);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 /**
  * @Async 활성화 — MongoDB 비동기 쓰기 지원.
  * MongoDB 저장 실패가 STOMP 브로드캐스트를 차단하지 않도록 한다.
+ * 가상 스레드 모드에서는 VirtualThreadConfig가 실행기를 가상 스레드로 바꾼다.
  */
 @Configuration
 @EnableAsync
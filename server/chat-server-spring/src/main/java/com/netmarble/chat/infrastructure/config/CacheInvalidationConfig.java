@@ -0,0 +1,73 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.domain.service.CacheInvalidationPublisher;
+import com.netmarble.chat.infrastructure.cache.CacheInvalidationListener;
+import com.netmarble.chat.infrastructure.cache.LocalCacheInvalidationPublisher;
+import com.netmarble.chat.infrastructure.cache.RedisCacheInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.UUID;
+
+/**
+ * 인스턴스 간 캐시 무효화 버스 설정
+ * 구독자는 CacheInvalidationListener 빈으로 등록하면 모두 호출된다.
+ */
+@Slf4j
+@Configuration
+public class CacheInvalidationConfig {
+
+    /** redis: 모든 인스턴스에 전파 / local: 이 인스턴스만 (단일 인스턴스·테스트) */
+    @Value("${chat.cache-invalidation.transport:redis}")
+    private String transport;
+
+    @Value("${chat.cache-invalidation.channel:chat:cache:invalidate}")
+    private String channel;
+
+    /** 버전을 발급하는 전역 시퀀스 키 — 만료시키면 버전이 되돌아가 이후 이벤트가 모두 버려진다 */
+    @Value("${chat.cache-invalidation.sequence-key:chat:cache:invalidation-seq}")
+    private String sequenceKey;
+
+    @Value("${chat.cache-invalidation.max-tracked-keys:100000}")
+    private int maxTrackedKeys;
+
+    @Value("${info.app.instance-id:default}")
+    private String instanceId;
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(ObjectProvider<CacheInvalidationListener> listeners,
+                                                                 ObjectProvider<StringRedisTemplate> redisTemplate,
+                                                                 MeterRegistry meterRegistry) {
+        LocalCacheInvalidationPublisher local = new LocalCacheInvalidationPublisher(listeners.orderedStream().toList());
+        if (!"redis".equalsIgnoreCase(transport)) {
+            log.info("캐시 무효화 버스: transport=local");
+            return local;
+        }
+        // 자기 메시지를 거르는 발신자 ID — INSTANCE_ID를 안 줘도 인스턴스끼리 겹치지 않도록 프로세스마다 붙인다
+        String origin = instanceId + "-" + UUID.randomUUID().toString().substring(0, 8);
+        log.info("캐시 무효화 버스: transport=redis, channel={}, origin={}, maxTrackedKeys={}",
+                channel, origin, maxTrackedKeys);
+        return new RedisCacheInvalidationBus(redisTemplate.getObject(), local, channel, sequenceKey, origin,
+                maxTrackedKeys, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "chat.cache-invalidation", name = "transport", havingValue = "redis",
+            matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, CacheInvalidationPublisher cacheInvalidationPublisher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((RedisCacheInvalidationBus) cacheInvalidationPublisher, new ChannelTopic(channel));
+        return container;
+    }
+}
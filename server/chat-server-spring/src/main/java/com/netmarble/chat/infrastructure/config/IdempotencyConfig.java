@@ -0,0 +1,50 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.domain.service.MessageIdempotencyStore;
+import com.netmarble.chat.infrastructure.idempotency.LocalMessageIdempotencyStore;
+import com.netmarble.chat.infrastructure.idempotency.RedisMessageIdempotencyStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 메시지 전송 멱등성 설정 (clientMessageId 중복 제거)
+ */
+@Slf4j
+@Configuration
+public class IdempotencyConfig {
+
+    /** local: JVM 내 LRU / redis: 인스턴스 간 공유 (+ 로컬 LRU 캐시) */
+    @Value("${chat.idempotency.store:redis}")
+    private String store;
+
+    @Value("${chat.idempotency.window-seconds:300}")
+    private long windowSeconds;
+
+    @Value("${chat.idempotency.pending-timeout-ms:30000}")
+    private long pendingTimeoutMs;
+
+    @Value("${chat.idempotency.max-per-sender:256}")
+    private int maxPerSender;
+
+    @Value("${chat.idempotency.max-senders:100000}")
+    private int maxSenders;
+
+    @Bean
+    public MessageIdempotencyStore messageIdempotencyStore(ObjectProvider<StringRedisTemplate> redisTemplate) {
+        log.info("메시지 멱등성 저장소: store={}, windowSeconds={}, maxPerSender={}, maxSenders={}",
+                store, windowSeconds, maxPerSender, maxSenders);
+        LocalMessageIdempotencyStore localStore = new LocalMessageIdempotencyStore(
+                windowSeconds * 1000L, pendingTimeoutMs, maxPerSender, maxSenders);
+        if ("redis".equalsIgnoreCase(store)) {
+            return new RedisMessageIdempotencyStore(redisTemplate.getObject(), localStore,
+                    Duration.ofSeconds(windowSeconds), Duration.ofMillis(pendingTimeoutMs));
+        }
+        return localStore;
+    }
+}
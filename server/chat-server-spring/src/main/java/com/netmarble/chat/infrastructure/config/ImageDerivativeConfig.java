@@ -0,0 +1,59 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.infrastructure.storage.ImageDerivativeGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 업로드 이미지 썸네일 생성 설정
+ *
+ * 디코딩·축소는 CPU를 쓰므로 요청 스레드와 분리된 고정 크기 풀에서 처리하고,
+ * 큐가 가득 차면 생성을 건너뛴다 (클라이언트는 nginx 대체 규칙으로 원본을 받음).
+ */
+@Slf4j
+@Configuration
+public class ImageDerivativeConfig {
+
+    @Value("${chat.image-derivatives.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.image-derivatives.pool-size:2}")
+    private int poolSize;
+
+    @Value("${chat.image-derivatives.queue-capacity:500}")
+    private int queueCapacity;
+
+    /** 헤더 기준 이 픽셀 수를 넘는 이미지는 디코딩하지 않음 */
+    @Value("${chat.image-derivatives.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${chat.image-derivatives.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Bean
+    public ThreadPoolTaskExecutor imageDerivativeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ImageDerivativeGenerator imageDerivativeGenerator(
+            @Qualifier("imageDerivativeExecutor") ThreadPoolTaskExecutor imageDerivativeExecutor,
+            MeterRegistry meterRegistry) {
+        log.info("업로드 썸네일 생성: enabled={}, poolSize={}, queueCapacity={}, maxPixels={}",
+                enabled, poolSize, queueCapacity, maxPixels);
+        return new ImageDerivativeGenerator(new ImageDerivativeGenerator.Settings(enabled, maxPixels, jpegQuality),
+                imageDerivativeExecutor, meterRegistry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.application.service.ImageMigrationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Base64 Data URL 이미지 이전 — chat.image-migration.enabled=true일 때 기동 시 한 번 실행
+ * 여러 인스턴스 중 한 대에서만 켠다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "chat.image-migration", name = "enabled", havingValue = "true")
+public class ImageMigrationConfig {
+
+    @Bean
+    public ApplicationRunner imageMigrationRunner(ImageMigrationService imageMigrationService) {
+        return args -> {
+            log.info("Data URL 이미지 이전 시작");
+            imageMigrationService.migrateAll();
+        };
+    }
+}
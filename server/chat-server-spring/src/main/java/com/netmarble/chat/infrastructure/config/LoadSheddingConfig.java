@@ -0,0 +1,92 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netmarble.chat.infrastructure.ratelimit.DbPoolPressureMonitor;
+import com.netmarble.chat.infrastructure.ratelimit.LoadSheddingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+
+/**
+ * DB 풀 포화 시 부하 차단 설정
+ *
+ * 필터는 /api/* 전체에 적용되고 업로드 동시 처리 상한보다 먼저 돈다 (업로드 대기 중인 요청도 처리 중으로 센다).
+ * LOW가 NORMAL보다 먼저(낮은 대기 시간에서) 차단되도록 임계값을 잡는다.
+ */
+@Slf4j
+@Configuration
+public class LoadSheddingConfig {
+
+    @Value("${chat.load-shedding.enabled:true}")
+    private boolean enabled;
+
+    /** 커넥션 풀 메트릭을 읽는 주기 */
+    @Value("${chat.load-shedding.sample-interval-ms:250}")
+    private long sampleIntervalMs;
+
+    @Value("${chat.load-shedding.retry-after-seconds:2}")
+    private long retryAfterSeconds;
+
+    @Value("${chat.load-shedding.low.max-in-flight:64}")
+    private int lowMaxInFlight;
+
+    @Value("${chat.load-shedding.low.shed-wait-ms:50}")
+    private double lowShedWaitMs;
+
+    @Value("${chat.load-shedding.low.shed-pending:5}")
+    private int lowShedPending;
+
+    @Value("${chat.load-shedding.normal.max-in-flight:0}")
+    private int normalMaxInFlight;
+
+    @Value("${chat.load-shedding.normal.shed-wait-ms:500}")
+    private double normalShedWaitMs;
+
+    @Value("${chat.load-shedding.normal.shed-pending:20}")
+    private int normalShedPending;
+
+    @Bean
+    public DbPoolPressureMonitor dbPoolPressureMonitor(MeterRegistry meterRegistry) {
+        return new DbPoolPressureMonitor(meterRegistry);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler loadSheddingScheduler(DbPoolPressureMonitor dbPoolPressureMonitor) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("load-shedding-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.initialize();
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(dbPoolPressureMonitor::sample, Duration.ofMillis(sampleIntervalMs));
+        }
+        return scheduler;
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(
+            DbPoolPressureMonitor dbPoolPressureMonitor,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        log.info("부하 차단: enabled={}, low={}ms/{}pending/{}inFlight, normal={}ms/{}pending/{}inFlight",
+                enabled, lowShedWaitMs, lowShedPending, lowMaxInFlight,
+                normalShedWaitMs, normalShedPending, normalMaxInFlight);
+        LoadSheddingFilter filter = new LoadSheddingFilter(new LoadSheddingFilter.Settings(enabled,
+                new LoadSheddingFilter.ClassLimit(normalMaxInFlight, normalShedWaitMs, normalShedPending),
+                new LoadSheddingFilter.ClassLimit(lowMaxInFlight, lowShedWaitMs, lowShedPending),
+                retryAfterSeconds), dbPoolPressureMonitor, objectMapper, meterRegistry);
+
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        registration.setName("loadSheddingFilter");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,54 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.application.service.MembershipEventCoalescer;
+import com.netmarble.chat.domain.repository.ChatRoomRepository;
+import com.netmarble.chat.domain.repository.MessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 입장/퇴장 시스템 메시지 병합 설정
+ */
+@Slf4j
+@Configuration
+public class MembershipEventConfig {
+
+    /** 병합 window (ms) — 0이면 병합하지 않고 매번 바로 전송 */
+    @Value("${chat.membership-events.window-ms:2000}")
+    private long windowMs;
+
+    /** 요약 메시지에 이름을 보여줄 인원 수 ("A, B님 외 48명") */
+    @Value("${chat.membership-events.summary-names:2}")
+    private int summaryNames;
+
+    /** 활성 멤버가 이보다 많은 방은 입장/퇴장 요약을 저장만 하고 브로드캐스트하지 않음 (0이면 항상 전송) */
+    @Value("${chat.membership-events.broadcast-threshold:0}")
+    private int broadcastThreshold;
+
+    @Bean
+    public ThreadPoolTaskScheduler membershipEventScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("membership-event-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @Bean
+    public MembershipEventCoalescer membershipEventCoalescer(
+            MessageRepository messageRepository,
+            ChatRoomRepository chatRoomRepository,
+            SimpMessagingTemplate messagingTemplate,
+            @Qualifier("membershipEventScheduler") ThreadPoolTaskScheduler membershipEventScheduler) {
+        log.info("입장/퇴장 메시지 병합: windowMs={}, summaryNames={}, broadcastThreshold={}",
+                windowMs, summaryNames, broadcastThreshold);
+        return new MembershipEventCoalescer(messageRepository, chatRoomRepository, messagingTemplate,
+                membershipEventScheduler, windowMs, summaryNames, broadcastThreshold);
+    }
+}
@@ -0,0 +1,72 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.infrastructure.ratelimit.SendRateLimitInterceptor;
+import com.netmarble.chat.infrastructure.ratelimit.SendRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 메시지 전송 속도 제한 설정 (모든 브로커 프로파일 공통)
+ *
+ * STOMP(/app/chat.sendMessage)는 clientInboundChannel 인터셉터에서,
+ * REST(POST /api/chat-rooms/{id}/messages[/upload])는 컨트롤러에서 같은 버킷으로 검사한다.
+ */
+@Slf4j
+@Configuration
+public class RateLimitConfig {
+
+    @Value("${chat.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.rate-limit.user.burst:20}")
+    private int userBurst;
+
+    @Value("${chat.rate-limit.user.refill-per-second:5}")
+    private double userRefillPerSecond;
+
+    @Value("${chat.rate-limit.room.burst:1000}")
+    private int roomBurst;
+
+    @Value("${chat.rate-limit.room.refill-per-second:500}")
+    private double roomRefillPerSecond;
+
+    @Value("${chat.rate-limit.max-buckets:100000}")
+    private int maxBuckets;
+
+    @Bean
+    public SendRateLimiter sendRateLimiter(MeterRegistry meterRegistry) {
+        log.info("메시지 전송 속도 제한: enabled={}, user={}/{}s, room={}/{}s",
+                enabled, userBurst, userRefillPerSecond, roomBurst, roomRefillPerSecond);
+        return new SendRateLimiter(new SendRateLimiter.Settings(enabled, userBurst, userRefillPerSecond,
+                roomBurst, roomRefillPerSecond, maxBuckets), meterRegistry);
+    }
+
+    /**
+     * brokerMessagingTemplate은 브로커 설정이 이 인터셉터를 등록한 뒤에 만들어지므로 지연 조회한다
+     */
+    @Bean
+    public SendRateLimitInterceptor sendRateLimitInterceptor(SendRateLimiter sendRateLimiter,
+                                                             @Lazy SimpMessagingTemplate messagingTemplate) {
+        return new SendRateLimitInterceptor(sendRateLimiter, messagingTemplate);
+    }
+
+    @Configuration
+    @RequiredArgsConstructor
+    static class InboundChannelConfig implements WebSocketMessageBrokerConfigurer {
+
+        private final SendRateLimitInterceptor sendRateLimitInterceptor;
+
+        @Override
+        public void configureClientInboundChannel(ChannelRegistration registration) {
+            registration.interceptors(sendRateLimitInterceptor);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.application.service.ReadCoalescer;
+import com.netmarble.chat.infrastructure.cache.ReadCoalescerInvalidator;
+import com.netmarble.chat.infrastructure.datasource.ReadYourWritesGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 조회 요청 병합(single-flight) 설정
+ *
+ * leader만 쓰는 읽기 전용 트랜잭션 템플릿을 만든다. 읽기/쓰기 분리가 켜져 있으면 이 트랜잭션도 replica로 간다.
+ * primary에 고정된 요청(read-your-writes)은 replica 결과를 받지 않도록 병합하지 않는다.
+ * 멤버십·채팅방 요약이 바뀌면 캐시 무효화 버스로 해당 조회를 내린다.
+ */
+@Slf4j
+@Configuration
+public class ReadCoalescingConfig {
+
+    /** false면 병합하지 않고 매번 조회 */
+    @Value("${chat.read-coalescing.enabled:true}")
+    private boolean enabled;
+
+    /** 끝난 결과를 재사용하는 시간 (ms) — 0이면 진행 중인 조회만 공유 */
+    @Value("${chat.read-coalescing.ttl-ms:0}")
+    private long ttlMs;
+
+    /** 유지 중인 조회 수가 넘으면 만료된 결과를 정리 */
+    @Value("${chat.read-coalescing.max-entries:10000}")
+    private int maxEntries;
+
+    @Bean
+    public ReadCoalescer readCoalescer(PlatformTransactionManager transactionManager,
+                                       ObjectProvider<ReadYourWritesGuard> readYourWritesGuard,
+                                       MeterRegistry meterRegistry) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        ReadYourWritesGuard guard = readYourWritesGuard.getIfAvailable();
+        log.info("조회 요청 병합: enabled={}, ttlMs={}, maxEntries={}, readYourWrites={}",
+                enabled, ttlMs, maxEntries, guard != null);
+        return new ReadCoalescer(new ReadCoalescer.Settings(enabled, Duration.ofMillis(ttlMs), maxEntries),
+                readOnlyTransaction, meterRegistry, guard != null ? guard::isPinned : () -> false);
+    }
+
+    @Bean
+    public ReadCoalescerInvalidator readCoalescerInvalidator(ReadCoalescer readCoalescer) {
+        return new ReadCoalescerInvalidator(readCoalescer);
+    }
+}
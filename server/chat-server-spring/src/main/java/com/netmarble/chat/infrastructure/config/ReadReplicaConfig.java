@@ -0,0 +1,107 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.infrastructure.datasource.ReadWriteRoutingDataSource;
+import com.netmarble.chat.infrastructure.datasource.ReadYourWritesGuard;
+import com.netmarble.chat.infrastructure.datasource.ReadYourWritesInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * MySQL 읽기/쓰기 분리 — chat.datasource.replica.enabled=true일 때만
+ *
+ * 서비스는 클래스 단위 @Transactional(readOnly = true)이므로 채팅방 목록, 멤버 목록, 검색 같은 조회는
+ * replica 풀로, @Transactional 쓰기는 primary 풀로 간다. primary는 spring.datasource.*를 그대로 쓴다.
+ * 끄면 이 설정이 통째로 빠지고 Spring Boot 기본 단일 풀로 동작한다.
+ * - 풀별 메트릭: hikaricp.connections.*{pool=chat-primary|chat-replica}
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "chat.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Value("${chat.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${chat.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${chat.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${chat.datasource.replica.maximum-pool-size:20}")
+    private int replicaPoolSize;
+
+    @Value("${chat.datasource.primary.maximum-pool-size:10}")
+    private int primaryPoolSize;
+
+    @Value("${chat.datasource.read-your-writes.window-ms:2000}")
+    private long readYourWritesWindowMs;
+
+    @Value("${chat.datasource.read-your-writes.max-keys:100000}")
+    private int readYourWritesMaxKeys;
+
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard() {
+        return new ReadYourWritesGuard(new ReadYourWritesGuard.Settings(
+                Duration.ofMillis(readYourWritesWindowMs), readYourWritesMaxKeys));
+    }
+
+    /**
+     * 풀을 빈으로 두어 종료 시 닫히고, Spring Boot가 풀별 메트릭·헬스 체크를 붙이게 한다
+     */
+    @Bean
+    public HikariDataSource chatPrimaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("chat-primary");
+        primary.setMaximumPoolSize(primaryPoolSize);
+        return primary;
+    }
+
+    @Bean
+    public HikariDataSource chatReplicaDataSource(DataSourceProperties properties) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("chat-replica");
+        replica.setDriverClassName(properties.determineDriverClassName());
+        replica.setJdbcUrl(replicaUrl);
+        replica.setUsername(replicaUsername);
+        replica.setPassword(replicaPassword);
+        replica.setMaximumPoolSize(replicaPoolSize);
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource chatPrimaryDataSource, HikariDataSource chatReplicaDataSource,
+                                 ReadYourWritesGuard readYourWritesGuard, MeterRegistry meterRegistry) {
+        log.info("읽기/쓰기 분리: primaryPoolSize={}, replicaPoolSize={}, readYourWritesWindowMs={}",
+                primaryPoolSize, replicaPoolSize, readYourWritesWindowMs);
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                chatPrimaryDataSource, chatReplicaDataSource, readYourWritesGuard, meterRegistry));
+    }
+
+    @Bean
+    public WebMvcConfigurer readYourWritesWebMvcConfigurer(ReadYourWritesGuard readYourWritesGuard) {
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(readYourWritesGuard);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(@NonNull InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.infrastructure.messaging.LocalRoomSequenceGenerator;
+import com.netmarble.chat.infrastructure.messaging.RedisRoomSequenceGenerator;
+import com.netmarble.chat.infrastructure.messaging.ReplayRecordingInterceptor;
+import com.netmarble.chat.infrastructure.messaging.ReplaySubscriptionInterceptor;
+import com.netmarble.chat.infrastructure.messaging.RoomReplayBuffer;
+import com.netmarble.chat.infrastructure.messaging.RoomSequenceGenerator;
+import com.netmarble.chat.infrastructure.messaging.RoomSequenceInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 방 브로드캐스트 seq + 재전송 링 설정 (SimpleBroker 기반 모드: 기본 / amqp)
+ *
+ * scale(STOMP Relay) 모드는 브로드캐스트가 이 JVM의 brokerChannel을 거치지 않고 RabbitMQ로 바로 가므로
+ * 인스턴스가 링을 채울 수 없어 제외한다.
+ *
+ * brokerChannel 인터셉터 순서: RoomSequenceInterceptor(최우선) → AmqpFanoutPublisher → ReplayRecordingInterceptor(최후)
+ */
+@Slf4j
+@Configuration
+@Profile("!scale")
+public class ReplayConfig {
+
+    @Value("${websocket.replay.capacity:256}")
+    private int capacity;
+
+    @Value("${websocket.replay.max-destinations:10000}")
+    private int maxDestinations;
+
+    /** local: JVM 내 카운터 / redis: 인스턴스 간 공유 (amqp 모드) */
+    @Value("${websocket.replay.sequence-store:local}")
+    private String sequenceStore;
+
+    @Bean
+    public RoomSequenceGenerator roomSequenceGenerator(ObjectProvider<StringRedisTemplate> redisTemplate) {
+        log.info("방 브로드캐스트 seq 활성화: sequenceStore={}, capacity={}, maxDestinations={}",
+                sequenceStore, capacity, maxDestinations);
+        if ("redis".equalsIgnoreCase(sequenceStore)) {
+            return new RedisRoomSequenceGenerator(redisTemplate.getObject());
+        }
+        return new LocalRoomSequenceGenerator();
+    }
+
+    @Bean
+    public RoomReplayBuffer roomReplayBuffer() {
+        return new RoomReplayBuffer(capacity, maxDestinations);
+    }
+
+    @Bean
+    public RoomSequenceInterceptor roomSequenceInterceptor(RoomSequenceGenerator roomSequenceGenerator) {
+        return new RoomSequenceInterceptor(roomSequenceGenerator);
+    }
+
+    @Bean
+    public ReplayRecordingInterceptor replayRecordingInterceptor(RoomReplayBuffer roomReplayBuffer) {
+        return new ReplayRecordingInterceptor(roomReplayBuffer);
+    }
+
+    /**
+     * clientOutboundChannel은 브로커 설정이 이 인터셉터를 등록한 뒤에 만들어지므로 지연 조회한다
+     */
+    @Bean
+    public ReplaySubscriptionInterceptor replaySubscriptionInterceptor(
+            RoomReplayBuffer roomReplayBuffer,
+            RoomSequenceGenerator roomSequenceGenerator,
+            @Lazy @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+            MeterRegistry meterRegistry) {
+        return new ReplaySubscriptionInterceptor(roomReplayBuffer, roomSequenceGenerator,
+                clientOutboundChannel, meterRegistry);
+    }
+
+    /**
+     * seq 발급 — brokerChannel 인터셉터 중 가장 먼저 등록
+     */
+    @Configuration
+    @Profile("!scale")
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @RequiredArgsConstructor
+    static class SequenceChannelConfig implements WebSocketMessageBrokerConfigurer {
+
+        private final RoomSequenceInterceptor roomSequenceInterceptor;
+        private final ReplaySubscriptionInterceptor replaySubscriptionInterceptor;
+
+        @Override
+        public void configureMessageBroker(MessageBrokerRegistry registry) {
+            registry.configureBrokerChannel().interceptors(roomSequenceInterceptor);
+        }
+
+        @Override
+        public void configureClientInboundChannel(ChannelRegistration registration) {
+            registration.interceptors(replaySubscriptionInterceptor);
+        }
+    }
+
+    /**
+     * 재전송 링 기록 — brokerChannel 인터셉터 중 가장 나중에 등록
+     */
+    @Configuration
+    @Profile("!scale")
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @RequiredArgsConstructor
+    static class RecordingChannelConfig implements WebSocketMessageBrokerConfigurer {
+
+        private final ReplayRecordingInterceptor replayRecordingInterceptor;
+
+        @Override
+        public void configureMessageBroker(MessageBrokerRegistry registry) {
+            registry.configureBrokerChannel().interceptors(replayRecordingInterceptor);
+        }
+    }
+}
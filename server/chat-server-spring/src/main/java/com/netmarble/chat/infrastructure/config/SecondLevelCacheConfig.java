@@ -0,0 +1,114 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.netmarble.chat.infrastructure.cache.SecondLevelCacheInvalidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine, 기본 꺼짐)
+ *
+ * 거의 바뀌지 않는 User, ChatRoom 행을 인스턴스 로컬 Caffeine에 둔다.
+ * sendMessage, markAsRead, joinChatRoom, getUserById가 매번 보내던 PK 조회가 캐시에서 끝난다.
+ * 쿼리 캐시는 쓰지 않는다 — 멤버십 쿼리 결과는 chat_room_members 갱신(읽음 처리 포함)마다 테이블 단위로 버려져 적중하지 않았다.
+ * - 영역마다 최대 항목 수와 TTL을 둔다. 다른 인스턴스의 갱신은 캐시 무효화 버스로 내리고, 놓친 경우는 TTL이 상한이다.
+ * - 캐시를 끄면 Hibernate 설정에서 2차 캐시 자체를 끈다 (hibernate-jcache가 클래스패스에 있으면 자동으로 켜지므로).
+ * - 적중률: cache.gets{cache, result=hit|miss} (JCacheMetrics), 무효화: chat.cache.invalidation{result}
+ */
+@Slf4j
+@Configuration
+public class SecondLevelCacheConfig {
+
+    static final String USER_REGION = "chat.user";
+    static final String CHAT_ROOM_REGION = "chat.room";
+
+    @Value("${chat.l2-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.l2-cache.entity-max-size:100000}")
+    private long entityMaxSize;
+
+    @Value("${chat.l2-cache.entity-ttl-seconds:600}")
+    private long entityTtlSeconds;
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(MeterRegistry meterRegistry) {
+        if (!enabled) {
+            return properties -> {
+                properties.put("hibernate.cache.use_second_level_cache", false);
+                properties.put("hibernate.cache.use_query_cache", false);
+            };
+        }
+        log.info("Hibernate 2차 캐시: entityMaxSize={}, entityTtlSeconds={}", entityMaxSize, entityTtlSeconds);
+        CacheManager cacheManager = secondLevelCacheManager(meterRegistry);
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.use_query_cache", false);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", cacheManager);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        };
+    }
+
+    /**
+     * 영역별 JCache 생성 — 설정 파일 대신 코드로 만들어 @Value 설정과 크기 제한을 한곳에 둔다
+     */
+    private CacheManager secondLevelCacheManager(MeterRegistry meterRegistry) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        Duration entityTtl = Duration.ofSeconds(entityTtlSeconds);
+        createCache(cacheManager, USER_REGION, entityMaxSize, entityTtl, meterRegistry);
+        createCache(cacheManager, CHAT_ROOM_REGION, entityMaxSize, entityTtl, meterRegistry);
+        return cacheManager;
+    }
+
+    private static void createCache(CacheManager cacheManager, String name, long maxSize, Duration ttl,
+                                    MeterRegistry meterRegistry) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maxSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(name, configuration), Tags.of("layer", "l2"));
+    }
+
+    /**
+     * 캐시 무효화 버스 구독자 — 다른 인스턴스의 User/ChatRoom 변경을 로컬 2차 캐시에서 내린다
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "chat.l2-cache", name = "enabled", havingValue = "true")
+    public SecondLevelCacheInvalidator secondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheInvalidator(
+                new HibernateSecondLevelCache(entityManagerFactory.unwrap(SessionFactory.class)));
+    }
+
+    private record HibernateSecondLevelCache(SessionFactory sessionFactory)
+            implements SecondLevelCacheInvalidator.SecondLevelCache {
+
+        @Override
+        public void evictEntity(Class<?> entityClass, Object id) {
+            sessionFactory.getCache().evictEntityData(entityClass, id);
+        }
+    }
+}
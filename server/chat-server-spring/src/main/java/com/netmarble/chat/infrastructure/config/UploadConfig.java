@@ -0,0 +1,151 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netmarble.chat.domain.repository.AttachmentRepository;
+import com.netmarble.chat.domain.repository.ChatRoomRepository;
+import com.netmarble.chat.domain.repository.UserRepository;
+import com.netmarble.chat.infrastructure.ratelimit.UploadConcurrencyFilter;
+import com.netmarble.chat.infrastructure.storage.LocalFileStorageService;
+import com.netmarble.chat.infrastructure.storage.LocalResumableUploadService;
+import com.netmarble.chat.infrastructure.storage.OrphanUploadSweeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 업로드 설정 — 요청 동시 처리 상한, 이어 올리기 세션, 참조 없는 업로드 정리
+ *
+ * 필터는 채팅 이미지 업로드(/api/chat-rooms/{id}/messages/upload, /upload/stream)와 이어 올리기 청크(/api/uploads/{id}) 중
+ * 멀티파트·이미지·octet-stream 본문을 가진 POST/PUT에만 적용된다. 로그인·방 생성 멀티파트는 세지 않는다.
+ */
+@Slf4j
+@Configuration
+public class UploadConfig {
+
+    @Value("${chat.upload.concurrency.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.upload.concurrency.max-concurrent:16}")
+    private int maxConcurrent;
+
+    @Value("${chat.upload.concurrency.acquire-timeout-ms:200}")
+    private long acquireTimeoutMs;
+
+    /** 이미지 5MB + 멀티파트 경계·폼 필드 여유분 */
+    @Value("${chat.upload.concurrency.max-request-bytes:5308416}")
+    private long maxRequestBytes;
+
+    @Value("${chat.upload.concurrency.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    /** 이어 올리기 요청당 최대 청크 크기 (클라이언트 권장 크기로도 안내) */
+    @Value("${chat.upload.resumable.chunk-size:1048576}")
+    private long chunkSize;
+
+    /** 마지막 청크 이후 이 시간이 지난 세션은 버림 (완료 결과도 이때까지만 다시 조회 가능) */
+    @Value("${chat.upload.resumable.expire-after-minutes:60}")
+    private long expireAfterMinutes;
+
+    @Value("${chat.upload.resumable.purge-interval-ms:600000}")
+    private long purgeIntervalMs;
+
+    /** 기본 꺼짐 — 공유 볼륨에서는 정확히 한 인스턴스에서만 켠다 (잠금이 인스턴스 로컬) */
+    @Value("${chat.upload.gc.enabled:false}")
+    private boolean gcEnabled;
+
+    @Value("${chat.upload.gc.dry-run:false}")
+    private boolean gcDryRun;
+
+    /** 수정 후 이 시간이 지나지 않은 파일은 건너뜀 (업로드 → 메시지 저장 사이 보호) */
+    @Value("${chat.upload.gc.min-age-hours:24}")
+    private long gcMinAgeHours;
+
+    @Value("${chat.upload.gc.batch-size:500}")
+    private int gcBatchSize;
+
+    @Value("${chat.upload.gc.batch-pause-ms:200}")
+    private long gcBatchPauseMs;
+
+    @Value("${chat.upload.gc.interval-minutes:360}")
+    private long gcIntervalMinutes;
+
+    @Bean
+    public FilterRegistrationBean<UploadConcurrencyFilter> uploadConcurrencyFilter(ObjectMapper objectMapper,
+                                                                                   MeterRegistry meterRegistry) {
+        log.info("업로드 동시 처리 상한: enabled={}, maxConcurrent={}, acquireTimeoutMs={}, maxRequestBytes={}",
+                enabled, maxConcurrent, acquireTimeoutMs, maxRequestBytes);
+        UploadConcurrencyFilter filter = new UploadConcurrencyFilter(new UploadConcurrencyFilter.Settings(
+                enabled, maxConcurrent, acquireTimeoutMs, maxRequestBytes, retryAfterSeconds),
+                objectMapper, meterRegistry);
+
+        FilterRegistrationBean<UploadConcurrencyFilter> registration = new FilterRegistrationBean<>(filter);
+        // 서블릿 URL 패턴은 접두사만 표현하므로 세부 경로는 필터(UPLOAD_PATHS)가 다시 고른다
+        registration.addUrlPatterns("/api/chat-rooms/*", "/api/uploads/*");
+        registration.setName("uploadConcurrencyFilter");
+        return registration;
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler resumableUploadScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("resumable-upload-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @Bean
+    public LocalResumableUploadService resumableUploadService(
+            LocalFileStorageService fileStorageService,
+            MeterRegistry meterRegistry,
+            @Qualifier("resumableUploadScheduler") ThreadPoolTaskScheduler resumableUploadScheduler) {
+        log.info("이어 올리기: chunkSize={}, expireAfterMinutes={}", chunkSize, expireAfterMinutes);
+        LocalResumableUploadService service = new LocalResumableUploadService(fileStorageService,
+                new LocalResumableUploadService.Settings(chunkSize, Duration.ofMinutes(expireAfterMinutes)),
+                meterRegistry);
+        resumableUploadScheduler.scheduleWithFixedDelay(service::purgeExpired, Duration.ofMillis(purgeIntervalMs));
+        return service;
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler orphanUploadScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("upload-gc-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @Bean
+    public OrphanUploadSweeper orphanUploadSweeper(
+            LocalFileStorageService fileStorageService,
+            AttachmentRepository attachmentRepository,
+            UserRepository userRepository,
+            ChatRoomRepository chatRoomRepository,
+            MeterRegistry meterRegistry,
+            @Qualifier("orphanUploadScheduler") ThreadPoolTaskScheduler orphanUploadScheduler) {
+        log.info("업로드 정리: enabled={}, dryRun={}, minAgeHours={}, batchSize={}, intervalMinutes={}",
+                gcEnabled, gcDryRun, gcMinAgeHours, gcBatchSize, gcIntervalMinutes);
+        OrphanUploadSweeper sweeper = new OrphanUploadSweeper(fileStorageService,
+                attachmentRepository, userRepository, chatRoomRepository,
+                new OrphanUploadSweeper.Settings(gcDryRun, Duration.ofHours(gcMinAgeHours), gcBatchSize,
+                        Duration.ofMillis(gcBatchPauseMs)),
+                meterRegistry);
+        if (gcEnabled) {
+            // 기동 직후 부하를 피해 한 주기 뒤부터 실행
+            Duration interval = Duration.ofMinutes(gcIntervalMinutes);
+            orphanUploadScheduler.scheduleWithFixedDelay(sweeper::sweep, Instant.now().plus(interval), interval);
+        }
+        return sweeper;
+    }
+}
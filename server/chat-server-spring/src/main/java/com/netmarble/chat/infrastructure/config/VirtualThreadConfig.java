@@ -0,0 +1,56 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.infrastructure.threads.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * 가상 스레드 실행 모드 — spring.threads.virtual.enabled=true이고 Java 21 이상에서 실행할 때만
+ *
+ * 서블릿 요청(Tomcat)은 Spring Boot가 가상 스레드로 바꾼다. 여기서는 나머지를 맞춘다.
+ * - @Async: 작업마다 가상 스레드 (플랫폼 모드는 기존 기본 실행기 그대로)
+ * - STOMP clientInboundChannel: WebSocketChannelConfig가 가상 스레드 팩토리 풀로 바꾼다
+ * - pinning 진단: JFR jdk.VirtualThreadPinned 구독
+ * 빌드는 Java 17 그대로이고 런타임 JRE만 21로 올리면 된다. JDBC는 여전히 HikariCP 풀 크기만큼만 동시에 돈다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Value("${chat.threads.pinning-diagnostics.threshold-ms:20}")
+    private long pinningThresholdMs;
+
+    @Bean
+    public AsyncConfigurer virtualThreadAsyncConfigurer() {
+        Executor executor = new VirtualThreadTaskExecutor("async-");
+        log.info("가상 스레드 모드: @Async");
+        return new AsyncConfigurer() {
+            @Override
+            public Executor getAsyncExecutor() {
+                return executor;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "chat.threads.pinning-diagnostics", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+                Duration.ofMillis(pinningThresholdMs), meterRegistry);
+        monitor.start();
+        return monitor;
+    }
+}
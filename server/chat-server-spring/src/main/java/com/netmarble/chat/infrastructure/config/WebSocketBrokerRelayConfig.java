@@ -11,6 +11,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 /**
  * RabbitMQ STOMP Relay 기반 WebSocket 설정 (scale 프로파일)
  * 외부 RabbitMQ 브로커를 통해 다중 chat-server 인스턴스 간 메시지를 동기화한다.
+ * 클라이언트 하트비트는 RabbitMQ와 직접 협상되고, 여기서는 system 연결(서버 → RabbitMQ) 하트비트만 설정한다.
  */
 @Configuration
 @EnableWebSocketMessageBroker
@@ -29,6 +30,14 @@ public class WebSocketBrokerRelayConfig implements WebSocketMessageBrokerConfigu
     @Value("${rabbitmq.stomp.passcode}")
     private String relayPasscode;
 
+    /** system 연결에서 RabbitMQ로 보내는 하트비트 간격 */
+    @Value("${websocket.heartbeat.relay-send-ms:10000}")
+    private long relayHeartbeatSendMs;
+
+    /** system 연결에서 RabbitMQ 하트비트를 기다리는 간격 — 넘으면 재연결 */
+    @Value("${websocket.heartbeat.relay-receive-ms:10000}")
+    private long relayHeartbeatReceiveMs;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableStompBrokerRelay("/topic", "/queue")
@@ -37,7 +46,9 @@ public class WebSocketBrokerRelayConfig implements WebSocketMessageBrokerConfigu
                 .setClientLogin(relayLogin)
                 .setClientPasscode(relayPasscode)
                 .setSystemLogin(relayLogin)
-                .setSystemPasscode(relayPasscode);
+                .setSystemPasscode(relayPasscode)
+                .setSystemHeartbeatSendInterval(relayHeartbeatSendMs)
+                .setSystemHeartbeatReceiveInterval(relayHeartbeatReceiveMs);
         config.setApplicationDestinationPrefixes("/app");
     }
 
@@ -0,0 +1,106 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.infrastructure.websocket.ChannelExecutorFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * STOMP 채널 실행기·전송 한도 설정 (모든 브로커 프로파일 공통)
+ *
+ * - clientInboundChannel: @MessageMapping(메시지 전송 → DB 저장)을 처리하므로 JDBC 풀보다 넉넉하게 둔다.
+ *   가상 스레드 모드에서는 가상 스레드 팩토리를 쓰고 chat.threads.stomp-inbound.virtual-max-concurrency가 상한이다.
+ * - clientOutboundChannel: 세션별 아웃바운드 큐가 켜져 있으면 큐에 넣기만 하므로 작게 둔다.
+ * - 전송 한도: 세션당 전송 시간·버퍼·수신 프레임 크기
+ * 브로커 하트비트는 WebSocketConfig(SimpleBroker) / WebSocketBrokerRelayConfig(relay)에서 설정한다.
+ */
+@Slf4j
+@Configuration
+public class WebSocketChannelConfig implements WebSocketMessageBrokerConfigurer {
+
+    @Value("${websocket.channels.inbound.core-pool-size:32}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.channels.inbound.max-pool-size:64}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.channels.inbound.queue-capacity:5000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.channels.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.channels.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.channels.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${websocket.channels.keep-alive-seconds:60}")
+    private int keepAliveSeconds;
+
+    @Value("${chat.threads.stomp-inbound.virtual-max-concurrency:512}")
+    private int virtualInboundMaxConcurrency;
+
+    /** 세션 하나에 한 번의 전송이 걸릴 수 있는 최대 시간 */
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    /** 전송이 밀릴 때 세션당 버퍼링할 최대 바이트 */
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    /** 수신 STOMP 프레임 최대 크기 (이미지는 HTTP 업로드) */
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    public WebSocketChannelConfig(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("STOMP inbound 채널: 가상 스레드, maxConcurrency={}", virtualInboundMaxConcurrency);
+            registration.taskExecutor(ChannelExecutorFactory.create("inbound",
+                    new ChannelExecutorFactory.Settings(virtualInboundMaxConcurrency, virtualInboundMaxConcurrency,
+                            inboundQueueCapacity, keepAliveSeconds, true),
+                    new VirtualThreadTaskExecutor("ws-inbound-").getVirtualThreadFactory(), meterRegistry));
+            return;
+        }
+        log.info("STOMP inbound 채널: core={}, max={}, queue={}",
+                inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity);
+        registration.taskExecutor(ChannelExecutorFactory.create("inbound",
+                new ChannelExecutorFactory.Settings(inboundCorePoolSize, inboundMaxPoolSize,
+                        inboundQueueCapacity, keepAliveSeconds, false),
+                null, meterRegistry));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        log.info("STOMP outbound 채널: core={}, max={}, queue={}",
+                outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity);
+        registration.taskExecutor(ChannelExecutorFactory.create("outbound",
+                new ChannelExecutorFactory.Settings(outboundCorePoolSize, outboundMaxPoolSize,
+                        outboundQueueCapacity, keepAliveSeconds, false),
+                null, meterRegistry));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+}
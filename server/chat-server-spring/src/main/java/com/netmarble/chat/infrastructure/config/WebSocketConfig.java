@@ -1,8 +1,13 @@
 package com.netmarble.chat.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Profile;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.SimpleBrokerRegistration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -10,15 +15,38 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 /**
  * SimpleBroker 기반 WebSocket 설정 (scale 프로파일이 아닌 환경에서 활성화)
  * RabbitMQ 없이 JVM 내 메모리로 STOMP 메시지를 라우팅한다.
+ * 브로커 하트비트(websocket.heartbeat.*)로 끊긴 연결을 감지한다. 하트비트는 Spring의 messageBrokerTaskScheduler에서 돈다.
  */
 @Configuration
 @EnableWebSocketMessageBroker
 @Profile("!scale")
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    /** 서버 → 클라이언트 하트비트 간격 (0이면 보내지 않음) */
+    @Value("${websocket.heartbeat.server-ms:10000}")
+    private long serverHeartbeatMs;
+
+    /** 클라이언트 → 서버 하트비트 기대 간격 (0이면 확인하지 않음) */
+    @Value("${websocket.heartbeat.client-ms:10000}")
+    private long clientHeartbeatMs;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    /**
+     * 이 설정이 브로커 설정보다 먼저 만들어지므로 지연 주입한다
+     */
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic", "/queue");
+        SimpleBrokerRegistration simpleBroker = config.enableSimpleBroker("/topic", "/queue");
+        if (serverHeartbeatMs > 0 || clientHeartbeatMs > 0) {
+            simpleBroker.setHeartbeatValue(new long[]{serverHeartbeatMs, clientHeartbeatMs})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
         config.setApplicationDestinationPrefixes("/app");
     }
 
@@ -0,0 +1,116 @@
+package com.netmarble.chat.infrastructure.config;
+
+import com.netmarble.chat.infrastructure.websocket.OutboundOverflowPolicy;
+import com.netmarble.chat.infrastructure.websocket.OutboundQueueEndpoint;
+import com.netmarble.chat.infrastructure.websocket.OutboundQueueHandlerDecorator;
+import com.netmarble.chat.infrastructure.websocket.OutboundQueueRegistry;
+import com.netmarble.chat.infrastructure.websocket.OutboundQueueSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * 세션별 아웃바운드 큐 설정 (모든 브로커 프로파일 공통)
+ *
+ * 기본 구성에서는 clientOutboundChannel 스레드가 소켓 쓰기까지 직접 하므로 느린 클라이언트 몇 개가
+ * 공유 스레드를 붙잡으면 같은 인스턴스의 모든 세션 전송이 늦어진다.
+ * 세션마다 한도가 있는 큐를 두고 소켓 쓰기는 별도 drain 풀에서 처리해 느린 세션을 격리한다.
+ */
+@Slf4j
+@Configuration
+public class WebSocketOutboundConfig {
+
+    @Value("${websocket.outbound.enabled:true}")
+    private boolean enabled;
+
+    @Value("${websocket.outbound.max-messages:1000}")
+    private int maxMessages;
+
+    @Value("${websocket.outbound.low-max-messages:200}")
+    private int lowMaxMessages;
+
+    @Value("${websocket.outbound.max-bytes:1048576}")
+    private int maxBytes;
+
+    @Value("${websocket.outbound.max-wait-ms:10000}")
+    private long maxWaitMs;
+
+    @Value("${websocket.outbound.overflow-policy:DROP_OLDEST}")
+    private OutboundOverflowPolicy overflowPolicy;
+
+    @Value("${websocket.outbound.coalesce:true}")
+    private boolean coalesce;
+
+    @Value("${websocket.outbound.drain-pool-size:16}")
+    private int drainPoolSize;
+
+    @Bean
+    public OutboundQueueSettings outboundQueueSettings() {
+        return new OutboundQueueSettings(maxMessages, lowMaxMessages, maxBytes, maxWaitMs, overflowPolicy, coalesce);
+    }
+
+    @Bean
+    public OutboundQueueRegistry outboundQueueRegistry(MeterRegistry meterRegistry) {
+        return new OutboundQueueRegistry(meterRegistry);
+    }
+
+    @Bean
+    public OutboundQueueEndpoint outboundQueueEndpoint(OutboundQueueRegistry outboundQueueRegistry) {
+        return new OutboundQueueEndpoint(outboundQueueRegistry);
+    }
+
+    /**
+     * 소켓 쓰기 전용 풀 — 세션당 drain 작업은 동시에 하나뿐이라 작업 큐는 세션 수 이상으로 커지지 않는다
+     */
+    @Bean
+    public ThreadPoolTaskExecutor wsOutboundDrainExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(drainPoolSize);
+        executor.setMaxPoolSize(drainPoolSize);
+        executor.setThreadNamePrefix("ws-outbound-drain-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        if (enabled) {
+            log.info("세션 아웃바운드 큐 활성화: maxMessages={}, lowMaxMessages={}, maxBytes={}, maxWaitMs={}, policy={}, coalesce={}, drainPool={}",
+                    maxMessages, lowMaxMessages, maxBytes, maxWaitMs, overflowPolicy, coalesce, drainPoolSize);
+        }
+        return executor;
+    }
+
+    /**
+     * WebSocket 전송 계층 데코레이터 등록 — 브로커 설정(WebSocketConfig / WebSocketBrokerRelayConfig)과 독립적이다
+     */
+    @Configuration
+    static class TransportConfig implements WebSocketMessageBrokerConfigurer {
+
+        @Value("${websocket.outbound.enabled:true}")
+        private boolean enabled;
+
+        private final ThreadPoolTaskExecutor wsOutboundDrainExecutor;
+        private final OutboundQueueRegistry outboundQueueRegistry;
+        private final OutboundQueueSettings outboundQueueSettings;
+
+        TransportConfig(@Qualifier("wsOutboundDrainExecutor") ThreadPoolTaskExecutor wsOutboundDrainExecutor,
+                        OutboundQueueRegistry outboundQueueRegistry,
+                        OutboundQueueSettings outboundQueueSettings) {
+            this.wsOutboundDrainExecutor = wsOutboundDrainExecutor;
+            this.outboundQueueRegistry = outboundQueueRegistry;
+            this.outboundQueueSettings = outboundQueueSettings;
+        }
+
+        @Override
+        public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+            if (!enabled) {
+                return;
+            }
+            registration.addDecoratorFactory(handler -> new OutboundQueueHandlerDecorator(
+                    handler, wsOutboundDrainExecutor, outboundQueueRegistry, outboundQueueSettings));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.netmarble.chat.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 나머지(쓰기 트랜잭션, 트랜잭션 밖, read-your-writes 고정)는 primary
+ *
+ * 트랜잭션 매니저는 readOnly 표시를 남기기 전에 커넥션을 잡으므로 반드시 LazyConnectionDataSourceProxy로 감싸
+ * 첫 SQL 시점에 대상을 고르게 한다. 바깥 쓰기 트랜잭션에 합류한 readOnly 메서드는 이미 잡은 primary 커넥션을 쓴다.
+ *
+ * - chat.datasource.route{target} : primary / replica 커넥션 획득 수
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final ReadYourWritesGuard guard;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesGuard guard,
+                                      MeterRegistry meterRegistry) {
+        this.guard = guard;
+        this.primaryRoutes = counter(PRIMARY, meterRegistry);
+        this.replicaRoutes = counter(REPLICA, meterRegistry);
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    private static Counter counter(String target, MeterRegistry meterRegistry) {
+        return Counter.builder("chat.datasource.route")
+                .tag("target", target)
+                .description("라우팅 데이터소스가 고른 커넥션 대상")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !guard.isPinned()) {
+            replicaRoutes.increment();
+            return REPLICA;
+        }
+        primaryRoutes.increment();
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,102 @@
+package com.netmarble.chat.infrastructure.datasource;
+
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import com.netmarble.chat.domain.service.CacheInvalidation.RoomMembershipChanged;
+import com.netmarble.chat.domain.service.CacheInvalidation.RoomSummaryChanged;
+import com.netmarble.chat.domain.service.CacheInvalidation.UserChanged;
+import com.netmarble.chat.infrastructure.cache.CacheInvalidationListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 자기 쓰기 직후 읽기를 primary로 고정 (read-your-writes)
+ *
+ * 복제 지연 때문에 방금 입장한 사용자가 replica에서 읽은 멤버 목록에 자기가 없는 일을 막는다.
+ * 최근 window 안에 쓰기가 있었던 key("user:{id}", "room:{id}")를 기억하고,
+ * 그 key를 다루는 요청은 스레드에 고정 표시를 남겨 읽기 전용 트랜잭션도 primary로 보낸다.
+ * - 사용자 key: 그 사용자가 보낸 쓰기 요청 (ReadYourWritesInterceptor)
+ * - 채팅방 key: 멤버십·요약 변경 이벤트 (캐시 무효화 버스) — 하트비트·읽음 처리는 방을 고정하지 않는다
+ * nginx ip_hash로 같은 클라이언트는 같은 인스턴스로 오므로 인스턴스 로컬 기록으로 충분하다.
+ */
+public class ReadYourWritesGuard implements CacheInvalidationListener {
+
+    private final Settings settings;
+    private final LongSupplier clock;
+    private final Map<String, Long> writtenUntil = new ConcurrentHashMap<>();
+    private final ThreadLocal<Boolean> pinned = new ThreadLocal<>();
+
+    public ReadYourWritesGuard(Settings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    ReadYourWritesGuard(Settings settings, LongSupplier clock) {
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    public static String userKey(Long userId) {
+        return "user:" + userId;
+    }
+
+    public static String roomKey(Long chatRoomId) {
+        return "room:" + chatRoomId;
+    }
+
+    public void recordWrite(String key) {
+        long now = clock.getAsLong();
+        if (writtenUntil.size() >= settings.maxKeys()) {
+            writtenUntil.values().removeIf(until -> until - now <= 0);
+        }
+        writtenUntil.put(key, now + settings.window().toNanos());
+    }
+
+    /**
+     * keys 중 하나라도 최근에 쓰였으면 현재 스레드를 primary로 고정한다
+     */
+    public boolean pinIfRecentlyWritten(Collection<String> keys) {
+        long now = clock.getAsLong();
+        for (String key : keys) {
+            Long until = writtenUntil.get(key);
+            if (until != null && until - now > 0) {
+                pinned.set(Boolean.TRUE);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isPinned() {
+        return pinned.get() != null;
+    }
+
+    public void unpin() {
+        pinned.remove();
+    }
+
+    int trackedKeys() {
+        return writtenUntil.size();
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation instanceof UserChanged user) {
+            recordWrite(userKey(user.userId()));
+        } else if (invalidation instanceof RoomSummaryChanged room) {
+            recordWrite(roomKey(room.chatRoomId()));
+        } else if (invalidation instanceof RoomMembershipChanged membership) {
+            recordWrite(roomKey(membership.chatRoomId()));
+            membership.userIds().forEach(userId -> recordWrite(userKey(userId)));
+        }
+    }
+
+    /**
+     * @param window  쓰기 후 primary로 읽는 시간 — replica 복제 지연보다 길게 잡는다
+     * @param maxKeys 기억하는 key 수가 넘으면 만료된 key를 정리
+     */
+    public record Settings(Duration window, int maxKeys) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.netmarble.chat.infrastructure.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청이 다루는 사용자/채팅방 key로 ReadYourWritesGuard를 조회·기록
+ *
+ * - 사용자: userId 파라미터·경로 변수, /api/users/{id}
+ * - 채팅방: chatRoomId 파라미터·경로 변수, /api/chat-rooms/{id}
+ * 최근에 쓰인 key가 있으면 요청 동안 primary로 고정한다.
+ * 성공한 쓰기 요청(GET/HEAD 외)은 사용자 key만 기록한다 — 채팅방은 하트비트·메시지로 계속 쓰이므로
+ * 방 단위로 고정하면 붐비는 방의 읽기가 replica로 가지 못한다.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final String USERS_PATH = "/api/users/";
+    private static final String CHAT_ROOMS_PATH = "/api/chat-rooms/";
+
+    private final ReadYourWritesGuard guard;
+
+    public ReadYourWritesInterceptor(ReadYourWritesGuard guard) {
+        this.guard = guard;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        List<String> keys = new ArrayList<>(2);
+        Long userId = userId(request);
+        if (userId != null) {
+            keys.add(ReadYourWritesGuard.userKey(userId));
+        }
+        Long chatRoomId = chatRoomId(request);
+        if (chatRoomId != null) {
+            keys.add(ReadYourWritesGuard.roomKey(chatRoomId));
+        }
+        guard.pinIfRecentlyWritten(keys);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        guard.unpin();
+        String method = request.getMethod();
+        if (ex != null || response.getStatus() >= 400 || "GET".equals(method) || "HEAD".equals(method)) {
+            return;
+        }
+        Long userId = userId(request);
+        if (userId != null) {
+            guard.recordWrite(ReadYourWritesGuard.userKey(userId));
+        }
+    }
+
+    static Long userId(HttpServletRequest request) {
+        Long userId = parse(request.getParameter("userId"));
+        if (userId == null) {
+            userId = parse(pathVariable(request, "userId"));
+        }
+        if (userId == null && request.getRequestURI().startsWith(USERS_PATH)) {
+            userId = parse(pathVariable(request, "id"));
+        }
+        return userId;
+    }
+
+    static Long chatRoomId(HttpServletRequest request) {
+        Long chatRoomId = parse(pathVariable(request, "chatRoomId"));
+        if (chatRoomId == null && request.getRequestURI().startsWith(CHAT_ROOMS_PATH)) {
+            chatRoomId = parse(pathVariable(request, "id"));
+        }
+        if (chatRoomId == null) {
+            chatRoomId = parse(request.getParameter("chatRoomId"));
+        }
+        return chatRoomId;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String pathVariable(HttpServletRequest request, String name) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables instanceof Map<?, ?> map ? ((Map<String, String>) map).get(name) : null;
+    }
+
+    private static Long parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.netmarble.chat.infrastructure.idempotency;
+
+import com.netmarble.chat.domain.service.MessageIdempotencyStore;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * JVM 내 멱등성 저장소 — 발신자별 시간 창 LRU
+ *
+ * 발신자마다 최근 clientMessageId를 maxEntriesPerSender개까지 접근 순서로 보관하고,
+ * window가 지난 항목은 없는 것으로 본다. 처리 중(pending) 항목은 pendingTimeout까지만 유효해
+ * 처리 도중 인스턴스가 죽어도 재시도가 영원히 막히지 않는다.
+ * 발신자 수가 maxSenders를 넘으면 가장 오래 접근이 없던 발신자부터 버린다.
+ */
+public class LocalMessageIdempotencyStore implements MessageIdempotencyStore {
+
+    private static final long PENDING = -1L;
+
+    private final long windowNanos;
+    private final long pendingTimeoutNanos;
+    private final int maxEntriesPerSender;
+    private final int maxSenders;
+    private final LongSupplier clock;
+    private final Map<Long, SenderWindow> senders = new ConcurrentHashMap<>();
+
+    public LocalMessageIdempotencyStore(long windowMillis, long pendingTimeoutMillis,
+                                        int maxEntriesPerSender, int maxSenders) {
+        this(windowMillis, pendingTimeoutMillis, maxEntriesPerSender, maxSenders, System::nanoTime);
+    }
+
+    LocalMessageIdempotencyStore(long windowMillis, long pendingTimeoutMillis,
+                                 int maxEntriesPerSender, int maxSenders, LongSupplier clock) {
+        if (windowMillis <= 0 || pendingTimeoutMillis <= 0 || maxEntriesPerSender <= 0 || maxSenders <= 0) {
+            throw new IllegalArgumentException("멱등성 저장소 설정값은 1 이상이어야 합니다");
+        }
+        this.windowNanos = windowMillis * 1_000_000L;
+        this.pendingTimeoutNanos = pendingTimeoutMillis * 1_000_000L;
+        this.maxEntriesPerSender = maxEntriesPerSender;
+        this.maxSenders = maxSenders;
+        this.clock = clock;
+    }
+
+    @Override
+    public Reservation reserve(Long senderId, String clientMessageId) {
+        SenderWindow window = senders.get(senderId);
+        if (window == null) {
+            window = senders.computeIfAbsent(senderId, id -> new SenderWindow(maxEntriesPerSender));
+            if (senders.size() > maxSenders) {
+                evictIdle();
+            }
+        }
+        return window.reserve(clientMessageId, clock.getAsLong());
+    }
+
+    @Override
+    public void complete(Long senderId, String clientMessageId, Long messageId) {
+        senders.computeIfAbsent(senderId, id -> new SenderWindow(maxEntriesPerSender))
+                .put(clientMessageId, messageId, clock.getAsLong() + windowNanos);
+    }
+
+    @Override
+    public void release(Long senderId, String clientMessageId) {
+        SenderWindow window = senders.get(senderId);
+        if (window != null) {
+            window.removePending(clientMessageId);
+        }
+    }
+
+    /**
+     * 처리 완료된 원본 messageId 조회 (없거나 처리 중이면 null) — Redis 저장소의 L1 캐시 용도
+     */
+    Long findCompleted(Long senderId, String clientMessageId) {
+        SenderWindow window = senders.get(senderId);
+        return window != null ? window.findCompleted(clientMessageId, clock.getAsLong()) : null;
+    }
+
+    int senderCount() {
+        return senders.size();
+    }
+
+    private void evictIdle() {
+        senders.entrySet().stream()
+                .min(Comparator.comparingLong(e -> e.getValue().lastAccessedAt))
+                .ifPresent(e -> senders.remove(e.getKey(), e.getValue()));
+    }
+
+    private record Entry(long messageId, long expiresAt) {
+    }
+
+    private final class SenderWindow {
+
+        private final LinkedHashMap<String, Entry> entries;
+        private volatile long lastAccessedAt;
+
+        SenderWindow(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > capacity;
+                }
+            };
+            this.lastAccessedAt = clock.getAsLong();
+        }
+
+        synchronized Reservation reserve(String clientMessageId, long now) {
+            lastAccessedAt = now;
+            Entry entry = entries.get(clientMessageId);
+            if (entry != null && entry.expiresAt() - now > 0) {
+                return entry.messageId() == PENDING
+                        ? Reservation.inFlight()
+                        : Reservation.completed(entry.messageId());
+            }
+            entries.put(clientMessageId, new Entry(PENDING, now + pendingTimeoutNanos));
+            return Reservation.acquired();
+        }
+
+        synchronized void put(String clientMessageId, long messageId, long expiresAt) {
+            lastAccessedAt = clock.getAsLong();
+            entries.put(clientMessageId, new Entry(messageId, expiresAt));
+        }
+
+        synchronized void removePending(String clientMessageId) {
+            Entry entry = entries.get(clientMessageId);
+            if (entry != null && entry.messageId() == PENDING) {
+                entries.remove(clientMessageId);
+            }
+        }
+
+        synchronized Long findCompleted(String clientMessageId, long now) {
+            Entry entry = entries.get(clientMessageId);
+            if (entry == null || entry.messageId() == PENDING || entry.expiresAt() - now <= 0) {
+                return null;
+            }
+            lastAccessedAt = now;
+            return entry.messageId();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.netmarble.chat.infrastructure.idempotency;
+
+import com.netmarble.chat.domain.service.MessageIdempotencyStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 기반 멱등성 저장소 — 재시도가 다른 인스턴스로 가도 같은 결과를 돌려준다.
+ *
+ * chat:idem:{senderId}:{clientMessageId} 키에 처리 중이면 "pending"(pendingTimeout),
+ * 완료되면 messageId(window)를 저장한다. 선점은 SET NX로 원자적으로 한다.
+ * 완료 항목은 로컬 LRU에도 캐시해 같은 인스턴스로 온 재시도는 Redis를 거치지 않으며,
+ * Redis 장애 시에는 로컬 LRU만으로 인스턴스 내 중복을 막는다.
+ */
+@Slf4j
+public class RedisMessageIdempotencyStore implements MessageIdempotencyStore {
+
+    private static final String KEY_PREFIX = "chat:idem:";
+    private static final String PENDING = "pending";
+
+    /** 아직 pending일 때만 삭제 — GET/DEL 사이에 다른 인스턴스가 완료한 키를 지우지 않도록 한 번에 수행 */
+    private static final RedisScript<Long> RELEASE_IF_PENDING = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LocalMessageIdempotencyStore localStore;
+    private final Duration window;
+    private final Duration pendingTimeout;
+
+    public RedisMessageIdempotencyStore(StringRedisTemplate redisTemplate,
+                                        LocalMessageIdempotencyStore localStore,
+                                        Duration window,
+                                        Duration pendingTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.localStore = localStore;
+        this.window = window;
+        this.pendingTimeout = pendingTimeout;
+    }
+
+    @Override
+    public Reservation reserve(Long senderId, String clientMessageId) {
+        Long cached = localStore.findCompleted(senderId, clientMessageId);
+        if (cached != null) {
+            return Reservation.completed(cached);
+        }
+
+        String key = key(senderId, clientMessageId);
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, PENDING, pendingTimeout))) {
+                return Reservation.acquired();
+            }
+            String value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                // 조회 직전에 만료됨 — 한 번 더 선점 시도
+                return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, PENDING, pendingTimeout))
+                        ? Reservation.acquired()
+                        : Reservation.inFlight();
+            }
+            if (PENDING.equals(value)) {
+                return Reservation.inFlight();
+            }
+            Long messageId = Long.valueOf(value);
+            localStore.complete(senderId, clientMessageId, messageId);
+            return Reservation.completed(messageId);
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("멱등성 키 선점 실패, 로컬 LRU로 대체: key={}, error={}", key, e.getMessage());
+            return localStore.reserve(senderId, clientMessageId);
+        }
+    }
+
+    @Override
+    public void complete(Long senderId, String clientMessageId, Long messageId) {
+        localStore.complete(senderId, clientMessageId, messageId);
+        try {
+            redisTemplate.opsForValue().set(key(senderId, clientMessageId), String.valueOf(messageId), window);
+        } catch (DataAccessException e) {
+            log.warn("멱등성 키 저장 실패: senderId={}, clientMessageId={}, error={}",
+                    senderId, clientMessageId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void release(Long senderId, String clientMessageId) {
+        localStore.release(senderId, clientMessageId);
+        String key = key(senderId, clientMessageId);
+        try {
+            redisTemplate.execute(RELEASE_IF_PENDING, List.of(key), PENDING);
+        } catch (DataAccessException e) {
+            // pendingTimeout이 지나면 자연히 풀린다
+            log.debug("멱등성 키 해제 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private static String key(Long senderId, String clientMessageId) {
+        return KEY_PREFIX + senderId + ":" + clientMessageId;
+    }
+}
@@ -0,0 +1,56 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+/**
+ * 인스턴스 전용 AMQP 큐의 메시지를 로컬 SimpleBroker로 전달한다 (amqp 프로파일).
+ *
+ * RELAYED_HEADER를 붙여 AmqpFanoutPublisher가 다시 발행하지 않도록 하고,
+ * SimpleBroker가 이 인스턴스에 연결된 구독 세션에만 전달한다.
+ * 한 AMQP 메시지는 같은 방 메시지 여러 건의 배치이며, destination·네이티브 헤더는 AMQP 헤더가 아니라
+ * 각 FanoutEnvelope 본문에서 읽는다. AmqpFanoutPublisher가 발행에 실패한 배치도 같은 경로(dispatch)로 로컬 전달한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AmqpFanoutDispatcher implements MessageListener {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void onMessage(org.springframework.amqp.core.Message amqpMessage) {
+        MessageProperties properties = amqpMessage.getMessageProperties();
+        List<FanoutEnvelope> envelopes;
+        try {
+            envelopes = FanoutEnvelope.decodeAll(amqpMessage.getBody());
+        } catch (IllegalArgumentException e) {
+            log.warn("해석할 수 없는 fan-out 메시지 무시: routingKey={}, error={}",
+                    properties.getReceivedRoutingKey(), e.getMessage());
+            return;
+        }
+        envelopes.forEach(this::dispatch);
+    }
+
+    void dispatch(FanoutEnvelope envelope) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(envelope.destination());
+        if (envelope.contentType() != null) {
+            accessor.setContentType(MimeTypeUtils.parseMimeType(envelope.contentType()));
+        }
+        envelope.nativeHeaders().forEach(accessor::setNativeHeader);
+        accessor.setHeader(AmqpFanoutPublisher.RELAYED_HEADER, Boolean.TRUE);
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.send(envelope.destination(),
+                MessageBuilder.createMessage(envelope.payload(), accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,176 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+
+/**
+ * brokerChannel 인터셉터 — /topic 브로드캐스트를 RabbitMQ topic exchange로 발행한다 (amqp 프로파일).
+ *
+ * 애플리케이션 서비스의 SimpMessagingTemplate 호출은 그대로 두고, 로컬 SimpleBroker로 가기 직전에
+ * 메시지를 가로채 AMQP로 보낸다. 로컬 전달은 자기 인스턴스 큐로 되돌아온 메시지가 담당하므로
+ * 모든 인스턴스가 같은 순서로 같은 이벤트를 받는다.
+ *
+ * 발행은 routingKey(= 방) 단위로 직접 배치한다 — batchSize건 또는 bufferLimit 바이트가 차면 호출 스레드에서,
+ * 아니면 batchTimeoutMs 뒤 스케줄러 스레드에서 보낸다. 배치를 직접 들고 있으므로 어느 경로에서 발행이 실패해도
+ * 배치의 모든 메시지를 AmqpFanoutDispatcher로 로컬 세션에 전달한다 (다른 인스턴스에는 전달되지 않는다).
+ * 배치 본문에는 메시지별 헤더가 FanoutEnvelope로 함께 실린다.
+ */
+@Slf4j
+public class AmqpFanoutPublisher implements ChannelInterceptor {
+
+    /** AMQP에서 되돌아온 메시지 표시 헤더 (재발행 방지) */
+    public static final String RELAYED_HEADER = "chatFanoutRelayed";
+
+    /** fan-out 본문(FanoutEnvelope) content-type — destination·네이티브 헤더는 AMQP 헤더가 아니라 본문에 싣는다 */
+    public static final String CONTENT_TYPE = "application/x-chat-fanout";
+
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final Settings settings;
+    private final TaskScheduler scheduler;
+    private final Supplier<AmqpFanoutDispatcher> localDispatcher;
+
+    /** routingKey별 전송 대기 배치 — 접근은 모두 this 동기화 안에서 */
+    private final Map<String, PendingBatch> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * @param localDispatcher 발행 실패 시 로컬 전달 경로 — brokerChannel과의 순환 의존을 피하려고 지연 조회한다
+     */
+    public AmqpFanoutPublisher(RabbitTemplate rabbitTemplate, String exchange, Settings settings,
+                               TaskScheduler scheduler, Supplier<AmqpFanoutDispatcher> localDispatcher) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.settings = settings;
+        this.scheduler = scheduler;
+        this.localDispatcher = localDispatcher;
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || Boolean.TRUE.equals(headers.get(RELAYED_HEADER))) {
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        FanoutEnvelope envelope = new FanoutEnvelope(destination,
+                contentType != null ? contentType.toString() : null, nativeHeaders(headers), payload);
+        enqueue(toRoutingKey(destination), envelope);
+        // 로컬 전달은 인스턴스 큐에서 되돌아온 메시지(발행 실패 시 로컬 디스패처)가 수행한다
+        return null;
+    }
+
+    private synchronized void enqueue(String routingKey, FanoutEnvelope envelope) {
+        PendingBatch batch = pending.computeIfAbsent(routingKey, key -> new PendingBatch());
+        batch.add(envelope);
+        if (batch.envelopes.size() >= settings.batchSize() || batch.bytes >= settings.bufferLimit()) {
+            pending.remove(routingKey);
+            send(routingKey, batch.envelopes);
+        } else if (scheduledFlush == null) {
+            scheduledFlush = scheduler.schedule(this::flush,
+                    Instant.now().plusMillis(settings.batchTimeoutMs()));
+        }
+    }
+
+    /**
+     * 대기 중인 배치를 모두 보낸다 — batchTimeoutMs 타이머와 종료 시(destroyMethod) 호출된다.
+     */
+    public synchronized void flush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        pending.forEach((routingKey, batch) -> send(routingKey, batch.envelopes));
+        pending.clear();
+    }
+
+    private void send(String routingKey, List<FanoutEnvelope> envelopes) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(CONTENT_TYPE);
+        try {
+            rabbitTemplate.send(exchange, routingKey,
+                    new org.springframework.amqp.core.Message(FanoutEnvelope.encodeBatch(envelopes), properties));
+        } catch (AmqpException e) {
+            log.warn("AMQP fan-out 발행 실패, 로컬 세션에만 전달: routingKey={}, count={}, error={}",
+                    routingKey, envelopes.size(), e.getMessage());
+            AmqpFanoutDispatcher dispatcher = localDispatcher.get();
+            for (FanoutEnvelope envelope : envelopes) {
+                try {
+                    dispatcher.dispatch(envelope);
+                } catch (RuntimeException dispatchError) {
+                    log.warn("fan-out 로컬 전달 실패: destination={}, error={}",
+                            envelope.destination(), dispatchError.getMessage());
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> nativeHeaders(MessageHeaders headers) {
+        Object nativeHeaders = headers.get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+        if (!(nativeHeaders instanceof Map<?, ?> map)) {
+            return Map.of();
+        }
+        Map<String, String> copied = new LinkedHashMap<>();
+        ((Map<String, List<String>>) map).forEach((name, values) -> {
+            if (values != null && !values.isEmpty() && values.get(0) != null) {
+                copied.put(name, values.get(0));
+            }
+        });
+        return copied;
+    }
+
+    /**
+     * @param batchSize      배치당 최대 메시지 수
+     * @param bufferLimit    배치당 최대 payload 바이트
+     * @param batchTimeoutMs 배치가 차지 않았을 때 보내기까지 기다리는 시간
+     */
+    public record Settings(int batchSize, int bufferLimit, long batchTimeoutMs) {
+    }
+
+    private static final class PendingBatch {
+        private final List<FanoutEnvelope> envelopes = new ArrayList<>();
+        private int bytes;
+
+        void add(FanoutEnvelope envelope) {
+            envelopes.add(envelope);
+            bytes += envelope.payload().length;
+        }
+    }
+
+    /**
+     * /topic/chatroom.10.read-status → chatroom.10.read-status
+     */
+    static String toRoutingKey(String destination) {
+        return destination.substring(TOPIC_PREFIX.length()).replace('/', '.');
+    }
+}
@@ -0,0 +1,121 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AMQP fan-out 본문 — destination, content-type, STOMP 네이티브 헤더를 payload와 함께 본문에 싣는다.
+ *
+ * AmqpFanoutPublisher는 같은 routingKey(= 같은 방) 메시지를 AMQP 메시지 하나로 묶어 보내므로,
+ * 메시지마다 다른 seq·coalesce-key·priority는 AMQP 헤더가 아니라 본문에 있어야 분해 후에도 유지된다.
+ *
+ * 단건 형식: [version:1][destination:UTF][contentType:UTF, 없으면 ""][헤더 수:int]([이름:UTF][값:UTF])*[payload 길이:int][payload]
+ * 배치 형식: [version:2][건수:int]([단건 길이:int][단건])*
+ */
+record FanoutEnvelope(String destination, String contentType, Map<String, String> nativeHeaders, byte[] payload) {
+
+    private static final int VERSION = 1;
+    private static final int BATCH_VERSION = 2;
+
+    byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(destination);
+            out.writeUTF(contentType != null ? contentType : "");
+            out.writeInt(nativeHeaders.size());
+            for (Map.Entry<String, String> header : nativeHeaders.entrySet()) {
+                out.writeUTF(header.getKey());
+                out.writeUTF(header.getValue());
+            }
+            out.writeInt(payload.length);
+            out.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않는 본문
+     */
+    static FanoutEnvelope decode(byte[] body) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 fan-out 본문 버전: " + version);
+            }
+            String destination = in.readUTF();
+            String contentType = in.readUTF();
+            int headerCount = in.readInt();
+            if (headerCount < 0) {
+                throw new IllegalArgumentException("잘못된 헤더 수: " + headerCount);
+            }
+            Map<String, String> nativeHeaders = new LinkedHashMap<>();
+            for (int i = 0; i < headerCount; i++) {
+                nativeHeaders.put(in.readUTF(), in.readUTF());
+            }
+            int length = in.readInt();
+            if (length < 0 || length > in.available()) {
+                throw new IllegalArgumentException("잘못된 payload 길이: " + length);
+            }
+            byte[] payload = in.readNBytes(length);
+            return new FanoutEnvelope(destination, contentType.isEmpty() ? null : contentType, nativeHeaders, payload);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("fan-out 본문 해석 실패", e);
+        }
+    }
+
+    static byte[] encodeBatch(List<FanoutEnvelope> envelopes) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 * envelopes.size());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(BATCH_VERSION);
+            out.writeInt(envelopes.size());
+            for (FanoutEnvelope envelope : envelopes) {
+                byte[] encoded = envelope.encode();
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 배치 본문과 단건 본문(배치 도입 전 인스턴스가 보낸 메시지)을 모두 해석한다.
+     *
+     * @throws IllegalArgumentException 형식이 맞지 않는 본문
+     */
+    static List<FanoutEnvelope> decodeAll(byte[] body) {
+        if (body.length == 0 || (body[0] & 0xFF) != BATCH_VERSION) {
+            return List.of(decode(body));
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+            in.readUnsignedByte();
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IllegalArgumentException("잘못된 배치 건수: " + count);
+            }
+            List<FanoutEnvelope> envelopes = new ArrayList<>(Math.min(count, 1024));
+            for (int i = 0; i < count; i++) {
+                int length = in.readInt();
+                if (length < 0 || length > in.available()) {
+                    throw new IllegalArgumentException("잘못된 배치 항목 길이: " + length);
+                }
+                envelopes.add(decode(in.readNBytes(length)));
+            }
+            return envelopes;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("fan-out 배치 본문 해석 실패", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JVM 내 시퀀스 발급기 — 단일 인스턴스(SimpleBroker) 모드용.
+ * 재시작하면 epoch가 바뀐다.
+ */
+public class LocalRoomSequenceGenerator implements RoomSequenceGenerator {
+
+    private final Map<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    @Override
+    public long next(String destination) {
+        return sequences.computeIfAbsent(destination, d -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Override
+    public String epoch() {
+        return epoch;
+    }
+}
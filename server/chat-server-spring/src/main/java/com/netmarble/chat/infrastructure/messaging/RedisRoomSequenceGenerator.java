@@ -0,0 +1,51 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Redis INCR 기반 시퀀스 발급기 — 여러 인스턴스가 같은 방에 브로드캐스트하는 amqp 모드용.
+ * epoch는 최초 기동한 인스턴스가 SETNX로 정하고 모든 인스턴스가 공유한다.
+ */
+@Slf4j
+public class RedisRoomSequenceGenerator implements RoomSequenceGenerator {
+
+    private static final String KEY_PREFIX = "chat:seq:";
+    private static final String EPOCH_KEY = KEY_PREFIX + "epoch";
+
+    private final StringRedisTemplate redisTemplate;
+    private volatile String epoch;
+
+    public RedisRoomSequenceGenerator(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long next(String destination) {
+        try {
+            Long value = redisTemplate.opsForValue().increment(KEY_PREFIX + destination);
+            return value != null ? value : -1;
+        } catch (DataAccessException e) {
+            log.warn("시퀀스 발급 실패, seq 없이 전송: destination={}, error={}", destination, e.getMessage());
+            return -1;
+        }
+    }
+
+    @Override
+    public String epoch() {
+        String current = epoch;
+        if (current != null) {
+            return current;
+        }
+        try {
+            redisTemplate.opsForValue().setIfAbsent(EPOCH_KEY, Long.toString(System.currentTimeMillis(), 36));
+            current = redisTemplate.opsForValue().get(EPOCH_KEY);
+            epoch = current;
+            return current != null ? current : "";
+        } catch (DataAccessException e) {
+            log.warn("시퀀스 epoch 조회 실패: {}", e.getMessage());
+            return "";
+        }
+    }
+}
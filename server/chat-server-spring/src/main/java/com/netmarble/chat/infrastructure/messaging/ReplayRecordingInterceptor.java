@@ -0,0 +1,60 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * brokerChannel 인터셉터 — 로컬 SimpleBroker로 전달되기 직전의 seq 메시지를 재전송 링에 기록한다.
+ *
+ * brokerChannel 인터셉터 중 가장 마지막에 실행되어야 한다. AMQP fan-out이 가로챈 메시지(null 반환)는
+ * 여기까지 오지 않고, 인스턴스 큐에서 되돌아왔을 때 기록된다.
+ * 브로커 전달보다 먼저 기록하므로 구독 직후의 재전송 조회가 전달 전 이벤트를 놓치지 않는다.
+ */
+@RequiredArgsConstructor
+public class ReplayRecordingInterceptor implements ChannelInterceptor {
+
+    private final RoomReplayBuffer replayBuffer;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String seq = NativeMessageHeaderAccessor.getFirstNativeHeader(RoomSequenceInterceptor.SEQ_HEADER, headers);
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (seq == null || destination == null || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        try {
+            Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+            replayBuffer.record(new RoomReplayBuffer.ReplayEvent(destination, Long.parseLong(seq), payload,
+                    firstValues(headers), contentType != null ? contentType.toString() : null));
+        } catch (NumberFormatException ignored) {
+            // 잘못된 seq는 기록하지 않고 전달만 한다
+        }
+        return message;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> firstValues(MessageHeaders headers) {
+        Object nativeHeaders = headers.get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+        Map<String, String> result = new HashMap<>();
+        if (nativeHeaders instanceof Map<?, ?> map) {
+            ((Map<String, List<String>>) map).forEach((name, values) -> {
+                if (values != null && !values.isEmpty()) {
+                    result.put(name, values.get(0));
+                }
+            });
+        }
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * clientInboundChannel 인터셉터 — last-seq 헤더가 붙은 SUBSCRIBE에 놓친 이벤트를 재전송한다.
+ *
+ * SimpleBroker가 구독을 등록한 직후(afterMessageHandled)에 링을 조회하므로, 그 이후 이벤트는
+ * 실시간 전달로, 그 이전 이벤트는 재전송으로 받는다. 경계에서 중복될 수 있어 클라이언트는 seq로 거른다.
+ * 링 범위를 벗어났거나 seq-epoch가 다르면 REPLAY_GAP 프레임 하나만 보내고,
+ * 클라이언트는 히스토리 API로 복구한다.
+ */
+@Slf4j
+public class ReplaySubscriptionInterceptor implements ExecutorChannelInterceptor {
+
+    /** 클라이언트가 마지막으로 받은 seq (SUBSCRIBE 헤더) */
+    public static final String LAST_SEQ_HEADER = "last-seq";
+
+    /** 재전송 프레임 표시 — "true" 또는 "gap" */
+    public static final String REPLAY_HEADER = "replay";
+
+    private final RoomReplayBuffer replayBuffer;
+    private final RoomSequenceGenerator sequenceGenerator;
+    private final MessageChannel clientOutboundChannel;
+    private final Counter replayedEvents;
+    private final Counter replayGaps;
+
+    public ReplaySubscriptionInterceptor(RoomReplayBuffer replayBuffer,
+                                         RoomSequenceGenerator sequenceGenerator,
+                                         MessageChannel clientOutboundChannel,
+                                         MeterRegistry meterRegistry) {
+        this.replayBuffer = replayBuffer;
+        this.sequenceGenerator = sequenceGenerator;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.replayedEvents = Counter.builder("chat.ws.replay.events")
+                .description("재구독 시 재전송한 이벤트 수")
+                .register(meterRegistry);
+        this.replayGaps = Counter.builder("chat.ws.replay.gaps")
+                .description("링 범위를 벗어나 히스토리 API 복구를 안내한 재구독 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("chat.ws.replay.destinations", replayBuffer, RoomReplayBuffer::destinationCount);
+    }
+
+    @Override
+    public void afterMessageHandled(@NonNull Message<?> message, @NonNull MessageChannel channel,
+                                    @NonNull MessageHandler handler, @Nullable Exception ex) {
+        if (ex != null || !(handler instanceof SimpleBrokerMessageHandler)) {
+            return;
+        }
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.SUBSCRIBE) {
+            return;
+        }
+        String lastSeqHeader = NativeMessageHeaderAccessor.getFirstNativeHeader(LAST_SEQ_HEADER, headers);
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (lastSeqHeader == null || destination == null
+                || !destination.startsWith(RoomSequenceInterceptor.ROOM_DESTINATION_PREFIX)) {
+            return;
+        }
+
+        long lastSeq;
+        try {
+            lastSeq = Long.parseLong(lastSeqHeader);
+        } catch (NumberFormatException e) {
+            return;
+        }
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+        String clientEpoch = NativeMessageHeaderAccessor.getFirstNativeHeader(RoomSequenceInterceptor.EPOCH_HEADER, headers);
+
+        RoomReplayBuffer.ReplayResult result = clientEpoch != null && !clientEpoch.equals(sequenceGenerator.epoch())
+                ? RoomReplayBuffer.ReplayResult.gap(0)
+                : replayBuffer.since(destination, lastSeq);
+
+        if (result.gap()) {
+            replayGaps.increment();
+            log.debug("재전송 범위 초과: sessionId={}, destination={}, lastSeq={}, oldestSeq={}",
+                    sessionId, destination, lastSeq, result.oldestSeq());
+            sendGap(sessionId, subscriptionId, destination, lastSeq, result.oldestSeq());
+            return;
+        }
+
+        for (RoomReplayBuffer.ReplayEvent event : result.events()) {
+            SimpMessageHeaderAccessor accessor = frameHeaders(sessionId, subscriptionId, destination);
+            event.nativeHeaders().forEach(accessor::setNativeHeader);
+            if (event.contentType() != null) {
+                accessor.setContentType(MimeTypeUtils.parseMimeType(event.contentType()));
+            }
+            accessor.setNativeHeader(REPLAY_HEADER, "true");
+            clientOutboundChannel.send(MessageBuilder.createMessage(event.payload(), accessor.getMessageHeaders()));
+        }
+        replayedEvents.increment(result.events().size());
+    }
+
+    private void sendGap(String sessionId, String subscriptionId, String destination, long lastSeq, long oldestSeq) {
+        SimpMessageHeaderAccessor accessor = frameHeaders(sessionId, subscriptionId, destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setNativeHeader(REPLAY_HEADER, "gap");
+        accessor.setNativeHeader(RoomSequenceInterceptor.EPOCH_HEADER, sequenceGenerator.epoch());
+        String body = "{\"type\":\"REPLAY_GAP\",\"destination\":\"" + destination
+                + "\",\"lastSeq\":" + lastSeq + ",\"oldestSeq\":" + oldestSeq + "}";
+        clientOutboundChannel.send(
+                MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+    }
+
+    private static SimpMessageHeaderAccessor frameHeaders(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+}
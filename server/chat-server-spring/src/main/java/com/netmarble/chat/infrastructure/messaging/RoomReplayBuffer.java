@@ -0,0 +1,130 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * destination별 고정 크기 재전송 링 (인스턴스 로컬 메모리)
+ *
+ * 링 슬롯은 seq % capacity로 정해지므로 발행 스레드 순서가 뒤섞여 기록돼도 seq 기준으로 조회된다.
+ * 요청 구간 중 한 칸이라도 비었거나 덮어써졌으면 gap으로 응답해 클라이언트가 히스토리 API로 복구하게 한다.
+ * destination 수가 maxDestinations를 넘으면 가장 오래 기록이 없던 링부터 버린다.
+ */
+public class RoomReplayBuffer {
+
+    private final int capacity;
+    private final int maxDestinations;
+    private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+
+    public RoomReplayBuffer(int capacity, int maxDestinations) {
+        if (capacity <= 0 || maxDestinations <= 0) {
+            throw new IllegalArgumentException("capacity와 maxDestinations는 1 이상이어야 합니다");
+        }
+        this.capacity = capacity;
+        this.maxDestinations = maxDestinations;
+    }
+
+    public void record(ReplayEvent event) {
+        Ring ring = rings.get(event.destination());
+        if (ring == null) {
+            ring = rings.computeIfAbsent(event.destination(), d -> new Ring(capacity));
+            if (rings.size() > maxDestinations) {
+                evictIdle();
+            }
+        }
+        ring.add(event);
+    }
+
+    /**
+     * lastSeq 이후 이벤트 조회
+     */
+    public ReplayResult since(String destination, long lastSeq) {
+        Ring ring = rings.get(destination);
+        if (ring == null) {
+            // 이 인스턴스가 해당 방 이벤트를 본 적 없음 — 놓친 이벤트가 있는지 알 수 없다
+            return lastSeq > 0 ? ReplayResult.gap(0) : ReplayResult.upToDate();
+        }
+        return ring.since(lastSeq);
+    }
+
+    public int destinationCount() {
+        return rings.size();
+    }
+
+    private void evictIdle() {
+        rings.entrySet().stream()
+                .min(Comparator.comparingLong(e -> e.getValue().lastRecordedAt))
+                .ifPresent(e -> rings.remove(e.getKey(), e.getValue()));
+    }
+
+    public record ReplayEvent(String destination,
+                              long seq,
+                              byte[] payload,
+                              Map<String, String> nativeHeaders,
+                              String contentType) {
+    }
+
+    /**
+     * @param events    lastSeq 이후 이벤트 (seq 오름차순)
+     * @param gap       링 범위를 벗어나 전부 돌려줄 수 없음
+     * @param oldestSeq 링에 남아 있는 가장 오래된 seq (gap일 때 참고용)
+     */
+    public record ReplayResult(List<ReplayEvent> events, boolean gap, long oldestSeq) {
+
+        static ReplayResult upToDate() {
+            return new ReplayResult(Collections.emptyList(), false, 0);
+        }
+
+        static ReplayResult gap(long oldestSeq) {
+            return new ReplayResult(Collections.emptyList(), true, oldestSeq);
+        }
+    }
+
+    private static final class Ring {
+
+        private final ReplayEvent[] slots;
+        private long highestSeq;
+        private volatile long lastRecordedAt;
+
+        Ring(int capacity) {
+            this.slots = new ReplayEvent[capacity];
+            this.lastRecordedAt = System.nanoTime();
+        }
+
+        synchronized void add(ReplayEvent event) {
+            int index = (int) (event.seq() % slots.length);
+            ReplayEvent current = slots[index];
+            // 늦게 도착한 옛 이벤트가 더 새 이벤트를 덮어쓰지 않도록
+            if (current == null || current.seq() < event.seq()) {
+                slots[index] = event;
+            }
+            highestSeq = Math.max(highestSeq, event.seq());
+            lastRecordedAt = System.nanoTime();
+        }
+
+        synchronized ReplayResult since(long lastSeq) {
+            if (lastSeq >= highestSeq) {
+                return ReplayResult.upToDate();
+            }
+            long from = lastSeq + 1;
+            long oldest = Math.max(1, highestSeq - slots.length + 1);
+            if (from < oldest) {
+                return ReplayResult.gap(oldest);
+            }
+
+            List<ReplayEvent> events = new ArrayList<>((int) (highestSeq - lastSeq));
+            for (long seq = from; seq <= highestSeq; seq++) {
+                ReplayEvent event = slots[(int) (seq % slots.length)];
+                if (event == null || event.seq() != seq) {
+                    return ReplayResult.gap(oldest);
+                }
+                events.add(event);
+            }
+            return new ReplayResult(events, false, oldest);
+        }
+    }
+}
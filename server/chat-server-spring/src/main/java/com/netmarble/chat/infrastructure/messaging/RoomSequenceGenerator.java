@@ -0,0 +1,17 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+/**
+ * 방 브로드캐스트 destination별 단조 증가 시퀀스 발급기
+ *
+ * epoch는 시퀀스 공간의 세대 식별자다. 발급기가 초기화되면(로컬 카운터 재시작 등) 값이 바뀌고,
+ * 클라이언트가 가진 last-seq는 더 이상 비교할 수 없으므로 히스토리 API로 복구해야 한다.
+ */
+public interface RoomSequenceGenerator {
+
+    /**
+     * 다음 시퀀스 (발급 실패 시 -1)
+     */
+    long next(String destination);
+
+    String epoch();
+}
@@ -0,0 +1,54 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+/**
+ * brokerChannel 인터셉터 — 방 브로드캐스트에 destination별 단조 증가 seq를 붙인다.
+ *
+ * brokerChannel 인터셉터 중 가장 먼저 실행되어야 한다 (AMQP fan-out 발행 전에 seq가 정해져야
+ * 모든 인스턴스가 같은 seq를 본다). 이미 seq가 있는 메시지(AMQP에서 되돌아온 메시지)는 그대로 둔다.
+ */
+@RequiredArgsConstructor
+public class RoomSequenceInterceptor implements ChannelInterceptor {
+
+    /** 브로드캐스트 시퀀스 */
+    public static final String SEQ_HEADER = "seq";
+
+    /** 시퀀스 세대 — 바뀌면 클라이언트의 last-seq는 무효 */
+    public static final String EPOCH_HEADER = "seq-epoch";
+
+    static final String ROOM_DESTINATION_PREFIX = "/topic/chatroom.";
+
+    private final RoomSequenceGenerator sequenceGenerator;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || NativeMessageHeaderAccessor.getFirstNativeHeader(SEQ_HEADER, headers) != null) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return message;
+        }
+
+        long seq = sequenceGenerator.next(destination);
+        if (seq < 0) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.setNativeHeader(SEQ_HEADER, Long.toString(seq));
+        accessor.setNativeHeader(EPOCH_HEADER, sequenceGenerator.epoch());
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+}
@@ -36,17 +36,25 @@ public class ChatMessageDocument {
     private String senderNickname;
     private String content;
     private String type;
+    // 이미지 메타데이터 (서버에 저장된 IMAGE만) — api-server 히스토리 응답에서 레이아웃 확보용
+    private Integer imageWidth;
+    private Integer imageHeight;
+    private String imagePlaceholder;
     private int readCount = 0;
     private LocalDateTime createdAt;
 
     @Builder
     public ChatMessageDocument(String roomId, String senderId, String senderNickname,
-                               String content, String type) {
+                               String content, String type,
+                               Integer imageWidth, Integer imageHeight, String imagePlaceholder) {
         this.roomId = roomId;
         this.senderId = senderId;
         this.senderNickname = senderNickname;
         this.content = content;
         this.type = type;
+        this.imageWidth = imageWidth;
+        this.imageHeight = imageHeight;
+        this.imagePlaceholder = imagePlaceholder;
         this.createdAt = LocalDateTime.now();
     }
 }
@@ -0,0 +1,12 @@
+package com.netmarble.chat.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JPA로 배치할 수 없는 멤버 일괄 INSERT (IDENTITY 키는 Hibernate JDBC 배치가 꺼진다)
+ */
+public interface ChatRoomMemberBatchOperations {
+
+    int insertAllIfAbsent(Long chatRoomId, List<Long> userIds, LocalDateTime now);
+}
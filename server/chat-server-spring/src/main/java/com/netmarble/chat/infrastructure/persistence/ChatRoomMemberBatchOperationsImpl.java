@@ -0,0 +1,46 @@
+package com.netmarble.chat.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JdbcTemplate 배치 INSERT — MySQL은 rewriteBatchedStatements=true로 다중 행 INSERT 한 번으로 전송된다.
+ * 이미 (chat_room_id, user_id) 행이 있는 사용자는 INSERT IGNORE로 건너뛴다.
+ */
+@RequiredArgsConstructor
+public class ChatRoomMemberBatchOperationsImpl implements ChatRoomMemberBatchOperations {
+
+    private static final String INSERT_IGNORE =
+            "INSERT IGNORE INTO chat_room_members " +
+            "(chat_room_id, user_id, joined_at, active, online, last_active_at) " +
+            "VALUES (?, ?, ?, TRUE, FALSE, ?)"; // 초대된 사용자는 아직 채팅방 화면에 없으므로 offline
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAllIfAbsent(Long chatRoomId, List<Long> userIds, LocalDateTime now) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_IGNORE, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, chatRoomId);
+            ps.setLong(2, userId);
+            ps.setTimestamp(3, timestamp);
+            ps.setTimestamp(4, timestamp);
+        });
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // 재작성된 다중 행 INSERT는 행별 결과 대신 SUCCESS_NO_INFO를 돌려준다
+                inserted += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        return inserted;
+    }
+}
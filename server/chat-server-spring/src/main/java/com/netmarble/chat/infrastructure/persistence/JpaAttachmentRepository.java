@@ -3,9 +3,13 @@ package com.netmarble.chat.infrastructure.persistence;
 import com.netmarble.chat.domain.model.Attachment;
 import com.netmarble.chat.domain.repository.AttachmentRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * JPA를 사용한 AttachmentRepository 구현체
@@ -16,4 +20,8 @@ public interface JpaAttachmentRepository extends JpaRepository<Attachment, Long>
 
     @Override
     Optional<Attachment> findByMessageId(Long messageId);
+
+    @Override
+    @Query("SELECT a.fileUrl FROM Attachment a WHERE a.fileUrl IN :fileUrls AND a.message.deleted = false")
+    Set<String> findLiveFileUrlsIn(@Param("fileUrls") Collection<String> fileUrls);
 }
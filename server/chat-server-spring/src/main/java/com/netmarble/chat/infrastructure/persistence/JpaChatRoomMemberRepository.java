@@ -2,20 +2,30 @@ package com.netmarble.chat.infrastructure.persistence;
 
 import com.netmarble.chat.domain.model.ChatRoomMember;
 import com.netmarble.chat.domain.repository.ChatRoomMemberRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 
 /**
  * JPA를 사용한 ChatRoomMemberRepository 구현체
+ *
+ * 갱신 쿼리는 uk_crm_room_user (chat_room_id, user_id) 유니크 인덱스로 행 하나만 잠근다.
+ * 벌크 갱신이므로 ChatRoom @Version과 영속성 컨텍스트의 멤버 엔티티에는 반영되지 않는다.
+ * 네이티브 갱신은 영향 테이블(chat_room_members)을 힌트로 알린다 — 없으면 Hibernate가 2차 캐시 영역 전체를 비운다.
  */
 @Repository
 public interface JpaChatRoomMemberRepository extends JpaRepository<ChatRoomMember, Long>,
-        ChatRoomMemberRepository {
+        ChatRoomMemberRepository, ChatRoomMemberBatchOperations {
 
     @Override
     @Query("SELECT m FROM ChatRoomMember m LEFT JOIN FETCH m.lastReadMessage " +
@@ -27,4 +37,82 @@ public interface JpaChatRoomMemberRepository extends JpaRepository<ChatRoomMembe
     @Override
     @Query("SELECT m.chatRoom.id FROM ChatRoomMember m WHERE m.user.id = :userId AND m.active = true")
     Set<Long> findActiveChatRoomIdsByUserId(@Param("userId") Long userId);
+
+    @Override
+    @Query("SELECT m.active FROM ChatRoomMember m WHERE m.chatRoom.id = :chatRoomId AND m.user.id = :userId")
+    Optional<Boolean> findActiveFlag(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+
+    @Override
+    @Query("SELECT COUNT(m) FROM ChatRoomMember m WHERE m.chatRoom.id = :chatRoomId AND m.active = true")
+    long countActiveByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+    @Override
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO chat_room_members " +
+                   "(chat_room_id, user_id, joined_at, active, online, last_active_at) " +
+                   "VALUES (:chatRoomId, :userId, :now, TRUE, TRUE, :now)",
+           nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chat_room_members"))
+    int insertIfAbsent(@Param("chatRoomId") Long chatRoomId,
+                       @Param("userId") Long userId,
+                       @Param("now") LocalDateTime now);
+
+    @Override
+    @Modifying
+    @Query("UPDATE ChatRoomMember m SET m.active = true, m.online = true, m.joinedAt = :now, " +
+           "m.leftAt = null, m.lastActiveAt = :now " +
+           "WHERE m.chatRoom.id = :chatRoomId AND m.user.id = :userId AND m.active = false")
+    int reactivate(@Param("chatRoomId") Long chatRoomId,
+                   @Param("userId") Long userId,
+                   @Param("now") LocalDateTime now);
+
+    @Override
+    @Modifying
+    @Query("UPDATE ChatRoomMember m SET m.active = false, m.leftAt = :now " +
+           "WHERE m.chatRoom.id = :chatRoomId AND m.user.id = :userId AND m.active = true")
+    int deactivate(@Param("chatRoomId") Long chatRoomId,
+                   @Param("userId") Long userId,
+                   @Param("now") LocalDateTime now);
+
+    @Override
+    @Modifying
+    @Query("UPDATE ChatRoomMember m SET m.online = true, m.lastActiveAt = :now " +
+           "WHERE m.chatRoom.id = :chatRoomId AND m.user.id = :userId")
+    int markOnline(@Param("chatRoomId") Long chatRoomId,
+                   @Param("userId") Long userId,
+                   @Param("now") LocalDateTime now);
+
+    @Override
+    @Modifying
+    @Query("UPDATE ChatRoomMember m SET m.online = false " +
+           "WHERE m.chatRoom.id = :chatRoomId AND m.user.id = :userId")
+    int markOffline(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+
+    @Override
+    @Modifying
+    @Query(value = "UPDATE chat_room_members SET last_read_message_id = :messageId, last_active_at = :now " +
+                   "WHERE chat_room_id = :chatRoomId AND user_id = :userId " +
+                   "AND (last_read_message_id IS NULL OR last_read_message_id < :messageId)",
+           nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chat_room_members"))
+    int advanceLastReadMessage(@Param("chatRoomId") Long chatRoomId,
+                               @Param("userId") Long userId,
+                               @Param("messageId") Long messageId,
+                               @Param("now") LocalDateTime now);
+
+    @Override
+    @Query("SELECT m.user.id FROM ChatRoomMember m " +
+           "WHERE m.chatRoom.id = :chatRoomId AND m.user.id IN :userIds AND m.active = :active")
+    Set<Long> findUserIdsByActive(@Param("chatRoomId") Long chatRoomId,
+                                  @Param("userIds") Collection<Long> userIds,
+                                  @Param("active") boolean active);
+
+    @Override
+    @Modifying
+    @Query("UPDATE ChatRoomMember m SET m.active = true, m.online = false, m.joinedAt = :now, " +
+           "m.leftAt = null, m.lastActiveAt = :now " +
+           "WHERE m.chatRoom.id = :chatRoomId AND m.user.id IN :userIds AND m.active = false")
+    int reactivateAll(@Param("chatRoomId") Long chatRoomId,
+                      @Param("userIds") Collection<Long> userIds,
+                      @Param("now") LocalDateTime now);
 }
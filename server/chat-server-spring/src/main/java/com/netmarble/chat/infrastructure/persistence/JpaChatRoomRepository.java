@@ -3,9 +3,12 @@ package com.netmarble.chat.infrastructure.persistence;
 import com.netmarble.chat.domain.model.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * JPA를 사용한 ChatRoomRepository 구현체
@@ -21,4 +24,8 @@ public interface JpaChatRoomRepository extends JpaRepository<ChatRoom, Long>,
     @Override
     @Query("SELECT c FROM ChatRoom c WHERE c.creator.id = :creatorId")
     List<ChatRoom> findByCreatorId(Long creatorId);
+    
+    @Override
+    @Query("SELECT c.imageUrl FROM ChatRoom c WHERE c.imageUrl IN :urls")
+    Set<String> findImageUrlsIn(@Param("urls") Collection<String> urls);
 }
@@ -3,17 +3,21 @@ package com.netmarble.chat.infrastructure.persistence;
 import com.netmarble.chat.domain.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * JPA를 사용한 UserRepository 구현체
  * Infrastructure 계층에서 Domain 계층의 인터페이스를 구현
  */
 @Repository
-public interface JpaUserRepository extends JpaRepository<User, Long>, com.netmarble.chat.domain.repository.UserRepository {
+public interface JpaUserRepository extends JpaRepository<User, Long>, com.netmarble.chat.domain.repository.UserRepository,
+        UserUpsertOperations {
     
     @Override
     Optional<User> findByNickname(String nickname);
@@ -24,4 +28,12 @@ public interface JpaUserRepository extends JpaRepository<User, Long>, com.netmar
     
     @Override
     boolean existsByNickname(String nickname);
+    
+    @Override
+    @Query("SELECT u.nickname FROM User u WHERE u.nickname IN :nicknames")
+    Set<String> findExistingNicknames(@Param("nicknames") Collection<String> nicknames);
+    
+    @Override
+    @Query("SELECT u.profileImage FROM User u WHERE u.profileImage IN :urls")
+    Set<String> findProfileImagesIn(@Param("urls") Collection<String> urls);
 }
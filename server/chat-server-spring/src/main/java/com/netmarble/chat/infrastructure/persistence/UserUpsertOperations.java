@@ -0,0 +1,16 @@
+package com.netmarble.chat.infrastructure.persistence;
+
+import com.netmarble.chat.domain.model.User;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 닉네임 기준 INSERT ... ON DUPLICATE KEY UPDATE / 일괄 INSERT (JdbcTemplate)
+ */
+public interface UserUpsertOperations {
+
+    Optional<Long> upsertByNickname(User user, String profileColor, String profileImage);
+
+    int insertAllIfAbsent(List<User> users);
+}
@@ -0,0 +1,79 @@
+package com.netmarble.chat.infrastructure.persistence;
+
+import com.netmarble.chat.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 로그인/가입을 문장 하나로 처리한다.
+ * 닉네임 유니크 키가 충돌하면 last_active_at과 값이 주어진 프로필 필드만 갱신하므로
+ * 동시 로그인이 SELECT → INSERT 경합으로 실패하지 않는다.
+ * MySQL은 affected rows가 1이면 INSERT, 2면 기존 행 UPDATE다.
+ */
+@RequiredArgsConstructor
+public class UserUpsertOperationsImpl implements UserUpsertOperations {
+
+    private static final String UPSERT =
+            "INSERT INTO users (nickname, profile_color, profile_image, created_at, last_active_at, active) " +
+            "VALUES (?, ?, ?, ?, ?, TRUE) " +
+            "ON DUPLICATE KEY UPDATE last_active_at = VALUES(last_active_at), " +
+            "profile_color = COALESCE(?, profile_color), " +
+            "profile_image = COALESCE(VALUES(profile_image), profile_image)";
+
+    private static final String INSERT_IGNORE =
+            "INSERT IGNORE INTO users (nickname, profile_color, profile_image, created_at, last_active_at, active) VALUES ";
+    private static final String INSERT_IGNORE_ROW = "(?, ?, ?, ?, ?, TRUE)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Long> upsertByNickname(User user, String profileColor, String profileImage) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int affected = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, user.getNickname());
+            ps.setString(2, user.getProfileColor());
+            ps.setString(3, profileImage);
+            ps.setTimestamp(4, Timestamp.valueOf(user.getCreatedAt()));
+            ps.setTimestamp(5, Timestamp.valueOf(user.getLastActiveAt()));
+            ps.setString(6, profileColor);
+            return ps;
+        }, keyHolder);
+        if (affected != 1 || keyHolder.getKey() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(keyHolder.getKey().longValue());
+    }
+
+    /**
+     * 다중 행 INSERT IGNORE 한 문장으로 보낸다 — 배치 실행(rewriteBatchedStatements)은 행별 결과 대신
+     * SUCCESS_NO_INFO를 돌려줘 실제로 추가된 수를 알 수 없지만, 한 문장의 affected rows는 건너뛴 행을 뺀 정확한 값이다.
+     * 호출자가 행 수를 배치 크기(수백 건)로 나눠 보낸다.
+     */
+    @Override
+    public int insertAllIfAbsent(List<User> users) {
+        if (users.isEmpty()) {
+            return 0;
+        }
+        String sql = INSERT_IGNORE + String.join(", ", Collections.nCopies(users.size(), INSERT_IGNORE_ROW));
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (User user : users) {
+                ps.setString(index++, user.getNickname());
+                ps.setString(index++, user.getProfileColor());
+                ps.setString(index++, user.getProfileImage());
+                ps.setTimestamp(index++, Timestamp.valueOf(user.getCreatedAt()));
+                ps.setTimestamp(index++, Timestamp.valueOf(user.getLastActiveAt()));
+            }
+        });
+    }
+}
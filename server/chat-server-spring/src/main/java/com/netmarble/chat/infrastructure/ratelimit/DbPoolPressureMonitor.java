@@ -0,0 +1,73 @@
+package com.netmarble.chat.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HikariCP 커넥션 대기 측정 (LoadSheddingFilter 입력)
+ *
+ * Spring Boot가 풀마다 등록하는 hikaricp.connections.acquire(타이머)와 hikaricp.connections.pending(게이지)을
+ * 주기적으로 읽는다. 여러 풀(chat-primary, chat-replica)이 있으면 가장 나쁜 풀을 기준으로 한다.
+ * - acquireWaitMs: 직전 샘플 이후 커넥션 획득 평균 시간 (ms), 지수 평활 — 획득이 끝나야 기록되므로
+ * - pending: 지금 커넥션을 기다리는 스레드 수 — 획득이 끝나지 않을 만큼 막힌 상황은 이 값으로 잡는다
+ */
+public class DbPoolPressureMonitor implements LoadSheddingFilter.PoolPressure {
+
+    static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+    static final String PENDING_GAUGE = "hikaricp.connections.pending";
+
+    /** 새 샘플 가중치 — 두세 번 샘플 안에 회복이 반영되도록 */
+    private static final double SMOOTHING = 0.5;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Snapshot> previous = new HashMap<>();
+    private volatile double acquireWaitMs;
+    private volatile int pending;
+
+    public DbPoolPressureMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 스케줄러 한 스레드에서만 호출한다
+     */
+    public synchronized void sample() {
+        double worstWaitMs = 0;
+        for (Timer timer : meterRegistry.find(ACQUIRE_TIMER).timers()) {
+            String pool = String.valueOf(timer.getId().getTag("pool"));
+            Snapshot current = new Snapshot(timer.count(), timer.totalTime(TimeUnit.NANOSECONDS));
+            Snapshot before = previous.put(pool, current);
+            if (before != null && current.count() > before.count()) {
+                double averageNanos = (current.totalNanos() - before.totalNanos()) / (current.count() - before.count());
+                worstWaitMs = Math.max(worstWaitMs, averageNanos / 1_000_000d);
+            }
+        }
+        int worstPending = 0;
+        for (Gauge gauge : meterRegistry.find(PENDING_GAUGE).gauges()) {
+            double value = gauge.value();
+            if (!Double.isNaN(value)) {
+                worstPending = Math.max(worstPending, (int) value);
+            }
+        }
+        acquireWaitMs = SMOOTHING * worstWaitMs + (1 - SMOOTHING) * acquireWaitMs;
+        pending = worstPending;
+    }
+
+    @Override
+    public double acquireWaitMs() {
+        return acquireWaitMs;
+    }
+
+    @Override
+    public int pending() {
+        return pending;
+    }
+
+    private record Snapshot(long count, double totalNanos) {
+    }
+}
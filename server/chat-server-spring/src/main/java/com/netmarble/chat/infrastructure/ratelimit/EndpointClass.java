@@ -0,0 +1,39 @@
+package com.netmarble.chat.infrastructure.ratelimit;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 차단 우선순위 (REST 엔드포인트 분류)
+ *
+ * - CRITICAL: 메시지 전송, 입장/퇴장 — 차단하지 않는다
+ * - LOW: 하트비트, 온라인 상태, 읽지 않은 수 폴링, 멤버 목록 — 실패해도 다음 주기에 다시 보내거나 화면 일부만 늦게 갱신된다
+ * - NORMAL: 나머지
+ */
+public enum EndpointClass {
+
+    CRITICAL,
+    NORMAL,
+    LOW;
+
+    private static final Pattern CRITICAL_POST = Pattern.compile("^/api/chat-rooms/\\d+/(messages|join|leave)$");
+    private static final Pattern LOW_POST = Pattern.compile("^/api/chat-rooms/\\d+/members/heartbeat$");
+    private static final Pattern LOW_PUT = Pattern.compile(
+            "^/api/chat-rooms/\\d+/members/status$|^/api/users/\\d+/activity$");
+    private static final Pattern LOW_GET = Pattern.compile(
+            "^/api/chat-rooms/\\d+/members$|^/api/chat/unread-count/.+|^/api/read-status/.+|^/api/users/active$");
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static EndpointClass of(String method, String uri) {
+        return switch (method) {
+            case "POST" -> CRITICAL_POST.matcher(uri).matches() ? CRITICAL
+                    : LOW_POST.matcher(uri).matches() ? LOW : NORMAL;
+            case "PUT" -> LOW_PUT.matcher(uri).matches() ? LOW : NORMAL;
+            case "GET" -> LOW_GET.matcher(uri).matches() ? LOW : NORMAL;
+            default -> NORMAL;
+        };
+    }
+}
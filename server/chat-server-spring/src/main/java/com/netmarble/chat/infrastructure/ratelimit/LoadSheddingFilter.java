@@ -0,0 +1,184 @@
+package com.netmarble.chat.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netmarble.chat.presentation.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DB 풀 포화 시 우선순위 낮은 요청부터 차단 (인스턴스 단위)
+ *
+ * MySQL이 느려지면 요청 스레드가 HikariCP 풀 앞에 쌓이고, 하트비트·목록 폴링이 메시지 전송과 같이 기다리다
+ * 함께 타임아웃된다. 요청을 받기 전에 커넥션 대기 시간과 분류별 처리 중 요청 수를 보고
+ * LOW → NORMAL 순서로 429 + Retry-After를 돌려준다. CRITICAL(메시지 전송, 입장/퇴장)은 차단하지 않는다.
+ * Retry-After에 지터를 더해 차단된 클라이언트가 한꺼번에 다시 오지 않게 한다.
+ *
+ * - chat.load_shed.in_flight{class} : 분류별 처리 중인 요청 수
+ * - chat.load_shed.pool_wait_ms : 차단 판단에 쓰는 커넥션 대기 시간
+ * - chat.load_shed.rejected{class, reason} : pool_wait / pool_pending / in_flight
+ */
+@Slf4j
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    static final String SCOPE = "load";
+
+    private final Settings settings;
+    private final PoolPressure pressure;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<EndpointClass, AtomicInteger> inFlight = new EnumMap<>(EndpointClass.class);
+
+    public LoadSheddingFilter(Settings settings, PoolPressure pressure, ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.pressure = pressure;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            AtomicInteger counter = new AtomicInteger();
+            inFlight.put(endpointClass, counter);
+            Gauge.builder("chat.load_shed.in_flight", counter, AtomicInteger::get)
+                    .tag("class", endpointClass.tag())
+                    .description("분류별 처리 중인 요청 수")
+                    .register(meterRegistry);
+        }
+        Gauge.builder("chat.load_shed.pool_wait_ms", pressure, PoolPressure::acquireWaitMs)
+                .description("부하 차단 판단에 쓰는 커넥션 획득 대기 시간 (평활)")
+                .register(meterRegistry);
+    }
+
+    int inFlight(EndpointClass endpointClass) {
+        return inFlight.get(endpointClass).get();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !settings.enabled();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request.getMethod(), request.getRequestURI());
+        ClassLimit limit = settings.limit(endpointClass);
+
+        String poolReason = limit != null ? poolPressureReason(limit) : null;
+        if (poolReason != null) {
+            reject(request, response, endpointClass, poolReason);
+            return;
+        }
+
+        AtomicInteger counter = inFlight.get(endpointClass);
+        int current = counter.incrementAndGet();
+        if (limit != null && limit.maxInFlight() > 0 && current > limit.maxInFlight()) {
+            counter.decrementAndGet();
+            reject(request, response, endpointClass, "in_flight");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            counter.decrementAndGet();
+        }
+    }
+
+    private String poolPressureReason(ClassLimit limit) {
+        if (limit.shedWaitMs() > 0 && pressure.acquireWaitMs() >= limit.shedWaitMs()) {
+            return "pool_wait";
+        }
+        if (limit.shedPending() > 0 && pressure.pending() >= limit.shedPending()) {
+            return "pool_pending";
+        }
+        return null;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, EndpointClass endpointClass,
+                        String reason) throws IOException {
+        log.debug("부하 차단: class={}, reason={}, {} {}", endpointClass.tag(), reason,
+                request.getMethod(), request.getRequestURI());
+        Counter.builder("chat.load_shed.rejected")
+                .tag("class", endpointClass.tag())
+                .tag("reason", reason)
+                .description("DB 풀 포화로 처리하지 않고 돌려보낸 요청 수")
+                .register(meterRegistry)
+                .increment();
+
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message("요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
+                .details(Map.of("scope", SCOPE, "class", endpointClass.tag()))
+                .build();
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * retryAfterSeconds ~ 2 × retryAfterSeconds 사이 임의 값
+     */
+    long retryAfterSeconds() {
+        long base = Math.max(1L, settings.retryAfterSeconds());
+        return base + ThreadLocalRandom.current().nextLong(base + 1);
+    }
+
+    /**
+     * 커넥션 풀 압력 (DbPoolPressureMonitor)
+     */
+    public interface PoolPressure {
+
+        /** 최근 커넥션 획득 평균 시간 (ms) */
+        double acquireWaitMs();
+
+        /** 지금 커넥션을 기다리는 스레드 수 */
+        int pending();
+    }
+
+    /**
+     * @param maxInFlight 분류별 동시 처리 상한 (0이면 상한 없음)
+     * @param shedWaitMs  커넥션 획득 평균 시간이 이 값 이상이면 차단 (0이면 보지 않음)
+     * @param shedPending 커넥션 대기 스레드가 이 수 이상이면 차단 (0이면 보지 않음)
+     */
+    public record ClassLimit(int maxInFlight, double shedWaitMs, int shedPending) {
+    }
+
+    /**
+     * @param enabled           false면 통과
+     * @param normal            NORMAL 분류 한도 — LOW보다 느슨하게
+     * @param low               LOW 분류 한도
+     * @param retryAfterSeconds Retry-After 최소값 (지터로 최대 두 배)
+     */
+    public record Settings(boolean enabled, ClassLimit normal, ClassLimit low, long retryAfterSeconds) {
+
+        ClassLimit limit(EndpointClass endpointClass) {
+            return switch (endpointClass) {
+                case CRITICAL -> null;
+                case NORMAL -> normal;
+                case LOW -> low;
+            };
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.netmarble.chat.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * clientInboundChannel 인터셉터 — 전송 SEND 프레임에 속도 제한을 건다.
+ *
+ * 컨트롤러 디스패치(페이로드 변환·검증·DB 저장) 전에 거부하므로 폭주 트래픽이 MySQL 풀까지 가지 않는다.
+ * senderId / chatRoomId는 JSON 본문 최상위 필드만 스트리밍으로 읽어 얻는다 (이미지 본문 전체를 파싱하지 않음).
+ * 거부한 프레임은 버리고 해당 세션의 /user/queue/errors로 RATE_LIMITED 이벤트를 보낸다.
+ */
+@Slf4j
+public class SendRateLimitInterceptor implements ChannelInterceptor {
+
+    /** 속도 제한 대상 destination */
+    static final Set<String> LIMITED_DESTINATIONS = Set.of("/app/chat.sendMessage");
+
+    static final String ERROR_DESTINATION = "/queue/errors";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final SendRateLimiter rateLimiter;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public SendRateLimitInterceptor(SendRateLimiter rateLimiter, SimpMessagingTemplate messagingTemplate) {
+        this.rateLimiter = rateLimiter;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || !LIMITED_DESTINATIONS.contains(SimpMessageHeaderAccessor.getDestination(headers))
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        Long[] ids = readIds(payload);
+        SendRateLimiter.Decision decision = rateLimiter.tryAcquire(ids[0], ids[1], SendRateLimiter.CHANNEL_STOMP);
+        if (decision.allowed()) {
+            return message;
+        }
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        log.debug("전송 속도 제한: sessionId={}, senderId={}, chatRoomId={}, scope={}",
+                sessionId, ids[0], ids[1], decision.scope());
+        sendError(sessionId, ids[1], decision);
+        return null;
+    }
+
+    /**
+     * 세션 단위 user destination으로 전송 — 연결에 Principal이 없어도 /user/queue/errors 구독자에게 도달한다
+     */
+    private void sendError(String sessionId, Long chatRoomId, SendRateLimiter.Decision decision) {
+        if (sessionId == null) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        Map<String, Object> body = Map.of(
+                "type", "RATE_LIMITED",
+                "scope", decision.scope(),
+                "chatRoomId", chatRoomId != null ? chatRoomId : 0L,
+                "retryAfterMs", decision.retryAfterMs(),
+                "message", "메시지 전송이 너무 잦습니다. 잠시 후 다시 시도해주세요.");
+        try {
+            messagingTemplate.convertAndSendToUser(sessionId, ERROR_DESTINATION, body, accessor.getMessageHeaders());
+        } catch (RuntimeException e) {
+            log.debug("속도 제한 오류 전송 실패: sessionId={}, error={}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * JSON 본문 최상위의 senderId, chatRoomId 추출 (없거나 형식이 틀리면 null)
+     */
+    static Long[] readIds(byte[] payload) {
+        Long[] ids = new Long[2];
+        try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return ids;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME && (ids[0] == null || ids[1] == null)) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("senderId".equals(field) || "chatRoomId".equals(field)) {
+                    Long id = toLong(parser, value);
+                    ids["senderId".equals(field) ? 0 : 1] = id;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            // 형식 오류는 컨트롤러 검증에 맡긴다
+        }
+        return ids;
+    }
+
+    private static Long toLong(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        if (value == JsonToken.VALUE_STRING) {
+            try {
+                return Long.parseLong(parser.getText());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.netmarble.chat.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 메시지 전송 속도 제한 (인스턴스 로컬) — 발신자별 + 채팅방별 토큰 버킷
+ *
+ * 폭주하는 클라이언트 하나가 MySQL 풀과 브로커를 독점해 같은 인스턴스의 다른 방까지 느려지는 것을 막는다.
+ * 발신자 버킷을 먼저 검사하고, 통과하면 채팅방 버킷을 검사한다.
+ * 채팅방 버킷에서 거부되면 발신자 토큰을 반납한다 — 보내지 못한 전송이 발신자 예산을 깎지 않는다.
+ * 버킷 수가 maxBuckets를 넘으면 가득 찬(= 새로 만든 것과 같은) 버킷을 정리한다.
+ *
+ * - chat.ratelimit.rejected{scope,channel} : 거부한 전송 수 (user / room, stomp / rest)
+ * - chat.ratelimit.buckets{scope}          : 유지 중인 버킷 수
+ */
+public class SendRateLimiter {
+
+    public static final String SCOPE_USER = "user";
+    public static final String SCOPE_ROOM = "room";
+    public static final String CHANNEL_STOMP = "stomp";
+    public static final String CHANNEL_REST = "rest";
+
+    private final Settings settings;
+    private final LongSupplier clock;
+    private final Map<Long, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, TokenBucket> roomBuckets = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SendRateLimiter(Settings settings, MeterRegistry meterRegistry) {
+        this(settings, meterRegistry, System::nanoTime);
+    }
+
+    SendRateLimiter(Settings settings, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        Gauge.builder("chat.ratelimit.buckets", userBuckets, Map::size)
+                .tag("scope", SCOPE_USER)
+                .description("유지 중인 발신자 토큰 버킷 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.ratelimit.buckets", roomBuckets, Map::size)
+                .tag("scope", SCOPE_ROOM)
+                .description("유지 중인 채팅방 토큰 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전송 1건 허용 여부 판단
+     *
+     * @param senderId   발신자 ID (null이면 발신자 검사 생략)
+     * @param chatRoomId 채팅방 ID (null이면 채팅방 검사 생략)
+     * @param channel    stomp / rest (메트릭 태그)
+     */
+    public Decision tryAcquire(Long senderId, Long chatRoomId, String channel) {
+        if (!settings.enabled()) {
+            return Decision.ALLOWED;
+        }
+        long now = clock.getAsLong();
+        TokenBucket userBucket = null;
+        if (senderId != null) {
+            userBucket = bucket(userBuckets, senderId, settings.userBurst(), settings.userRefillPerSecond(), now);
+            long wait = userBucket.tryAcquire(now);
+            if (wait > 0) {
+                return reject(SCOPE_USER, channel, wait);
+            }
+        }
+        if (chatRoomId != null) {
+            long wait = bucket(roomBuckets, chatRoomId, settings.roomBurst(), settings.roomRefillPerSecond(), now)
+                    .tryAcquire(now);
+            if (wait > 0) {
+                if (userBucket != null) {
+                    userBucket.refund();
+                }
+                return reject(SCOPE_ROOM, channel, wait);
+            }
+        }
+        return Decision.ALLOWED;
+    }
+
+    private TokenBucket bucket(Map<Long, TokenBucket> buckets, Long key, int burst, double refill, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= settings.maxBuckets()) {
+            buckets.values().removeIf(b -> b.isFull(now));
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(burst, refill, now));
+    }
+
+    private Decision reject(String scope, String channel, long waitNanos) {
+        Counter.builder("chat.ratelimit.rejected")
+                .tag("scope", scope)
+                .tag("channel", channel)
+                .description("속도 제한으로 거부한 메시지 전송 수")
+                .register(meterRegistry)
+                .increment();
+        return new Decision(false, scope, Math.max(1L, waitNanos / 1_000_000L));
+    }
+
+    int bucketCount(String scope) {
+        return SCOPE_USER.equals(scope) ? userBuckets.size() : roomBuckets.size();
+    }
+
+    /**
+     * @param allowed      허용 여부
+     * @param scope        거부한 버킷 (user / room, 허용이면 null)
+     * @param retryAfterMs 다음 토큰까지 대기 시간 (ms, 허용이면 0)
+     */
+    public record Decision(boolean allowed, String scope, long retryAfterMs) {
+
+        public static final Decision ALLOWED = new Decision(true, null, 0);
+    }
+
+    public record Settings(boolean enabled,
+                           int userBurst,
+                           double userRefillPerSecond,
+                           int roomBurst,
+                           double roomRefillPerSecond,
+                           int maxBuckets) {
+    }
+}
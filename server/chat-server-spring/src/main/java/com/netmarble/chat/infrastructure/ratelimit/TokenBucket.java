@@ -0,0 +1,59 @@
+package com.netmarble.chat.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA 방식)
+ *
+ * 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각(tat)" 하나만 AtomicLong으로 들고 CAS로 갱신한다.
+ * 요청 1건은 tat를 토큰 1개 보충 간격만큼 미루고, tat가 now + burst 간격을 넘으면 거부한다.
+ * 결과는 용량 burst, 초당 refillPerSecond개 보충인 토큰 버킷과 같다.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong tat;
+
+    public TokenBucket(int burst, double refillPerSecond, long nowNanos) {
+        if (burst <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("burst와 refillPerSecond는 0보다 커야 합니다");
+        }
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.tat = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 1개 획득 시도
+     *
+     * @return 0이면 허용, 0보다 크면 다음 토큰까지 기다려야 하는 시간 (ns)
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long waitNanos = next - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 방금 획득한 토큰 1개 반납 — 다른 버킷에서 거부되어 전송하지 않은 경우
+     */
+    public void refund() {
+        tat.addAndGet(-intervalNanos);
+    }
+
+    /**
+     * 버킷이 가득 찬 상태 — 버려도 새로 만든 버킷과 같다
+     */
+    boolean isFull(long nowNanos) {
+        return tat.get() - nowNanos <= 0;
+    }
+}
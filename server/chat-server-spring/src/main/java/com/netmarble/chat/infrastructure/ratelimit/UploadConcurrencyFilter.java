@@ -0,0 +1,166 @@
+package com.netmarble.chat.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netmarble.chat.presentation.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 요청 동시 처리 상한 (인스턴스 단위)
+ *
+ * 본문을 읽기 전(멀티파트 파싱 전)에 동작한다.
+ * - Content-Length가 한도를 넘으면 본문을 한 바이트도 읽지 않고 413
+ * - 동시 업로드가 상한에 차 있으면 잠시 기다렸다가 그래도 자리가 없으면 429 + Retry-After
+ * 업로드가 요청 스레드를 오래 붙잡으므로 상한으로 일반 API용 스레드와 디스크 I/O를 남겨 둔다.
+ * 채팅 이미지 업로드와 이어 올리기 청크 경로(UPLOAD_PATHS)만 센다 — 로그인·방 생성도 항상 멀티파트로 오지만
+ * 업로드 폭주 때 이들까지 429를 받으면 안 된다.
+ *
+ * - chat.upload.in_flight : 처리 중인 업로드 수
+ * - chat.upload.rejected{reason} : too_large / saturated
+ */
+@Slf4j
+public class UploadConcurrencyFilter extends OncePerRequestFilter {
+
+    static final String SCOPE = "upload";
+
+    /** 상한을 적용할 업로드 엔드포인트 (컨텍스트 경로 제외) */
+    static final List<String> UPLOAD_PATHS = List.of(
+            "/api/chat-rooms/*/messages/upload",
+            "/api/chat-rooms/*/messages/upload/stream",
+            "/api/uploads/*");
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final Settings settings;
+    private final Semaphore permits;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public UploadConcurrencyFilter(Settings settings, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.permits = new Semaphore(settings.maxConcurrent(), true);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("chat.upload.in_flight", this, filter -> filter.inFlight())
+                .description("처리 중인 업로드 요청 수")
+                .register(meterRegistry);
+    }
+
+    int inFlight() {
+        return settings.maxConcurrent() - permits.availablePermits();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!settings.enabled()) {
+            return true;
+        }
+        String method = request.getMethod();
+        return !("POST".equals(method) || "PUT".equals(method))
+                || !isUploadPath(UrlPathHelper.defaultInstance.getPathWithinApplication(request))
+                || !isUploadContentType(request.getContentType());
+    }
+
+    static boolean isUploadPath(String path) {
+        return UPLOAD_PATHS.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > settings.maxRequestBytes()) {
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "too_large",
+                    "업로드 요청이 너무 큽니다. (이미지 최대 5MB)", 0);
+            return;
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(settings.acquireTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            log.debug("업로드 동시 처리 상한 도달: {} {}", request.getMethod(), request.getRequestURI());
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "saturated",
+                    "업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.", settings.retryAfterSeconds());
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    static boolean isUploadContentType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("multipart/")
+                || type.startsWith("image/")
+                || type.startsWith(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String reason,
+                        String message, long retryAfterSeconds) throws IOException {
+        Counter.builder("chat.upload.rejected")
+                .tag("reason", reason)
+                .description("본문을 읽기 전에 거부한 업로드 요청 수")
+                .register(meterRegistry)
+                .increment();
+
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .details(Map.of("scope", SCOPE))
+                .build();
+
+        response.setStatus(status.value());
+        if (retryAfterSeconds > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        }
+        // 읽지 않은 본문이 남아 있으므로 연결을 재사용하지 않는다
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * @param enabled           false면 상한 없이 통과
+     * @param maxConcurrent     인스턴스당 동시에 처리할 업로드 요청 수
+     * @param acquireTimeoutMs  자리가 날 때까지 기다리는 최대 시간
+     * @param maxRequestBytes   Content-Length가 이 값을 넘으면 본문을 읽지 않고 413
+     * @param retryAfterSeconds 상한 도달 시 Retry-After 헤더 값
+     */
+    public record Settings(boolean enabled, int maxConcurrent, long acquireTimeoutMs,
+                           long maxRequestBytes, long retryAfterSeconds) {
+    }
+}
@@ -0,0 +1,190 @@
+package com.netmarble.chat.infrastructure.storage;
+
+import com.netmarble.chat.domain.model.ImageDerivative;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 업로드 이미지 파생(썸네일) 생성기
+ *
+ * 원본 저장 직후 워커 풀에서 규격별 JPEG 썸네일을 원본 옆에 만든다 (ImageDerivative 참고).
+ * 헤더에서 크기만 먼저 읽어 너무 큰 이미지는 건너뛰고, 디코딩은 목표 크기의 2배 근처까지 서브샘플링해
+ * 5MB 원본 전체를 풀 해상도로 펼치지 않는다. 원본이 이미 규격보다 작으면 만들지 않는다 (nginx가 원본으로 대체).
+ * 큐가 가득 차 거부되거나 생성에 실패해도 업로드는 성공하고, 클라이언트는 원본을 받는다.
+ *
+ * - chat.upload.derivatives{result} : generated / skipped / rejected / failed
+ */
+@Slf4j
+public class ImageDerivativeGenerator {
+
+    private final Settings settings;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+
+    public ImageDerivativeGenerator(Settings settings, Executor executor, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 저장 유형에 맞는 파생 이미지 생성을 워커 풀에 맡긴다
+     */
+    public void generateAsync(Path original, String type) {
+        if (!settings.enabled()) {
+            return;
+        }
+        List<ImageDerivative> derivatives = ImageDerivative.forType(type);
+        if (derivatives.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(original, derivatives);
+                } catch (IOException | RuntimeException e) {
+                    count("failed");
+                    log.warn("썸네일 생성 실패: {}, error={}", original, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            count("rejected");
+            log.debug("썸네일 생성 큐 포화 — 원본으로 대체: {}", original);
+        }
+    }
+
+    /**
+     * 파생 이미지를 만들고 생성한 개수를 반환한다
+     */
+    int generate(Path original, List<ImageDerivative> derivatives) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                count("skipped");
+                return 0;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > settings.maxPixels()) {
+                    count("skipped");
+                    log.info("썸네일 생략 (픽셀 수 초과): {}, {}x{}", original, width, height);
+                    return 0;
+                }
+
+                int longest = Math.max(width, height);
+                List<ImageDerivative> needed = derivatives.stream()
+                        .filter(derivative -> longest > derivative.getMaxSize())
+                        .toList();
+                if (needed.isEmpty()) {
+                    count("skipped");
+                    return 0;
+                }
+
+                int largestTarget = needed.stream().mapToInt(ImageDerivative::getMaxSize).max().orElseThrow();
+                int step = Math.max(1, longest / (largestTarget * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage source = reader.read(0, param);
+
+                String originalName = original.getFileName().toString();
+                for (ImageDerivative derivative : needed) {
+                    writeJpeg(scale(source, derivative.getMaxSize()),
+                            original.resolveSibling(derivative.fileNameFor(originalName)));
+                    count("generated");
+                }
+                return needed.size();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxSize가 되도록 축소 — 절반씩 줄여 가며 계단 현상을 줄이고, 투명 영역은 흰색으로 채운다
+     */
+    private BufferedImage scale(BufferedImage source, int maxSize) {
+        double ratio = (double) maxSize / Math.max(source.getWidth(), source.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, height);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 이동 — nginx가 쓰는 중인 파일을 서빙하지 않도록
+     */
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(settings.jpegQuality());
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void count(String result) {
+        Counter.builder("chat.upload.derivatives")
+                .tag("result", result)
+                .description("업로드 이미지 썸네일 생성 결과")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * @param enabled     false면 썸네일을 만들지 않음 (항상 원본 서빙)
+     * @param maxPixels   헤더 기준 이 픽셀 수를 넘는 이미지는 디코딩하지 않음 (압축 폭탄 방지)
+     * @param jpegQuality 썸네일 JPEG 품질 (0.0 ~ 1.0)
+     */
+    public record Settings(boolean enabled, long maxPixels, float jpegQuality) {
+    }
+}
@@ -1,60 +1,244 @@
 package com.netmarble.chat.infrastructure.storage;
 
+import com.netmarble.chat.domain.model.ImageDerivative;
+import com.netmarble.chat.domain.model.ImageMetadata;
 import com.netmarble.chat.domain.service.FileStorageService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Map;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 /**
  * 로컬 파일 시스템 기반 FileStorageService 구현체
  * 파일을 {uploadDir}/{type}/{yyyy/MM/dd}/{uuid}.{ext} 경로에 저장한다.
+ * 내용 주소 모드(file.content-addressed)에서는 스트리밍 중 SHA-256을 계산해
+ * {uploadDir}/{type}/sha256/{ab}/{hash}.{ext}에 저장하고, 같은 내용은 기존 파일 URL을 돌려준다.
+ * 공유 파일의 참조는 따로 세지 않는다 — 메시지·프로필·채팅방 어디서도 쓰이지 않게 된 파일은 OrphanUploadSweeper가 지운다.
+ * 저장 후 썸네일({파일명}_{suffix}.jpg)은 ImageDerivativeGenerator가 비동기로 같은 디렉토리에 만든다.
  */
 @Slf4j
 @Service
 public class LocalFileStorageService implements FileStorageService {
 
-    private static final Set<String> ALLOWED_TYPES = Set.of("profiles", "rooms", "messages");
+    static final Set<String> ALLOWED_TYPES = Set.of("profiles", "rooms", "messages");
 
-    private static final Map<String, String> CONTENT_TYPE_TO_EXTENSION = Map.of(
-            "image/jpeg", "jpg",
-            "image/png", "png",
-            "image/gif", "gif"
-    );
+    private static final Set<String> SUPPORTED_CONTENT_TYPES = Set.of("image/jpeg", "image/png", "image/gif");
+    private static final String OCTET_STREAM = "application/octet-stream";
 
-    private static final long MAX_FILE_SIZE = 5L * 1024 * 1024; // 5MB
+    static final int MAGIC_LENGTH = 8;
+    private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+    private static final byte[] GIF87A_MAGIC = {'G', 'I', 'F', '8', '7', 'a'};
+    private static final byte[] GIF89A_MAGIC = {'G', 'I', 'F', '8', '9', 'a'};
+    private static final long TRANSFER_CHUNK = 64 * 1024;
+
+    static final long MAX_FILE_SIZE = 5L * 1024 * 1024; // 5MB
+    // 평균 색은 긴 변 16px 근처까지 서브샘플링해 계산, 이보다 픽셀이 많으면 크기만 반환
+    private static final int PLACEHOLDER_SAMPLE_SIZE = 16;
+    private static final long PLACEHOLDER_MAX_PIXELS = 40_000_000L;
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+    static final String CONTENT_ADDRESSED_DIR = "sha256";
+    // 같은 해시의 저장/삭제 직렬화 (인스턴스 내)
+    private static final int LOCK_STRIPES = 64;
 
     private final Path uploadDir;
+    private final Path stagingDir;
+    private final boolean contentAddressed;
+    private final ImageDerivativeGenerator derivativeGenerator;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public LocalFileStorageService(String uploadDir) {
+        this(uploadDir, false, null);
+    }
 
-    public LocalFileStorageService(@Value("${file.upload-dir:/data/uploads}") String uploadDir) {
+    @Autowired
+    public LocalFileStorageService(@Value("${file.upload-dir:/data/uploads}") String uploadDir,
+                                   @Value("${file.content-addressed:true}") boolean contentAddressed,
+                                   ImageDerivativeGenerator derivativeGenerator) {
         this.uploadDir = Paths.get(uploadDir).toAbsolutePath().normalize();
+        // 해시를 알기 전까지 쓰는 임시 파일 — 같은 파일 시스템이어야 원자적 이동이 가능
+        this.stagingDir = this.uploadDir.resolve(".staging");
+        this.contentAddressed = contentAddressed;
+        this.derivativeGenerator = derivativeGenerator;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
         try {
             Files.createDirectories(this.uploadDir);
+            Files.createDirectories(this.stagingDir);
             log.info("파일 업로드 디렉토리 초기화: {}", this.uploadDir);
         } catch (IOException e) {
             throw new RuntimeException("업로드 디렉토리를 생성할 수 없습니다: " + this.uploadDir, e);
         }
     }
 
+    /**
+     * 업로드를 임시 파일에 스트리밍으로 기록한 뒤 최종 경로로 옮긴다
+     * 형식은 선언된 Content-Type이 아니라 첫 바이트(매직 넘버)로 판단하고, 한도를 넘는 본문은 끝까지 읽지 않고 거부한다.
+     *
+     * @param fileSize 선언된 크기 (모르면 -1)
+     */
     @Override
     public String store(InputStream inputStream, String contentType, String originalFilename, long fileSize, String type) {
         validateType(type);
         validateContentType(contentType);
         validateFileSize(fileSize);
 
-        String extension = CONTENT_TYPE_TO_EXTENSION.get(contentType);
+        Path staging;
+        try {
+            staging = Files.createTempFile(stagingDir, "upload-", ".tmp");
+        } catch (IOException e) {
+            throw new RuntimeException("임시 파일 생성 실패: " + stagingDir, e);
+        }
+
+        try {
+            MessageDigest digest = contentAddressed ? sha256() : null;
+            InputStream source = digest != null ? new DigestInputStream(inputStream, digest) : inputStream;
+            String extension = writeValidated(source, staging);
+            if (digest != null) {
+                return storeContentAddressed(staging, type, extension, HexFormat.of().formatHex(digest.digest()));
+            }
+            return storeDated(staging, type, extension);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 실패: " + staging, e);
+        } finally {
+            try {
+                Files.deleteIfExists(staging);
+            } catch (IOException e) {
+                log.warn("임시 파일 삭제 실패: {}", staging, e);
+            }
+        }
+    }
+
+    /**
+     * 업로드 디렉토리 안(.staging 하위)에 이미 받아 둔 파일을 검증해 저장 경로로 옮긴다 (이어 올리기 완료용)
+     * 내용 주소 모드에서 같은 내용이 이미 있으면 staged 파일은 옮겨지지 않으므로 호출자가 지운다.
+     */
+    String storeStaged(Path staged, String type) throws IOException {
+        validateType(type);
+        validateFileSize(Files.size(staged));
+        byte[] header;
+        try (InputStream in = Files.newInputStream(staged)) {
+            header = in.readNBytes(MAGIC_LENGTH);
+        }
+        String extension = detectExtension(header);
+        if (extension == null) {
+            throw new IllegalArgumentException("JPG, PNG, GIF 형식만 지원합니다.");
+        }
+
+        if (contentAddressed) {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(Files.newInputStream(staged), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return storeContentAddressed(staged, type, extension, HexFormat.of().formatHex(digest.digest()));
+        }
+        return storeDated(staged, type, extension);
+    }
+
+    Path getStagingDir() {
+        return stagingDir;
+    }
+
+    /**
+     * 매직 넘버로 형식을 확인하고 FileChannel로 기록한다 (힙 버퍼 없이 채널 간 전송)
+     * 한도 + 1바이트까지만 요청해, 넘치는 순간 중단한다.
+     *
+     * @return 실제 내용 기준 확장자
+     */
+    private String writeValidated(InputStream source, Path staging) throws IOException {
+        byte[] header = source.readNBytes(MAGIC_LENGTH);
+        if (header.length == 0) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+        String extension = detectExtension(header);
+        if (extension == null) {
+            throw new IllegalArgumentException("JPG, PNG, GIF 형식만 지원합니다.");
+        }
+
+        try (FileChannel out = FileChannel.open(staging, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             ReadableByteChannel in = Channels.newChannel(source)) {
+            ByteBuffer head = ByteBuffer.wrap(header);
+            while (head.hasRemaining()) {
+                out.write(head);
+            }
+            long written = header.length;
+            long transferred;
+            while (written <= MAX_FILE_SIZE
+                    && (transferred = out.transferFrom(in, written,
+                            Math.min(TRANSFER_CHUNK, MAX_FILE_SIZE + 1 - written))) > 0) {
+                written += transferred;
+            }
+            if (written > MAX_FILE_SIZE) {
+                throw new IllegalArgumentException("이미지 크기가 5MB를 초과합니다.");
+            }
+        }
+        return extension;
+    }
+
+    /**
+     * JPEG(FF D8 FF) / PNG(89 50 4E 47 0D 0A 1A 0A) / GIF(GIF87a, GIF89a) 판별 — 그 외는 null
+     */
+    static String detectExtension(byte[] header) {
+        if (startsWith(header, JPEG_MAGIC)) {
+            return "jpg";
+        }
+        if (startsWith(header, PNG_MAGIC)) {
+            return "png";
+        }
+        if (startsWith(header, GIF87A_MAGIC) || startsWith(header, GIF89A_MAGIC)) {
+            return "gif";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] header, byte[] magic) {
+        if (header.length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (header[i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {type}/{yyyy/MM/dd}/{uuid}.{ext}로 이동
+     */
+    private String storeDated(Path staging, String type, String extension) throws IOException {
         String datePath = LocalDate.now().format(DATE_FORMAT);
         String fileName = UUID.randomUUID() + "." + extension;
 
@@ -63,30 +247,219 @@ public class LocalFileStorageService implements FileStorageService {
         if (!targetDir.startsWith(uploadDir)) {
             throw new IllegalArgumentException("잘못된 저장 경로입니다.");
         }
-
-        try {
-            Files.createDirectories(targetDir);
-        } catch (IOException e) {
-            throw new RuntimeException("디렉토리 생성 실패: " + targetDir, e);
-        }
+        Files.createDirectories(targetDir);
 
         Path targetPath = targetDir.resolve(fileName);
-        try {
-            Files.copy(inputStream, targetPath, StandardCopyOption.REPLACE_EXISTING);
-            log.info("파일 저장 완료: {}", targetPath);
-        } catch (IOException e) {
-            throw new RuntimeException("파일 저장 실패: " + targetPath, e);
+        Files.move(staging, targetPath, StandardCopyOption.ATOMIC_MOVE);
+        log.info("파일 저장 완료: {}", targetPath);
+        if (derivativeGenerator != null) {
+            derivativeGenerator.generateAsync(targetPath, type);
         }
 
         // URL 경로 반환: /uploads/{type}/{yyyy/MM/dd}/{uuid}.{ext}
         return "/uploads/" + type + "/" + datePath + "/" + fileName;
     }
 
+    /**
+     * 해시 경로로 이동 (이미 있으면 임시 파일을 버리고 기존 URL 반환)
+     */
+    private String storeContentAddressed(Path staging, String type, String extension, String hash) throws IOException {
+        String relativePath = type + "/" + CONTENT_ADDRESSED_DIR + "/" + hash.substring(0, 2) + "/" + hash + "." + extension;
+        Path targetPath = uploadDir.resolve(relativePath).normalize();
+        String url = "/uploads/" + relativePath;
+
+        boolean created;
+        synchronized (lockFor(hash)) {
+            created = moveIfAbsent(staging, targetPath);
+            if (!created) {
+                // 재사용도 최근 업로드로 취급 — 업로드 정리(OrphanUploadSweeper)의 유예 기간 기준
+                Files.setLastModifiedTime(targetPath, FileTime.from(Instant.now()));
+            }
+        }
+        if (created) {
+            log.info("파일 저장 완료: {}", targetPath);
+            if (derivativeGenerator != null) {
+                derivativeGenerator.generateAsync(targetPath, type);
+            }
+        } else {
+            log.info("중복 업로드 — 기존 파일 재사용: {}", targetPath);
+        }
+        return url;
+    }
+
+    /**
+     * @return 새로 옮겼으면 true, 같은 내용의 파일이 이미 있으면 false
+     */
+    private boolean moveIfAbsent(Path staging, Path targetPath) throws IOException {
+        if (Files.exists(targetPath)) {
+            return false;
+        }
+        Files.createDirectories(targetPath.getParent());
+        try {
+            Files.move(staging, targetPath, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            // 다른 인스턴스가 먼저 같은 내용을 저장
+            return false;
+        }
+    }
+
+    /**
+     * 내용 주소 파일은 다른 메시지·프로필이 같은 파일을 가리킬 수 있으므로 바로 지우지 않는다.
+     * 어디서도 쓰이지 않게 되면 OrphanUploadSweeper가 지운다.
+     */
     @Override
     public void delete(String filePath) {
-        if (filePath == null || filePath.isBlank()) {
+        Path path = resolveStoredPath(filePath);
+        if (path == null) {
             return;
         }
+
+        if (isContentAddressed(path)) {
+            log.debug("공유될 수 있는 내용 주소 파일 — 업로드 정리에 맡김: {}", path);
+            return;
+        }
+        deleteWithDerivatives(path);
+    }
+
+    /**
+     * 어디서도 쓰이지 않는다고 판정된 업로드 파일과 썸네일을 지운다 (OrphanUploadSweeper용)
+     * 판정 뒤 같은 내용이 다시 올라와 수정 시각이 cutoff 이후로 바뀌었으면 지우지 않는다.
+     *
+     * @return 지운 바이트 수 (썸네일 포함, 지우지 않았으면 0)
+     */
+    long purgeUnreferenced(Path path, Instant cutoff) throws IOException {
+        if (isContentAddressed(path)) {
+            synchronized (lockFor(contentHashOf(path))) {
+                if (!Files.exists(path) || Files.getLastModifiedTime(path).toInstant().isAfter(cutoff)) {
+                    return 0;
+                }
+                return deleteWithDerivatives(path);
+            }
+        }
+        if (!Files.exists(path) || Files.getLastModifiedTime(path).toInstant().isAfter(cutoff)) {
+            return 0;
+        }
+        return deleteWithDerivatives(path);
+    }
+
+    /**
+     * 업로드 디렉토리 안의 경로 → 접근 URL (/uploads/...)
+     */
+    String toUrl(Path path) {
+        StringBuilder url = new StringBuilder("/uploads");
+        for (Path part : uploadDir.relativize(path)) {
+            url.append('/').append(part);
+        }
+        return url.toString();
+    }
+
+    Path getUploadDir() {
+        return uploadDir;
+    }
+
+    private long deleteWithDerivatives(Path path) {
+        long deleted = deleteIfExists(path);
+        String fileName = path.getFileName().toString();
+        for (ImageDerivative derivative : ImageDerivative.values()) {
+            deleted += deleteIfExists(path.resolveSibling(derivative.fileNameFor(fileName)));
+        }
+        return deleted;
+    }
+
+    private boolean isContentAddressed(Path path) {
+        Path relative = uploadDir.relativize(path);
+        return relative.getNameCount() == 4 && CONTENT_ADDRESSED_DIR.equals(relative.getName(1).toString());
+    }
+
+    private static String contentHashOf(Path path) {
+        String fileName = path.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 헤더에서 크기를 읽고, 서브샘플링한 디코딩으로 평균 색을 계산한다 (원본 해상도로 펼치지 않음)
+     */
+    @Override
+    public Optional<ImageMetadata> readImageMetadata(String filePath) {
+        // 저장소 URL만 대상 (Base64 Data URL, 스티커 ID 등은 제외)
+        if (filePath == null || !filePath.startsWith("/uploads/")) {
+            return Optional.empty();
+        }
+        Path path = resolveStoredPath(filePath);
+        if (path == null || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > PLACEHOLDER_MAX_PIXELS) {
+                    return Optional.of(new ImageMetadata(width, height, null));
+                }
+                int step = Math.max(1, Math.max(width, height) / PLACEHOLDER_SAMPLE_SIZE);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return Optional.of(new ImageMetadata(width, height, averageColor(reader.read(0, param))));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 메타데이터 읽기 실패: {}, error={}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 평균 색 (#rrggbb) — 투명 영역은 흰 배경과 합성한 색으로 계산
+     */
+    private String averageColor(BufferedImage image) {
+        long red = 0;
+        long green = 0;
+        long blue = 0;
+        int pixels = image.getWidth() * image.getHeight();
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int argb = image.getRGB(x, y);
+                int alpha = (argb >>> 24) & 0xff;
+                red += blend((argb >> 16) & 0xff, alpha);
+                green += blend((argb >> 8) & 0xff, alpha);
+                blue += blend(argb & 0xff, alpha);
+            }
+        }
+        return String.format("#%02x%02x%02x", red / pixels, green / pixels, blue / pixels);
+    }
+
+    private static int blend(int channel, int alpha) {
+        return (channel * alpha + 255 * (255 - alpha)) / 255;
+    }
+
+    /**
+     * 접근 URL → 업로드 디렉토리 안의 실제 경로 (비어 있거나 디렉토리를 벗어나면 null)
+     */
+    private Path resolveStoredPath(String filePath) {
+        if (filePath == null || filePath.isBlank()) {
+            return null;
+        }
         // /uploads/ 접두사 제거 후 실제 파일 경로 생성
         String relativePath = filePath.startsWith("/uploads/") ? filePath.substring("/uploads/".length()) : filePath;
         Path path = uploadDir.resolve(relativePath).normalize();
@@ -94,16 +467,25 @@ public class LocalFileStorageService implements FileStorageService {
         // 디렉토리 탈출 방지
         if (!path.startsWith(uploadDir)) {
             log.warn("디렉토리 탈출 시도 차단: {}", filePath);
-            return;
+            return null;
         }
+        return path;
+    }
 
+    /**
+     * @return 지운 파일 크기 (없었거나 실패하면 0)
+     */
+    private long deleteIfExists(Path path) {
         try {
+            long size = Files.isRegularFile(path) ? Files.size(path) : 0;
             if (Files.deleteIfExists(path)) {
                 log.info("파일 삭제 완료: {}", path);
+                return size;
             }
         } catch (IOException e) {
             log.warn("파일 삭제 실패: {}", path, e);
         }
+        return 0;
     }
 
     private void validateType(String type) {
@@ -112,14 +494,23 @@ public class LocalFileStorageService implements FileStorageService {
         }
     }
 
+    /**
+     * 선언된 Content-Type은 본문을 읽기 전 조기 거부용 — 없거나 octet-stream이면 매직 넘버로만 판단
+     */
     private void validateContentType(String contentType) {
-        if (contentType == null || !CONTENT_TYPE_TO_EXTENSION.containsKey(contentType)) {
+        if (contentType == null || OCTET_STREAM.equals(contentType)) {
+            return;
+        }
+        if (!SUPPORTED_CONTENT_TYPES.contains(contentType)) {
             throw new IllegalArgumentException("JPG, PNG, GIF 형식만 지원합니다.");
         }
     }
 
+    /**
+     * @param fileSize 선언된 크기 (음수면 알 수 없음 — 기록 중에 한도를 검사)
+     */
     private void validateFileSize(long fileSize) {
-        if (fileSize <= 0) {
+        if (fileSize == 0) {
             throw new IllegalArgumentException("파일이 비어있습니다.");
         }
         if (fileSize > MAX_FILE_SIZE) {
@@ -0,0 +1,365 @@
+package com.netmarble.chat.infrastructure.storage;
+
+import com.netmarble.chat.domain.model.UploadSession;
+import com.netmarble.chat.domain.service.ResumableUploadService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 파일 시스템 기반 이어 올리기 구현체
+ *
+ * 세션은 업로드 디렉토리의 .staging/resumable/ 아래 파일 두 개로만 표현한다.
+ * - {uploadId}.part : 지금까지 받은 바이트 (파일 크기 = offset)
+ * - {uploadId}.properties : 저장 유형, 파일명, 전체 크기, 완료 후 URL
+ * 업로드 디렉토리는 인스턴스들이 공유하므로, 청크가 어느 인스턴스로 가도 같은 세션을 이어 쓴다.
+ * 같은 세션의 동시 기록은 part 파일 잠금으로 막고, 잠금을 못 얻은 요청은 현재 위치와 함께 거절한다.
+ * 완료 시 part 파일을 LocalFileStorageService 저장 경로로 원자적으로 옮긴다 (같은 파일 시스템).
+ *
+ * - chat.upload.resumable{event} : initiated / completed / conflict / expired
+ */
+@Slf4j
+public class LocalResumableUploadService implements ResumableUploadService {
+
+    private static final Pattern UPLOAD_ID = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+    private static final long TRANSFER_CHUNK = 64 * 1024;
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+
+    private final LocalFileStorageService fileStorageService;
+    private final Settings settings;
+    private final MeterRegistry meterRegistry;
+    private final Path sessionDir;
+
+    public LocalResumableUploadService(LocalFileStorageService fileStorageService, Settings settings,
+                                       MeterRegistry meterRegistry) {
+        this.fileStorageService = fileStorageService;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        // 완료 시 원자적으로 옮길 수 있도록 저장소와 같은 파일 시스템(.staging 하위)에 둔다
+        this.sessionDir = fileStorageService.getStagingDir().resolve("resumable");
+        try {
+            Files.createDirectories(sessionDir);
+        } catch (IOException e) {
+            throw new RuntimeException("이어 올리기 디렉토리를 생성할 수 없습니다: " + sessionDir, e);
+        }
+    }
+
+    @Override
+    public UploadSession initiate(String type, long size, String fileName) {
+        if (type == null || !LocalFileStorageService.ALLOWED_TYPES.contains(type)) {
+            throw new IllegalArgumentException("허용되지 않는 저장 유형입니다: " + type);
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+        if (size > LocalFileStorageService.MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("이미지 크기가 5MB를 초과합니다.");
+        }
+        if (fileName != null && fileName.length() > MAX_FILE_NAME_LENGTH) {
+            throw new IllegalArgumentException("파일명이 너무 깁니다.");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Properties meta = new Properties();
+        meta.setProperty("type", type);
+        meta.setProperty("size", String.valueOf(size));
+        if (fileName != null) {
+            meta.setProperty("fileName", fileName);
+        }
+        try {
+            Files.createFile(partPath(uploadId));
+            writeMeta(uploadId, meta);
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 세션 생성 실패: " + uploadId, e);
+        }
+        count("initiated");
+        log.info("이어 올리기 시작: uploadId={}, type={}, size={}", uploadId, type, size);
+        return new UploadSession(uploadId, type, fileName, size, 0, null);
+    }
+
+    @Override
+    public UploadSession find(String uploadId) {
+        Properties meta = readMeta(uploadId);
+        return toSession(uploadId, meta, receivedBytes(uploadId, meta));
+    }
+
+    @Override
+    public UploadSession append(String uploadId, long offset, InputStream chunk) {
+        Properties meta = readMeta(uploadId);
+        if (meta.getProperty("url") != null) {
+            throw new IllegalArgumentException("이미 완료된 업로드입니다: " + uploadId);
+        }
+        long size = Long.parseLong(meta.getProperty("size"));
+
+        try (FileChannel out = FileChannel.open(partPath(uploadId), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = tryLock(out);
+            try {
+                long current = out.size();
+                if (offset != current) {
+                    count("conflict");
+                    throw new OffsetMismatchException(current);
+                }
+                long limit = Math.min(size - current, settings.chunkSize());
+                long written = transfer(chunk, out, current, limit);
+                validateHeader(uploadId, out, current, current + written, size);
+                touch(uploadId);
+                return toSession(uploadId, meta, current + written);
+            } finally {
+                lock.release();
+            }
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("업로드 세션을 찾을 수 없습니다: " + uploadId);
+        } catch (IOException e) {
+            throw new RuntimeException("청크 기록 실패: " + uploadId, e);
+        }
+    }
+
+    /**
+     * limit 바이트까지 이어 쓰고, 본문이 그보다 길면 이번 청크를 버리고 거부한다
+     * 전송 도중 끊기면 받은 만큼은 남겨 두고 예외를 전파한다 (다음 요청이 그 위치부터 이어 씀).
+     */
+    private long transfer(InputStream chunk, FileChannel out, long position, long limit) throws IOException {
+        ReadableByteChannel in = Channels.newChannel(chunk);
+        long written = 0;
+        long transferred;
+        while (written < limit
+                && (transferred = out.transferFrom(in, position + written, Math.min(TRANSFER_CHUNK, limit - written))) > 0) {
+            written += transferred;
+        }
+        if (written == limit && in.read(ByteBuffer.allocate(1)) > 0) {
+            out.truncate(position);
+            throw new IllegalArgumentException("청크가 남은 크기 또는 청크 한도(" + settings.chunkSize() + " bytes)를 넘습니다.");
+        }
+        return written;
+    }
+
+    /**
+     * 매직 넘버를 받을 만큼 처음 도착한 시점에 형식을 확인해, 이미지가 아니면 나머지를 받지 않고 세션을 버린다
+     */
+    private void validateHeader(String uploadId, FileChannel out, long before, long after, long size) throws IOException {
+        int headerLength = (int) Math.min(LocalFileStorageService.MAGIC_LENGTH, size);
+        if (before >= headerLength || after < headerLength) {
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(headerLength);
+        while (header.hasRemaining() && out.read(header, header.position()) > 0) {
+            // 헤더를 끝까지 읽음
+        }
+        if (LocalFileStorageService.detectExtension(header.array()) == null) {
+            deleteSession(uploadId);
+            throw new IllegalArgumentException("JPG, PNG, GIF 형식만 지원합니다.");
+        }
+    }
+
+    @Override
+    public UploadSession complete(String uploadId) {
+        Properties meta = readMeta(uploadId);
+        if (meta.getProperty("url") != null) {
+            return toSession(uploadId, meta, Long.parseLong(meta.getProperty("size")));
+        }
+        Path part = partPath(uploadId);
+        long size = Long.parseLong(meta.getProperty("size"));
+
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE)) {
+            FileLock lock = tryLock(channel);
+            try {
+                long received = channel.size();
+                if (received != size) {
+                    throw new OffsetMismatchException(received);
+                }
+                String url = fileStorageService.storeStaged(part, meta.getProperty("type"));
+                meta.setProperty("url", url);
+                writeMeta(uploadId, meta);
+            } finally {
+                lock.release();
+            }
+        } catch (NoSuchFileException e) {
+            // 다른 요청이 먼저 완료했으면 그 결과를 돌려준다
+            Properties completed = readMeta(uploadId);
+            if (completed.getProperty("url") == null) {
+                throw new IllegalArgumentException("업로드 세션을 찾을 수 없습니다: " + uploadId);
+            }
+            return toSession(uploadId, completed, size);
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 완료 처리 실패: " + uploadId, e);
+        }
+        // 내용 주소 모드에서 중복이면 part가 옮겨지지 않고 남는다
+        deleteIfExists(part);
+        count("completed");
+        log.info("이어 올리기 완료: uploadId={}, url={}", uploadId, meta.getProperty("url"));
+        return toSession(uploadId, meta, size);
+    }
+
+    @Override
+    public void abort(String uploadId) {
+        readMeta(uploadId);
+        deleteSession(uploadId);
+        log.info("이어 올리기 취소: uploadId={}", uploadId);
+    }
+
+    @Override
+    public long chunkSize() {
+        return settings.chunkSize();
+    }
+
+    /**
+     * 마지막 활동 후 만료 시간이 지난 세션(완료된 세션의 결과 포함)을 지운다
+     *
+     * @return 지운 세션 수
+     */
+    public int purgeExpired() {
+        Instant threshold = Instant.now().minus(settings.expireAfter());
+        int purged = 0;
+        // 청크를 받을 때마다 part·properties의 수정 시각이 갱신되므로 파일 단위로 판단한다 (짝을 잃은 파일도 함께 정리)
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(sessionDir)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold)) {
+                    deleteIfExists(file);
+                    if (file.getFileName().toString().endsWith(".properties")) {
+                        purged++;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("만료된 업로드 세션 정리 실패: {}", sessionDir, e);
+        }
+        if (purged > 0) {
+            Counter.builder("chat.upload.resumable")
+                    .tag("event", "expired")
+                    .description("이어 올리기 세션 이벤트 수")
+                    .register(meterRegistry)
+                    .increment(purged);
+            log.info("만료된 업로드 세션 정리: {}건", purged);
+        }
+        return purged;
+    }
+
+    private FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return lock;
+            }
+        } catch (OverlappingFileLockException e) {
+            // 같은 인스턴스의 다른 요청이 기록 중
+        }
+        count("conflict");
+        throw new OffsetMismatchException(channel.size());
+    }
+
+    private long receivedBytes(String uploadId, Properties meta) {
+        if (meta.getProperty("url") != null) {
+            return Long.parseLong(meta.getProperty("size"));
+        }
+        try {
+            return Files.size(partPath(uploadId));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("업로드 세션을 찾을 수 없습니다: " + uploadId);
+        }
+    }
+
+    private UploadSession toSession(String uploadId, Properties meta, long offset) {
+        return new UploadSession(uploadId, meta.getProperty("type"), meta.getProperty("fileName"),
+                Long.parseLong(meta.getProperty("size")), offset, meta.getProperty("url"));
+    }
+
+    private Properties readMeta(String uploadId) {
+        Path metaFile = metaPath(uploadId);
+        Properties meta = new Properties();
+        try (InputStream in = Files.newInputStream(metaFile)) {
+            meta.load(in);
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("업로드 세션을 찾을 수 없습니다: " + uploadId);
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 세션 읽기 실패: " + uploadId, e);
+        }
+        return meta;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체 — 읽는 쪽이 반쯤 쓴 메타데이터를 보지 않도록
+     */
+    private void writeMeta(String uploadId, Properties meta) throws IOException {
+        Path metaFile = metaPath(uploadId);
+        Path temp = metaFile.resolveSibling(metaFile.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            meta.store(out, null);
+        }
+        Files.move(temp, metaFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 만료 기준 시각을 마지막 청크 수신 시각으로 갱신
+     */
+    private void touch(String uploadId) throws IOException {
+        Files.setLastModifiedTime(metaPath(uploadId), FileTime.from(Instant.now()));
+    }
+
+    private void deleteSession(String uploadId) {
+        deleteIfExists(partPath(uploadId));
+        deleteIfExists(metaPath(uploadId));
+    }
+
+    private void deleteIfExists(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("업로드 세션 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private Path partPath(String uploadId) {
+        return sessionDir.resolve(validId(uploadId) + ".part");
+    }
+
+    private Path metaPath(String uploadId) {
+        return sessionDir.resolve(validId(uploadId) + ".properties");
+    }
+
+    /**
+     * 서버가 발급한 UUID 형식만 허용 (경로 조작 방지)
+     */
+    private static String validId(String uploadId) {
+        if (uploadId == null || !UPLOAD_ID.matcher(uploadId).matches()) {
+            throw new IllegalArgumentException("잘못된 업로드 ID입니다: " + uploadId);
+        }
+        return uploadId;
+    }
+
+    private void count(String event) {
+        Counter.builder("chat.upload.resumable")
+                .tag("event", event)
+                .description("이어 올리기 세션 이벤트 수")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * @param chunkSize   요청당 최대 청크 크기 (클라이언트 권장 크기로도 안내)
+     * @param expireAfter 마지막 청크 이후 이 시간이 지나면 세션을 버림
+     */
+    public record Settings(long chunkSize, Duration expireAfter) {
+    }
+}
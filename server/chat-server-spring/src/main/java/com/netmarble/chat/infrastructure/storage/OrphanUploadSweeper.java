@@ -0,0 +1,314 @@
+package com.netmarble.chat.infrastructure.storage;
+
+import com.netmarble.chat.domain.model.ImageDerivative;
+import com.netmarble.chat.domain.repository.AttachmentRepository;
+import com.netmarble.chat.domain.repository.ChatRoomRepository;
+import com.netmarble.chat.domain.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 참조 없는 업로드 파일 정리
+ *
+ * 업로드 디렉토리({type}/...)의 파일을 배치 단위로 모아 DB와 대조하고, 어디서도 쓰이지 않는 파일과 썸네일을 지운다.
+ * - 참조: 삭제되지 않은 메시지의 attachments.file_url, users.profile_image, chat_rooms.image_url
+ * - 소프트 삭제된 메시지, 교체된 프로필·채팅방 이미지, 메시지 저장에 실패한 업로드가 대상이다.
+ * - 수정 시각이 유예 기간(minAge) 안인 파일은 건너뛴다 (업로드 직후 메시지 저장 전인 파일 보호).
+ *   내용 주소 파일은 중복 업로드로 재사용될 때 수정 시각이 갱신되므로 같은 기준이 적용된다.
+ * - 원본이 없는 썸네일도 지우고, 유예 기간이 지난 빈 날짜 디렉토리는 제거해 목록 조회를 가볍게 유지한다.
+ * - 배치 사이에 쉬어 DB와 디스크 I/O를 독점하지 않는다. dry-run이면 지우지 않고 회수 가능한 크기만 보고한다.
+ *
+ * - chat.upload.gc.files{result} : deleted / dry_run
+ * - chat.upload.gc.reclaimed : 회수한 바이트
+ */
+@Slf4j
+public class OrphanUploadSweeper {
+
+    private static final List<String> ORIGINAL_EXTENSIONS = List.of("jpg", "png", "gif");
+
+    private final LocalFileStorageService fileStorageService;
+    private final AttachmentRepository attachmentRepository;
+    private final UserRepository userRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final Settings settings;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrphanUploadSweeper(LocalFileStorageService fileStorageService,
+                               AttachmentRepository attachmentRepository,
+                               UserRepository userRepository,
+                               ChatRoomRepository chatRoomRepository,
+                               Settings settings,
+                               MeterRegistry meterRegistry) {
+        this.fileStorageService = fileStorageService;
+        this.attachmentRepository = attachmentRepository;
+        this.userRepository = userRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 설정된 모드(dry-run 여부)로 한 번 정리한다
+     */
+    public Report sweep() {
+        return sweep(settings.dryRun());
+    }
+
+    /**
+     * 한 번 정리한다 (이미 실행 중이면 건너뛰고 null)
+     */
+    public Report sweep(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("업로드 정리가 이미 실행 중이라 건너뜀");
+            return null;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            Instant cutoff = Instant.now().minus(settings.minAge());
+            Tally tally = new Tally(dryRun, cutoff);
+            for (String type : LocalFileStorageService.ALLOWED_TYPES) {
+                Path root = fileStorageService.getUploadDir().resolve(type);
+                if (Files.isDirectory(root)) {
+                    sweepType(root, tally);
+                    if (!dryRun) {
+                        tally.prunedDirectories += pruneEmptyDirectories(root, root, cutoff);
+                    }
+                }
+            }
+            Report report = new Report(dryRun, tally.scanned, tally.orphaned, tally.deleted, tally.reclaimedBytes,
+                    tally.prunedDirectories, System.currentTimeMillis() - startedAt);
+            record(report);
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("업로드 정리 중단");
+            return null;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void sweepType(Path root, Tally tally) throws InterruptedException {
+        List<Path> batch = new ArrayList<>(settings.batchSize());
+        try (Stream<Path> files = Files.walk(root)) {
+            Iterator<Path> iterator = files.filter(Files::isRegularFile).iterator();
+            while (iterator.hasNext()) {
+                Path file = iterator.next();
+                tally.scanned++;
+                if (!isOlderThanCutoff(file, tally.cutoff)) {
+                    continue;
+                }
+                String baseName = ImageDerivative.originalBaseNameOf(file.getFileName().toString());
+                if (baseName != null) {
+                    // 썸네일은 원본과 함께 지워지므로 원본이 없을 때만 따로 정리
+                    if (!hasOriginal(file, baseName)) {
+                        removeOrphan(file, tally);
+                    }
+                    continue;
+                }
+                batch.add(file);
+                if (batch.size() >= settings.batchSize()) {
+                    processBatch(batch, tally);
+                    batch.clear();
+                    Thread.sleep(settings.batchPause().toMillis());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("업로드 디렉토리 정리 실패: {}, error={}", root, e.getMessage());
+            return;
+        }
+        if (!batch.isEmpty()) {
+            processBatch(batch, tally);
+        }
+    }
+
+    /**
+     * 배치 내 URL 중 DB 어디서도 쓰이지 않는 파일만 지운다
+     */
+    private void processBatch(List<Path> batch, Tally tally) {
+        Map<String, Path> byUrl = new LinkedHashMap<>();
+        for (Path file : batch) {
+            byUrl.put(fileStorageService.toUrl(file), file);
+        }
+        Set<String> referenced = new HashSet<>(attachmentRepository.findLiveFileUrlsIn(byUrl.keySet()));
+        referenced.addAll(userRepository.findProfileImagesIn(byUrl.keySet()));
+        referenced.addAll(chatRoomRepository.findImageUrlsIn(byUrl.keySet()));
+
+        byUrl.forEach((url, file) -> {
+            if (!referenced.contains(url)) {
+                removeOrphan(file, tally);
+            }
+        });
+    }
+
+    private void removeOrphan(Path file, Tally tally) {
+        tally.orphaned++;
+        try {
+            if (tally.dryRun) {
+                tally.reclaimedBytes += sizeWithDerivatives(file);
+                log.debug("[dry-run] 참조 없는 업로드: {}", file);
+                return;
+            }
+            long reclaimed = fileStorageService.purgeUnreferenced(file, tally.cutoff);
+            if (reclaimed > 0) {
+                tally.deleted++;
+                tally.reclaimedBytes += reclaimed;
+            }
+        } catch (IOException e) {
+            log.warn("참조 없는 업로드 삭제 실패: {}, error={}", file, e.getMessage());
+        }
+    }
+
+    private long sizeWithDerivatives(Path file) throws IOException {
+        long size = Files.size(file);
+        String fileName = file.getFileName().toString();
+        if (ImageDerivative.originalBaseNameOf(fileName) != null) {
+            return size;
+        }
+        for (ImageDerivative derivative : ImageDerivative.values()) {
+            Path derivativePath = file.resolveSibling(derivative.fileNameFor(fileName));
+            if (Files.isRegularFile(derivativePath)) {
+                size += Files.size(derivativePath);
+            }
+        }
+        return size;
+    }
+
+    private static boolean hasOriginal(Path derivative, String baseName) {
+        for (String extension : ORIGINAL_EXTENSIONS) {
+            if (Files.exists(derivative.resolveSibling(baseName + "." + extension))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOlderThanCutoff(Path path, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 비어 있는 날짜 디렉토리를 아래에서부터 지운다
+     * 유형 루트와 최근에 바뀐 디렉토리는 유지하고, 내용 주소 디렉토리(sha256/..)는 날짜와 무관하게
+     * 다시 쓰이므로 건드리지 않는다.
+     *
+     * @return 지운 디렉토리 수
+     */
+    private int pruneEmptyDirectories(Path directory, Path root, Instant cutoff) {
+        // 하위 디렉토리를 지우면 수정 시각이 바뀌므로 먼저 판단
+        boolean stale = !directory.equals(root) && isOlderThanCutoff(directory, cutoff);
+        int pruned = 0;
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path child : children) {
+                if (directory.equals(root)
+                        && LocalFileStorageService.CONTENT_ADDRESSED_DIR.equals(child.getFileName().toString())) {
+                    continue;
+                }
+                pruned += pruneEmptyDirectories(child, root, cutoff);
+            }
+        } catch (IOException e) {
+            log.warn("디렉토리 조회 실패: {}", directory, e);
+            return pruned;
+        }
+        if (!stale) {
+            return pruned;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            if (entries.iterator().hasNext()) {
+                return pruned;
+            }
+        } catch (IOException e) {
+            return pruned;
+        }
+        try {
+            Files.delete(directory);
+            return pruned + 1;
+        } catch (IOException e) {
+            // 그 사이 파일이 들어왔으면 유지
+            return pruned;
+        }
+    }
+
+    private void record(Report report) {
+        if (report.dryRun()) {
+            Counter.builder("chat.upload.gc.files")
+                    .tag("result", "dry_run")
+                    .description("정리 대상 업로드 파일 수")
+                    .register(meterRegistry)
+                    .increment(report.orphaned());
+            log.info("[dry-run] 업로드 정리: scanned={}, orphaned={}, reclaimableBytes={}, elapsedMs={}",
+                    report.scanned(), report.orphaned(), report.reclaimedBytes(), report.elapsedMs());
+            return;
+        }
+        Counter.builder("chat.upload.gc.files")
+                .tag("result", "deleted")
+                .description("정리 대상 업로드 파일 수")
+                .register(meterRegistry)
+                .increment(report.deleted());
+        Counter.builder("chat.upload.gc.reclaimed")
+                .baseUnit("bytes")
+                .description("업로드 정리로 회수한 디스크 용량")
+                .register(meterRegistry)
+                .increment(report.reclaimedBytes());
+        log.info("업로드 정리 완료: scanned={}, orphaned={}, deleted={}, reclaimedBytes={}, prunedDirectories={}, elapsedMs={}",
+                report.scanned(), report.orphaned(), report.deleted(), report.reclaimedBytes(),
+                report.prunedDirectories(), report.elapsedMs());
+    }
+
+    private static final class Tally {
+        final boolean dryRun;
+        final Instant cutoff;
+        long scanned;
+        long orphaned;
+        long deleted;
+        long reclaimedBytes;
+        long prunedDirectories;
+
+        Tally(boolean dryRun, Instant cutoff) {
+            this.dryRun = dryRun;
+            this.cutoff = cutoff;
+        }
+    }
+
+    /**
+     * @param dryRun     true면 지우지 않고 회수 가능한 크기만 보고
+     * @param minAge     수정 후 이 시간이 지나지 않은 파일은 건너뜀 (업로드 → 메시지 저장 사이 보호)
+     * @param batchSize  DB 대조 한 번에 묶는 파일 수
+     * @param batchPause 배치 사이 쉬는 시간 (DB·디스크 부하 제한)
+     */
+    public record Settings(boolean dryRun, Duration minAge, int batchSize, Duration batchPause) {
+    }
+
+    /**
+     * @param scanned           살펴본 파일 수 (썸네일 포함)
+     * @param orphaned          참조 없는 파일 수
+     * @param deleted           실제로 지운 파일 수 (dry-run이면 0)
+     * @param reclaimedBytes    회수한(dry-run이면 회수 가능한) 바이트 — 썸네일 포함
+     * @param prunedDirectories 지운 빈 디렉토리 수
+     */
+    public record Report(boolean dryRun, long scanned, long orphaned, long deleted, long reclaimedBytes,
+                         long prunedDirectories, long elapsedMs) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.netmarble.chat.infrastructure.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드 pinning 진단 (가상 스레드 모드에서만)
+ *
+ * synchronized 블록 안에서 블로킹 I/O를 하면 가상 스레드가 캐리어 스레드를 붙잡아(pinning) 동시성이 캐리어 수로 묶인다.
+ * JFR jdk.VirtualThreadPinned 이벤트를 프로세스 안에서 구독해 threshold 이상 붙잡힌 경우를 센다.
+ * 같은 위치는 처음 한 번만 경고 로그를 남긴다 (위치는 java.*, jdk.* 밖의 첫 프레임).
+ *
+ * - chat.threads.virtual.pinned : pinning 횟수·시간
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /** 경고 로그를 남긴 위치 수 상한 */
+    static final int MAX_LOGGED_SITES = 256;
+
+    private final Duration threshold;
+    private final Timer pinned;
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinned = Timer.builder("chat.threads.virtual.pinned")
+                .description("캐리어 스레드를 threshold 이상 붙잡은 가상 스레드 pinning")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("가상 스레드 pinning 진단 시작: thresholdMs={}", threshold.toMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        record(event.getDuration(), site(event.getStackTrace()));
+    }
+
+    void record(Duration duration, String site) {
+        pinned.record(duration);
+        if (loggedSites.size() < MAX_LOGGED_SITES && loggedSites.add(site)) {
+            log.warn("가상 스레드 pinning: {}ms at {}", duration.toMillis(), site);
+        }
+    }
+
+    int loggedSiteCount() {
+        return loggedSites.size();
+    }
+
+    static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "unknown";
+    }
+
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
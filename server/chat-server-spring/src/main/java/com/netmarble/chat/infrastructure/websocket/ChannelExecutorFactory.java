@@ -0,0 +1,81 @@
+package com.netmarble.chat.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * STOMP 채널(clientInboundChannel / clientOutboundChannel) 실행기
+ *
+ * Spring 기본값은 코어 수 × 2 스레드에 무제한 큐라 채널이 밀려도 보이지 않는다.
+ * 크기를 설정으로 받고, 큐가 차면 작업을 거부해 수를 센다 (AbortPolicy — 인바운드는 해당 프레임 처리 실패로 로그).
+ * 실행기는 채널 등록에 넘기면 Spring이 빈으로 초기화·종료한다.
+ *
+ * - chat.ws.channel.active{channel} : 작업 중인 스레드 수
+ * - chat.ws.channel.pool_size{channel} : 현재 스레드 수
+ * - chat.ws.channel.queue_size{channel} : 대기 작업 수
+ * - chat.ws.channel.rejected{channel} : 큐가 차서 거부된 작업 수
+ */
+public final class ChannelExecutorFactory {
+
+    private ChannelExecutorFactory() {
+    }
+
+    /**
+     * @param channel       메트릭 태그·스레드 이름 (예: "inbound")
+     * @param threadFactory null이면 플랫폼 스레드
+     */
+    public static ThreadPoolTaskExecutor create(String channel, Settings settings, ThreadFactory threadFactory,
+                                                MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        if (threadFactory != null) {
+            executor.setThreadFactory(threadFactory);
+        }
+        executor.setThreadNamePrefix("ws-" + channel + "-");
+        executor.setCorePoolSize(settings.corePoolSize());
+        executor.setMaxPoolSize(Math.max(settings.corePoolSize(), settings.maxPoolSize()));
+        executor.setQueueCapacity(settings.queueCapacity());
+        executor.setKeepAliveSeconds(settings.keepAliveSeconds());
+        executor.setAllowCoreThreadTimeOut(settings.allowCoreThreadTimeOut());
+
+        Counter rejected = Counter.builder("chat.ws.channel.rejected")
+                .tag("channel", channel)
+                .description("큐가 차서 거부된 STOMP 채널 작업 수")
+                .register(meterRegistry);
+        RejectedExecutionHandler abort = new ThreadPoolExecutor.AbortPolicy();
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            abort.rejectedExecution(task, pool);
+        });
+
+        Gauge.builder("chat.ws.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .description("STOMP 채널에서 작업 중인 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.ws.channel.pool_size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("channel", channel)
+                .description("STOMP 채널 실행기 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.ws.channel.queue_size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("channel", channel)
+                .description("STOMP 채널 실행기 대기 작업 수")
+                .register(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * @param corePoolSize           기본 스레드 수
+     * @param maxPoolSize            큐가 찬 뒤에만 늘어나는 최대 스레드 수
+     * @param queueCapacity          대기 작업 한도 — 넘으면 거부
+     * @param keepAliveSeconds       코어 초과(또는 allowCoreThreadTimeOut이면 모든) 유휴 스레드 유지 시간
+     * @param allowCoreThreadTimeOut 유휴 코어 스레드도 정리 (가상 스레드 풀)
+     */
+    public record Settings(int corePoolSize, int maxPoolSize, int queueCapacity, int keepAliveSeconds,
+                           boolean allowCoreThreadTimeOut) {
+    }
+}
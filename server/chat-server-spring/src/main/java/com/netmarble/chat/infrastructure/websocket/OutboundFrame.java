@@ -0,0 +1,98 @@
+package com.netmarble.chat.infrastructure.websocket;
+
+import com.netmarble.chat.application.dto.StompEventHeaders;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * 세션 아웃바운드 큐에 쌓이는 전송 대기 프레임
+ *
+ * STOMP MESSAGE 프레임이면 헤더 영역만 훑어 destination, 방 ID, coalesce-key, 우선순위를 뽑아둔다.
+ * 본문(JSON)은 파싱하지 않는다.
+ */
+record OutboundFrame(WebSocketMessage<?> message,
+                     String destination,
+                     Long roomId,
+                     String coalesceKey,
+                     boolean lowPriority,
+                     long enqueuedAtNanos) {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/chatroom.";
+    private static final String READ_STATUS_SUFFIX = ".read-status";
+    private static final String MESSAGE_COMMAND = "MESSAGE";
+
+    static OutboundFrame of(WebSocketMessage<?> message, long nowNanos) {
+        if (!(message instanceof TextMessage text)) {
+            return new OutboundFrame(message, null, null, null, false, nowNanos);
+        }
+
+        String payload = text.getPayload();
+        int lineEnd = payload.indexOf('\n');
+        if (lineEnd < 0 || !MESSAGE_COMMAND.equals(payload.substring(0, lineEnd).trim())) {
+            // CONNECTED / RECEIPT / ERROR / heart-beat
+            return new OutboundFrame(message, null, null, null, false, nowNanos);
+        }
+
+        String destination = null;
+        String coalesceKey = null;
+        String priority = null;
+        int headersEnd = payload.indexOf("\n\n", lineEnd);
+        int limit = headersEnd < 0 ? payload.length() : headersEnd;
+        int start = lineEnd + 1;
+        while (start < limit) {
+            int end = payload.indexOf('\n', start);
+            if (end < 0 || end > limit) {
+                end = limit;
+            }
+            int colon = payload.indexOf(':', start);
+            if (colon > start && colon < end) {
+                String name = payload.substring(start, colon);
+                if (destination == null && "destination".equals(name)) {
+                    destination = payload.substring(colon + 1, end);
+                } else if (coalesceKey == null && StompEventHeaders.COALESCE_KEY.equals(name)) {
+                    coalesceKey = payload.substring(colon + 1, end);
+                } else if (priority == null && StompEventHeaders.PRIORITY.equals(name)) {
+                    priority = payload.substring(colon + 1, end);
+                }
+            }
+            start = end + 1;
+        }
+
+        // 같은 키라도 방(destination)이 다르면 별개 이벤트
+        String key = coalesceKey != null && destination != null ? destination + "|" + coalesceKey : null;
+        // priority 헤더가 없어도 읽음 상태 토픽은 저우선으로 본다
+        boolean lowPriority = StompEventHeaders.PRIORITY_LOW.equals(priority)
+                || (destination != null && destination.endsWith(READ_STATUS_SUFFIX));
+        return new OutboundFrame(message, destination, parseRoomId(destination), key, lowPriority, nowNanos);
+    }
+
+    /**
+     * /topic/chatroom.10, /topic/chatroom.10.read-status → 10
+     */
+    static Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        int start = ROOM_DESTINATION_PREFIX.length();
+        int end = start;
+        while (end < destination.length() && Character.isDigit(destination.charAt(end))) {
+            end++;
+        }
+        if (end == start) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(start, end));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    String lane() {
+        return lowPriority ? "low" : "high";
+    }
+
+    int size() {
+        return message.getPayloadLength();
+    }
+}
@@ -0,0 +1,17 @@
+package com.netmarble.chat.infrastructure.websocket;
+
+/**
+ * 세션 아웃바운드 큐가 크기/시간 한도를 넘었을 때의 처리 방식
+ */
+public enum OutboundOverflowPolicy {
+
+    /**
+     * 가장 오래된 프레임부터 버려 한도 안으로 되돌린다 (연결 유지)
+     */
+    DROP_OLDEST,
+
+    /**
+     * 큐를 비우고 세션을 끊는다 — 클라이언트는 재연결 후 히스토리 API로 따라잡는다
+     */
+    DISCONNECT
+}
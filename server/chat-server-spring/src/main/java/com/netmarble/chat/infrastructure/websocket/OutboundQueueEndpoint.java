@@ -0,0 +1,31 @@
+package com.netmarble.chat.infrastructure.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GET /actuator/wsoutbound — 세션별 아웃바운드 큐 상태(상위 50개)와 드롭이 많은 방(상위 20개)
+ */
+@Endpoint(id = "wsoutbound")
+@RequiredArgsConstructor
+public class OutboundQueueEndpoint {
+
+    private static final int TOP_SESSIONS = 50;
+    private static final int TOP_ROOMS = 20;
+
+    private final OutboundQueueRegistry registry;
+
+    @ReadOperation
+    public Map<String, Object> outboundQueues() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sessions", registry.sessionCount());
+        result.put("totalDepth", (long) registry.totalDepth());
+        result.put("topSessions", registry.topSessions(TOP_SESSIONS));
+        result.put("droppedByRoom", registry.topDroppedRooms(TOP_ROOMS));
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+package com.netmarble.chat.infrastructure.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.NativeWebSocketSession;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.util.concurrent.Executor;
+
+/**
+ * STOMP 서브프로토콜 핸들러 앞에서 세션을 OutboundQueueSession으로 감싼다.
+ *
+ * SubProtocolWebSocketHandler는 연결 시점에 받은 세션 객체로만 프레임을 내보내므로
+ * afterConnectionEstablished에서 한 번 감싸면 모든 아웃바운드 프레임이 세션 큐를 거친다.
+ */
+@Slf4j
+public class OutboundQueueHandlerDecorator extends WebSocketHandlerDecorator {
+
+    /** Tomcat 블로킹 전송 타임아웃 세션 속성 (기본 20초) */
+    static final String TOMCAT_BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final Executor drainExecutor;
+    private final OutboundQueueRegistry registry;
+    private final OutboundQueueSettings settings;
+
+    public OutboundQueueHandlerDecorator(WebSocketHandler delegate,
+                                         Executor drainExecutor,
+                                         OutboundQueueRegistry registry,
+                                         OutboundQueueSettings settings) {
+        super(delegate);
+        this.drainExecutor = drainExecutor;
+        this.registry = registry;
+        this.settings = settings;
+    }
+
+    @Override
+    public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
+        limitBlockingSend(session);
+        OutboundQueueSession queued = new OutboundQueueSession(session, drainExecutor, registry, settings);
+        registry.register(queued);
+        super.afterConnectionEstablished(queued);
+    }
+
+    @Override
+    public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus closeStatus) throws Exception {
+        OutboundQueueSession queued = registry.unregister(session.getId());
+        if (queued != null) {
+            queued.release();
+        }
+        super.afterConnectionClosed(session, closeStatus);
+    }
+
+    /**
+     * 멈춘 소켓에 대한 쓰기가 drain 스레드를 오래 붙잡지 않도록 블로킹 전송 시간을 큐 대기 한도에 맞춘다
+     */
+    private void limitBlockingSend(WebSocketSession session) {
+        if (settings.maxWaitMillis() <= 0 || !(session instanceof NativeWebSocketSession nativeSession)) {
+            return;
+        }
+        jakarta.websocket.Session standard = nativeSession.getNativeSession(jakarta.websocket.Session.class);
+        if (standard != null) {
+            standard.getUserProperties().put(TOMCAT_BLOCKING_SEND_TIMEOUT, settings.maxWaitMillis());
+        }
+    }
+}
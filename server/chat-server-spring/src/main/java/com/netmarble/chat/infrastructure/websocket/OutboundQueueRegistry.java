@@ -0,0 +1,145 @@
+package com.netmarble.chat.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 세션 아웃바운드 큐 레지스트리 + 메트릭
+ *
+ * - chat.ws.outbound.sessions         : 큐가 붙은 세션 수
+ * - chat.ws.outbound.queue.depth      : 전체 세션의 전송 대기 프레임 합계
+ * - chat.ws.outbound.queue.depth.max  : 가장 밀린 세션의 대기 프레임 수
+ * - chat.ws.outbound.queue.depth.low  : 전체 세션의 저우선 레인 대기 프레임 합계
+ * - chat.ws.outbound.dropped{reason,lane} : 버린 프레임 수 (overflow / expired / coalesced / disconnect, high / low)
+ * - chat.ws.outbound.disconnects      : 한도 초과로 끊은 세션 수
+ * 방 ID는 시계열이 방마다 늘어나므로 태그로 쓰지 않는다. 방별 드롭 수는 최대 MAX_TRACKED_ROOMS개 방만
+ * 메모리에 세고(가득 차면 가장 적게 버린 방을 밀어냄), 세션·방 상위 목록은 actuator wsoutbound 엔드포인트로 조회한다.
+ */
+public class OutboundQueueRegistry {
+
+    static final int MAX_TRACKED_ROOMS = 1000;
+
+    private final Map<String, OutboundQueueSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Counter> dropCounters = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> roomDrops = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Counter disconnects;
+
+    public OutboundQueueRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("chat.ws.outbound.sessions", sessions, Map::size)
+                .description("아웃바운드 큐가 붙은 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.ws.outbound.queue.depth", this, OutboundQueueRegistry::totalDepth)
+                .description("전체 세션의 전송 대기 프레임 합계")
+                .register(meterRegistry);
+        Gauge.builder("chat.ws.outbound.queue.depth.low", this, OutboundQueueRegistry::totalLowDepth)
+                .description("전체 세션의 저우선 레인 대기 프레임 합계")
+                .register(meterRegistry);
+        Gauge.builder("chat.ws.outbound.queue.depth.max", this, OutboundQueueRegistry::maxDepth)
+                .description("가장 밀린 세션의 전송 대기 프레임 수")
+                .register(meterRegistry);
+        this.disconnects = Counter.builder("chat.ws.outbound.disconnects")
+                .description("아웃바운드 한도 초과로 종료한 세션 수")
+                .register(meterRegistry);
+    }
+
+    void register(OutboundQueueSession session) {
+        sessions.put(session.getId(), session);
+    }
+
+    OutboundQueueSession unregister(String sessionId) {
+        return sessions.remove(sessionId);
+    }
+
+    void recordDrop(Long roomId, String reason, String lane) {
+        dropCounters.computeIfAbsent(reason + '|' + lane, key -> Counter.builder("chat.ws.outbound.dropped")
+                        .tag("reason", reason)
+                        .tag("lane", lane)
+                        .register(meterRegistry))
+                .increment();
+        if (roomId != null) {
+            recordRoomDrop(roomId);
+        }
+    }
+
+    private void recordRoomDrop(Long roomId) {
+        LongAdder count = roomDrops.get(roomId);
+        if (count == null) {
+            if (roomDrops.size() >= MAX_TRACKED_ROOMS) {
+                evictQuietestRoom();
+            }
+            count = roomDrops.computeIfAbsent(roomId, id -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    private void evictQuietestRoom() {
+        roomDrops.entrySet().stream()
+                .min(Comparator.comparingLong(e -> e.getValue().sum()))
+                .ifPresent(e -> roomDrops.remove(e.getKey(), e.getValue()));
+    }
+
+    void recordDisconnect() {
+        disconnects.increment();
+    }
+
+    double totalDepth() {
+        return sessions.values().stream().mapToInt(OutboundQueueSession::getDepth).sum();
+    }
+
+    double totalLowDepth() {
+        return sessions.values().stream().mapToInt(OutboundQueueSession::getLowDepth).sum();
+    }
+
+    double maxDepth() {
+        return sessions.values().stream().mapToInt(OutboundQueueSession::getDepth).max().orElse(0);
+    }
+
+    /**
+     * 대기 프레임이 많은 순으로 상위 limit개 세션 스냅샷
+     */
+    public List<SessionSnapshot> topSessions(int limit) {
+        return sessions.values().stream()
+                .sorted(Comparator.comparingInt(OutboundQueueSession::getDepth).reversed())
+                .limit(limit)
+                .map(s -> new SessionSnapshot(s.getId(), s.getDepth(), s.getLowDepth(), s.getMaxDepth(),
+                        s.getOldestWaitMillis(), s.getSentCount(), s.getDroppedCount(), s.getCoalescedCount()))
+                .toList();
+    }
+
+    /**
+     * 누적 드롭 수가 많은 순으로 상위 limit개 방 (reason·lane 합산)
+     */
+    public Map<Long, Long> topDroppedRooms(int limit) {
+        Map<Long, Long> result = new LinkedHashMap<>();
+        roomDrops.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue().sum()))
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(limit)
+                .forEach(e -> result.put(e.getKey(), e.getValue()));
+        return result;
+    }
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    public record SessionSnapshot(String sessionId,
+                                  int depth,
+                                  int lowDepth,
+                                  int maxDepth,
+                                  long oldestWaitMillis,
+                                  long sent,
+                                  long dropped,
+                                  long coalesced) {
+    }
+}
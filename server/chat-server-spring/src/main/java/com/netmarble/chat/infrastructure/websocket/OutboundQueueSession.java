@@ -0,0 +1,314 @@
+package com.netmarble.chat.infrastructure.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 세션 전용 아웃바운드 큐를 가진 WebSocketSession 데코레이터
+ *
+ * clientOutboundChannel 스레드는 sendMessage에서 큐에 넣기만 하고 바로 돌아가며,
+ * 실제 소켓 쓰기는 drain 전용 풀이 세션 단위로 한 번에 하나씩 수행한다.
+ * 느린 클라이언트는 자기 큐만 밀리고, 한도를 넘으면 overflowPolicy에 따라
+ * 오래된 프레임을 버리거나 연결을 끊는다. 공유 outbound 스레드는 막히지 않는다.
+ *
+ * 큐는 두 레인으로 나뉜다. 채팅 메시지(고우선)는 항상 먼저 전송되고,
+ * 읽음 상태·입장/퇴장·프레즌스(저우선)는 고우선 레인이 비었을 때만 전송된다.
+ * 한도를 넘으면 저우선 레인부터 버리므로 읽음 폭주 중에도 채팅 메시지 지연은 늘지 않는다.
+ */
+@Slf4j
+public class OutboundQueueSession extends WebSocketSessionDecorator {
+
+    /** drain 1회당 최대 전송 프레임 수 — 초과 시 다른 세션에 drain 스레드를 양보한다 */
+    private static final int DRAIN_BATCH = 32;
+
+    static final String REASON_OVERFLOW = "overflow";
+    static final String REASON_EXPIRED = "expired";
+    static final String REASON_COALESCED = "coalesced";
+    static final String REASON_DISCONNECT = "disconnect";
+
+    private final Object lock = new Object();
+    private final Deque<OutboundFrame> high = new ArrayDeque<>();
+    private final Deque<OutboundFrame> low = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final Executor drainExecutor;
+    private final OutboundQueueRegistry registry;
+    private final OutboundQueueSettings settings;
+
+    // lock으로 보호
+    private int queuedBytes;
+
+    private volatile int depth;
+    private volatile int lowDepth;
+    private volatile int maxDepth;
+    private volatile boolean closing;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public OutboundQueueSession(WebSocketSession delegate,
+                                Executor drainExecutor,
+                                OutboundQueueRegistry registry,
+                                OutboundQueueSettings settings) {
+        super(delegate);
+        this.drainExecutor = drainExecutor;
+        this.registry = registry;
+        this.settings = settings;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closing) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        OutboundFrame frame = OutboundFrame.of(message, now);
+        boolean overflow;
+        synchronized (lock) {
+            Deque<OutboundFrame> lane = frame.lowPriority() ? low : high;
+            if (settings.coalesce() && frame.coalesceKey() != null) {
+                removeQueued(lane, frame.coalesceKey());
+            }
+            lane.addLast(frame);
+            queuedBytes += frame.size();
+            if (frame.lowPriority()) {
+                while (low.size() > settings.lowMaxMessages()) {
+                    dropOldest(low, now);
+                }
+            }
+            overflow = enforceLimits(now);
+            updateDepth();
+        }
+
+        if (overflow) {
+            disconnect();
+            return;
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * 같은 coalesce-key로 대기 중인 이전 프레임 제거 (이미 낡은 값)
+     */
+    private void removeQueued(Deque<OutboundFrame> lane, String coalesceKey) {
+        Iterator<OutboundFrame> it = lane.iterator();
+        while (it.hasNext()) {
+            OutboundFrame queued = it.next();
+            if (coalesceKey.equals(queued.coalesceKey())) {
+                it.remove();
+                queuedBytes -= queued.size();
+                coalesced.increment();
+                registry.recordDrop(queued.roomId(), REASON_COALESCED, queued.lane());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 한도 검사 — 저우선 레인은 정책과 무관하게 먼저 버리고,
+     * 그래도 넘으면 DROP_OLDEST는 고우선 레인 앞에서부터 버린다.
+     *
+     * @return DISCONNECT 정책에서 고우선 레인만으로 한도를 넘었으면 true
+     */
+    private boolean enforceLimits(long now) {
+        while (!low.isEmpty() && isOverLimit(now)) {
+            dropOldest(low, now);
+        }
+        if (!isOverLimit(now)) {
+            return false;
+        }
+        if (settings.overflowPolicy() == OutboundOverflowPolicy.DISCONNECT) {
+            return true;
+        }
+        while (!high.isEmpty() && isOverLimit(now)) {
+            dropOldest(high, now);
+        }
+        return false;
+    }
+
+    private void dropOldest(Deque<OutboundFrame> lane, long now) {
+        OutboundFrame oldest = lane.pollFirst();
+        queuedBytes -= oldest.size();
+        dropped.increment();
+        registry.recordDrop(oldest.roomId(), isExpired(oldest, now) ? REASON_EXPIRED : REASON_OVERFLOW,
+                oldest.lane());
+    }
+
+    private boolean isOverLimit(long now) {
+        return high.size() + low.size() > settings.maxMessages()
+                || queuedBytes > settings.maxBytes()
+                || isExpired(high.peekFirst(), now)
+                || isExpired(low.peekFirst(), now);
+    }
+
+    private boolean isExpired(OutboundFrame frame, long now) {
+        return frame != null && now - frame.enqueuedAtNanos() > settings.maxWaitNanos();
+    }
+
+    private void updateDepth() {
+        int size = high.size() + low.size();
+        depth = size;
+        lowDepth = low.size();
+        if (size > maxDepth) {
+            maxDepth = size;
+        }
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            drainExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            log.warn("아웃바운드 drain 작업 거부, 세션 종료: sessionId={}", getId());
+            disconnect();
+        }
+    }
+
+    private void drain() {
+        int batch = 0;
+        while (true) {
+            OutboundFrame frame;
+            synchronized (lock) {
+                // 고우선 레인이 비었을 때만 저우선 프레임 전송
+                frame = high.pollFirst();
+                if (frame == null) {
+                    frame = low.pollFirst();
+                }
+                if (frame == null) {
+                    draining.set(false);
+                    updateDepth();
+                    return;
+                }
+                queuedBytes -= frame.size();
+                updateDepth();
+            }
+
+            try {
+                getDelegate().sendMessage(frame.message());
+                sent.increment();
+            } catch (IOException | RuntimeException e) {
+                log.debug("아웃바운드 전송 실패, 세션 종료: sessionId={}, error={}", getId(), e.getMessage());
+                draining.set(false);
+                disconnect();
+                return;
+            }
+
+            if (++batch >= DRAIN_BATCH) {
+                draining.set(false);
+                scheduleDrain();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 대기 프레임을 모두 버리고 SESSION_NOT_RELIABLE(1011)로 연결을 끊는다.
+     * close는 소켓 쓰기와 같은 잠금을 쓰므로 호출 스레드가 아닌 drain 풀에서 수행한다.
+     */
+    private void disconnect() {
+        if (closing) {
+            return;
+        }
+        closing = true;
+        discardQueued(REASON_DISCONNECT);
+        registry.recordDisconnect();
+        log.warn("느린 클라이언트 연결 종료: sessionId={}, maxDepth={}, dropped={}",
+                getId(), maxDepth, dropped.sum());
+
+        Runnable close = () -> {
+            try {
+                getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException | RuntimeException e) {
+                log.debug("세션 종료 실패: sessionId={}, error={}", getId(), e.getMessage());
+            }
+        };
+        try {
+            drainExecutor.execute(close);
+        } catch (RejectedExecutionException e) {
+            close.run();
+        }
+    }
+
+    /**
+     * 연결 종료 후 남은 프레임 정리 (OutboundQueueHandlerDecorator가 호출)
+     */
+    void release() {
+        closing = true;
+        synchronized (lock) {
+            high.clear();
+            low.clear();
+            queuedBytes = 0;
+            updateDepth();
+        }
+    }
+
+    private void discardQueued(String reason) {
+        synchronized (lock) {
+            for (Deque<OutboundFrame> lane : List.of(high, low)) {
+                for (OutboundFrame frame : lane) {
+                    dropped.increment();
+                    registry.recordDrop(frame.roomId(), reason, frame.lane());
+                }
+                lane.clear();
+            }
+            queuedBytes = 0;
+            updateDepth();
+        }
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    int getLowDepth() {
+        return lowDepth;
+    }
+
+    int getMaxDepth() {
+        return maxDepth;
+    }
+
+    long getSentCount() {
+        return sent.sum();
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 가장 오래된 대기 프레임의 대기 시간 (ms)
+     */
+    long getOldestWaitMillis() {
+        synchronized (lock) {
+            long oldest = Long.MAX_VALUE;
+            if (!high.isEmpty()) {
+                oldest = high.peekFirst().enqueuedAtNanos();
+            }
+            if (!low.isEmpty()) {
+                oldest = Math.min(oldest, low.peekFirst().enqueuedAtNanos());
+            }
+            return oldest == Long.MAX_VALUE ? 0 : (System.nanoTime() - oldest) / 1_000_000L;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.netmarble.chat.infrastructure.websocket;
+
+/**
+ * 세션별 아웃바운드 큐 한도 설정
+ *
+ * @param maxMessages    세션당 전송 대기 프레임 수 한도 (두 레인 합계)
+ * @param lowMaxMessages 저우선 레인(읽음 상태, 입장/퇴장, 프레즌스) 대기 프레임 수 한도 — 넘으면 정책과 무관하게 오래된 것부터 버림
+ * @param maxBytes       세션당 전송 대기 바이트 한도
+ * @param maxWaitMillis  가장 오래된 대기 프레임의 최대 대기 시간 (0 이하면 검사 안 함)
+ * @param overflowPolicy 한도 초과 시 처리 방식
+ * @param coalesce       같은 coalesce-key 프레임이 대기 중이면 최신 프레임으로 대체할지 여부
+ */
+public record OutboundQueueSettings(int maxMessages,
+                                    int lowMaxMessages,
+                                    int maxBytes,
+                                    long maxWaitMillis,
+                                    OutboundOverflowPolicy overflowPolicy,
+                                    boolean coalesce) {
+
+    long maxWaitNanos() {
+        return maxWaitMillis > 0 ? maxWaitMillis * 1_000_000L : Long.MAX_VALUE;
+    }
+}
@@ -3,7 +3,12 @@ package com.netmarble.chat.presentation.controller;
 import com.netmarble.chat.application.dto.*;
 import com.netmarble.chat.application.service.ChatRoomApplicationService;
 import com.netmarble.chat.application.service.MessageApplicationService;
+import com.netmarble.chat.domain.model.UploadSession;
 import com.netmarble.chat.domain.service.FileStorageService;
+import com.netmarble.chat.domain.service.ResumableUploadService;
+import com.netmarble.chat.infrastructure.ratelimit.SendRateLimiter;
+import com.netmarble.chat.presentation.exception.RateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -25,10 +30,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ChatRoomController {
 
+    private static final String RESUMABLE_MESSAGE_ID_PREFIX = "upload-";
+
     private final ChatRoomApplicationService chatRoomApplicationService;
     private final MessageApplicationService messageApplicationService;
     private final SimpMessagingTemplate messagingTemplate;
     private final FileStorageService fileStorageService;
+    private final ResumableUploadService resumableUploadService;
+    private final SendRateLimiter sendRateLimiter;
 
     /**
      * 채팅방 생성
@@ -37,16 +46,20 @@ public class ChatRoomController {
      * - name (String, 필수)
      * - creatorId (Long, 필수)
      * - image (MultipartFile, 선택 / JPG·PNG·GIF, 최대 5MB)
+     * - uploadId (String, 선택 / image 대신 이어 올리기로 받은 rooms 업로드)
      */
     @PostMapping(consumes = {MediaType.MULTIPART_FORM_DATA_VALUE, MediaType.APPLICATION_FORM_URLENCODED_VALUE})
     public ResponseEntity<ChatRoomResponse> createChatRoom(
             @RequestParam String name,
             @RequestParam Long creatorId,
-            @RequestParam(required = false) MultipartFile image) {
+            @RequestParam(required = false) MultipartFile image,
+            @RequestParam(required = false) String uploadId) {
         log.info("POST /api/chat-rooms - Creating chat room: {}", name);
 
         String imageUrl = null;
-        if (image != null && !image.isEmpty()) {
+        if (uploadId != null && !uploadId.isBlank()) {
+            imageUrl = resumableUploadService.complete(uploadId, "rooms").url();
+        } else if (image != null && !image.isEmpty()) {
             try {
                 imageUrl = fileStorageService.store(
                         image.getInputStream(), image.getContentType(),
@@ -111,6 +124,21 @@ public class ChatRoomController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 채팅방 일괄 입장 (초대)
+     * POST /api/chat-rooms/{id}/members/bulk
+     * Body: { "userIds": [1, 2, 3, ...] } (최대 5000명)
+     */
+    @PostMapping("/{id}/members/bulk")
+    public ResponseEntity<BulkJoinChatRoomResponse> bulkJoinChatRoom(
+            @PathVariable Long id,
+            @RequestBody BulkJoinChatRoomRequest request) {
+        log.info("POST /api/chat-rooms/{}/members/bulk - {} users", id,
+                 request.getUserIds() == null ? 0 : request.getUserIds().size());
+        BulkJoinChatRoomResponse response = chatRoomApplicationService.bulkJoinChatRoom(id, request.getUserIds());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 채팅방 멤버 목록 조회 (활성 멤버)
      * GET /api/chat-rooms/{id}/members
@@ -151,7 +179,9 @@ public class ChatRoomController {
     /**
      * 메시지 전송 (REST API)
      * POST /api/chat-rooms/{id}/messages
-     * Body: { chatRoomId, senderId, content, messageType, fileName }
+     * Body: { chatRoomId, senderId, content, messageType, fileName, clientMessageId }
+     * 같은 clientMessageId로 재시도하면 재저장 없이 원본 응답을 돌려주고 다시 브로드캐스트한다
+     * (첫 요청의 커밋 후 브로드캐스트가 실패했을 수 있으므로 — 클라이언트는 메시지 id로 중복을 거른다).
      */
     @PostMapping("/{id}/messages")
     public ResponseEntity<MessageResponse> sendMessage(
@@ -160,12 +190,14 @@ public class ChatRoomController {
         log.info("POST /api/chat-rooms/{}/messages - Sending message from user {}",
                  id, request.getSenderId());
 
-        // URL 경로의 ID가 요청의 chatRoomId와 일치하는지 검증
+        // URL 경로의 ID가 요청의 chatRoomId와 일치하는지 검증 — 다르면 속도 제한과 저장 대상 방이 어긋난다
         if (request.getChatRoomId() == null) {
             request.setChatRoomId(id);
         } else if (!request.getChatRoomId().equals(id)) {
-            log.warn("URL path ID {} does not match request chatRoomId {}", id, request.getChatRoomId());
+            throw new IllegalArgumentException("URL의 채팅방 ID와 요청의 chatRoomId가 다릅니다: " + id
+                    + " != " + request.getChatRoomId());
         }
+        checkSendRate(request.getSenderId(), id);
 
         // 메시지 전송
         MessageResponse response = messageApplicationService.sendMessage(request);
@@ -196,6 +228,7 @@ public class ChatRoomController {
             @RequestParam MultipartFile file) {
         log.info("POST /api/chat-rooms/{}/messages/upload - User {} uploading image {}",
                  id, userId, file.getOriginalFilename());
+        checkSendRate(userId, id);
 
         // FileStorageService로 파일 저장 (검증 포함)
         String fileUrl;
@@ -207,18 +240,84 @@ public class ChatRoomController {
             throw new RuntimeException("파일 읽기 실패", e);
         }
 
+        MessageResponse response = sendImageMessage(id, userId, fileUrl, file.getOriginalFilename());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 이미지 파일 업로드 (본문 스트리밍)
+     * POST /api/chat-rooms/{id}/messages/upload/stream?userId=&fileName=
+     * Content-Type: image/jpeg | image/png | image/gif | application/octet-stream, Body: 이미지 바이트
+     * 멀티파트 파싱·임시 파일 없이 요청 본문을 바로 저장소로 흘려 보낸다 (형식은 첫 바이트로 판별).
+     */
+    @PostMapping(value = "/{id}/messages/upload/stream", consumes = {
+            MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<MessageResponse> uploadImageStream(
+            @PathVariable Long id,
+            @RequestParam Long userId,
+            @RequestParam(required = false) String fileName,
+            HttpServletRequest servletRequest) {
+        log.info("POST /api/chat-rooms/{}/messages/upload/stream - User {} uploading image {} ({} bytes)",
+                 id, userId, fileName, servletRequest.getContentLengthLong());
+        checkSendRate(userId, id);
+
+        String fileUrl;
+        try {
+            fileUrl = fileStorageService.store(
+                    servletRequest.getInputStream(), servletRequest.getContentType(),
+                    fileName, servletRequest.getContentLengthLong(), "messages");
+        } catch (IOException e) {
+            throw new RuntimeException("파일 읽기 실패", e);
+        }
+
+        MessageResponse response = sendImageMessage(id, userId, fileUrl, fileName);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 이어 올리기 업로드 완료 → 이미지 메시지 전송
+     * POST /api/chat-rooms/{id}/messages/upload/resumable/{uploadId}?userId=
+     * uploadId를 멱등성 키로 쓰므로, 응답을 못 받고 다시 보내도 메시지는 한 번만 저장·브로드캐스트된다.
+     */
+    @PostMapping("/{id}/messages/upload/resumable/{uploadId}")
+    public ResponseEntity<MessageResponse> completeResumableUpload(
+            @PathVariable Long id,
+            @PathVariable String uploadId,
+            @RequestParam Long userId) {
+        log.info("POST /api/chat-rooms/{}/messages/upload/resumable/{} - User {}", id, uploadId, userId);
+        checkSendRate(userId, id);
+
+        UploadSession session = resumableUploadService.complete(uploadId, "messages");
+        MessageResponse response = sendImageMessage(id, userId, session.url(), session.fileName(),
+                RESUMABLE_MESSAGE_ID_PREFIX + uploadId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 저장된 이미지 URL로 IMAGE 메시지를 만들고 브로드캐스트한다
+     */
+    private MessageResponse sendImageMessage(Long id, Long userId, String fileUrl, String fileName) {
+        return sendImageMessage(id, userId, fileUrl, fileName, null);
+    }
+
+    private MessageResponse sendImageMessage(Long id, Long userId, String fileUrl, String fileName,
+                                             String clientMessageId) {
         // 메시지 요청 생성 (URL 경로를 content에 저장)
         SendMessageRequest request = new SendMessageRequest();
         request.setChatRoomId(id);
         request.setSenderId(userId);
         request.setContent(fileUrl);
         request.setMessageType("IMAGE");
-        request.setFileName(file.getOriginalFilename());
+        request.setFileName(fileName);
+        request.setClientMessageId(clientMessageId);
+        // 크기·평균 색은 트랜잭션(DB 커넥션) 밖에서 미리 읽어 둔다
+        fileStorageService.readImageMetadata(fileUrl).ifPresent(request::setImageMetadata);
 
         // 메시지 전송
         MessageResponse response = messageApplicationService.sendMessage(request);
 
-        // WebSocket으로 브로드캐스트
+        // WebSocket으로 브로드캐스트 (재시도 응답도 다시 보낸다 — 클라이언트는 메시지 id로 중복을 거른다)
         try {
             messagingTemplate.convertAndSend(
                 "/topic/chatroom." + id,
@@ -228,8 +327,7 @@ public class ChatRoomController {
         } catch (Exception e) {
             log.warn("Failed to broadcast image message via WebSocket", e);
         }
-
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return response;
     }
 
     /**
@@ -244,4 +342,15 @@ public class ChatRoomController {
         List<MessageResponse> results = messageApplicationService.searchMessages(id, keyword);
         return ResponseEntity.ok(results);
     }
+
+    /**
+     * 발신자·채팅방 전송 속도 제한 (초과 시 429 + Retry-After)
+     */
+    private void checkSendRate(Long senderId, Long chatRoomId) {
+        SendRateLimiter.Decision decision =
+            sendRateLimiter.tryAcquire(senderId, chatRoomId, SendRateLimiter.CHANNEL_REST);
+        if (!decision.allowed()) {
+            throw new RateLimitExceededException(decision.scope(), decision.retryAfterMs());
+        }
+    }
 }
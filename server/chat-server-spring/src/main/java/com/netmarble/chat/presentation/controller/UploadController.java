@@ -0,0 +1,103 @@
+package com.netmarble.chat.presentation.controller;
+
+import com.netmarble.chat.application.dto.UploadSessionResponse;
+import com.netmarble.chat.domain.model.UploadSession;
+import com.netmarble.chat.domain.service.ResumableUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 이어 올리기(재개 가능) 업로드 REST API Controller
+ *
+ * 1. POST   /api/uploads?type=&size=&fileName=   세션 시작 → uploadId, chunkSize
+ * 2. PUT    /api/uploads/{uploadId}?offset=       offset 위치에 청크 추가 (본문: 바이트)
+ *    - 끊기거나 409를 받으면 GET으로 offset을 확인하고 그 위치부터 다시 보낸다
+ * 3. 완료
+ *    - messages: POST /api/chat-rooms/{id}/messages/upload/resumable/{uploadId}?userId=
+ *    - profiles/rooms: POST /api/users, POST /api/chat-rooms 의 uploadId 파라미터
+ *    - 공통: POST /api/uploads/{uploadId}/complete → url
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+public class UploadController {
+
+    private final ResumableUploadService resumableUploadService;
+
+    /**
+     * 업로드 세션 시작
+     * POST /api/uploads?type=messages&size=3145728&fileName=photo.jpg
+     */
+    @PostMapping
+    public ResponseEntity<UploadSessionResponse> initiate(
+            @RequestParam String type,
+            @RequestParam long size,
+            @RequestParam(required = false) String fileName) {
+        log.info("POST /api/uploads - type={}, size={}, fileName={}", type, size, fileName);
+        UploadSession session = resumableUploadService.initiate(type, size, fileName);
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(session));
+    }
+
+    /**
+     * 세션 상태 조회 (재개 위치 확인)
+     * GET /api/uploads/{uploadId}
+     */
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionResponse> getSession(@PathVariable String uploadId) {
+        return ResponseEntity.ok(toResponse(resumableUploadService.find(uploadId)));
+    }
+
+    /**
+     * 청크 추가
+     * PUT /api/uploads/{uploadId}?offset=1048576
+     * Content-Type: application/octet-stream, Body: 청크 바이트 (chunkSize 이하)
+     * offset이 서버가 받은 위치와 다르면 409 + Upload-Offset 헤더
+     */
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<UploadSessionResponse> appendChunk(
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            HttpServletRequest servletRequest) {
+        log.debug("PUT /api/uploads/{} - offset={}, length={}", uploadId, offset, servletRequest.getContentLengthLong());
+        UploadSession session;
+        try {
+            session = resumableUploadService.append(uploadId, offset, servletRequest.getInputStream());
+        } catch (IOException e) {
+            throw new RuntimeException("청크 읽기 실패", e);
+        }
+        return ResponseEntity.ok(toResponse(session));
+    }
+
+    /**
+     * 업로드 완료 — 저장된 파일 URL 반환 (같은 요청을 다시 보내도 같은 URL)
+     * POST /api/uploads/{uploadId}/complete
+     */
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<UploadSessionResponse> complete(@PathVariable String uploadId) {
+        log.info("POST /api/uploads/{}/complete", uploadId);
+        return ResponseEntity.ok(toResponse(resumableUploadService.complete(uploadId)));
+    }
+
+    /**
+     * 업로드 취소
+     * DELETE /api/uploads/{uploadId}
+     */
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abort(@PathVariable String uploadId) {
+        log.info("DELETE /api/uploads/{}", uploadId);
+        resumableUploadService.abort(uploadId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session) {
+        return UploadSessionResponse.from(session, resumableUploadService.chunkSize());
+    }
+}
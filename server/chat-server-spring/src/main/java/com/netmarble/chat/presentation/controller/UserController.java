@@ -4,6 +4,7 @@ import com.netmarble.chat.application.dto.CreateUserRequest;
 import com.netmarble.chat.application.dto.UserResponse;
 import com.netmarble.chat.application.service.UserApplicationService;
 import com.netmarble.chat.domain.service.FileStorageService;
+import com.netmarble.chat.domain.service.ResumableUploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -27,6 +28,7 @@ public class UserController {
 
     private final UserApplicationService userApplicationService;
     private final FileStorageService fileStorageService;
+    private final ResumableUploadService resumableUploadService;
 
     /**
      * 새로운 사용자 생성 / 로그인
@@ -35,16 +37,20 @@ public class UserController {
      * - nickname     (String, 필수)
      * - profileColor (String, 선택 / hex)
      * - image        (MultipartFile, 선택 / JPG·PNG·GIF, 최대 5MB)
+     * - uploadId     (String, 선택 / image 대신 이어 올리기로 받은 profiles 업로드)
      */
     @PostMapping(consumes = {MediaType.MULTIPART_FORM_DATA_VALUE, MediaType.APPLICATION_FORM_URLENCODED_VALUE})
     public ResponseEntity<UserResponse> createUser(
             @RequestParam String nickname,
             @RequestParam(required = false) String profileColor,
-            @RequestParam(required = false) MultipartFile image) {
+            @RequestParam(required = false) MultipartFile image,
+            @RequestParam(required = false) String uploadId) {
         log.info("POST /api/users - Creating/logging in user with nickname: {}", nickname);
 
         String profileImage = null;
-        if (image != null && !image.isEmpty()) {
+        if (uploadId != null && !uploadId.isBlank()) {
+            profileImage = resumableUploadService.complete(uploadId, "profiles").url();
+        } else if (image != null && !image.isEmpty()) {
             try {
                 profileImage = fileStorageService.store(
                         image.getInputStream(), image.getContentType(),
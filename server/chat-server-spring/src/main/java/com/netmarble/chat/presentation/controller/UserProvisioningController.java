@@ -0,0 +1,41 @@
+package com.netmarble.chat.presentation.controller;
+
+import com.netmarble.chat.application.dto.BulkCreateUserRequest;
+import com.netmarble.chat.application.dto.BulkCreateUserResponse;
+import com.netmarble.chat.application.service.UserApplicationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 사용자 일괄 사전 생성 (부하 테스트/마이그레이션용) — chat.users.bulk-provisioning.enabled=true일 때만 등록
+ * 인증 없이 수천 명을 만들 수 있으므로 운영 트래픽을 받는 인스턴스에서는 끈다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chat.users.bulk-provisioning", name = "enabled", havingValue = "true")
+public class UserProvisioningController {
+
+    private final UserApplicationService userApplicationService;
+
+    /**
+     * POST /api/users/bulk
+     * Body: { "nicknames": ["load_1", "load_2", ...], "profileColor": "#4f85c8" } (최대 10000명)
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkCreateUserResponse> bulkCreateUsers(@RequestBody BulkCreateUserRequest request) {
+        log.info("POST /api/users/bulk - {} nicknames",
+                 request.getNicknames() == null ? 0 : request.getNicknames().size());
+        BulkCreateUserResponse response = userApplicationService.bulkCreateUsers(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
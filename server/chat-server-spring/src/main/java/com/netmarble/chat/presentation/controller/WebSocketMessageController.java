@@ -2,6 +2,7 @@ package com.netmarble.chat.presentation.controller;
 
 import com.netmarble.chat.application.dto.MessageResponse;
 import com.netmarble.chat.application.dto.SendMessageRequest;
+import com.netmarble.chat.application.dto.StompEventHeaders;
 import com.netmarble.chat.application.service.MessageApplicationService;
 import com.netmarble.chat.infrastructure.mongo.ChatMessageDocument;
 import com.netmarble.chat.infrastructure.mongo.ChatMessageMongoRepository;
@@ -45,9 +46,14 @@ public class WebSocketMessageController {
         try {
             // 1) MySQL 저장 (unreadCount 포함)
             MessageResponse response = messageApplicationService.sendMessage(request);
-
-            // 2) MongoDB 비동기 저장 (실패해도 STOMP 브로드캐스트는 정상 진행)
-            saveToMongoAsync(request, response);
+            if (response.isReplayed()) {
+                // 같은 clientMessageId 재시도 — 원본은 이미 저장됨. 첫 요청의 브로드캐스트가 실패했을 수 있으므로
+                // 저장은 건너뛰고 다시 브로드캐스트한다 (클라이언트는 메시지 id로 중복을 거른다)
+                log.info("Duplicate message re-broadcast: clientMessageId={}", request.getClientMessageId());
+            } else {
+                // 2) MongoDB 비동기 저장 (실패해도 STOMP 브로드캐스트는 정상 진행)
+                saveToMongoAsync(request, response);
+            }
 
             // 3) 채팅방 구독자들에게 브로드캐스트
             messagingTemplate.convertAndSend(
@@ -75,6 +81,9 @@ public class WebSocketMessageController {
                 .senderNickname(response.getSenderNickname())
                 .content(request.getContent())
                 .type(request.getMessageType() != null ? request.getMessageType() : "CHAT")
+                .imageWidth(response.getImageWidth())
+                .imageHeight(response.getImageHeight())
+                .imagePlaceholder(response.getImagePlaceholder())
                 .build();
             mongoRepository.save(doc);
             log.debug("Message saved to MongoDB: roomId={}", request.getChatRoomId());
@@ -94,9 +103,11 @@ public class WebSocketMessageController {
         try {
             MessageResponse response = messageApplicationService.sendMessage(request);
             
+            // 입장 알림은 저우선 레인 (채팅 메시지에 밀림)
             messagingTemplate.convertAndSend(
                 "/topic/chatroom." + request.getChatRoomId(),
-                response
+                response,
+                StompEventHeaders.lowPriority()
             );
         } catch (Exception e) {
             log.error("Error adding user", e);
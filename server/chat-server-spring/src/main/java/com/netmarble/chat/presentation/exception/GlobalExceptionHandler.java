@@ -1,7 +1,10 @@
 package com.netmarble.chat.presentation.exception;
 
+import com.netmarble.chat.domain.service.MessageIdempotencyStore;
+import com.netmarble.chat.domain.service.ResumableUploadService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -21,6 +24,9 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    static final String UPLOAD_OFFSET_HEADER = "Upload-Offset";
+    static final int IN_FLIGHT_RETRY_AFTER_SECONDS = 1;
+
     /**
      * Validation 예외 처리
      */
@@ -63,6 +69,67 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * 전송 속도 제한 초과 — Retry-After(초) 헤더 포함
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException ex) {
+        log.debug("Rate limit exceeded: scope={}, retryAfterMs={}", ex.getScope(), ex.getRetryAfterMs());
+
+        ErrorResponse response = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.TOO_MANY_REQUESTS.value())
+            .error("Too Many Requests")
+            .message(ex.getMessage())
+            .details(Map.of("scope", ex.getScope()))
+            .build();
+
+        long retryAfterSeconds = Math.max(1L, (ex.getRetryAfterMs() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .body(response);
+    }
+
+    /**
+     * 이어 올리기 위치 불일치 (409 Conflict) — 현재 위치를 알려 나머지 청크만 다시 받는다
+     */
+    @ExceptionHandler(ResumableUploadService.OffsetMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleUploadOffsetMismatch(ResumableUploadService.OffsetMismatchException ex) {
+        log.debug("Upload offset mismatch: currentOffset={}", ex.getCurrentOffset());
+
+        ErrorResponse response = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error("Conflict")
+            .message(ex.getMessage())
+            .details(Map.of("offset", String.valueOf(ex.getCurrentOffset())))
+            .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .header(UPLOAD_OFFSET_HEADER, String.valueOf(ex.getCurrentOffset()))
+            .body(response);
+    }
+
+    /**
+     * 같은 clientMessageId 전송이 처리 중 (409 Conflict) — 잠시 뒤 재시도하면 원본 메시지 응답을 받는다
+     */
+    @ExceptionHandler(MessageIdempotencyStore.InFlightException.class)
+    public ResponseEntity<ErrorResponse> handleMessageInFlight(MessageIdempotencyStore.InFlightException ex) {
+        log.debug("Message in flight: clientMessageId={}", ex.getClientMessageId());
+
+        ErrorResponse response = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error("Conflict")
+            .message(ex.getMessage())
+            .details(Map.of("clientMessageId", ex.getClientMessageId()))
+            .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(IN_FLIGHT_RETRY_AFTER_SECONDS))
+            .body(response);
+    }
+
     /**
      * 요청 본문 JSON 파싱 실패 (잘못된 형식 또는 필드)
      */
@@ -0,0 +1,19 @@
+package com.netmarble.chat.presentation.exception;
+
+import lombok.Getter;
+
+/**
+ * 전송 속도 제한 초과 (429 Too Many Requests)
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final String scope;
+    private final long retryAfterMs;
+
+    public RateLimitExceededException(String scope, long retryAfterMs) {
+        super("메시지 전송이 너무 잦습니다. 잠시 후 다시 시도해주세요.");
+        this.scope = scope;
+        this.retryAfterMs = retryAfterMs;
+    }
+}
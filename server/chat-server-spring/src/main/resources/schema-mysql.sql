@@ -28,12 +28,13 @@ CREATE TABLE users (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     nickname VARCHAR(50) NOT NULL UNIQUE,
     profile_color VARCHAR(20) NOT NULL DEFAULT '#4f85c8',
-    profile_image MEDIUMTEXT NULL COMMENT '프로필 이미지 (Base64 Data URL, 없으면 NULL)',
+    profile_image VARCHAR(512) NULL COMMENT '프로필 이미지 URL (파일 저장소 경로, 없으면 NULL)',
     created_at DATETIME(6) NOT NULL,
     last_active_at DATETIME(6) NOT NULL,
     active BOOLEAN NOT NULL DEFAULT TRUE,
     INDEX idx_nickname (nickname),
-    INDEX idx_active (active)
+    INDEX idx_active (active),
+    INDEX idx_profile_image (profile_image)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='사용자 정보';
 
@@ -43,7 +44,7 @@ COMMENT='사용자 정보';
 CREATE TABLE chat_rooms (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(100) NOT NULL,
-    image_url MEDIUMTEXT COMMENT '채팅방 썸네일 이미지 URL (Base64 또는 경로)',
+    image_url VARCHAR(512) COMMENT '채팅방 썸네일 이미지 URL (파일 저장소 경로)',
     creator_id BIGINT NOT NULL,
     created_at DATETIME(6) NOT NULL,
     version BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 잠금 버전',
@@ -51,6 +52,7 @@ CREATE TABLE chat_rooms (
     INDEX idx_creator_id (creator_id),
     INDEX idx_active (active),
     INDEX idx_created_at (created_at),
+    INDEX idx_image_url (image_url),
     CONSTRAINT fk_chat_rooms_creator 
         FOREIGN KEY (creator_id) REFERENCES users(id)
         ON DELETE RESTRICT
@@ -97,7 +99,7 @@ CREATE TABLE chat_room_members (
     INDEX idx_chat_room_id (chat_room_id),
     INDEX idx_user_id (user_id),
     INDEX idx_active (active),
-    INDEX idx_chat_room_user (chat_room_id, user_id),
+    UNIQUE KEY uk_crm_room_user (chat_room_id, user_id) COMMENT '입장 upsert / 행 단위 갱신 키',
     INDEX idx_chat_room_active (chat_room_id, active),
     INDEX idx_last_read_message (last_read_message_id),
     CONSTRAINT fk_chat_room_members_room 
@@ -120,8 +122,12 @@ CREATE TABLE attachments (
     message_id BIGINT NOT NULL,
     file_url MEDIUMTEXT NOT NULL COMMENT '파일 URL (이미지: 서버 경로, 스티커: 스티커 ID, 개발 단계: Base64)',
     file_type VARCHAR(50) NOT NULL COMMENT '파일 종류: IMAGE / STICKER',
+    width INT NULL COMMENT '이미지 가로 (px, 서버 저장 IMAGE만)',
+    height INT NULL COMMENT '이미지 세로 (px, 서버 저장 IMAGE만)',
+    placeholder VARCHAR(7) NULL COMMENT '이미지 평균 색 (#rrggbb)',
     created_at DATETIME(6) NOT NULL,
     INDEX idx_message_id (message_id),
+    INDEX idx_file_url (file_url(255)) COMMENT '업로드 정리 시 URL 참조 조회',
     CONSTRAINT fk_attachments_message
         FOREIGN KEY (message_id) REFERENCES messages(id)
         ON DELETE CASCADE
@@ -8,15 +8,29 @@ import com.netmarble.chat.domain.repository.ChatRoomMemberRepository;
 import com.netmarble.chat.domain.repository.ChatRoomRepository;
 import com.netmarble.chat.domain.repository.MessageRepository;
 import com.netmarble.chat.domain.repository.UserRepository;
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import com.netmarble.chat.domain.service.CacheInvalidationPublisher;
+import com.netmarble.chat.infrastructure.datasource.ReadWriteRoutingDataSource;
+import com.netmarble.chat.infrastructure.datasource.ReadYourWritesGuard;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
 
 import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -39,7 +53,13 @@ class ChatRoomApplicationServiceTest {
     @Mock
     private ReadStatusApplicationService readStatusApplicationService;
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private MembershipEventCoalescer membershipEventCoalescer;
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+    @Spy
+    private ReadCoalescer readCoalescer = new ReadCoalescer(
+            new ReadCoalescer.Settings(true, Duration.ZERO, 100),
+            TransactionOperations.withoutTransaction(), new SimpleMeterRegistry());
 
     @InjectMocks
     private ChatRoomApplicationService chatRoomApplicationService;
@@ -143,6 +163,67 @@ class ChatRoomApplicationServiceTest {
         assertTrue(Boolean.TRUE.equals(result.get(0).getIsMember()));
     }
 
+    @Test
+    void getAllActiveChatRooms_공유_스냅샷에서_본인_아바타_제외() {
+        chatRoom.addMember(otherUser);
+        when(chatRoomRepository.findAllActive()).thenReturn(List.of(chatRoom));
+        when(chatRoomMemberRepository.findActiveChatRoomIdsByUserId(anyLong())).thenReturn(Set.of());
+
+        List<ChatRoomResponse> forAlice = chatRoomApplicationService.getAllActiveChatRooms(1L);
+        List<ChatRoomResponse> forBob = chatRoomApplicationService.getAllActiveChatRooms(2L);
+
+        assertEquals(List.of("bob"), forAlice.get(0).getMemberAvatars().stream()
+                .map(ChatRoomResponse.MemberAvatar::getNickname).toList());
+        assertEquals(List.of("alice"), forBob.get(0).getMemberAvatars().stream()
+                .map(ChatRoomResponse.MemberAvatar::getNickname).toList());
+        assertEquals(2L, forAlice.get(0).getMemberCount());
+    }
+
+    @Test
+    void getAllActiveChatRooms_사용자별_조회도_replica로_간다() throws Exception {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        lenient().when(replica.getConnection()).thenReturn(mock(Connection.class));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica,
+                new ReadYourWritesGuard(new ReadYourWritesGuard.Settings(Duration.ofSeconds(2), 100)),
+                new SimpleMeterRegistry());
+        // 읽기 전용 트랜잭션 매니저가 남기는 readOnly 표시만 재현 — 라우팅은 이 표시로 replica를 고른다
+        TransactionOperations readOnlyTransaction = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+                try {
+                    return action.doInTransaction(new SimpleTransactionStatus());
+                } finally {
+                    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+                }
+            }
+        };
+        ChatRoomApplicationService service = new ChatRoomApplicationService(chatRoomRepository, userRepository,
+                messageRepository, chatRoomMemberRepository, readStatusApplicationService, membershipEventCoalescer,
+                cacheInvalidationPublisher, new ReadCoalescer(new ReadCoalescer.Settings(true, Duration.ZERO, 100),
+                        readOnlyTransaction, new SimpleMeterRegistry()));
+        when(chatRoomRepository.findAllActive()).thenReturn(List.of(chatRoom));
+        when(chatRoomMemberRepository.findActiveChatRoomIdsByUserId(1L))
+                .thenAnswer(invocation -> queried(routing, Set.of(10L)));
+        when(messageRepository.findLastByChatRoomId(10L))
+                .thenAnswer(invocation -> queried(routing, Optional.empty()));
+        when(readStatusApplicationService.getUnreadCount(1L, 10L))
+                .thenAnswer(invocation -> queried(routing, 3L));
+
+        List<ChatRoomResponse> result = service.getAllActiveChatRooms(1L);
+
+        assertEquals(3L, result.get(0).getUnreadCount());
+        verify(replica, times(3)).getConnection();
+        verifyNoInteractions(primary);
+    }
+
+    /** 조회가 실제로 커넥션을 잡는 시점을 흉내 낸다 */
+    private static <T> T queried(DataSource dataSource, T result) throws SQLException {
+        dataSource.getConnection();
+        return result;
+    }
+
     @Test
     void getAllActiveChatRooms_활성_방_없으면_빈_목록() {
         when(chatRoomRepository.findAllActive()).thenReturn(List.of());
@@ -161,15 +242,37 @@ class ChatRoomApplicationServiceTest {
 
         when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
         when(userRepository.findById(2L)).thenReturn(Optional.of(otherUser));
-        when(messageRepository.save(any(Message.class))).thenReturn(systemMsg);
+        when(chatRoomMemberRepository.findActiveFlag(10L, 2L)).thenReturn(Optional.empty());
+        when(chatRoomMemberRepository.insertIfAbsent(eq(10L), eq(2L), any())).thenReturn(1);
+        when(chatRoomMemberRepository.countActiveByChatRoomId(10L)).thenReturn(2L);
         when(messageRepository.findLastByChatRoomId(10L)).thenReturn(Optional.of(systemMsg));
-        when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(chatRoom);
 
         ChatRoomResponse response = chatRoomApplicationService.joinChatRoom(request);
 
-        assertNotNull(response);
-        verify(messageRepository).save(any(Message.class));
-        verify(messagingTemplate).convertAndSend(eq("/topic/chatroom.10"), any(MessageResponse.class));
+        assertEquals(2L, response.getMemberCount());
+        // 시스템 메시지 저장·브로드캐스트는 병합기가 담당
+        verify(membershipEventCoalescer).joined(eq(chatRoom), eq(List.of("bob")), eq(2L));
+        verify(cacheInvalidationPublisher).publish(new CacheInvalidation.RoomMembershipChanged(10L, List.of(2L)));
+        verify(chatRoomMemberRepository).advanceLastReadMessage(eq(10L), eq(2L), eq(101L), any());
+        // 애그리거트 저장 없음 (멤버 행만 갱신)
+        verify(chatRoomRepository, never()).save(any(ChatRoom.class));
+    }
+
+    @Test
+    void joinChatRoom_퇴장했던_멤버는_재활성화() {
+        JoinChatRoomRequest request = new JoinChatRoomRequest(10L, 2L);
+
+        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(otherUser));
+        when(chatRoomMemberRepository.findActiveFlag(10L, 2L)).thenReturn(Optional.of(false));
+        when(chatRoomMemberRepository.reactivate(eq(10L), eq(2L), any())).thenReturn(1);
+        when(chatRoomMemberRepository.countActiveByChatRoomId(10L)).thenReturn(2L);
+        when(messageRepository.findLastByChatRoomId(10L)).thenReturn(Optional.empty());
+
+        chatRoomApplicationService.joinChatRoom(request);
+
+        verify(chatRoomMemberRepository, never()).insertIfAbsent(any(), any(), any());
+        verify(membershipEventCoalescer).joined(eq(chatRoom), eq(List.of("bob")), eq(2L));
     }
 
     @Test
@@ -179,12 +282,34 @@ class ChatRoomApplicationServiceTest {
 
         when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
         when(userRepository.findById(1L)).thenReturn(Optional.of(creator));
+        when(chatRoomMemberRepository.findActiveFlag(10L, 1L)).thenReturn(Optional.of(true));
+        when(chatRoomMemberRepository.countActiveByChatRoomId(10L)).thenReturn(1L);
         when(messageRepository.findLastByChatRoomId(10L)).thenReturn(Optional.of(lastMsg));
-        when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(chatRoom);
 
         chatRoomApplicationService.joinChatRoom(request);
 
-        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(chatRoomMemberRepository, never()).reactivate(any(), any(), any());
+        verify(chatRoomMemberRepository, never()).insertIfAbsent(any(), any(), any());
+        verify(membershipEventCoalescer, never()).joined(any(), anyList(), anyLong());
+        verify(cacheInvalidationPublisher, never()).publish(any());
+        verify(messageRepository, never()).save(any(Message.class));
+        verify(chatRoomMemberRepository).advanceLastReadMessage(eq(10L), eq(1L), eq(50L), any());
+    }
+
+    @Test
+    void joinChatRoom_동시_입장으로_행이_이미_있으면_신규_입장_아님() {
+        JoinChatRoomRequest request = new JoinChatRoomRequest(10L, 2L);
+
+        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(otherUser));
+        when(chatRoomMemberRepository.findActiveFlag(10L, 2L)).thenReturn(Optional.empty());
+        when(chatRoomMemberRepository.insertIfAbsent(eq(10L), eq(2L), any())).thenReturn(0);
+        when(chatRoomMemberRepository.countActiveByChatRoomId(10L)).thenReturn(2L);
+        when(messageRepository.findLastByChatRoomId(10L)).thenReturn(Optional.empty());
+
+        chatRoomApplicationService.joinChatRoom(request);
+
+        verify(membershipEventCoalescer, never()).joined(any(), anyList(), anyLong());
     }
 
     @Test
@@ -209,18 +334,28 @@ class ChatRoomApplicationServiceTest {
     // ─── leaveChatRoom ───────────────────────────────────────────────────────
 
     @Test
-    void leaveChatRoom_성공() throws Exception {
-        chatRoom.addMember(otherUser);
-        Message systemMsg = makeSystemMessage(102L, chatRoom, "bob님이 퇴장했습니다.");
-
+    void leaveChatRoom_성공() {
         when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
         when(userRepository.findById(2L)).thenReturn(Optional.of(otherUser));
-        when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(chatRoom);
-        when(messageRepository.save(any(Message.class))).thenReturn(systemMsg);
+        when(chatRoomMemberRepository.deactivate(eq(10L), eq(2L), any())).thenReturn(1);
+        when(chatRoomMemberRepository.countActiveByChatRoomId(10L)).thenReturn(1L);
 
         assertDoesNotThrow(() -> chatRoomApplicationService.leaveChatRoom(10L, 2L));
 
-        verify(messagingTemplate).convertAndSend(eq("/topic/chatroom.10"), any(MessageResponse.class));
+        verify(membershipEventCoalescer).left(eq(chatRoom), eq(List.of("bob")), eq(1L));
+        verify(cacheInvalidationPublisher).publish(new CacheInvalidation.RoomMembershipChanged(10L, List.of(2L)));
+        verify(chatRoomRepository, never()).save(any(ChatRoom.class));
+    }
+
+    @Test
+    void leaveChatRoom_참여하지_않은_사용자면_예외() {
+        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(otherUser));
+        when(chatRoomMemberRepository.deactivate(eq(10L), eq(2L), any())).thenReturn(0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> chatRoomApplicationService.leaveChatRoom(10L, 2L));
+        verify(membershipEventCoalescer, never()).left(any(), anyList(), anyLong());
     }
 
     @Test
@@ -240,6 +375,53 @@ class ChatRoomApplicationServiceTest {
                 () -> chatRoomApplicationService.leaveChatRoom(10L, 999L));
     }
 
+    // ─── bulkJoinChatRoom ────────────────────────────────────────────────────
+
+    @Test
+    void bulkJoinChatRoom_신규_재입장_기존_없는사용자_분류_후_시스템메시지_1건() throws Exception {
+        User carol = new User("carol");
+        setId(carol, 3L);
+        User dave = new User("dave");
+        setId(dave, 4L);
+
+        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
+        when(userRepository.findAllById(List.of(1L, 2L, 3L, 4L, 99L)))
+                .thenReturn(List.of(creator, otherUser, carol, dave));
+        when(chatRoomMemberRepository.findUserIdsByActive(eq(10L), any(), eq(true))).thenReturn(Set.of(1L));
+        when(chatRoomMemberRepository.findUserIdsByActive(eq(10L), any(), eq(false))).thenReturn(Set.of(3L));
+        when(chatRoomMemberRepository.countActiveByChatRoomId(10L)).thenReturn(4L);
+
+        BulkJoinChatRoomResponse response = chatRoomApplicationService.bulkJoinChatRoom(
+                10L, List.of(1L, 2L, 2L, 3L, 4L, 99L));
+
+        assertEquals(5, response.getRequested());
+        assertEquals(3, response.getJoined());
+        assertEquals(1, response.getAlreadyMembers());
+        assertEquals(List.of(99L), response.getNotFoundUserIds());
+        assertEquals(4L, response.getMemberCount());
+        verify(chatRoomMemberRepository).reactivateAll(eq(10L), eq(Set.of(3L)), any());
+        verify(chatRoomMemberRepository).insertAllIfAbsent(eq(10L), eq(List.of(2L, 4L)), any());
+        verify(membershipEventCoalescer).joined(eq(chatRoom), eq(List.of("bob", "carol", "dave")), eq(4L));
+        verify(cacheInvalidationPublisher)
+                .publish(new CacheInvalidation.RoomMembershipChanged(10L, List.of(2L, 3L, 4L)));
+    }
+
+    @Test
+    void bulkJoinChatRoom_최대_인원_초과하면_예외() {
+        List<Long> userIds = java.util.stream.LongStream.rangeClosed(1, ChatRoomApplicationService.BULK_JOIN_MAX_USERS + 1)
+                .boxed().toList();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> chatRoomApplicationService.bulkJoinChatRoom(10L, userIds));
+        verify(chatRoomMemberRepository, never()).insertAllIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    void bulkJoinChatRoom_빈_목록이면_예외() {
+        assertThrows(IllegalArgumentException.class,
+                () -> chatRoomApplicationService.bulkJoinChatRoom(10L, List.of()));
+    }
+
     // ─── getActiveChatRoomMembers ────────────────────────────────────────────
 
     @Test
@@ -266,25 +448,29 @@ class ChatRoomApplicationServiceTest {
     void updateMemberActiveStatus_온라인으로_전환() throws Exception {
         Message lastMsg = makeSystemMessage(50L, chatRoom, "시스템");
 
-        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
+        when(chatRoomMemberRepository.markOnline(eq(10L), eq(1L), any())).thenReturn(1);
         when(messageRepository.findLastByChatRoomId(10L)).thenReturn(Optional.of(lastMsg));
-        when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(chatRoom);
 
         assertDoesNotThrow(() ->
                 chatRoomApplicationService.updateMemberActiveStatus(10L, 1L, true));
+
+        verify(chatRoomMemberRepository).advanceLastReadMessage(eq(10L), eq(1L), eq(50L), any());
+        verify(chatRoomRepository, never()).findById(any());
     }
 
     @Test
     void updateMemberActiveStatus_오프라인으로_전환() {
-        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
-        when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(chatRoom);
+        when(chatRoomMemberRepository.markOffline(10L, 1L)).thenReturn(1);
 
         assertDoesNotThrow(() ->
                 chatRoomApplicationService.updateMemberActiveStatus(10L, 1L, false));
+
+        verify(messageRepository, never()).findLastByChatRoomId(any());
     }
 
     @Test
     void updateMemberActiveStatus_채팅방_없으면_예외() {
+        when(chatRoomMemberRepository.markOnline(eq(999L), eq(1L), any())).thenReturn(0);
         when(chatRoomRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThrows(IllegalArgumentException.class,
@@ -297,15 +483,27 @@ class ChatRoomApplicationServiceTest {
     void updateMemberActivity_성공() throws Exception {
         Message lastMsg = makeSystemMessage(50L, chatRoom, "시스템");
 
-        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
+        when(chatRoomMemberRepository.markOnline(eq(10L), eq(1L), any())).thenReturn(1);
         when(messageRepository.findLastByChatRoomId(10L)).thenReturn(Optional.of(lastMsg));
-        when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(chatRoom);
 
         assertDoesNotThrow(() -> chatRoomApplicationService.updateMemberActivity(10L, 1L));
+
+        verify(chatRoomMemberRepository).advanceLastReadMessage(eq(10L), eq(1L), eq(50L), any());
+    }
+
+    @Test
+    void updateMemberActivity_멤버가_아니면_아무것도_하지_않음() {
+        when(chatRoomMemberRepository.markOnline(eq(10L), eq(2L), any())).thenReturn(0);
+        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
+
+        assertDoesNotThrow(() -> chatRoomApplicationService.updateMemberActivity(10L, 2L));
+
+        verify(messageRepository, never()).findLastByChatRoomId(any());
     }
 
     @Test
     void updateMemberActivity_채팅방_없으면_예외() {
+        when(chatRoomMemberRepository.markOnline(eq(999L), eq(1L), any())).thenReturn(0);
         when(chatRoomRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThrows(IllegalArgumentException.class,
@@ -0,0 +1,96 @@
+package com.netmarble.chat.application.service;
+
+import com.netmarble.chat.domain.model.ChatRoom;
+import com.netmarble.chat.domain.model.User;
+import com.netmarble.chat.domain.repository.ChatRoomRepository;
+import com.netmarble.chat.domain.repository.UserRepository;
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import com.netmarble.chat.domain.service.CacheInvalidationPublisher;
+import com.netmarble.chat.domain.service.FileStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ImageMigrationService 단위 테스트 — Base64 Data URL → 파일 저장소 URL
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageMigrationServiceTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private ChatRoomRepository chatRoomRepository;
+    @Mock private FileStorageService fileStorageService;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @InjectMocks
+    private ImageMigrationService imageMigrationService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private void setField(Object obj, String fieldName, Object value) throws Exception {
+        Field field = obj.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(obj, value);
+    }
+
+    @Test
+    void Data_URL을_파일로_저장하고_URL로_교체() throws Exception {
+        User user = new User("alice");
+        setField(user, "id", 1L);
+        // 도메인 검증을 우회해 이전 전 레거시 값 재현 ("abc" = YWJj)
+        setField(user, "profileImage", "data:image/jpg;base64,YWJj");
+
+        when(userRepository.findTop100ByIdGreaterThanAndProfileImageStartingWithOrderByIdAsc(0L, "data:"))
+                .thenReturn(List.of(user));
+        when(userRepository.findTop100ByIdGreaterThanAndProfileImageStartingWithOrderByIdAsc(1L, "data:"))
+                .thenReturn(List.of());
+        when(fileStorageService.store(any(InputStream.class), eq("image/jpeg"), anyString(), eq(3L), eq("profiles")))
+                .thenReturn("/uploads/profiles/2026/03/04/uuid.jpg");
+
+        ImageMigrationService.Report report = imageMigrationService.migrateAll();
+
+        assertEquals("/uploads/profiles/2026/03/04/uuid.jpg", user.getProfileImage());
+        assertEquals(1, report.users());
+        assertEquals(0, report.failed());
+        verify(cacheInvalidationPublisher).publish(new CacheInvalidation.UserChanged(1L));
+    }
+
+    @Test
+    void 형식이_잘못된_Data_URL은_그대로_두고_실패로_집계() throws Exception {
+        User creator = new User("alice");
+        setField(creator, "id", 1L);
+        ChatRoom chatRoom = new ChatRoom("테스트방", null, creator);
+        setField(chatRoom, "id", 10L);
+        setField(chatRoom, "imageUrl", "data:image/png,not-base64");
+
+        when(chatRoomRepository.findTop100ByIdGreaterThanAndImageUrlStartingWithOrderByIdAsc(0L, "data:"))
+                .thenReturn(List.of(chatRoom));
+        when(chatRoomRepository.findTop100ByIdGreaterThanAndImageUrlStartingWithOrderByIdAsc(10L, "data:"))
+                .thenReturn(List.of());
+
+        ImageMigrationService.Report report = imageMigrationService.migrateAll();
+
+        assertEquals("data:image/png,not-base64", chatRoom.getImageUrl());
+        assertEquals(0, report.rooms());
+        assertEquals(1, report.failed());
+        verifyNoInteractions(fileStorageService);
+    }
+}
@@ -0,0 +1,166 @@
+package com.netmarble.chat.application.service;
+
+import com.netmarble.chat.application.dto.MessageResponse;
+import com.netmarble.chat.application.dto.StompEventHeaders;
+import com.netmarble.chat.domain.model.ChatRoom;
+import com.netmarble.chat.domain.model.Message;
+import com.netmarble.chat.domain.model.User;
+import com.netmarble.chat.domain.repository.ChatRoomRepository;
+import com.netmarble.chat.domain.repository.MessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MembershipEventCoalescer 단위 테스트 — 입장/퇴장 폭주 시 요약 메시지 병합
+ */
+@ExtendWith(MockitoExtension.class)
+class MembershipEventCoalescerTest {
+
+    @Mock private MessageRepository messageRepository;
+    @Mock private ChatRoomRepository chatRoomRepository;
+    @Mock private SimpMessagingTemplate messagingTemplate;
+    @Mock private TaskScheduler scheduler;
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User creator = new User("alice");
+        setField(creator, "id", 1L);
+        chatRoom = new ChatRoom("테스트방", null, creator);
+        setField(chatRoom, "id", 10L);
+
+        lenient().when(scheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            scheduled.add(invocation.getArgument(0));
+            return null;
+        });
+        lenient().when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
+    }
+
+    private void setField(Object obj, String fieldName, Object value) throws Exception {
+        Field field = obj.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(obj, value);
+    }
+
+    private MembershipEventCoalescer coalescer(long windowMs, int broadcastThreshold) {
+        return new MembershipEventCoalescer(messageRepository, chatRoomRepository, messagingTemplate,
+                scheduler, windowMs, 2, broadcastThreshold);
+    }
+
+    private List<String> savedContents() {
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messageRepository, atLeastOnce()).save(captor.capture());
+        return captor.getAllValues().stream().map(Message::getContent).toList();
+    }
+
+    private void runScheduled() {
+        List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    void 조용한_방의_첫_입장은_바로_저장하고_브로드캐스트() {
+        coalescer(2000, 0).joined(chatRoom, List.of("bob"), 2);
+
+        assertEquals(List.of("bob님이 입장했습니다."), savedContents());
+        verify(messagingTemplate).convertAndSend(eq("/topic/chatroom.10"), any(MessageResponse.class),
+                eq(StompEventHeaders.lowPriority()));
+        assertEquals(1, scheduled.size());
+    }
+
+    @Test
+    void window_안의_입장은_요약_1건으로_병합() {
+        MembershipEventCoalescer coalescer = coalescer(2000, 0);
+        coalescer.joined(chatRoom, List.of("bob"), 2);
+        for (int i = 0; i < 50; i++) {
+            coalescer.joined(chatRoom, List.of("user" + i), 3 + i);
+        }
+        coalescer.left(chatRoom, List.of("carol"), 52);
+
+        runScheduled();
+
+        assertEquals(List.of("bob님이 입장했습니다.",
+                "user0, user1님 외 48명이 입장했습니다. carol님이 퇴장했습니다."), savedContents());
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/chatroom.10"), any(MessageResponse.class),
+                eq(StompEventHeaders.lowPriority()));
+        // 이벤트가 있었으므로 window 연장
+        assertEquals(1, scheduled.size());
+    }
+
+    @Test
+    void 한_window_동안_조용하면_닫히고_다음_이벤트는_바로_전송() {
+        MembershipEventCoalescer coalescer = coalescer(2000, 0);
+        coalescer.joined(chatRoom, List.of("bob"), 2);
+
+        runScheduled();
+        assertTrue(scheduled.isEmpty());
+
+        coalescer.left(chatRoom, List.of("bob"), 1);
+        assertEquals(List.of("bob님이 입장했습니다.", "bob님이 퇴장했습니다."), savedContents());
+    }
+
+    @Test
+    void 닫힌_window는_맵에서_제거되고_다음_이벤트는_새_window로_시작() {
+        MembershipEventCoalescer coalescer = coalescer(2000, 0);
+        coalescer.joined(chatRoom, List.of("bob"), 2);
+        coalescer.joined(chatRoom, List.of("carol"), 3);
+        assertEquals(1, coalescer.windowCount());
+
+        // 요약 전송 후 연장된 window가 조용히 끝나면 제거
+        runScheduled();
+        assertEquals(1, coalescer.windowCount());
+        runScheduled();
+        assertEquals(0, coalescer.windowCount());
+
+        coalescer.left(chatRoom, List.of("bob"), 2);
+        assertEquals(1, coalescer.windowCount());
+        assertEquals(List.of("bob님이 입장했습니다.", "carol님이 입장했습니다.", "bob님이 퇴장했습니다."),
+                savedContents());
+    }
+
+    @Test
+    void 대형_방은_저장만_하고_브로드캐스트_생략() {
+        MembershipEventCoalescer coalescer = coalescer(2000, 100);
+        coalescer.joined(chatRoom, List.of("bob"), 101);
+
+        assertEquals(List.of("bob님이 입장했습니다."), savedContents());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class), anyMap());
+    }
+
+    @Test
+    void window가_0이면_병합하지_않는다() {
+        MembershipEventCoalescer coalescer = coalescer(0, 0);
+        coalescer.joined(chatRoom, List.of("bob"), 2);
+        coalescer.joined(chatRoom, List.of("dave"), 3);
+
+        assertEquals(List.of("bob님이 입장했습니다.", "dave님이 입장했습니다."), savedContents());
+        verify(scheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void 여러_명을_한번에_기록하면_첫_메시지부터_요약() {
+        coalescer(2000, 0).joined(chatRoom, List.of("a", "b", "c"), 4);
+
+        assertEquals(List.of("a, b님 외 1명이 입장했습니다."), savedContents());
+    }
+}
@@ -1,8 +1,11 @@
 package com.netmarble.chat.application.service;
 
 import com.netmarble.chat.application.dto.MessageResponse;
+import com.netmarble.chat.application.dto.SendMessageRequest;
 import com.netmarble.chat.domain.model.ChatRoom;
+import com.netmarble.chat.domain.model.Attachment;
 import com.netmarble.chat.domain.model.ChatRoomMember;
+import com.netmarble.chat.domain.model.ImageMetadata;
 import com.netmarble.chat.domain.model.Message;
 import com.netmarble.chat.domain.model.User;
 import com.netmarble.chat.domain.repository.AttachmentRepository;
@@ -10,6 +13,7 @@ import com.netmarble.chat.domain.repository.ChatRoomMemberRepository;
 import com.netmarble.chat.domain.repository.ChatRoomRepository;
 import com.netmarble.chat.domain.repository.MessageRepository;
 import com.netmarble.chat.domain.repository.UserRepository;
+import com.netmarble.chat.domain.service.MessageIdempotencyStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +42,7 @@ class MessageApplicationServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private AttachmentRepository attachmentRepository;
     @Mock private ChatRoomMemberRepository chatRoomMemberRepository;
+    @Mock private MessageIdempotencyStore messageIdempotencyStore;
 
     @InjectMocks
     private MessageApplicationService messageApplicationService;
@@ -175,4 +180,123 @@ class MessageApplicationServiceTest {
         // then
         assertTrue(result.isEmpty());
     }
+
+    // ─── BE-MSG-SVC-IDEM ────────────────────────────────────────────────────
+    private SendMessageRequest textRequest(String clientMessageId) {
+        SendMessageRequest request = new SendMessageRequest();
+        request.setChatRoomId(10L);
+        request.setSenderId(1L);
+        request.setContent("새 메시지");
+        request.setMessageType("TEXT");
+        request.setClientMessageId(clientMessageId);
+        return request;
+    }
+
+    @Test
+    void sendMessage_clientMessageId_처음이면_저장하고_완료_기록() {
+        // given
+        when(messageIdempotencyStore.reserve(1L, "cmid-1"))
+            .thenReturn(MessageIdempotencyStore.Reservation.acquired());
+        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(sender));
+        when(messageRepository.save(any(Message.class))).thenReturn(newMessage);
+
+        // when
+        MessageResponse response = messageApplicationService.sendMessage(textRequest("cmid-1"));
+
+        // then
+        assertEquals(2L, response.getId());
+        assertEquals("cmid-1", response.getClientMessageId());
+        assertFalse(response.isReplayed());
+        verify(messageIdempotencyStore).complete(1L, "cmid-1", 2L);
+    }
+
+    @Test
+    void sendMessage_이미_처리된_clientMessageId면_저장_없이_원본_반환() {
+        // given
+        when(messageIdempotencyStore.reserve(1L, "cmid-1"))
+            .thenReturn(MessageIdempotencyStore.Reservation.completed(2L));
+        when(messageRepository.findById(2L)).thenReturn(Optional.of(newMessage));
+
+        // when
+        MessageResponse response = messageApplicationService.sendMessage(textRequest("cmid-1"));
+
+        // then
+        assertEquals(2L, response.getId());
+        assertEquals("새 메시지", response.getContent());
+        assertEquals("cmid-1", response.getClientMessageId());
+        assertTrue(response.isReplayed());
+        verify(messageRepository, never()).save(any());
+        verify(messageIdempotencyStore, never()).complete(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    void sendMessage_같은_clientMessageId가_처리_중이면_예외() {
+        // given
+        when(messageIdempotencyStore.reserve(1L, "cmid-1"))
+            .thenReturn(MessageIdempotencyStore.Reservation.inFlight());
+
+        // when & then
+        assertThrows(MessageIdempotencyStore.InFlightException.class,
+            () -> messageApplicationService.sendMessage(textRequest("cmid-1")));
+        verify(messageRepository, never()).save(any());
+    }
+
+    @Test
+    void sendMessage_저장_실패하면_선점_해제() {
+        // given
+        when(messageIdempotencyStore.reserve(1L, "cmid-1"))
+            .thenReturn(MessageIdempotencyStore.Reservation.acquired());
+        when(chatRoomRepository.findById(10L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+            () -> messageApplicationService.sendMessage(textRequest("cmid-1")));
+        verify(messageIdempotencyStore).release(1L, "cmid-1");
+        verify(messageIdempotencyStore, never()).complete(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    void sendMessage_clientMessageId_없으면_멱등성_저장소를_거치지_않는다() {
+        // given
+        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(sender));
+        when(messageRepository.save(any(Message.class))).thenReturn(newMessage);
+
+        // when
+        MessageResponse response = messageApplicationService.sendMessage(textRequest(null));
+
+        // then
+        assertNull(response.getClientMessageId());
+        verifyNoInteractions(messageIdempotencyStore);
+    }
+
+    @Test
+    void sendMessage_업로드_이미지는_크기_평균색_썸네일_URL을_응답에_포함() throws Exception {
+        // given
+        SendMessageRequest request = new SendMessageRequest();
+        request.setChatRoomId(10L);
+        request.setSenderId(1L);
+        request.setContent("/uploads/messages/2026/03/04/abc.png");
+        request.setMessageType("IMAGE");
+        request.setFileName("photo.png");
+        request.setImageMetadata(new ImageMetadata(1200, 800, "#204080"));
+
+        Message imageMessage = new Message(chatRoom, sender, "photo.png", Message.MessageType.IMAGE);
+        setId(imageMessage, 3L);
+        when(chatRoomRepository.findById(10L)).thenReturn(Optional.of(chatRoom));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(sender));
+        when(messageRepository.save(any(Message.class))).thenReturn(imageMessage);
+        when(attachmentRepository.save(any(Attachment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        MessageResponse response = messageApplicationService.sendMessage(request);
+
+        // then
+        assertEquals("/uploads/messages/2026/03/04/abc.png", response.getAttachmentUrl());
+        assertEquals("/uploads/messages/2026/03/04/abc_w480.jpg", response.getThumbnailUrl());
+        assertEquals(1200, response.getImageWidth());
+        assertEquals(800, response.getImageHeight());
+        assertEquals("#204080", response.getImagePlaceholder());
+    }
 }
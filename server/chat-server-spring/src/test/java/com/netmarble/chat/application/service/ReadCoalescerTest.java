@@ -0,0 +1,210 @@
+package com.netmarble.chat.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final TransactionOperations countingTransaction = callback -> {
+        transactions.incrementAndGet();
+        return callback.doInTransaction(null);
+    };
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private ReadCoalescer coalescer(boolean enabled, Duration ttl) {
+        return coalescer(enabled, ttl, new AtomicBoolean());
+    }
+
+    private ReadCoalescer coalescer(boolean enabled, Duration ttl, AtomicBoolean bypass) {
+        return new ReadCoalescer(new ReadCoalescer.Settings(enabled, ttl, 100),
+                countingTransaction, meterRegistry, bypass::get, now::get);
+    }
+
+    private double count(String result) {
+        var counter = meterRegistry.find("chat.read.coalesce").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    void 동시_요청은_한_번의_조회를_공유() throws Exception {
+        ReadCoalescer coalescer = coalescer(true, Duration.ZERO);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<String> leader = executor.submit(() -> coalescer.execute("members", 10L, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "result";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> coalescer.execute("members", 10L, () -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+        while (count("shared") < 5) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, transactions.get());
+        assertEquals(0, coalescer.flightCount());
+    }
+
+    @Test
+    void 다른_key는_병합하지_않음() {
+        ReadCoalescer coalescer = coalescer(true, Duration.ofSeconds(1));
+
+        assertEquals("a", coalescer.execute("members", 1L, () -> "a"));
+        assertEquals("b", coalescer.execute("members", 2L, () -> "b"));
+        assertEquals("c", coalescer.execute("chat-room", 1L, () -> "c"));
+
+        assertEquals(3, transactions.get());
+    }
+
+    @Test
+    void 실패는_기다리던_요청에_전달되고_남지_않음() throws Exception {
+        ReadCoalescer coalescer = coalescer(true, Duration.ofSeconds(10));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.execute("chat-room", 999L, () -> {
+            loading.countDown();
+            await(release);
+            throw new IllegalArgumentException("채팅방을 찾을 수 없습니다: 999");
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> coalescer.execute("chat-room", 999L, () -> "other"));
+        while (count("shared") < 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, leaderError.getCause());
+        assertInstanceOf(IllegalArgumentException.class, followerError.getCause());
+
+        assertEquals(0, coalescer.flightCount());
+        assertEquals("retry", coalescer.execute("chat-room", 999L, () -> "retry"));
+    }
+
+    @Test
+    void 무효화_이후_요청은_진행_중인_조회에_합류하지_않고_새로_읽음() throws Exception {
+        ReadCoalescer coalescer = coalescer(true, Duration.ZERO);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 입장 커밋 전에 시작된 멤버 목록 조회
+        Future<String> stale = executor.submit(() -> coalescer.execute("members", 10L, () -> {
+            loading.countDown();
+            await(release);
+            return "before-join";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // 입장 커밋 → 무효화 → 본인의 다음 조회
+        coalescer.invalidate("members", 10L);
+        assertEquals("after-join", coalescer.execute("members", 10L, () -> "after-join"));
+
+        release.countDown();
+        assertEquals("before-join", stale.get(5, TimeUnit.SECONDS));
+        assertEquals(0, count("shared"));
+        assertEquals(2, count("leader"));
+        assertEquals(0, coalescer.flightCount());
+    }
+
+    @Test
+    void 무효화하면_ttl_안의_결과도_버림() {
+        ReadCoalescer coalescer = coalescer(true, Duration.ofSeconds(10));
+
+        assertEquals("v1", coalescer.execute("chat-room", 1L, () -> "v1"));
+        coalescer.invalidate("chat-room", 1L);
+
+        assertEquals("v2", coalescer.execute("chat-room", 1L, () -> "v2"));
+        assertEquals(0, count("cached"));
+    }
+
+    @Test
+    void ttl_동안_끝난_결과를_재사용() {
+        ReadCoalescer coalescer = coalescer(true, Duration.ofMillis(500));
+
+        assertEquals("v1", coalescer.execute("chat-rooms", "active", () -> "v1"));
+        now.addAndGet(Duration.ofMillis(499).toNanos());
+        assertEquals("v1", coalescer.execute("chat-rooms", "active", () -> "v2"));
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        assertEquals("v3", coalescer.execute("chat-rooms", "active", () -> "v3"));
+
+        assertEquals(2, transactions.get());
+        assertEquals(1, count("cached"));
+    }
+
+    @Test
+    void ttl_0이면_끝난_결과를_재사용하지_않음() {
+        ReadCoalescer coalescer = coalescer(true, Duration.ZERO);
+
+        assertEquals("v1", coalescer.execute("members", 10L, () -> "v1"));
+        assertEquals("v2", coalescer.execute("members", 10L, () -> "v2"));
+
+        assertEquals(0, coalescer.flightCount());
+        assertEquals(0, count("cached"));
+    }
+
+    @Test
+    void 비활성화_또는_bypass면_매번_조회() {
+        ReadCoalescer disabled = coalescer(false, Duration.ofSeconds(10));
+        assertEquals("v1", disabled.execute("members", 10L, () -> "v1"));
+        assertEquals("v2", disabled.execute("members", 10L, () -> "v2"));
+        assertEquals(0, disabled.flightCount());
+
+        AtomicBoolean pinned = new AtomicBoolean(true);
+        ReadCoalescer coalescer = coalescer(true, Duration.ofSeconds(10), pinned);
+        assertEquals("v3", coalescer.execute("members", 10L, () -> "v3"));
+        assertEquals(0, coalescer.flightCount());
+
+        assertEquals(3, transactions.get());
+        assertEquals(0, count("leader"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.netmarble.chat.application.service;
 
+import com.netmarble.chat.application.dto.StompEventHeaders;
 import com.netmarble.chat.application.dto.UnreadCountResponse;
 import com.netmarble.chat.domain.model.ChatRoom;
 import com.netmarble.chat.domain.model.ChatRoomMember;
@@ -88,7 +89,8 @@ class ReadStatusApplicationServiceTest {
         assertDoesNotThrow(() -> readStatusApplicationService.markAsRead(1L, 10L));
 
         verify(chatRoomMemberRepository).save(any(ChatRoomMember.class));
-        verify(messagingTemplate).convertAndSend(eq("/topic/chatroom.10.read-status"), any(Object.class));
+        verify(messagingTemplate).convertAndSend(eq("/topic/chatroom.10.read-status"), any(Object.class),
+                eq(StompEventHeaders.lowPriority("read-status.1")));
     }
 
     @Test
@@ -100,6 +102,7 @@ class ReadStatusApplicationServiceTest {
 
         verify(chatRoomMemberRepository, never()).save(any());
         verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class), anyMap());
     }
 
     @Test
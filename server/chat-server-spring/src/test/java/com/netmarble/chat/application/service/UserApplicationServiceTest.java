@@ -1,9 +1,13 @@
 package com.netmarble.chat.application.service;
 
+import com.netmarble.chat.application.dto.BulkCreateUserRequest;
+import com.netmarble.chat.application.dto.BulkCreateUserResponse;
 import com.netmarble.chat.application.dto.CreateUserRequest;
 import com.netmarble.chat.application.dto.UserResponse;
 import com.netmarble.chat.domain.model.User;
 import com.netmarble.chat.domain.repository.UserRepository;
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import com.netmarble.chat.domain.service.CacheInvalidationPublisher;
 import com.netmarble.chat.domain.service.UserDomainService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,9 +18,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +35,9 @@ class UserApplicationServiceTest {
     @Mock
     private UserDomainService userDomainService;
 
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
     @InjectMocks
     private UserApplicationService userApplicationService;
 
@@ -40,17 +50,18 @@ class UserApplicationServiceTest {
     }
 
     @Test
-    void createUser_신규_사용자_생성() throws Exception {
+    void createUser_신규_사용자는_upsert_한번으로_생성() {
         CreateUserRequest request = new CreateUserRequest("alice", "#ff0000", null);
-        User savedUser = makeUser(1L, "alice");
 
-        when(userRepository.findByNickname("alice")).thenReturn(Optional.empty());
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        when(userRepository.upsertByNickname(any(User.class), eq("#ff0000"), isNull())).thenReturn(Optional.of(1L));
 
         UserResponse response = userApplicationService.createUser(request);
 
+        assertEquals(1L, response.getId());
         assertEquals("alice", response.getNickname());
-        verify(userRepository).save(any(User.class));
+        assertEquals("#ff0000", response.getProfileColor());
+        verify(userRepository, never()).findByNickname(any());
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
@@ -58,14 +69,74 @@ class UserApplicationServiceTest {
         CreateUserRequest request = new CreateUserRequest("alice", "#00ff00", null);
         User existingUser = makeUser(1L, "alice");
 
+        when(userRepository.upsertByNickname(any(User.class), eq("#00ff00"), isNull())).thenReturn(Optional.empty());
         when(userRepository.findByNickname("alice")).thenReturn(Optional.of(existingUser));
-        when(userRepository.save(existingUser)).thenReturn(existingUser);
 
         UserResponse response = userApplicationService.createUser(request);
 
+        assertEquals(1L, response.getId());
         assertEquals("alice", response.getNickname());
-        verify(userRepository).save(existingUser);
-        verify(userRepository, never()).save(argThat(u -> u != existingUser));
+        verify(userRepository, never()).save(any(User.class));
+        // 갱신된 프로필이 다른 인스턴스 캐시에 남지 않도록
+        verify(cacheInvalidationPublisher).publish(new CacheInvalidation.UserChanged(1L));
+    }
+
+    @Test
+    void createUser_프로필_색상이_없으면_기존_값_유지() {
+        CreateUserRequest request = new CreateUserRequest("alice", " ", null);
+
+        when(userRepository.upsertByNickname(any(User.class), isNull(), isNull())).thenReturn(Optional.of(1L));
+
+        UserResponse response = userApplicationService.createUser(request);
+
+        // 신규 가입이면 기본 색상으로 INSERT
+        assertEquals("#4f85c8", response.getProfileColor());
+    }
+
+    @Test
+    void createUser_닉네임이_유효하지_않으면_예외() {
+        CreateUserRequest request = new CreateUserRequest("a", null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> userApplicationService.createUser(request));
+        verify(userRepository, never()).upsertByNickname(any(), any(), any());
+    }
+
+    @Test
+    void bulkCreateUsers_이미_있는_닉네임은_건너뛰고_배치_INSERT() {
+        BulkCreateUserRequest request = new BulkCreateUserRequest(List.of("load_1", "load_2", "load_2", "load_3"), null);
+
+        when(userRepository.findExistingNicknames(List.of("load_1", "load_2", "load_3"))).thenReturn(Set.of("load_2"));
+        when(userRepository.insertAllIfAbsent(any())).thenReturn(2);
+
+        BulkCreateUserResponse response = userApplicationService.bulkCreateUsers(request);
+
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getCreated());
+        assertEquals(1, response.getExisting());
+        verify(userRepository).insertAllIfAbsent(argThat(users -> users.size() == 2
+                && users.stream().map(User::getNickname).toList().equals(List.of("load_1", "load_3"))));
+    }
+
+    @Test
+    void bulkCreateUsers_조회_후_동시에_생긴_닉네임은_생성_수에서_제외() {
+        BulkCreateUserRequest request = new BulkCreateUserRequest(List.of("load_1", "load_2"), null);
+
+        when(userRepository.findExistingNicknames(List.of("load_1", "load_2"))).thenReturn(Set.of());
+        // load_2는 조회 뒤 다른 요청이 먼저 만들어 INSERT IGNORE가 건너뜀
+        when(userRepository.insertAllIfAbsent(any())).thenReturn(1);
+
+        BulkCreateUserResponse response = userApplicationService.bulkCreateUsers(request);
+
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getExisting());
+    }
+
+    @Test
+    void bulkCreateUsers_잘못된_닉네임이_있으면_아무것도_만들지_않음() {
+        BulkCreateUserRequest request = new BulkCreateUserRequest(List.of("load_1", "잘못된 닉네임"), null);
+
+        assertThrows(IllegalArgumentException.class, () -> userApplicationService.bulkCreateUsers(request));
+        verify(userRepository, never()).insertAllIfAbsent(any());
     }
 
     @Test
@@ -136,6 +136,27 @@ class ChatRoomTest {
         assertFalse(chatRoom.isActiveMember(otherUser));
     }
 
+    @Test
+    void findActiveMember_사용자_ID로_활성_멤버_조회() {
+        ChatRoom chatRoom = new ChatRoom("테스트방", null, creator);
+        chatRoom.addMember(otherUser);
+
+        assertEquals(otherUser, chatRoom.findActiveMember(2L).orElseThrow().getUser());
+        chatRoom.removeMember(otherUser);
+        assertTrue(chatRoom.findActiveMember(2L).isEmpty());
+    }
+
+    @Test
+    void 재입장은_기존_멤버_행을_재사용() {
+        ChatRoom chatRoom = new ChatRoom("테스트방", null, creator);
+        chatRoom.addMember(otherUser);
+        chatRoom.removeMember(otherUser);
+        chatRoom.addMember(otherUser);
+
+        assertEquals(2, chatRoom.getMembers().size());
+        assertEquals(2, chatRoom.getActiveMemberCount());
+    }
+
     @Test
     void getActiveMemberCount_퇴장한_멤버_제외() {
         ChatRoom chatRoom = new ChatRoom("테스트방", null, creator);
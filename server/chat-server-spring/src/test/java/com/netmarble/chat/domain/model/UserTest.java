@@ -101,6 +101,15 @@ class UserTest {
         assertNull(user.getProfileImage());
     }
 
+    @Test
+    void updateProfileImage_Data_URL이면_예외() {
+        User user = new User("alice");
+        assertThrows(IllegalArgumentException.class,
+                () -> user.updateProfileImage("data:image/png;base64,iVBORw0KGgo="));
+        assertThrows(IllegalArgumentException.class,
+                () -> new User("bob", null, "DATA:image/png;base64,iVBORw0KGgo="));
+    }
+
     @Test
     void updateLastActive_활동시간_갱신() throws InterruptedException {
         User user = new User("alice");
@@ -0,0 +1,48 @@
+package com.netmarble.chat.infrastructure.cache;
+
+import com.netmarble.chat.application.service.ReadCoalescer;
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+class ReadCoalescerInvalidatorTest {
+
+    private ReadCoalescer readCoalescer;
+    private ReadCoalescerInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        readCoalescer = mock(ReadCoalescer.class);
+        invalidator = new ReadCoalescerInvalidator(readCoalescer);
+    }
+
+    @Test
+    void 멤버십_변경은_멤버_목록_상세_목록_조회를_내린다() {
+        invalidator.onInvalidation(new CacheInvalidation.RoomMembershipChanged(7L, List.of(1L)));
+
+        verify(readCoalescer).invalidate("members", 7L);
+        verify(readCoalescer).invalidate("chat-room", 7L);
+        verify(readCoalescer).invalidate("chat-rooms", "active");
+        verifyNoMoreInteractions(readCoalescer);
+    }
+
+    @Test
+    void 채팅방_요약_변경은_상세와_목록_조회를_내린다() {
+        invalidator.onInvalidation(new CacheInvalidation.RoomSummaryChanged(7L));
+
+        verify(readCoalescer).invalidate("chat-room", 7L);
+        verify(readCoalescer).invalidate("chat-rooms", "active");
+        verifyNoMoreInteractions(readCoalescer);
+    }
+
+    @Test
+    void 사용자_변경은_무시() {
+        invalidator.onInvalidation(new CacheInvalidation.UserChanged(42L));
+
+        verifyNoInteractions(readCoalescer);
+    }
+}
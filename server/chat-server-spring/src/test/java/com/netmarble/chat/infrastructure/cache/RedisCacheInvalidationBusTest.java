@@ -0,0 +1,138 @@
+package com.netmarble.chat.infrastructure.cache;
+
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisCacheInvalidationBusTest {
+
+    private static final String CHANNEL = "chat:cache:invalidate";
+    private static final String SEQUENCE_KEY = "chat:cache:invalidation-seq";
+
+    private SimpleMeterRegistry meterRegistry;
+    private StringRedisTemplate redisTemplate;
+    private CacheInvalidationListener listener;
+    private RedisCacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        redisTemplate = mock(StringRedisTemplate.class);
+        listener = mock(CacheInvalidationListener.class);
+        bus = new RedisCacheInvalidationBus(redisTemplate, new LocalCacheInvalidationPublisher(List.of(listener)),
+                CHANNEL, SEQUENCE_KEY, "a", 1000, meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stampReturns(Long version) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(version);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("chat.cache.invalidation", "result", result).count();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 발행하면_버전을_붙여_전파하고_로컬은_바로_무효화한다() {
+        stampReturns(7L);
+        CacheInvalidation invalidation = new CacheInvalidation.UserChanged(1L);
+
+        bus.publish(invalidation);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(SEQUENCE_KEY)), eq(CHANNEL), eq("a|user|1|"));
+        verify(listener).onInvalidation(invalidation);
+        assertEquals(1, count("published"));
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋_후에_전파한다() {
+        stampReturns(1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bus.publish(new CacheInvalidation.RoomSummaryChanged(10L));
+            verifyNoInteractions(redisTemplate, listener);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            verify(listener).onInvalidation(new CacheInvalidation.RoomSummaryChanged(10L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 다른_인스턴스의_이벤트를_복원해_구독자에게_전달한다() {
+        bus.handle("b|membership|10|1,2,3|5");
+
+        verify(listener).onInvalidation(new CacheInvalidation.RoomMembershipChanged(10L, List.of(1L, 2L, 3L)));
+        assertEquals(1, count("received"));
+    }
+
+    @Test
+    void 자기_인스턴스가_보낸_메시지와_잘못된_메시지는_무시한다() {
+        bus.handle("a|user|1||5");
+        bus.handle("b|unknown|1||6");
+        bus.handle("b|user|abc||7");
+        bus.handle("garbage");
+
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void 같은_key의_이전_버전은_늦게_도착해도_버린다() {
+        bus.handle("b|room|10||9");
+        bus.handle("b|room|10||8");
+        bus.handle("b|room|10||9");
+        bus.handle("b|room|11||8");
+
+        verify(listener).onInvalidation(new CacheInvalidation.RoomSummaryChanged(10L));
+        verify(listener).onInvalidation(new CacheInvalidation.RoomSummaryChanged(11L));
+        assertEquals(2, count("stale"));
+    }
+
+    @Test
+    void 로컬_발행보다_먼저_발급된_다른_인스턴스_이벤트는_버린다() {
+        stampReturns(7L);
+        bus.publish(new CacheInvalidation.UserChanged(1L));
+
+        bus.handle("b|user|1||6");
+
+        verify(listener, times(1)).onInvalidation(any());
+        assertEquals(1, count("stale"));
+    }
+
+    @Test
+    void Redis_장애에도_로컬_무효화는_수행한다() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        bus.publish(new CacheInvalidation.UserChanged(1L));
+
+        verify(listener).onInvalidation(new CacheInvalidation.UserChanged(1L));
+        assertEquals(1, count("failed"));
+    }
+
+    @Test
+    void 구독자_하나의_실패가_다른_구독자를_막지_않는다() {
+        CacheInvalidationListener failing = mock(CacheInvalidationListener.class);
+        doThrow(new IllegalStateException("boom")).when(failing).onInvalidation(any());
+        LocalCacheInvalidationPublisher local = new LocalCacheInvalidationPublisher(List.of(failing, listener));
+
+        local.publish(new CacheInvalidation.UserChanged(1L));
+
+        verify(listener).onInvalidation(new CacheInvalidation.UserChanged(1L));
+    }
+}
@@ -0,0 +1,46 @@
+package com.netmarble.chat.infrastructure.cache;
+
+import com.netmarble.chat.domain.model.ChatRoom;
+import com.netmarble.chat.domain.model.User;
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+class SecondLevelCacheInvalidatorTest {
+
+    private SecondLevelCacheInvalidator.SecondLevelCache cache;
+    private SecondLevelCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cache = mock(SecondLevelCacheInvalidator.SecondLevelCache.class);
+        invalidator = new SecondLevelCacheInvalidator(cache);
+    }
+
+    @Test
+    void 사용자_변경은_User_항목만_내린다() {
+        invalidator.onInvalidation(new CacheInvalidation.UserChanged(42L));
+
+        verify(cache).evictEntity(User.class, 42L);
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    void 채팅방_요약_변경은_ChatRoom_항목만_내린다() {
+        invalidator.onInvalidation(new CacheInvalidation.RoomSummaryChanged(7L));
+
+        verify(cache).evictEntity(ChatRoom.class, 7L);
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    void 멤버십_변경은_2차_캐시를_건드리지_않는다() {
+        invalidator.onInvalidation(new CacheInvalidation.RoomMembershipChanged(7L, List.of(1L, 2L)));
+
+        verifyNoInteractions(cache);
+    }
+}
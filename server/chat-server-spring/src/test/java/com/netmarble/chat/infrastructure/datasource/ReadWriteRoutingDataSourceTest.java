@@ -0,0 +1,90 @@
+package com.netmarble.chat.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * primary / replica 대역으로 H2 인메모리 DB 두 개를 띄워 어느 쪽에서 읽었는지 확인한다
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadYourWritesGuard guard;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new ReadYourWritesGuard(new ReadYourWritesGuard.Settings(Duration.ofSeconds(2), 100));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                database("primary"), database("replica"), guard, meterRegistry));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica에서_읽는다() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentNode()));
+        assertEquals(1, meterRegistry.counter("chat.datasource.route", "target", "replica").count());
+    }
+
+    @Test
+    void 쓰기_트랜잭션과_트랜잭션_밖은_primary로_간다() {
+        assertEquals("primary", writeTransaction.execute(status -> currentNode()));
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    void 쓰기_트랜잭션에_합류한_읽기_전용_호출은_primary_커넥션을_쓴다() {
+        String node = writeTransaction.execute(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            return readOnlyTransaction.execute(inner -> currentNode());
+        });
+
+        assertEquals("primary", node);
+    }
+
+    @Test
+    void 최근에_쓴_사용자의_읽기는_primary로_고정된다() {
+        guard.recordWrite(ReadYourWritesGuard.userKey(2L));
+
+        assertTrue(guard.pinIfRecentlyWritten(List.of(ReadYourWritesGuard.userKey(2L))));
+        try {
+            assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+        } finally {
+            guard.unpin();
+        }
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentNode()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.netmarble.chat.infrastructure.datasource;
+
+import com.netmarble.chat.domain.service.CacheInvalidation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesGuardTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private ReadYourWritesGuard guard;
+    private ReadYourWritesInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        guard = new ReadYourWritesGuard(new ReadYourWritesGuard.Settings(Duration.ofSeconds(2), 3), now::get);
+        interceptor = new ReadYourWritesInterceptor(guard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        guard.unpin();
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, Map<String, String> pathVariables) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, pathVariables);
+        return request;
+    }
+
+    @Test
+    void window가_지나면_고정하지_않는다() {
+        guard.recordWrite(ReadYourWritesGuard.userKey(1L));
+
+        now.addAndGet(Duration.ofMillis(1999).toNanos());
+        assertTrue(guard.pinIfRecentlyWritten(List.of(ReadYourWritesGuard.userKey(1L))));
+        guard.unpin();
+
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        assertFalse(guard.pinIfRecentlyWritten(List.of(ReadYourWritesGuard.userKey(1L))));
+        assertFalse(guard.isPinned());
+    }
+
+    @Test
+    void 멤버십_변경은_채팅방과_사용자를_함께_기록한다() {
+        guard.onInvalidation(new CacheInvalidation.RoomMembershipChanged(10L, List.of(2L)));
+
+        assertTrue(guard.pinIfRecentlyWritten(List.of(ReadYourWritesGuard.roomKey(10L))));
+        guard.unpin();
+        assertTrue(guard.pinIfRecentlyWritten(List.of(ReadYourWritesGuard.userKey(2L))));
+    }
+
+    @Test
+    void key_수가_한도에_차면_만료된_key를_정리한다() {
+        guard.recordWrite("user:1");
+        guard.recordWrite("user:2");
+        guard.recordWrite("user:3");
+        now.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        guard.recordWrite("user:4");
+
+        assertEquals(1, guard.trackedKeys());
+    }
+
+    @Test
+    void 성공한_쓰기_요청은_사용자를_기록하고_이후_조회를_primary로_고정한다() {
+        MockHttpServletRequest join = request("POST", "/api/chat-rooms/10/join", Map.of("id", "10"));
+        join.setParameter("userId", "2");
+        interceptor.preHandle(join, new MockHttpServletResponse(), new Object());
+        interceptor.afterCompletion(join, new MockHttpServletResponse(), new Object(), null);
+
+        MockHttpServletRequest rooms = request("GET", "/api/chat-rooms", Map.of());
+        rooms.setParameter("userId", "2");
+        interceptor.preHandle(rooms, new MockHttpServletResponse(), new Object());
+        assertTrue(guard.isPinned());
+
+        interceptor.afterCompletion(rooms, new MockHttpServletResponse(), new Object(), null);
+        assertFalse(guard.isPinned());
+    }
+
+    @Test
+    void 실패한_쓰기와_조회_요청은_기록하지_않는다() {
+        MockHttpServletRequest failed = request("POST", "/api/chat-rooms/10/leave", Map.of("id", "10"));
+        failed.setParameter("userId", "2");
+        MockHttpServletResponse badRequest = new MockHttpServletResponse();
+        badRequest.setStatus(400);
+        interceptor.afterCompletion(failed, badRequest, new Object(), null);
+
+        MockHttpServletRequest profile = request("GET", "/api/users/3", Map.of("id", "3"));
+        interceptor.afterCompletion(profile, new MockHttpServletResponse(), new Object(), null);
+
+        assertEquals(0, guard.trackedKeys());
+    }
+
+    @Test
+    void 경로와_파라미터에서_사용자와_채팅방_ID를_읽는다() {
+        assertEquals(3L, ReadYourWritesInterceptor.userId(request("GET", "/api/users/3", Map.of("id", "3"))));
+        assertEquals(10L, ReadYourWritesInterceptor.chatRoomId(
+                request("GET", "/api/chat-rooms/10/members", Map.of("id", "10"))));
+        assertEquals(7L, ReadYourWritesInterceptor.chatRoomId(
+                request("GET", "/api/chat/chat-rooms/7/messages/search", Map.of("chatRoomId", "7"))));
+        assertNull(ReadYourWritesInterceptor.userId(
+                request("GET", "/api/users/nickname/alice", Map.of("nickname", "alice"))));
+    }
+}
@@ -0,0 +1,125 @@
+package com.netmarble.chat.infrastructure.idempotency;
+
+import com.netmarble.chat.domain.service.MessageIdempotencyStore.Reservation;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalMessageIdempotencyStoreTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000 * MILLIS);
+
+    private LocalMessageIdempotencyStore store(int maxPerSender, int maxSenders) {
+        return new LocalMessageIdempotencyStore(60_000, 5_000, maxPerSender, maxSenders, now::get);
+    }
+
+    @Test
+    void 처음_보는_키는_선점되고_처리_중_재시도는_inFlight() {
+        LocalMessageIdempotencyStore store = store(10, 10);
+
+        assertTrue(store.reserve(1L, "a").acquired());
+
+        Reservation retry = store.reserve(1L, "a");
+        assertFalse(retry.acquired());
+        assertFalse(retry.isCompleted());
+    }
+
+    @Test
+    void 완료된_키는_원본_messageId를_돌려준다() {
+        LocalMessageIdempotencyStore store = store(10, 10);
+        store.reserve(1L, "a");
+        store.complete(1L, "a", 42L);
+
+        Reservation retry = store.reserve(1L, "a");
+
+        assertTrue(retry.isCompleted());
+        assertEquals(42L, retry.messageId());
+        assertEquals(42L, store.findCompleted(1L, "a"));
+    }
+
+    @Test
+    void 발신자가_다르면_같은_키도_별개() {
+        LocalMessageIdempotencyStore store = store(10, 10);
+        store.reserve(1L, "a");
+        store.complete(1L, "a", 42L);
+
+        assertTrue(store.reserve(2L, "a").acquired());
+    }
+
+    @Test
+    void 해제하면_다시_선점할_수_있다() {
+        LocalMessageIdempotencyStore store = store(10, 10);
+        store.reserve(1L, "a");
+        store.release(1L, "a");
+
+        assertTrue(store.reserve(1L, "a").acquired());
+    }
+
+    @Test
+    void 완료된_키는_해제되지_않는다() {
+        LocalMessageIdempotencyStore store = store(10, 10);
+        store.reserve(1L, "a");
+        store.complete(1L, "a", 42L);
+        store.release(1L, "a");
+
+        assertTrue(store.reserve(1L, "a").isCompleted());
+    }
+
+    @Test
+    void 시간_창이_지나면_새_요청으로_본다() {
+        LocalMessageIdempotencyStore store = store(10, 10);
+        store.reserve(1L, "a");
+        store.complete(1L, "a", 42L);
+
+        now.addAndGet(60_001 * MILLIS);
+
+        assertTrue(store.reserve(1L, "a").acquired());
+        assertNull(store.findCompleted(1L, "a"));
+    }
+
+    @Test
+    void 처리_중_선점은_pendingTimeout_후_풀린다() {
+        LocalMessageIdempotencyStore store = store(10, 10);
+        store.reserve(1L, "a");
+
+        now.addAndGet(5_001 * MILLIS);
+
+        assertTrue(store.reserve(1L, "a").acquired());
+    }
+
+    @Test
+    void 발신자별_한도를_넘으면_가장_오래_접근하지_않은_키부터_버린다() {
+        LocalMessageIdempotencyStore store = store(2, 10);
+        store.complete(1L, "a", 1L);
+        store.complete(1L, "b", 2L);
+        store.reserve(1L, "a"); // a 접근 → b가 가장 오래됨
+        store.complete(1L, "c", 3L);
+
+        assertEquals(1L, store.findCompleted(1L, "a"));
+        assertNull(store.findCompleted(1L, "b"));
+        assertEquals(3L, store.findCompleted(1L, "c"));
+    }
+
+    @Test
+    void 발신자_수가_한도를_넘으면_유휴_발신자부터_버린다() {
+        LocalMessageIdempotencyStore store = store(10, 2);
+        store.reserve(1L, "a");
+        now.addAndGet(MILLIS);
+        store.reserve(2L, "a");
+        now.addAndGet(MILLIS);
+        store.reserve(3L, "a");
+
+        assertEquals(2, store.senderCount());
+        assertTrue(store.reserve(1L, "a").acquired());
+    }
+
+    @Test
+    void 설정값이_0이면_예외() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LocalMessageIdempotencyStore(0, 5_000, 10, 10));
+    }
+}
@@ -0,0 +1,40 @@
+package com.netmarble.chat.infrastructure.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisMessageIdempotencyStoreTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RedisMessageIdempotencyStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        store = new RedisMessageIdempotencyStore(redisTemplate,
+                new LocalMessageIdempotencyStore(60_000, 5_000, 10, 10),
+                Duration.ofMinutes(1), Duration.ofSeconds(5));
+    }
+
+    @Test
+    void 해제는_pending일_때만_지우는_스크립트_한_번으로_수행() {
+        store.release(1L, "a");
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("chat:idem:1:a")), eq("pending"));
+        verify(valueOperations, never()).get(anyString());
+        verify(redisTemplate, never()).delete(anyString());
+    }
+}
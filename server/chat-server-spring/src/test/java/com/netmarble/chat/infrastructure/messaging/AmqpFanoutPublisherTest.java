@@ -0,0 +1,188 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AmqpFanoutPublisherTest {
+
+    private RabbitTemplate rabbitTemplate;
+    private TaskScheduler scheduler;
+    private AmqpFanoutDispatcher dispatcher;
+    private MessageChannel channel;
+    private AmqpFanoutPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        scheduler = mock(TaskScheduler.class);
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), any(Instant.class));
+        dispatcher = mock(AmqpFanoutDispatcher.class);
+        channel = mock(MessageChannel.class);
+        publisher = new AmqpFanoutPublisher(rabbitTemplate, "chat.fanout",
+                new AmqpFanoutPublisher.Settings(2, 65536, 5), scheduler, () -> dispatcher);
+    }
+
+    private Message<byte[]> brokerMessage(String destination, boolean relayed) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (relayed) {
+            accessor.setHeader(AmqpFanoutPublisher.RELAYED_HEADER, Boolean.TRUE);
+        }
+        return MessageBuilder.createMessage("{}".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> seqMessage(String destination, String seq, String body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setNativeHeader(RoomSequenceInterceptor.SEQ_HEADER, seq);
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private List<FanoutEnvelope> sentBatch(String routingKey) {
+        ArgumentCaptor<org.springframework.amqp.core.Message> captor =
+                ArgumentCaptor.forClass(org.springframework.amqp.core.Message.class);
+        verify(rabbitTemplate).send(eq("chat.fanout"), eq(routingKey), captor.capture());
+        assertEquals(AmqpFanoutPublisher.CONTENT_TYPE, captor.getValue().getMessageProperties().getContentType());
+        return FanoutEnvelope.decodeAll(captor.getValue().getBody());
+    }
+
+    private Runnable scheduledFlush() {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(captor.capture(), any(Instant.class));
+        return captor.getValue();
+    }
+
+    @Test
+    void topic_메시지는_배치에_담고_로컬_전달_생략() {
+        Message<?> result = publisher.preSend(brokerMessage("/topic/chatroom.10", false), channel);
+
+        assertNull(result);
+        verifyNoInteractions(rabbitTemplate);
+        verify(scheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void 배치가_차면_호출_스레드에서_한_번에_발행하고_메시지별_seq_유지() {
+        publisher.preSend(seqMessage("/topic/chatroom.10", "1", "{\"id\":1}"), channel);
+        publisher.preSend(seqMessage("/topic/chatroom.10", "2", "{\"id\":2}"), channel);
+
+        List<FanoutEnvelope> batch = sentBatch("chatroom.10");
+        assertEquals(2, batch.size());
+        assertEquals("1", batch.get(0).nativeHeaders().get(RoomSequenceInterceptor.SEQ_HEADER));
+        assertEquals("2", batch.get(1).nativeHeaders().get(RoomSequenceInterceptor.SEQ_HEADER));
+        assertEquals("{\"id\":2}", new String(batch.get(1).payload(), StandardCharsets.UTF_8));
+        assertEquals("application/json", batch.get(1).contentType());
+    }
+
+    @Test
+    void 배치가_차지_않으면_타이머가_방별로_발행() {
+        publisher.preSend(brokerMessage("/topic/chatroom.10", false), channel);
+        publisher.preSend(brokerMessage("/topic/chatroom.11", false), channel);
+        verifyNoInteractions(rabbitTemplate);
+
+        scheduledFlush().run();
+
+        assertEquals(1, sentBatch("chatroom.10").size());
+        assertEquals(1, sentBatch("chatroom.11").size());
+    }
+
+    @Test
+    void 되돌아온_메시지는_재발행하지_않음() {
+        Message<byte[]> relayed = brokerMessage("/topic/chatroom.10", true);
+
+        Message<?> result = publisher.preSend(relayed, channel);
+
+        assertSame(relayed, result);
+        verifyNoInteractions(rabbitTemplate, scheduler);
+    }
+
+    @Test
+    void queue_목적지는_로컬로만_전달() {
+        Message<byte[]> userQueue = brokerMessage("/queue/errors-user1", false);
+
+        assertSame(userQueue, publisher.preSend(userQueue, channel));
+        verifyNoInteractions(rabbitTemplate, scheduler);
+    }
+
+    @Test
+    void 타이머_발행이_실패해도_배치_전체를_로컬_전달로_폴백() {
+        doThrow(new AmqpConnectException(new RuntimeException("down")))
+                .when(rabbitTemplate).send(anyString(), anyString(), any(org.springframework.amqp.core.Message.class));
+        publisher.preSend(seqMessage("/topic/chatroom.10", "1", "{}"), channel);
+
+        scheduledFlush().run();
+
+        ArgumentCaptor<FanoutEnvelope> captor = ArgumentCaptor.forClass(FanoutEnvelope.class);
+        verify(dispatcher).dispatch(captor.capture());
+        assertEquals("/topic/chatroom.10", captor.getValue().destination());
+        assertEquals("1", captor.getValue().nativeHeaders().get(RoomSequenceInterceptor.SEQ_HEADER));
+    }
+
+    @Test
+    void 가득_찬_배치_발행이_실패하면_먼저_쌓인_메시지까지_로컬_전달() {
+        doThrow(new AmqpConnectException(new RuntimeException("down")))
+                .when(rabbitTemplate).send(anyString(), anyString(), any(org.springframework.amqp.core.Message.class));
+
+        assertNull(publisher.preSend(seqMessage("/topic/chatroom.10", "1", "{}"), channel));
+        assertNull(publisher.preSend(seqMessage("/topic/chatroom.10", "2", "{}"), channel));
+
+        ArgumentCaptor<FanoutEnvelope> captor = ArgumentCaptor.forClass(FanoutEnvelope.class);
+        verify(dispatcher, times(2)).dispatch(captor.capture());
+        assertEquals("1", captor.getAllValues().get(0).nativeHeaders().get(RoomSequenceInterceptor.SEQ_HEADER));
+        assertEquals("2", captor.getAllValues().get(1).nativeHeaders().get(RoomSequenceInterceptor.SEQ_HEADER));
+    }
+
+    @Test
+    void 네이티브_헤더는_본문에_실어_전달() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination("/topic/chatroom.10.read-status");
+        accessor.setNativeHeader("coalesce-key", "read-status.1");
+        Message<byte[]> message = MessageBuilder.createMessage("{}".getBytes(StandardCharsets.UTF_8),
+                accessor.getMessageHeaders());
+
+        publisher.preSend(message, channel);
+        publisher.flush();
+
+        FanoutEnvelope envelope = sentBatch("chatroom.10.read-status").get(0);
+        assertEquals("/topic/chatroom.10.read-status", envelope.destination());
+        assertEquals("read-status.1", envelope.nativeHeaders().get("coalesce-key"));
+    }
+
+    @Test
+    void 배치_도입_전_단건_본문도_해석() {
+        FanoutEnvelope single = new FanoutEnvelope("/topic/chatroom.10", null, Map.of(),
+                "{}".getBytes(StandardCharsets.UTF_8));
+
+        List<FanoutEnvelope> decoded = FanoutEnvelope.decodeAll(single.encode());
+
+        assertEquals(1, decoded.size());
+        assertEquals("/topic/chatroom.10", decoded.get(0).destination());
+    }
+
+    @Test
+    void routingKey_변환() {
+        assertEquals("chatroom.10.read-status", AmqpFanoutPublisher.toRoutingKey("/topic/chatroom.10.read-status"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomReplayBufferTest {
+
+    private static final String DEST = "/topic/chatroom.10";
+
+    private RoomReplayBuffer.ReplayEvent event(String destination, long seq) {
+        return new RoomReplayBuffer.ReplayEvent(destination, seq,
+                ("{\"seq\":" + seq + "}").getBytes(StandardCharsets.UTF_8), Map.of("seq", Long.toString(seq)),
+                "application/json");
+    }
+
+    @Test
+    void last_seq_이후_이벤트만_순서대로_반환() {
+        RoomReplayBuffer buffer = new RoomReplayBuffer(8, 10);
+        // 발행 스레드 순서가 뒤섞여 기록돼도 seq 순으로 조회
+        for (long seq : new long[]{1, 2, 4, 3, 5}) {
+            buffer.record(event(DEST, seq));
+        }
+
+        RoomReplayBuffer.ReplayResult result = buffer.since(DEST, 2);
+
+        assertFalse(result.gap());
+        assertEquals(3, result.events().size());
+        assertEquals(3, result.events().get(0).seq());
+        assertEquals(5, result.events().get(2).seq());
+    }
+
+    @Test
+    void 최신_seq를_이미_받았으면_빈_결과() {
+        RoomReplayBuffer buffer = new RoomReplayBuffer(8, 10);
+        buffer.record(event(DEST, 1));
+
+        RoomReplayBuffer.ReplayResult result = buffer.since(DEST, 1);
+
+        assertFalse(result.gap());
+        assertTrue(result.events().isEmpty());
+    }
+
+    @Test
+    void 링_범위를_벗어나면_gap() {
+        RoomReplayBuffer buffer = new RoomReplayBuffer(4, 10);
+        for (long seq = 1; seq <= 10; seq++) {
+            buffer.record(event(DEST, seq));
+        }
+
+        RoomReplayBuffer.ReplayResult result = buffer.since(DEST, 3);
+
+        assertTrue(result.gap());
+        assertEquals(7, result.oldestSeq());
+        assertEquals(4, buffer.since(DEST, 6).events().size());
+    }
+
+    @Test
+    void 중간_seq가_비어있으면_gap() {
+        RoomReplayBuffer buffer = new RoomReplayBuffer(8, 10);
+        buffer.record(event(DEST, 1));
+        buffer.record(event(DEST, 3));
+
+        assertTrue(buffer.since(DEST, 1).gap());
+    }
+
+    @Test
+    void 본적_없는_destination은_last_seq가_있으면_gap() {
+        RoomReplayBuffer buffer = new RoomReplayBuffer(8, 10);
+
+        assertTrue(buffer.since(DEST, 5).gap());
+        assertFalse(buffer.since(DEST, 0).gap());
+    }
+
+    @Test
+    void destination_수_한도_초과시_오래된_링부터_제거() {
+        RoomReplayBuffer buffer = new RoomReplayBuffer(4, 2);
+        buffer.record(event("/topic/chatroom.1", 1));
+        buffer.record(event("/topic/chatroom.2", 1));
+        buffer.record(event("/topic/chatroom.3", 1));
+
+        assertEquals(2, buffer.destinationCount());
+        assertTrue(buffer.since("/topic/chatroom.1", 1).gap());
+    }
+
+    @Test
+    void 잘못된_크기는_예외() {
+        assertThrows(IllegalArgumentException.class, () -> new RoomReplayBuffer(0, 10));
+    }
+}
@@ -0,0 +1,73 @@
+package com.netmarble.chat.infrastructure.messaging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class RoomSequenceInterceptorTest {
+
+    private MessageChannel channel;
+    private RoomSequenceInterceptor sequenceInterceptor;
+    private RoomReplayBuffer replayBuffer;
+    private ReplayRecordingInterceptor recordingInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        channel = mock(MessageChannel.class);
+        sequenceInterceptor = new RoomSequenceInterceptor(new LocalRoomSequenceGenerator());
+        replayBuffer = new RoomReplayBuffer(16, 10);
+        recordingInterceptor = new ReplayRecordingInterceptor(replayBuffer);
+    }
+
+    private Message<byte[]> broadcast(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage("{}".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private String seqOf(Message<?> message) {
+        return NativeMessageHeaderAccessor.getFirstNativeHeader(RoomSequenceInterceptor.SEQ_HEADER, message.getHeaders());
+    }
+
+    @Test
+    void 방_브로드캐스트에_destination별_seq_부여() {
+        assertEquals("1", seqOf(sequenceInterceptor.preSend(broadcast("/topic/chatroom.10"), channel)));
+        assertEquals("2", seqOf(sequenceInterceptor.preSend(broadcast("/topic/chatroom.10"), channel)));
+        assertEquals("1", seqOf(sequenceInterceptor.preSend(broadcast("/topic/chatroom.10.read-status"), channel)));
+    }
+
+    @Test
+    void 이미_seq가_있는_메시지는_그대로_통과() {
+        Message<?> sequenced = sequenceInterceptor.preSend(broadcast("/topic/chatroom.10"), channel);
+
+        assertSame(sequenced, sequenceInterceptor.preSend(sequenced, channel));
+    }
+
+    @Test
+    void 방_토픽이_아니면_seq_없음() {
+        Message<byte[]> message = broadcast("/queue/errors-user1");
+
+        assertSame(message, sequenceInterceptor.preSend(message, channel));
+    }
+
+    @Test
+    void seq가_붙은_메시지는_재전송_링에_기록() {
+        Message<?> sequenced = sequenceInterceptor.preSend(broadcast("/topic/chatroom.10"), channel);
+
+        assertSame(sequenced, recordingInterceptor.preSend(sequenced, channel));
+
+        RoomReplayBuffer.ReplayResult result = replayBuffer.since("/topic/chatroom.10", 0);
+        assertEquals(1, result.events().size());
+        assertEquals("1", result.events().get(0).nativeHeaders().get(RoomSequenceInterceptor.SEQ_HEADER));
+    }
+}
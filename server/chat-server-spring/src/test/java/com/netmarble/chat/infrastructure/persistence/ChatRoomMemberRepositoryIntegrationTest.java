@@ -0,0 +1,89 @@
+package com.netmarble.chat.infrastructure.persistence;
+
+import com.netmarble.chat.domain.model.ChatRoom;
+import com.netmarble.chat.domain.model.Message;
+import com.netmarble.chat.domain.model.User;
+import com.netmarble.chat.domain.repository.ChatRoomMemberRepository;
+import com.netmarble.chat.domain.repository.ChatRoomRepository;
+import com.netmarble.chat.domain.repository.MessageRepository;
+import com.netmarble.chat.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 멤버 행 단위 갱신 쿼리 통합 테스트 (ChatRoom 애그리거트를 거치지 않는 입장/퇴장/읽음 처리)
+ *
+ * 기본적으로 src/test/resources/application.properties 에 정의된 H2(MySQL 모드) DB 설정을 사용합니다.
+ */
+@Tag("integration")
+@SpringBootTest
+@Transactional
+class ChatRoomMemberRepositoryIntegrationTest {
+
+    @Autowired
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    private ChatRoom chatRoom;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        long timestamp = System.currentTimeMillis();
+        User creator = userRepository.save(new User("owner_" + timestamp));
+        member = userRepository.save(new User("guest_" + timestamp));
+        chatRoom = chatRoomRepository.save(new ChatRoom("멤버 테스트방", null, creator));
+    }
+
+    @Test
+    void 입장_퇴장_재입장은_행_하나로_처리된다() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals(Optional.empty(), chatRoomMemberRepository.findActiveFlag(chatRoom.getId(), member.getId()));
+        assertEquals(1, chatRoomMemberRepository.insertIfAbsent(chatRoom.getId(), member.getId(), now));
+        // 같은 (채팅방, 사용자) 행은 다시 추가되지 않음
+        assertEquals(0, chatRoomMemberRepository.insertIfAbsent(chatRoom.getId(), member.getId(), now));
+        assertEquals(2, chatRoomMemberRepository.countActiveByChatRoomId(chatRoom.getId()));
+
+        assertEquals(1, chatRoomMemberRepository.deactivate(chatRoom.getId(), member.getId(), now));
+        assertEquals(0, chatRoomMemberRepository.deactivate(chatRoom.getId(), member.getId(), now));
+        assertEquals(Optional.of(false), chatRoomMemberRepository.findActiveFlag(chatRoom.getId(), member.getId()));
+        assertEquals(1, chatRoomMemberRepository.countActiveByChatRoomId(chatRoom.getId()));
+
+        assertEquals(1, chatRoomMemberRepository.reactivate(chatRoom.getId(), member.getId(), now));
+        assertEquals(0, chatRoomMemberRepository.reactivate(chatRoom.getId(), member.getId(), now));
+        assertEquals(2, chatRoomMemberRepository.countActiveByChatRoomId(chatRoom.getId()));
+    }
+
+    @Test
+    void 마지막_읽은_메시지는_더_최신_메시지로만_갱신된다() {
+        LocalDateTime now = LocalDateTime.now();
+        chatRoomMemberRepository.insertIfAbsent(chatRoom.getId(), member.getId(), now);
+        Message older = messageRepository.save(new Message(chatRoom, member, "first"));
+        Message newer = messageRepository.save(new Message(chatRoom, member, "second"));
+
+        assertEquals(1, chatRoomMemberRepository.advanceLastReadMessage(
+                chatRoom.getId(), member.getId(), newer.getId(), now));
+        assertEquals(0, chatRoomMemberRepository.advanceLastReadMessage(
+                chatRoom.getId(), member.getId(), older.getId(), now));
+        assertEquals(1, chatRoomMemberRepository.markOffline(chatRoom.getId(), member.getId()));
+        assertEquals(1, chatRoomMemberRepository.markOnline(chatRoom.getId(), member.getId(), now));
+    }
+}
@@ -0,0 +1,69 @@
+package com.netmarble.chat.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DbPoolPressureMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Timer primaryAcquire;
+    private Timer replicaAcquire;
+    private AtomicInteger replicaPending;
+    private DbPoolPressureMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        primaryAcquire = meterRegistry.timer(DbPoolPressureMonitor.ACQUIRE_TIMER, "pool", "chat-primary");
+        replicaAcquire = meterRegistry.timer(DbPoolPressureMonitor.ACQUIRE_TIMER, "pool", "chat-replica");
+        replicaPending = new AtomicInteger();
+        Gauge.builder(DbPoolPressureMonitor.PENDING_GAUGE, replicaPending, AtomicInteger::get)
+                .tag("pool", "chat-replica")
+                .register(meterRegistry);
+        monitor = new DbPoolPressureMonitor(meterRegistry);
+        monitor.sample();
+    }
+
+    @Test
+    void 샘플_사이_획득_평균을_가장_나쁜_풀_기준으로_평활() {
+        primaryAcquire.record(Duration.ofMillis(2));
+        replicaAcquire.record(Duration.ofMillis(100));
+        replicaAcquire.record(Duration.ofMillis(300));
+
+        monitor.sample();
+
+        // 0.5 × 200ms + 0.5 × 0
+        assertEquals(100, monitor.acquireWaitMs(), 0.001);
+    }
+
+    @Test
+    void 획득이_없으면_대기_시간이_줄어듦() {
+        replicaAcquire.record(Duration.ofMillis(400));
+        monitor.sample();
+        assertEquals(200, monitor.acquireWaitMs(), 0.001);
+
+        monitor.sample();
+        monitor.sample();
+
+        assertEquals(50, monitor.acquireWaitMs(), 0.001);
+    }
+
+    @Test
+    void 대기_스레드_수는_지금_값() {
+        replicaPending.set(7);
+        monitor.sample();
+        assertEquals(7, monitor.pending());
+
+        replicaPending.set(0);
+        monitor.sample();
+        assertEquals(0, monitor.pending());
+    }
+}
@@ -0,0 +1,143 @@
+package com.netmarble.chat.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadSheddingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FakePressure pressure;
+    private LoadSheddingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pressure = new FakePressure();
+        filter = new LoadSheddingFilter(new LoadSheddingFilter.Settings(true,
+                new LoadSheddingFilter.ClassLimit(0, 500, 20),
+                new LoadSheddingFilter.ClassLimit(1, 50, 5),
+                2L), pressure, new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+
+    private MockHttpServletResponse send(String method, String uri) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, new MockFilterChain());
+        return response;
+    }
+
+    private double rejected(String endpointClass, String reason) {
+        return meterRegistry.counter("chat.load_shed.rejected", "class", endpointClass, "reason", reason).count();
+    }
+
+    @Test
+    void 엔드포인트_분류() {
+        assertEquals(EndpointClass.CRITICAL, EndpointClass.of("POST", "/api/chat-rooms/1/messages"));
+        assertEquals(EndpointClass.CRITICAL, EndpointClass.of("POST", "/api/chat-rooms/1/join"));
+        assertEquals(EndpointClass.CRITICAL, EndpointClass.of("POST", "/api/chat-rooms/1/leave"));
+        assertEquals(EndpointClass.LOW, EndpointClass.of("POST", "/api/chat-rooms/1/members/heartbeat"));
+        assertEquals(EndpointClass.LOW, EndpointClass.of("PUT", "/api/chat-rooms/1/members/status"));
+        assertEquals(EndpointClass.LOW, EndpointClass.of("GET", "/api/chat-rooms/1/members"));
+        assertEquals(EndpointClass.LOW, EndpointClass.of("GET", "/api/read-status/unread-counts/3"));
+        assertEquals(EndpointClass.LOW, EndpointClass.of("GET", "/api/chat/unread-count/1"));
+        assertEquals(EndpointClass.NORMAL, EndpointClass.of("GET", "/api/chat-rooms"));
+        assertEquals(EndpointClass.NORMAL, EndpointClass.of("POST", "/api/chat-rooms/1/messages/upload"));
+        assertEquals(EndpointClass.NORMAL, EndpointClass.of("POST", "/api/chat-rooms/1/members/bulk"));
+    }
+
+    @Test
+    void 커넥션_대기가_길어지면_LOW부터_429와_Retry_After() throws Exception {
+        pressure.waitMs = 100;
+
+        MockHttpServletResponse heartbeat = send("POST", "/api/chat-rooms/1/members/heartbeat");
+        MockHttpServletResponse list = send("GET", "/api/chat-rooms");
+        MockHttpServletResponse message = send("POST", "/api/chat-rooms/1/messages");
+
+        assertEquals(429, heartbeat.getStatus());
+        long retryAfter = Long.parseLong(heartbeat.getHeader("Retry-After"));
+        assertTrue(retryAfter >= 2 && retryAfter <= 4);
+        assertTrue(heartbeat.getContentAsString().contains("\"class\":\"low\""));
+        assertEquals(200, list.getStatus());
+        assertEquals(200, message.getStatus());
+        assertEquals(1, rejected("low", "pool_wait"));
+    }
+
+    @Test
+    void 풀이_더_막히면_NORMAL도_차단하지만_CRITICAL은_통과() throws Exception {
+        pressure.pending = 30;
+
+        assertEquals(429, send("GET", "/api/chat-rooms/1/members").getStatus());
+        assertEquals(429, send("GET", "/api/chat-rooms").getStatus());
+        assertEquals(200, send("POST", "/api/chat-rooms/1/join").getStatus());
+        assertEquals(200, send("POST", "/api/chat-rooms/1/messages").getStatus());
+        assertEquals(1, rejected("low", "pool_pending"));
+        assertEquals(1, rejected("normal", "pool_pending"));
+    }
+
+    @Test
+    void 분류별_처리_중_요청이_상한을_넘으면_차단() throws Exception {
+        AtomicReference<MockHttpServletResponse> nestedLow = new AtomicReference<>();
+        AtomicReference<MockHttpServletResponse> nestedCritical = new AtomicReference<>();
+        // 첫 하트비트가 처리되는 동안 같은 분류와 다른 분류 요청이 들어온다
+        FilterChain holding = (req, res) -> {
+            assertEquals(1, filter.inFlight(EndpointClass.LOW));
+            nestedLow.set(send("GET", "/api/chat-rooms/1/members"));
+            nestedCritical.set(send("POST", "/api/chat-rooms/1/messages"));
+        };
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/chat-rooms/1/members/heartbeat"), first, holding);
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, nestedLow.get().getStatus());
+        assertEquals(200, nestedCritical.get().getStatus());
+        assertEquals(1, rejected("low", "in_flight"));
+        assertEquals(0, filter.inFlight(EndpointClass.LOW));
+        assertEquals(0, filter.inFlight(EndpointClass.CRITICAL));
+    }
+
+    @Test
+    void 비활성화면_모두_통과() throws Exception {
+        LoadSheddingFilter disabled = new LoadSheddingFilter(new LoadSheddingFilter.Settings(false,
+                new LoadSheddingFilter.ClassLimit(0, 1, 1),
+                new LoadSheddingFilter.ClassLimit(0, 1, 1),
+                2L), pressure, new ObjectMapper(), new SimpleMeterRegistry());
+        pressure.waitMs = 10_000;
+        pressure.pending = 100;
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        disabled.doFilter(new MockHttpServletRequest("POST", "/api/chat-rooms/1/members/heartbeat"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    private static final class FakePressure implements LoadSheddingFilter.PoolPressure {
+
+        private double waitMs;
+        private int pending;
+
+        @Override
+        public double acquireWaitMs() {
+            return waitMs;
+        }
+
+        @Override
+        public int pending() {
+            return pending;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.netmarble.chat.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SendRateLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000 * MILLIS);
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private SendRateLimiter limiter(int userBurst, double userRefill, int roomBurst, double roomRefill, int maxBuckets) {
+        return new SendRateLimiter(new SendRateLimiter.Settings(true, userBurst, userRefill, roomBurst, roomRefill,
+                maxBuckets), meterRegistry, now::get);
+    }
+
+    @Test
+    void 토큰_버킷은_burst만큼_허용하고_보충_간격마다_하나씩_더_허용() {
+        TokenBucket bucket = new TokenBucket(3, 10, now.get());
+
+        assertEquals(0, bucket.tryAcquire(now.get()));
+        assertEquals(0, bucket.tryAcquire(now.get()));
+        assertEquals(0, bucket.tryAcquire(now.get()));
+        long wait = bucket.tryAcquire(now.get());
+        assertEquals(100 * MILLIS, wait);
+
+        now.addAndGet(100 * MILLIS);
+        assertEquals(0, bucket.tryAcquire(now.get()));
+        assertTrue(bucket.tryAcquire(now.get()) > 0);
+    }
+
+    @Test
+    void 오래_쉬어도_burst_이상_쌓이지_않는다() {
+        TokenBucket bucket = new TokenBucket(2, 10, now.get());
+        now.addAndGet(60_000 * MILLIS);
+
+        assertEquals(0, bucket.tryAcquire(now.get()));
+        assertEquals(0, bucket.tryAcquire(now.get()));
+        assertTrue(bucket.tryAcquire(now.get()) > 0);
+        assertFalse(bucket.isFull(now.get()));
+    }
+
+    @Test
+    void 발신자_한도를_넘으면_user_scope로_거부하고_메트릭_기록() {
+        SendRateLimiter limiter = limiter(2, 1, 100, 100, 1000);
+
+        assertTrue(limiter.tryAcquire(1L, 10L, SendRateLimiter.CHANNEL_STOMP).allowed());
+        assertTrue(limiter.tryAcquire(1L, 10L, SendRateLimiter.CHANNEL_STOMP).allowed());
+        SendRateLimiter.Decision decision = limiter.tryAcquire(1L, 10L, SendRateLimiter.CHANNEL_STOMP);
+
+        assertFalse(decision.allowed());
+        assertEquals(SendRateLimiter.SCOPE_USER, decision.scope());
+        assertEquals(1000, decision.retryAfterMs());
+        assertEquals(1.0, meterRegistry.get("chat.ratelimit.rejected")
+                .tag("scope", "user").tag("channel", "stomp").counter().count());
+
+        // 다른 발신자는 영향 없음
+        assertTrue(limiter.tryAcquire(2L, 10L, SendRateLimiter.CHANNEL_STOMP).allowed());
+    }
+
+    @Test
+    void 채팅방_한도는_발신자와_무관하게_합산된다() {
+        SendRateLimiter limiter = limiter(10, 10, 2, 1, 1000);
+
+        assertTrue(limiter.tryAcquire(1L, 10L, SendRateLimiter.CHANNEL_REST).allowed());
+        assertTrue(limiter.tryAcquire(2L, 10L, SendRateLimiter.CHANNEL_REST).allowed());
+        SendRateLimiter.Decision decision = limiter.tryAcquire(3L, 10L, SendRateLimiter.CHANNEL_REST);
+
+        assertFalse(decision.allowed());
+        assertEquals(SendRateLimiter.SCOPE_ROOM, decision.scope());
+        assertTrue(limiter.tryAcquire(3L, 11L, SendRateLimiter.CHANNEL_REST).allowed());
+    }
+
+    @Test
+    void 채팅방에서_거부되면_발신자_토큰은_반납() {
+        SendRateLimiter limiter = limiter(2, 1, 1, 1, 1000);
+
+        assertTrue(limiter.tryAcquire(1L, 10L, SendRateLimiter.CHANNEL_REST).allowed());
+        assertEquals(SendRateLimiter.SCOPE_ROOM, limiter.tryAcquire(1L, 10L, SendRateLimiter.CHANNEL_REST).scope());
+
+        // 방 거부로 보내지 못한 전송은 발신자 예산을 쓰지 않았으므로 다른 방으로 한 건 더 보낼 수 있다
+        assertTrue(limiter.tryAcquire(1L, 11L, SendRateLimiter.CHANNEL_REST).allowed());
+        assertEquals(SendRateLimiter.SCOPE_USER, limiter.tryAcquire(1L, 12L, SendRateLimiter.CHANNEL_REST).scope());
+    }
+
+    @Test
+    void 비활성화하면_항상_허용() {
+        SendRateLimiter limiter = new SendRateLimiter(new SendRateLimiter.Settings(false, 1, 1, 1, 1, 10),
+                meterRegistry, now::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(1L, 10L, SendRateLimiter.CHANNEL_STOMP).allowed());
+        }
+    }
+
+    @Test
+    void 버킷_수가_한도를_넘으면_가득_찬_버킷을_정리() {
+        SendRateLimiter limiter = limiter(5, 10, 100, 100, 2);
+        limiter.tryAcquire(1L, null, SendRateLimiter.CHANNEL_STOMP);
+        limiter.tryAcquire(2L, null, SendRateLimiter.CHANNEL_STOMP);
+
+        // 1, 2의 버킷이 다시 가득 찰 만큼 시간 경과
+        now.addAndGet(1_000 * MILLIS);
+        limiter.tryAcquire(3L, null, SendRateLimiter.CHANNEL_STOMP);
+
+        assertEquals(1, limiter.bucketCount(SendRateLimiter.SCOPE_USER));
+    }
+
+    @Test
+    void 본문에서_senderId와_chatRoomId만_읽는다() {
+        byte[] payload = "{\"content\":\"안녕\",\"meta\":{\"senderId\":99},\"senderId\":7,\"chatRoomId\":\"10\"}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        Long[] ids = SendRateLimitInterceptor.readIds(payload);
+
+        assertEquals(7L, ids[0]);
+        assertEquals(10L, ids[1]);
+    }
+
+    @Test
+    void 본문_형식이_틀리면_null() {
+        Long[] ids = SendRateLimitInterceptor.readIds("not-json".getBytes(StandardCharsets.UTF_8));
+
+        assertNull(ids[0]);
+        assertNull(ids[1]);
+    }
+}
@@ -0,0 +1,118 @@
+package com.netmarble.chat.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadConcurrencyFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UploadConcurrencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new UploadConcurrencyFilter(new UploadConcurrencyFilter.Settings(true, 1, 0L, 1024L, 2L),
+                new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+
+    private MockHttpServletRequest upload(int contentLength) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/chat-rooms/1/messages/upload/stream");
+        request.setContentType("image/png");
+        request.setContent(new byte[contentLength]);
+        return request;
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.counter("chat.upload.rejected", "reason", reason).count();
+    }
+
+    @Test
+    void 선언된_크기가_한도를_넘으면_본문을_읽지_않고_413() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(upload(4096), response, chain);
+
+        assertEquals(413, response.getStatus());
+        assertNull(chain.getRequest());
+        assertEquals(1, rejected("too_large"));
+    }
+
+    @Test
+    void 상한에_도달하면_429와_Retry_After() throws Exception {
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+        // 첫 업로드가 처리되는 동안 두 번째 업로드가 들어온다
+        FilterChain holding = (req, res) -> {
+            assertEquals(1, filter.inFlight());
+            MockHttpServletResponse second = new MockHttpServletResponse();
+            filter.doFilter(upload(100), second, new MockFilterChain());
+            nested.set(second);
+        };
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(upload(100), first, holding);
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, nested.get().getStatus());
+        assertEquals("2", nested.get().getHeader("Retry-After"));
+        assertTrue(nested.get().getContentAsString().contains("\"scope\":\"upload\""));
+        assertEquals(1, rejected("saturated"));
+        assertEquals(0, filter.inFlight());
+    }
+
+    @Test
+    void 업로드가_아닌_요청은_상한과_무관하게_통과() throws Exception {
+        MockHttpServletRequest json = new MockHttpServletRequest("POST", "/api/chat-rooms/1/messages");
+        json.setContentType("application/json");
+        json.setContent(new byte[4096]);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(json, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertTrue(UploadConcurrencyFilter.isUploadContentType("multipart/form-data; boundary=x"));
+        assertTrue(UploadConcurrencyFilter.isUploadContentType("application/octet-stream"));
+        assertFalse(UploadConcurrencyFilter.isUploadContentType(null));
+    }
+
+    @Test
+    void 로그인_멀티파트는_업로드가_포화돼도_통과() throws Exception {
+        AtomicReference<MockFilterChain> loginChain = new AtomicReference<>();
+        // 업로드가 자리를 차지한 동안 프로필 이미지를 담은 로그인 요청이 들어온다
+        FilterChain holding = (req, res) -> {
+            MockHttpServletRequest login = new MockHttpServletRequest("POST", "/api/users");
+            login.setContentType("multipart/form-data; boundary=x");
+            login.setContent(new byte[4096]);
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(login, new MockHttpServletResponse(), chain);
+            loginChain.set(chain);
+        };
+
+        filter.doFilter(upload(100), new MockHttpServletResponse(), holding);
+
+        assertNotNull(loginChain.get().getRequest());
+        assertEquals(0, rejected("saturated"));
+        assertEquals(0, rejected("too_large"));
+    }
+
+    @Test
+    void 업로드_경로만_상한_대상() {
+        assertTrue(UploadConcurrencyFilter.isUploadPath("/api/chat-rooms/1/messages/upload"));
+        assertTrue(UploadConcurrencyFilter.isUploadPath("/api/chat-rooms/1/messages/upload/stream"));
+        assertTrue(UploadConcurrencyFilter.isUploadPath("/api/uploads/abc"));
+        assertFalse(UploadConcurrencyFilter.isUploadPath("/api/users"));
+        assertFalse(UploadConcurrencyFilter.isUploadPath("/api/chat-rooms"));
+        assertFalse(UploadConcurrencyFilter.isUploadPath("/api/uploads/abc/complete"));
+    }
+}
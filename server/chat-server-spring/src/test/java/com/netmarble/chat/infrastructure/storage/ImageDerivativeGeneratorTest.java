@@ -0,0 +1,131 @@
+package com.netmarble.chat.infrastructure.storage;
+
+import com.netmarble.chat.domain.model.ImageDerivative;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageDerivativeGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageDerivativeGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 워커 풀 대신 호출 스레드에서 바로 실행
+        generator = new ImageDerivativeGenerator(
+                new ImageDerivativeGenerator.Settings(true, 40_000_000L, 0.8f), Runnable::run, meterRegistry);
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private Path write(String name, byte[] data) throws IOException {
+        Path path = tempDir.resolve(name);
+        Files.write(path, data);
+        return path;
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("chat.upload.derivatives", "result", result).count();
+    }
+
+    @Test
+    void 파생_URL은_원본_옆_규칙적인_이름() {
+        assertEquals("/uploads/messages/2026/03/04/abc_w480.jpg",
+                ImageDerivative.PREVIEW.urlFor("/uploads/messages/2026/03/04/abc.png"));
+        assertEquals("/uploads/profiles/2026/03/04/abc_s128.jpg",
+                ImageDerivative.AVATAR.urlFor("/uploads/profiles/2026/03/04/abc.jpg"));
+        assertNull(ImageDerivative.PREVIEW.urlFor("data:image/png;base64,AAAA"));
+        assertNull(ImageDerivative.PREVIEW.urlFor("STK_01"));
+    }
+
+    @Test
+    void 큰_이미지는_긴_변을_규격에_맞춘_JPEG_썸네일_생성() throws IOException {
+        Path original = write("big.png", png(2000, 1000));
+
+        generator.generateAsync(original, "messages");
+
+        BufferedImage thumbnail = ImageIO.read(tempDir.resolve("big_w480.jpg").toFile());
+        assertEquals(480, thumbnail.getWidth());
+        assertEquals(240, thumbnail.getHeight());
+        assertFalse(Files.exists(tempDir.resolve("big_w480.jpg.tmp")));
+        assertEquals(1, count("generated"));
+    }
+
+    @Test
+    void 원본이_규격보다_작으면_만들지_않는다() throws IOException {
+        Path original = write("small.png", png(100, 80));
+
+        assertEquals(0, generator.generate(original, List.of(ImageDerivative.AVATAR)));
+        assertFalse(Files.exists(tempDir.resolve("small_s128.jpg")));
+        assertEquals(1, count("skipped"));
+    }
+
+    @Test
+    void 픽셀_수가_한도를_넘으면_디코딩하지_않는다() throws IOException {
+        ImageDerivativeGenerator limited = new ImageDerivativeGenerator(
+                new ImageDerivativeGenerator.Settings(true, 1_000L, 0.8f), Runnable::run, meterRegistry);
+        Path original = write("huge.png", png(400, 400));
+
+        assertEquals(0, limited.generate(original, List.of(ImageDerivative.AVATAR)));
+        assertEquals(1, count("skipped"));
+    }
+
+    @Test
+    void 이미지가_아니면_실패로_집계하고_예외를_던지지_않는다() throws IOException {
+        Path original = write("broken.png", new byte[]{1, 2, 3, 4});
+
+        generator.generateAsync(original, "profiles");
+
+        assertFalse(Files.exists(tempDir.resolve("broken_s128.jpg")));
+        assertEquals(1, count("skipped") + count("failed"));
+    }
+
+    @Test
+    void 큐가_가득_차면_생성을_건너뛴다() throws IOException {
+        ImageDerivativeGenerator saturated = new ImageDerivativeGenerator(
+                new ImageDerivativeGenerator.Settings(true, 40_000_000L, 0.8f),
+                task -> { throw new RejectedExecutionException("full"); }, meterRegistry);
+        Path original = write("queued.png", png(1000, 1000));
+
+        saturated.generateAsync(original, "rooms");
+
+        assertEquals(1, count("rejected"));
+        assertFalse(Files.exists(tempDir.resolve("queued_s128.jpg")));
+    }
+
+    @Test
+    void 원본_삭제_시_썸네일도_삭제() throws IOException {
+        LocalFileStorageService storageService = new LocalFileStorageService(tempDir.toString(), false, generator);
+        byte[] content = png(1000, 600);
+
+        String url = storageService.store(new ByteArrayInputStream(content), "image/png", "a.png",
+                content.length, "messages");
+        Path thumbnail = tempDir.resolve(ImageDerivative.PREVIEW.urlFor(url).substring("/uploads/".length()));
+        assertTrue(Files.exists(thumbnail));
+
+        storageService.delete(url);
+        assertFalse(Files.exists(thumbnail));
+    }
+}
@@ -1,13 +1,21 @@
 package com.netmarble.chat.infrastructure.storage;
 
+import com.netmarble.chat.domain.model.ImageMetadata;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,13 +31,37 @@ class LocalFileStorageServiceTest {
         storageService = new LocalFileStorageService(tempDir.toString());
     }
 
+    private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+    private static final byte[] GIF_MAGIC = {'G', 'I', 'F', '8', '9', 'a'};
+
     private InputStream toStream(byte[] data) {
         return new ByteArrayInputStream(data);
     }
 
+    private static byte[] withMagic(byte[] magic, byte[] body) {
+        byte[] data = new byte[magic.length + body.length];
+        System.arraycopy(magic, 0, data, 0, magic.length);
+        System.arraycopy(body, 0, data, magic.length, body.length);
+        return data;
+    }
+
+    // 매직 넘버 + 1KB 본문
+    private static byte[] jpeg() {
+        return withMagic(JPEG_MAGIC, new byte[1020]);
+    }
+
+    private static byte[] png() {
+        return withMagic(PNG_MAGIC, new byte[1016]);
+    }
+
+    private static byte[] gif() {
+        return withMagic(GIF_MAGIC, new byte[1018]);
+    }
+
     @Test
     void store_JPG_파일_저장_성공() {
-        byte[] content = new byte[1024];
+        byte[] content = jpeg();
         String url = storageService.store(toStream(content), "image/jpeg", "test.jpg", content.length, "messages");
 
         assertTrue(url.startsWith("/uploads/messages/"));
@@ -41,7 +73,7 @@ class LocalFileStorageServiceTest {
 
     @Test
     void store_PNG_파일_저장_성공() {
-        byte[] content = new byte[1024];
+        byte[] content = png();
         String url = storageService.store(toStream(content), "image/png", "test.png", content.length, "profiles");
 
         assertTrue(url.startsWith("/uploads/profiles/"));
@@ -50,7 +82,7 @@ class LocalFileStorageServiceTest {
 
     @Test
     void store_GIF_파일_저장_성공() {
-        byte[] content = new byte[1024];
+        byte[] content = gif();
         String url = storageService.store(toStream(content), "image/gif", "test.gif", content.length, "rooms");
 
         assertTrue(url.startsWith("/uploads/rooms/"));
@@ -59,7 +91,7 @@ class LocalFileStorageServiceTest {
 
     @Test
     void store_UUID_파일명_생성_확인() {
-        byte[] content = new byte[1024];
+        byte[] content = jpeg();
         String url = storageService.store(toStream(content), "image/jpeg", "original-name.jpg", content.length, "messages");
 
         // UUID 형식의 파일명 사용 (원본 파일명이 아닌지 확인)
@@ -68,7 +100,7 @@ class LocalFileStorageServiceTest {
 
     @Test
     void store_날짜별_디렉토리_생성_확인() {
-        byte[] content = new byte[1024];
+        byte[] content = jpeg();
         String url = storageService.store(toStream(content), "image/jpeg", "test.jpg", content.length, "messages");
 
         // /uploads/messages/yyyy/MM/dd/uuid.jpg 형식 확인
@@ -82,7 +114,7 @@ class LocalFileStorageServiceTest {
 
     @Test
     void store_contentType_기반_확장자_결정() {
-        byte[] content = new byte[1024];
+        byte[] content = jpeg();
         // originalFilename이 .png여도 contentType이 image/jpeg이면 .jpg로 저장
         String url = storageService.store(toStream(content), "image/jpeg", "fake.png", content.length, "messages");
 
@@ -113,12 +145,36 @@ class LocalFileStorageServiceTest {
     }
 
     @Test
-    void store_null_contentType_예외() {
+    void store_null_contentType이면_내용이_이미지가_아닐_때_예외() {
         byte[] content = new byte[1024];
         assertThrows(IllegalArgumentException.class,
                 () -> storageService.store(toStream(content), null, "test.jpg", content.length, "messages"));
     }
 
+    @Test
+    void store_선언된_타입이_아니라_매직_넘버로_형식_결정() {
+        // 선언은 image/png지만 내용은 JPEG → .jpg
+        String declaredPng = storageService.store(toStream(jpeg()), "image/png", "a.png", 1024, "messages");
+        assertTrue(declaredPng.endsWith(".jpg"));
+
+        // 크기·형식을 모르는 스트리밍 업로드 (octet-stream, -1)
+        String streamed = storageService.store(toStream(gif()), "application/octet-stream", null, -1, "messages");
+        assertTrue(streamed.endsWith(".gif"));
+    }
+
+    @Test
+    void store_크기를_모르는_스트림도_5MB를_넘는_순간_거부하고_임시_파일을_남기지_않는다() throws IOException {
+        byte[] oversized = withMagic(JPEG_MAGIC, new byte[5 * 1024 * 1024]);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> storageService.store(toStream(oversized), "image/jpeg", "big.jpg", -1, "messages"));
+        assertTrue(ex.getMessage().contains("5MB"));
+        try (var staging = Files.list(tempDir.resolve(".staging"))) {
+            assertEquals(0, staging.count());
+        }
+        assertFalse(Files.exists(tempDir.resolve("messages")));
+    }
+
     @Test
     void store_허용되지_않는_type_예외() {
         byte[] content = new byte[1024];
@@ -128,7 +184,7 @@ class LocalFileStorageServiceTest {
 
     @Test
     void store_허용된_type만_성공() {
-        byte[] content = new byte[1024];
+        byte[] content = jpeg();
         // profiles, rooms, messages만 허용
         assertDoesNotThrow(() ->
                 storageService.store(toStream(content), "image/jpeg", "test.jpg", content.length, "profiles"));
@@ -140,7 +196,7 @@ class LocalFileStorageServiceTest {
 
     @Test
     void delete_존재하는_파일_삭제_성공() throws Exception {
-        byte[] content = new byte[1024];
+        byte[] content = jpeg();
         String url = storageService.store(toStream(content), "image/jpeg", "test.jpg", content.length, "messages");
 
         String relativePath = url.substring("/uploads/".length());
@@ -170,4 +226,63 @@ class LocalFileStorageServiceTest {
     void delete_디렉토리_탈출_시도_차단() {
         assertDoesNotThrow(() -> storageService.delete("/uploads/../../../etc/passwd"));
     }
+
+    @Test
+    void readImageMetadata_크기와_평균_색_반환() throws IOException {
+        BufferedImage image = new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(0x20, 0x40, 0x80));
+        g.fillRect(0, 0, 300, 200);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        byte[] content = out.toByteArray();
+        String url = storageService.store(toStream(content), "image/png", "blue.png", content.length, "messages");
+
+        assertEquals(Optional.of(new ImageMetadata(300, 200, "#204080")), storageService.readImageMetadata(url));
+    }
+
+    @Test
+    void readImageMetadata_이미지가_아니거나_저장소_URL이_아니면_empty() {
+        byte[] content = jpeg();
+        String url = storageService.store(toStream(content), "image/jpeg", "test.jpg", content.length, "messages");
+
+        assertEquals(Optional.empty(), storageService.readImageMetadata(url));
+        assertEquals(Optional.empty(), storageService.readImageMetadata("data:image/png;base64,AAAA"));
+        assertEquals(Optional.empty(), storageService.readImageMetadata("/uploads/../../../etc/passwd"));
+    }
+
+    @Test
+    void 내용_주소_모드_같은_내용은_기존_URL을_돌려준다() throws IOException {
+        LocalFileStorageService casService = new LocalFileStorageService(tempDir.toString(), true, null);
+        byte[] content = withMagic(PNG_MAGIC, "same-sticker".getBytes());
+
+        String first = casService.store(toStream(content), "image/png", "a.png", content.length, "messages");
+        String second = casService.store(toStream(content), "image/png", "b.png", content.length, "messages");
+
+        // sha256("same-sticker") 기준 /uploads/messages/sha256/{ab}/{hash}.png
+        assertEquals(first, second);
+        assertTrue(first.matches("/uploads/messages/sha256/[0-9a-f]{2}/[0-9a-f]{64}\\.png"));
+        String hash = first.substring(first.lastIndexOf('/') + 1, first.lastIndexOf('.'));
+        assertTrue(first.contains("/sha256/" + hash.substring(0, 2) + "/"));
+
+        try (var files = Files.walk(tempDir.resolve("messages"))) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+        try (var staging = Files.list(tempDir.resolve(".staging"))) {
+            assertEquals(0, staging.count());
+        }
+    }
+
+    @Test
+    void 내용_주소_파일은_delete로_지우지_않고_업로드_정리에_맡긴다() {
+        LocalFileStorageService casService = new LocalFileStorageService(tempDir.toString(), true, null);
+        byte[] content = withMagic(PNG_MAGIC, "shared-image".getBytes());
+        String url = casService.store(toStream(content), "image/png", "a.png", content.length, "rooms");
+        Path path = tempDir.resolve(url.substring("/uploads/".length()));
+
+        casService.delete(url);
+
+        assertTrue(Files.exists(path));
+    }
 }
@@ -0,0 +1,193 @@
+package com.netmarble.chat.infrastructure.storage;
+
+import com.netmarble.chat.domain.model.UploadSession;
+import com.netmarble.chat.domain.service.ResumableUploadService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalResumableUploadServiceTest {
+
+    private static final long CHUNK_SIZE = 1000;
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalFileStorageService storageService;
+    private LocalResumableUploadService uploadService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        storageService = new LocalFileStorageService(tempDir.toString());
+        uploadService = new LocalResumableUploadService(storageService,
+                new LocalResumableUploadService.Settings(CHUNK_SIZE, Duration.ofMinutes(30)), meterRegistry);
+    }
+
+    private static byte[] png(int size) {
+        byte[] data = new byte[size];
+        new Random(42).nextBytes(data);
+        byte[] magic = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        System.arraycopy(magic, 0, data, 0, magic.length);
+        return data;
+    }
+
+    private static InputStream slice(byte[] data, int from, int length) {
+        return new ByteArrayInputStream(data, from, length);
+    }
+
+    /**
+     * limit 바이트를 넘겨준 뒤 연결이 끊긴 것처럼 예외를 던지는 스트림
+     */
+    private static InputStream brokenAfter(byte[] data, int from, int limit) {
+        return new InputStream() {
+            private int sent;
+
+            @Override
+            public int read() throws IOException {
+                if (sent >= limit) {
+                    throw new IOException("connection reset");
+                }
+                return data[from + sent++] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                if (sent >= limit) {
+                    throw new IOException("connection reset");
+                }
+                int count = Math.min(length, limit - sent);
+                System.arraycopy(data, from + sent, buffer, offset, count);
+                sent += count;
+                return count;
+            }
+        };
+    }
+
+    @Test
+    void 청크를_이어_받아_완료하면_저장_경로로_옮긴다() throws IOException {
+        byte[] image = png(2500);
+        UploadSession session = uploadService.initiate("messages", image.length, "photo.png");
+        String uploadId = session.uploadId();
+
+        assertEquals(1000, uploadService.append(uploadId, 0, slice(image, 0, 1000)).offset());
+        assertEquals(2000, uploadService.append(uploadId, 1000, slice(image, 1000, 1000)).offset());
+        assertTrue(uploadService.append(uploadId, 2000, slice(image, 2000, 500)).isReceived());
+
+        UploadSession completed = uploadService.complete(uploadId);
+
+        assertTrue(completed.url().startsWith("/uploads/messages/"));
+        assertTrue(completed.url().endsWith(".png"));
+        Path stored = tempDir.resolve(completed.url().substring("/uploads/".length()));
+        assertArrayEquals(image, Files.readAllBytes(stored));
+        // 완료 재시도는 같은 URL
+        assertEquals(completed.url(), uploadService.complete(uploadId).url());
+    }
+
+    @Test
+    void 끊긴_청크는_받은_만큼_남고_그_위치부터_이어_받는다() {
+        byte[] image = png(2000);
+        String uploadId = uploadService.initiate("messages", image.length, null).uploadId();
+        uploadService.append(uploadId, 0, slice(image, 0, 1000));
+
+        assertThrows(RuntimeException.class, () -> uploadService.append(uploadId, 1000, brokenAfter(image, 1000, 300)));
+        assertEquals(1300, uploadService.find(uploadId).offset());
+
+        // 이미 받은 위치로 다시 보내면 현재 위치를 알려준다
+        ResumableUploadService.OffsetMismatchException ex = assertThrows(
+                ResumableUploadService.OffsetMismatchException.class,
+                () -> uploadService.append(uploadId, 1000, slice(image, 1000, 1000)));
+        assertEquals(1300, ex.getCurrentOffset());
+
+        uploadService.append(uploadId, 1300, slice(image, 1300, 700));
+        UploadSession completed = uploadService.complete(uploadId);
+        assertNotNull(completed.url());
+        assertEquals(1, meterRegistry.counter("chat.upload.resumable", "event", "conflict").count());
+    }
+
+    @Test
+    void 모두_받기_전에는_완료할_수_없다() {
+        byte[] image = png(1500);
+        String uploadId = uploadService.initiate("rooms", image.length, null).uploadId();
+        uploadService.append(uploadId, 0, slice(image, 0, 1000));
+
+        ResumableUploadService.OffsetMismatchException ex = assertThrows(
+                ResumableUploadService.OffsetMismatchException.class, () -> uploadService.complete(uploadId));
+        assertEquals(1000, ex.getCurrentOffset());
+    }
+
+    @Test
+    void 청크_한도를_넘는_본문은_이번_청크를_버리고_거부() {
+        byte[] image = png(2500);
+        String uploadId = uploadService.initiate("profiles", image.length, null).uploadId();
+
+        assertThrows(IllegalArgumentException.class, () -> uploadService.append(uploadId, 0, slice(image, 0, 1200)));
+        assertEquals(0, uploadService.find(uploadId).offset());
+    }
+
+    @Test
+    void 첫_청크가_이미지가_아니면_세션을_버린다() {
+        String uploadId = uploadService.initiate("rooms", 100, null).uploadId();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> uploadService.append(uploadId, 0, new ByteArrayInputStream(new byte[50])));
+        assertThrows(IllegalArgumentException.class, () -> uploadService.find(uploadId));
+    }
+
+    @Test
+    void 시작_요청_검증() {
+        assertThrows(IllegalArgumentException.class, () -> uploadService.initiate("../etc", 100, null));
+        assertThrows(IllegalArgumentException.class, () -> uploadService.initiate("messages", 0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> uploadService.initiate("messages", 6L * 1024 * 1024, null));
+        assertThrows(IllegalArgumentException.class, () -> uploadService.find("../../etc/passwd"));
+    }
+
+    @Test
+    void 저장_유형이_다른_세션은_완료할_수_없다() {
+        byte[] image = png(500);
+        String uploadId = uploadService.initiate("profiles", image.length, null).uploadId();
+        uploadService.append(uploadId, 0, slice(image, 0, 500));
+
+        assertThrows(IllegalArgumentException.class, () -> uploadService.complete(uploadId, "messages"));
+        assertNotNull(uploadService.complete(uploadId, "profiles").url());
+    }
+
+    @Test
+    void 만료된_세션은_정리된다() throws IOException {
+        uploadService.initiate("rooms", 100, null);
+        LocalResumableUploadService expiring = new LocalResumableUploadService(storageService,
+                new LocalResumableUploadService.Settings(CHUNK_SIZE, Duration.ofMillis(-1)), meterRegistry);
+
+        assertEquals(1, expiring.purgeExpired());
+        try (var remaining = Files.list(tempDir.resolve(".staging").resolve("resumable"))) {
+            assertEquals(0, remaining.count());
+        }
+    }
+
+    @Test
+    void 취소하면_받은_데이터를_버린다() {
+        byte[] image = png(1500);
+        String uploadId = uploadService.initiate("messages", image.length, null).uploadId();
+        uploadService.append(uploadId, 0, slice(image, 0, 1000));
+
+        uploadService.abort(uploadId);
+
+        assertThrows(IllegalArgumentException.class, () -> uploadService.find(uploadId));
+        assertFalse(Arrays.asList(tempDir.resolve(".staging").resolve("resumable").toFile().list())
+                .contains(uploadId + ".part"));
+    }
+}
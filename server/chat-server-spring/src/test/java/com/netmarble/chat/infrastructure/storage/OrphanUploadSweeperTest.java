@@ -0,0 +1,140 @@
+package com.netmarble.chat.infrastructure.storage;
+
+import com.netmarble.chat.domain.repository.AttachmentRepository;
+import com.netmarble.chat.domain.repository.ChatRoomRepository;
+import com.netmarble.chat.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrphanUploadSweeperTest {
+
+    private static final FileTime OLD = FileTime.from(Instant.now().minus(Duration.ofDays(3)));
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AttachmentRepository attachmentRepository;
+    private UserRepository userRepository;
+    private ChatRoomRepository chatRoomRepository;
+    private LocalFileStorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        attachmentRepository = mock(AttachmentRepository.class);
+        userRepository = mock(UserRepository.class);
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        storageService = new LocalFileStorageService(tempDir.toString());
+    }
+
+    private OrphanUploadSweeper sweeper(boolean dryRun) {
+        return new OrphanUploadSweeper(storageService, attachmentRepository, userRepository, chatRoomRepository,
+                new OrphanUploadSweeper.Settings(dryRun, Duration.ofHours(24), 2, Duration.ZERO), meterRegistry);
+    }
+
+    private Path file(String relative, int size, FileTime modified) throws IOException {
+        Path path = tempDir.resolve(relative);
+        Files.createDirectories(path.getParent());
+        Files.write(path, new byte[size]);
+        Files.setLastModifiedTime(path, modified);
+        return path;
+    }
+
+    @Test
+    void 참조_없는_파일만_썸네일과_함께_지우고_회수_크기를_보고한다() throws IOException {
+        Path orphan = file("messages/2026/01/01/a.png", 100, OLD);
+        Path orphanPreview = file("messages/2026/01/01/a_w480.jpg", 10, OLD);
+        Path attached = file("messages/2026/01/01/b.jpg", 100, OLD);
+        Path profile = file("profiles/2026/01/01/c.png", 100, OLD);
+        Path room = file("rooms/2026/01/01/d.gif", 100, OLD);
+        when(attachmentRepository.findLiveFileUrlsIn(anyCollection()))
+                .thenReturn(Set.of("/uploads/messages/2026/01/01/b.jpg"));
+        when(userRepository.findProfileImagesIn(anyCollection()))
+                .thenReturn(Set.of("/uploads/profiles/2026/01/01/c.png"));
+        when(chatRoomRepository.findImageUrlsIn(anyCollection()))
+                .thenReturn(Set.of("/uploads/rooms/2026/01/01/d.gif"));
+
+        OrphanUploadSweeper.Report report = sweeper(false).sweep();
+
+        assertFalse(Files.exists(orphan));
+        assertFalse(Files.exists(orphanPreview));
+        assertTrue(Files.exists(attached));
+        assertTrue(Files.exists(profile));
+        assertTrue(Files.exists(room));
+        assertEquals(1, report.deleted());
+        assertEquals(110, report.reclaimedBytes());
+        assertEquals(110, meterRegistry.counter("chat.upload.gc.reclaimed").count());
+    }
+
+    @Test
+    void dry_run이면_지우지_않고_회수_가능한_크기만_보고한다() throws IOException {
+        Path orphan = file("messages/2026/01/01/a.png", 100, OLD);
+        Path orphanPreview = file("messages/2026/01/01/a_w480.jpg", 10, OLD);
+
+        OrphanUploadSweeper.Report report = sweeper(true).sweep();
+
+        assertTrue(Files.exists(orphan));
+        assertTrue(Files.exists(orphanPreview));
+        assertTrue(report.dryRun());
+        assertEquals(1, report.orphaned());
+        assertEquals(0, report.deleted());
+        assertEquals(110, report.reclaimedBytes());
+        assertEquals(1, meterRegistry.counter("chat.upload.gc.files", "result", "dry_run").count());
+    }
+
+    @Test
+    void 유예_기간_안의_파일은_참조가_없어도_남긴다() throws IOException {
+        Path recent = file("messages/2026/01/01/a.png", 100, FileTime.from(Instant.now()));
+
+        OrphanUploadSweeper.Report report = sweeper(false).sweep();
+
+        assertTrue(Files.exists(recent));
+        assertEquals(0, report.orphaned());
+        verify(attachmentRepository, never()).findLiveFileUrlsIn(anyCollection());
+    }
+
+    @Test
+    void 원본이_없는_썸네일과_오래된_빈_날짜_디렉토리를_정리한다() throws IOException {
+        Path stray = file("profiles/2026/01/01/gone_s128.jpg", 10, OLD);
+        Path emptyDay = Files.createDirectories(tempDir.resolve("profiles/2025/12/31"));
+        for (Path dir = emptyDay; !dir.equals(tempDir.resolve("profiles")); dir = dir.getParent()) {
+            Files.setLastModifiedTime(dir, OLD);
+        }
+
+        OrphanUploadSweeper.Report report = sweeper(false).sweep();
+
+        assertFalse(Files.exists(stray));
+        assertEquals(1, report.deleted());
+        assertFalse(Files.exists(tempDir.resolve("profiles/2025")));
+        // 방금 파일을 지운 디렉토리는 다음 주기에 정리
+        assertTrue(Files.isDirectory(stray.getParent()));
+        assertEquals(3, report.prunedDirectories());
+    }
+
+    @Test
+    void 배치_크기만큼_나눠_DB와_대조한다() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            file("messages/2026/01/01/f" + i + ".png", 1, OLD);
+        }
+
+        OrphanUploadSweeper.Report report = sweeper(false).sweep();
+
+        assertEquals(5, report.deleted());
+        verify(attachmentRepository, times(3)).findLiveFileUrlsIn(anyCollection());
+    }
+}
@@ -0,0 +1,52 @@
+package com.netmarble.chat.infrastructure.threads;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor =
+            new VirtualThreadPinningMonitor(Duration.ofMillis(20), meterRegistry);
+
+    @Test
+    void pinning_횟수와_시간을_기록() {
+        monitor.record(Duration.ofMillis(30), "com.mysql.cj.protocol.a.NativeProtocol.readMessage:100");
+        monitor.record(Duration.ofMillis(50), "com.mysql.cj.protocol.a.NativeProtocol.readMessage:100");
+
+        Timer pinned = meterRegistry.get("chat.threads.virtual.pinned").timer();
+        assertEquals(2, pinned.count());
+        assertEquals(80, pinned.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    void 같은_위치는_한_번만_로그_대상() {
+        monitor.record(Duration.ofMillis(30), "a.B.c:1");
+        monitor.record(Duration.ofMillis(30), "a.B.c:1");
+        monitor.record(Duration.ofMillis(30), "a.B.d:2");
+
+        assertEquals(2, monitor.loggedSiteCount());
+    }
+
+    @Test
+    void 로그_위치_수는_상한에서_멈춤() {
+        for (int i = 0; i < VirtualThreadPinningMonitor.MAX_LOGGED_SITES + 10; i++) {
+            monitor.record(Duration.ofMillis(30), "a.B.c:" + i);
+        }
+
+        assertEquals(VirtualThreadPinningMonitor.MAX_LOGGED_SITES, monitor.loggedSiteCount());
+        assertEquals(VirtualThreadPinningMonitor.MAX_LOGGED_SITES + 10,
+                meterRegistry.get("chat.threads.virtual.pinned").timer().count());
+    }
+
+    @Test
+    void 스택이_없으면_unknown() {
+        assertEquals("unknown", VirtualThreadPinningMonitor.site(null));
+    }
+}
@@ -0,0 +1,87 @@
+package com.netmarble.chat.infrastructure.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelExecutorFactoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("channel", "inbound").gauge().value();
+    }
+
+    private void block() {
+        executor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    @Test
+    void 큐가_차면_거부하고_센다() throws Exception {
+        executor = ChannelExecutorFactory.create("inbound",
+                new ChannelExecutorFactory.Settings(1, 1, 1, 60, false), null, meterRegistry);
+        executor.initialize();
+
+        block();
+        block();
+        assertThrows(TaskRejectedException.class, this::block);
+
+        assertEquals(1, meterRegistry.get("chat.ws.channel.rejected").tag("channel", "inbound").counter().count());
+        assertEquals(1, gauge("chat.ws.channel.queue_size"));
+        assertEquals(1, gauge("chat.ws.channel.pool_size"));
+        awaitActive(1);
+    }
+
+    @Test
+    void 설정과_스레드_이름_반영() {
+        executor = ChannelExecutorFactory.create("outbound",
+                new ChannelExecutorFactory.Settings(4, 2, 100, 30, false), null, meterRegistry);
+
+        assertEquals(4, executor.getCorePoolSize());
+        // max가 core보다 작으면 core에 맞춘다
+        assertEquals(4, executor.getMaxPoolSize());
+        assertEquals(100, executor.getQueueCapacity());
+        assertEquals(30, executor.getKeepAliveSeconds());
+        assertEquals("ws-outbound-", executor.getThreadNamePrefix());
+    }
+
+    @Test
+    void 초기화_전에도_게이지는_0() {
+        executor = ChannelExecutorFactory.create("inbound",
+                new ChannelExecutorFactory.Settings(2, 4, 10, 60, false), null, meterRegistry);
+
+        assertEquals(0, gauge("chat.ws.channel.active"));
+        assertEquals(0, gauge("chat.ws.channel.queue_size"));
+    }
+
+    private void awaitActive(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gauge("chat.ws.channel.active") != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, gauge("chat.ws.channel.active"));
+    }
+}
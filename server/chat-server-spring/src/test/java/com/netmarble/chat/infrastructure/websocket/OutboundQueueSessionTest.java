@@ -0,0 +1,216 @@
+package com.netmarble.chat.infrastructure.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OutboundQueueSessionTest {
+
+    private WebSocketSession delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundQueueRegistry registry;
+    private List<Runnable> pendingTasks;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn("s1");
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new OutboundQueueRegistry(meterRegistry);
+        pendingTasks = new ArrayList<>();
+    }
+
+    /** drain 작업을 바로 실행하지 않고 쌓아두는 세션 — 소켓 쓰기가 밀린 상황을 재현한다 */
+    private OutboundQueueSession stalledSession(int maxMessages, OutboundOverflowPolicy policy) {
+        OutboundQueueSettings settings = new OutboundQueueSettings(maxMessages, maxMessages, 1024 * 1024, 0, policy, true);
+        return new OutboundQueueSession(delegate, pendingTasks::add, registry, settings);
+    }
+
+    private void runPendingTasks() {
+        while (!pendingTasks.isEmpty()) {
+            pendingTasks.remove(0).run();
+        }
+    }
+
+    private TextMessage frame(String destination, String coalesceKey, String body) {
+        return frame(destination, coalesceKey, null, body);
+    }
+
+    private TextMessage frame(String destination, String coalesceKey, String priority, String body) {
+        StringBuilder sb = new StringBuilder("MESSAGE\ndestination:").append(destination).append('\n');
+        if (coalesceKey != null) {
+            sb.append("coalesce-key:").append(coalesceKey).append('\n');
+        }
+        if (priority != null) {
+            sb.append("priority:").append(priority).append('\n');
+        }
+        sb.append("content-type:application/json\n\n").append(body).append('\u0000');
+        return new TextMessage(sb.toString());
+    }
+
+    private List<String> sentPayloads() throws Exception {
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(delegate, atLeastOnce()).sendMessage(captor.capture());
+        return captor.getAllValues().stream().map(m -> m.getPayload().toString()).toList();
+    }
+
+    @Test
+    void 대기중인_프레임이_없으면_바로_전송() throws Exception {
+        OutboundQueueSettings settings = new OutboundQueueSettings(10, 10, 1024, 0, OutboundOverflowPolicy.DROP_OLDEST, true);
+        OutboundQueueSession session = new OutboundQueueSession(delegate, Runnable::run, registry, settings);
+
+        session.sendMessage(frame("/topic/chatroom.10", null, "{\"id\":1}"));
+
+        verify(delegate).sendMessage(any());
+        assertEquals(0, session.getDepth());
+        assertEquals(1, session.getSentCount());
+    }
+
+    @Test
+    void 한도_초과시_오래된_프레임부터_버림() throws Exception {
+        OutboundQueueSession session = stalledSession(3, OutboundOverflowPolicy.DROP_OLDEST);
+
+        for (int i = 1; i <= 5; i++) {
+            session.sendMessage(frame("/topic/chatroom.10", null, "{\"id\":" + i + "}"));
+        }
+
+        assertEquals(3, session.getDepth());
+        assertEquals(2, session.getDroppedCount());
+        assertEquals(2.0, meterRegistry.get("chat.ws.outbound.dropped")
+                .tag("reason", "overflow").tag("lane", "high").counter().count());
+        assertEquals(Map.of(10L, 2L), registry.topDroppedRooms(20));
+
+        runPendingTasks();
+        List<String> sent = sentPayloads();
+        assertEquals(3, sent.size());
+        assertTrue(sent.get(0).contains("{\"id\":3}"));
+        assertTrue(sent.get(2).contains("{\"id\":5}"));
+    }
+
+    @Test
+    void 같은_coalesce_key_읽음_이벤트는_최신_값만_전송() throws Exception {
+        OutboundQueueSession session = stalledSession(100, OutboundOverflowPolicy.DROP_OLDEST);
+        String dest = "/topic/chatroom.10.read-status";
+
+        session.sendMessage(frame(dest, "read-status.1", "{\"lastReadMessageId\":1}"));
+        session.sendMessage(frame(dest, "read-status.2", "{\"lastReadMessageId\":1}"));
+        session.sendMessage(frame(dest, "read-status.1", "{\"lastReadMessageId\":7}"));
+
+        assertEquals(2, session.getDepth());
+        assertEquals(1, session.getCoalescedCount());
+
+        runPendingTasks();
+        List<String> sent = sentPayloads();
+        assertEquals(2, sent.size());
+        assertTrue(sent.get(0).contains("read-status.2"));
+        assertTrue(sent.get(1).contains("\"lastReadMessageId\":7"));
+    }
+
+    @Test
+    void 채팅_메시지는_대기중인_저우선_프레임보다_먼저_전송() throws Exception {
+        OutboundQueueSession session = stalledSession(100, OutboundOverflowPolicy.DROP_OLDEST);
+
+        for (int i = 1; i <= 3; i++) {
+            session.sendMessage(frame("/topic/chatroom.10.read-status", "read-status." + i, "{\"userId\":" + i + "}"));
+        }
+        session.sendMessage(frame("/topic/chatroom.10", null, "low", "{\"type\":\"SYSTEM\"}"));
+        session.sendMessage(frame("/topic/chatroom.10", null, "{\"id\":99}"));
+        assertEquals(4, session.getLowDepth());
+
+        runPendingTasks();
+        List<String> sent = sentPayloads();
+        assertEquals(5, sent.size());
+        assertTrue(sent.get(0).contains("{\"id\":99}"));
+        assertTrue(sent.get(1).contains("{\"userId\":1}"));
+    }
+
+    @Test
+    void 한도_초과시_저우선_레인부터_버림() throws Exception {
+        OutboundQueueSession session = stalledSession(3, OutboundOverflowPolicy.DISCONNECT);
+
+        session.sendMessage(frame("/topic/chatroom.10.read-status", "read-status.1", "{}"));
+        session.sendMessage(frame("/topic/chatroom.10.read-status", "read-status.2", "{}"));
+        for (int i = 1; i <= 3; i++) {
+            session.sendMessage(frame("/topic/chatroom.10", null, "{\"id\":" + i + "}"));
+        }
+
+        // 고우선 3건은 한도 안이므로 연결을 유지하고 읽음 이벤트만 버린다
+        assertEquals(3, session.getDepth());
+        assertEquals(0, session.getLowDepth());
+        assertEquals(2.0, meterRegistry.get("chat.ws.outbound.dropped")
+                .tag("lane", "low").tag("reason", "overflow").counter().count());
+        verify(delegate, never()).close(any());
+    }
+
+    @Test
+    void DISCONNECT_정책은_한도_초과시_세션_종료() throws Exception {
+        OutboundQueueSession session = stalledSession(2, OutboundOverflowPolicy.DISCONNECT);
+
+        for (int i = 1; i <= 3; i++) {
+            session.sendMessage(frame("/topic/chatroom.10", null, "{\"id\":" + i + "}"));
+        }
+        runPendingTasks();
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(delegate, never()).sendMessage(any());
+        assertEquals(0, session.getDepth());
+        assertEquals(1.0, meterRegistry.get("chat.ws.outbound.disconnects").counter().count());
+
+        // 종료 처리 이후 프레임은 무시
+        session.sendMessage(frame("/topic/chatroom.10", null, "{\"id\":4}"));
+        assertTrue(pendingTasks.isEmpty());
+    }
+
+    @Test
+    void 전송_실패시_세션_종료() throws Exception {
+        OutboundQueueSettings settings = new OutboundQueueSettings(10, 10, 1024, 0, OutboundOverflowPolicy.DROP_OLDEST, true);
+        OutboundQueueSession session = new OutboundQueueSession(delegate, Runnable::run, registry, settings);
+        doThrow(new java.io.IOException("broken pipe")).when(delegate).sendMessage(any());
+
+        session.sendMessage(frame("/topic/chatroom.10", null, "{}"));
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @Test
+    void 프레임_헤더에서_방_ID와_coalesce_key_추출() {
+        OutboundFrame frame = OutboundFrame.of(frame("/topic/chatroom.42.read-status", "read-status.3", "{}"), 0L);
+
+        assertEquals(42L, frame.roomId());
+        assertEquals("/topic/chatroom.42.read-status|read-status.3", frame.coalesceKey());
+        assertTrue(frame.lowPriority());
+        assertTrue(OutboundFrame.of(frame("/topic/chatroom.42", null, "low", "{}"), 0L).lowPriority());
+        assertFalse(OutboundFrame.of(frame("/topic/chatroom.42", null, "{}"), 0L).lowPriority());
+        assertNull(OutboundFrame.of(new TextMessage("\n"), 0L).destination());
+        assertNull(OutboundFrame.parseRoomId("/user/queue/errors"));
+    }
+
+    @Test
+    void 방별_드롭은_상한까지만_추적하고_적게_버린_방부터_밀어냄() {
+        registry.recordDrop(1L, "overflow", "high");
+        registry.recordDrop(1L, "overflow", "high");
+        for (long roomId = 2; roomId <= OutboundQueueRegistry.MAX_TRACKED_ROOMS + 10; roomId++) {
+            registry.recordDrop(roomId, "overflow", "low");
+        }
+
+        Map<Long, Long> top = registry.topDroppedRooms(OutboundQueueRegistry.MAX_TRACKED_ROOMS * 2);
+        assertTrue(top.size() <= OutboundQueueRegistry.MAX_TRACKED_ROOMS);
+        assertEquals(2L, top.values().iterator().next());
+        assertEquals(2L, top.get(1L));
+        assertEquals(1, meterRegistry.find("chat.ws.outbound.dropped").counters().stream()
+                .filter(c -> "low".equals(c.getId().getTag("lane"))).count());
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * 스레드 모드 비교 부하테스트 (플랫폼 스레드 풀 vs 가상 스레드)
+ *
+ * 목적: 블로킹 JDBC/MongoDB 조회가 느려진 상황에서 동시 요청 수가 스레드 풀 크기(Tomcat 기본 200)에 묶이는지,
+ *       가상 스레드 모드에서는 요청이 풀 앞에서 줄 서지 않고 처리되는지 비교
+ * 방식: 같은 도착률(constant-arrival-rate)로 두 번 실행하고 결과 JSON을 비교
+ *   1) 플랫폼: CHAT_VIRTUAL_THREADS_ENABLED=false (JRE 17 또는 21)
+ *   2) 가상:   CHAT_VIRTUAL_THREADS_ENABLED=true, JAVA_RUNTIME_VERSION=21로 빌드한 이미지
+ * 두 실행은 부하 차단(chat.load-shedding)·커넥션 풀 크기 설정을 같게 둔다. 429는 thread_mode_shed로 따로 센다.
+ *
+ * 실행:
+ *   k6 run --env MODE=platform tests/load/thread-mode-compare.js
+ *   k6 run --env MODE=virtual --env RATE=800 tests/load/thread-mode-compare.js
+ *
+ * 비교 지표: http_req_duration p(95)/p(99), thread_mode_shed, dropped_iterations (VU 부족으로 못 보낸 요청)
+ * 서버 쪽: hikaricp.connections.pending, chat.load_shed.*, chat.threads.virtual.pinned (가상 모드)
+ */
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter, Rate, Trend } from 'k6/metrics';
+import { API_URL } from './config.js';
+
+const MODE = __ENV.MODE || 'platform';
+const RATE = parseInt(__ENV.RATE || '400', 10);
+const ROOM_COUNT = 10;
+
+const shedCount   = new Counter('thread_mode_shed');
+const successRate = new Rate('thread_mode_success_rate');
+const readLatency = new Trend('thread_mode_read_duration', true);
+
+export const options = {
+  scenarios: {
+    reads: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: '2m',
+      // 느린 응답이 쌓여도 도착률을 유지하도록 VU를 넉넉히
+      preAllocatedVUs: 500,
+      maxVUs: 3000,
+    },
+  },
+  // 비교가 목적이므로 실패해도 끝까지 실행
+  thresholds: {
+    thread_mode_success_rate: ['rate>0.90'],
+    http_req_duration: ['p(95)<5000'],
+  },
+  tags: { thread_mode: MODE },
+};
+
+export function setup() {
+  const userRes = http.post(`${API_URL}/users`, { nickname: `thread_mode_${MODE}` });
+  const userId = userRes.json().id;
+  if (!userId) throw new Error('사용자 생성 실패');
+
+  const roomIds = [];
+  for (let i = 0; i < ROOM_COUNT; i++) {
+    const roomRes = http.post(`${API_URL}/chat-rooms`, { name: `thread_mode_room_${i}`, creatorId: userId });
+    roomIds.push(roomRes.json().id);
+  }
+  console.log(`[setup] mode=${MODE}, rate=${RATE}/s, rooms=${roomIds.join(',')}`);
+  return { userId, roomIds };
+}
+
+export default function ({ userId, roomIds }) {
+  const roomId = roomIds[Math.floor(Math.random() * roomIds.length)];
+  // 모두 NORMAL 분류 조회 — 부하 차단의 LOW 분류는 섞지 않는다
+  const requests = [
+    () => http.get(`${API_URL}/chat-rooms?userId=${userId}`, { tags: { name: 'chat-rooms' } }),
+    () => http.get(`${API_URL}/chat-rooms/${roomId}`, { tags: { name: 'chat-room' } }),
+    () => http.get(`${API_URL}/messages/chatroom/${roomId}`, { tags: { name: 'messages' } }),
+    () => http.get(`${API_URL}/chat-rooms/${roomId}/messages/search?keyword=thread`, { tags: { name: 'search' } }),
+  ];
+  const res = requests[__ITER % requests.length]();
+
+  if (res.status === 429) {
+    shedCount.add(1);
+  }
+  const ok = check(res, { '조회 2xx': (r) => r.status >= 200 && r.status < 300 });
+  successRate.add(ok);
+  readLatency.add(res.timings.duration);
+}
+
+export function handleSummary(data) {
+  return {
+    [`tests/load/results/thread-mode-${MODE}-summary.json`]: JSON.stringify(data, null, 2),
+  };
+}
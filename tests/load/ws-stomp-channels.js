@@ -0,0 +1,197 @@
+/**
+ * STOMP 채널 실행기·전송 한도·하트비트 설정 비교 부하테스트 (k6)
+ *
+ * 목적: websocket.channels.* / websocket.transport.* / websocket.heartbeat.* 설정 하나씩 바꿔 가며
+ *       같은 부하에서 전송 → 수신 지연, ERROR 프레임, 끊김, 하트비트 수신을 비교
+ *
+ * 테스트 시나리오:
+ *   [setup] 공유 채팅방 ROOMS개 생성
+ *   [VU]  1. 사용자 생성 → 공유 방 입장 (REST)
+ *         2. /ws-stomp 연결, CONNECT(heart-beat: HEARTBEAT)
+ *         3. /topic/chatroom.{roomId} 구독
+ *         4. MSG_INTERVAL_MS 간격으로 MSG_COUNT건 전송 (본문에 VU 표식 + 전송 시각)
+ *         5. 자기 메시지가 브로드캐스트로 돌아온 시간 = 전송 → 수신 지연
+ *         6. HOLD_MS 동안 대기하며 하트비트 수신 확인 → DISCONNECT
+ *
+ * 설정별 실행 예 (서버는 설정을 바꿔 재기동, 결과는 SETTING 이름으로 저장):
+ *   inbound 풀 축소:   WEBSOCKET_CHANNELS_INBOUND_CORE_POOL_SIZE=4
+ *     k6 run --env SETTING=inbound-4 tests/load/ws-stomp-channels.js
+ *   outbound 큐 축소:  WEBSOCKET_CHANNELS_OUTBOUND_QUEUE_CAPACITY=100
+ *     k6 run --env SETTING=outbound-q100 --env VUS=500 tests/load/ws-stomp-channels.js
+ *   프레임 크기 한도:  WEBSOCKET_TRANSPORT_MESSAGE_SIZE_LIMIT=8192
+ *     k6 run --env SETTING=size-8k --env PAYLOAD_BYTES=16384 tests/load/ws-stomp-channels.js
+ *   하트비트:          WEBSOCKET_HEARTBEAT_SERVER_MS=5000
+ *     k6 run --env SETTING=hb-5s --env HOLD_MS=20000 tests/load/ws-stomp-channels.js
+ *
+ * 서버 쪽 함께 볼 지표: chat.ws.channel.{active,pool_size,queue_size,rejected}{channel}, chat.ws.outbound.*
+ */
+
+import http from 'k6/http';
+import ws   from 'k6/ws';
+import { check, sleep } from 'k6';
+import { Counter, Rate, Trend } from 'k6/metrics';
+import { API_URL, WS_URL } from './config.js';
+
+const SETTING         = __ENV.SETTING || 'default';
+const VUS             = parseInt(__ENV.VUS || '300', 10);
+const ROOMS           = parseInt(__ENV.ROOMS || '2', 10);
+const MSG_COUNT       = parseInt(__ENV.MSG_COUNT || '20', 10);
+const MSG_INTERVAL_MS = parseInt(__ENV.MSG_INTERVAL_MS || '100', 10);
+const PAYLOAD_BYTES   = parseInt(__ENV.PAYLOAD_BYTES || '0', 10);
+const HEARTBEAT       = __ENV.HEARTBEAT || '10000,10000';
+const HOLD_MS         = parseInt(__ENV.HOLD_MS || '12000', 10);
+const JSON_HEADERS    = { 'Content-Type': 'application/json' };
+
+const sendToReceive     = new Trend('stomp_send_to_receive_ms', true);
+const ownReceived       = new Counter('stomp_own_messages_received');
+const msgSentCount      = new Counter('stomp_messages_sent');
+const errorFrames       = new Counter('stomp_error_frames');
+const heartbeatsRecv    = new Counter('stomp_heartbeats_received');
+const unexpectedCloses  = new Counter('ws_unexpected_closes');
+const deliveryRate      = new Rate('stomp_own_delivery_rate');
+
+export const options = {
+  stages: [
+    { duration: '15s', target: VUS },
+    { duration: '60s', target: VUS },
+    { duration: '15s', target: 0   },
+  ],
+  // 설정 간 비교가 목적이므로 임계값은 느슨하게
+  thresholds: {
+    stomp_send_to_receive_ms: ['p(95)<3000'],
+    stomp_own_delivery_rate:  ['rate>0.90'],
+  },
+  tags: { ws_setting: SETTING },
+};
+
+function stompFrame(command, headers, body = '') {
+  let frame = command + '\n';
+  for (const [k, v] of Object.entries(headers)) {
+    frame += `${k}:${v}\n`;
+  }
+  return frame + '\n' + body + '\0';
+}
+
+function frameBody(rawData) {
+  const start = rawData.indexOf('\n\n');
+  return start < 0 ? '' : rawData.substring(start + 2).replace(/\0$/, '');
+}
+
+export function setup() {
+  const coordRes = http.post(`${API_URL}/users`, { nickname: `ws_channels_${SETTING}` });
+  const coordId = coordRes.json().id;
+  if (!coordId) throw new Error('코디네이터 유저 생성 실패');
+
+  const rooms = [];
+  for (let i = 0; i < ROOMS; i++) {
+    const roomRes = http.post(`${API_URL}/chat-rooms`, { name: `ws_channels_${i}`, creatorId: coordId });
+    if (roomRes.json().id) rooms.push(roomRes.json().id);
+  }
+  if (rooms.length === 0) throw new Error('공유 방 생성 실패');
+  console.log(`[setup] setting=${SETTING}, rooms=${rooms.join(', ')}, heartbeat=${HEARTBEAT}`);
+  return { rooms };
+}
+
+export default function ({ rooms }) {
+  const userRes = http.post(`${API_URL}/users`, { nickname: `ws_ch_${__VU}_${__ITER}` });
+  const userId = userRes.status === 200 || userRes.status === 201 ? userRes.json().id : null;
+  if (!userId) {
+    sleep(1);
+    return;
+  }
+  const roomId = rooms[(__VU - 1) % rooms.length];
+  http.post(`${API_URL}/chat-rooms/${roomId}/join?userId=${userId}`, null, { headers: JSON_HEADERS });
+
+  const marker = `ch-${__VU}-${__ITER}-`;
+  const padding = PAYLOAD_BYTES > 0 ? ' ' + 'x'.repeat(PAYLOAD_BYTES) : '';
+  let sent = 0;
+  let received = 0;
+  let closing = false;
+
+  const res = ws.connect(WS_URL, {}, (socket) => {
+    socket.on('open', () => {
+      socket.send(stompFrame('CONNECT', {
+        'accept-version': '1.2,1.1',
+        'heart-beat': HEARTBEAT,
+        host: 'localhost',
+      }));
+    });
+
+    socket.on('message', (rawData) => {
+      // 하트비트는 줄바꿈만 있는 프레임
+      if (rawData === '\n' || rawData === '\r\n') {
+        heartbeatsRecv.add(1);
+        return;
+      }
+      const cmd = (rawData.split('\n')[0] || '').trim();
+
+      if (cmd === 'ERROR') {
+        errorFrames.add(1);
+        return;
+      }
+      if (cmd === 'CONNECTED') {
+        socket.send(stompFrame('SUBSCRIBE', { id: 'sub-0', destination: `/topic/chatroom.${roomId}`, ack: 'auto' }));
+
+        const sendNext = () => {
+          if (sent >= MSG_COUNT) {
+            socket.setTimeout(() => {
+              closing = true;
+              socket.send(stompFrame('DISCONNECT', { receipt: 'disconnect-receipt' }));
+              socket.close();
+            }, HOLD_MS);
+            return;
+          }
+          socket.send(stompFrame(
+            'SEND',
+            { destination: '/app/chat.sendMessage', 'content-type': 'application/json' },
+            JSON.stringify({
+              chatRoomId: roomId,
+              senderId: userId,
+              messageType: 'TEXT',
+              content: `${marker}${sent}|${Date.now()}${padding}`,
+            }),
+          ));
+          msgSentCount.add(1);
+          sent++;
+          socket.setTimeout(sendNext, MSG_INTERVAL_MS);
+        };
+        sendNext();
+        return;
+      }
+      if (cmd === 'MESSAGE') {
+        let content;
+        try {
+          content = JSON.parse(frameBody(rawData)).content;
+        } catch (e) {
+          return;
+        }
+        if (typeof content === 'string' && content.startsWith(marker)) {
+          const sentAt = parseInt(content.split('|')[1], 10);
+          if (!isNaN(sentAt)) sendToReceive.add(Date.now() - sentAt);
+          ownReceived.add(1);
+          received++;
+        }
+      }
+    });
+
+    socket.on('close', () => {
+      if (!closing) unexpectedCloses.add(1);
+    });
+
+    socket.on('error', () => {
+      unexpectedCloses.add(1);
+    });
+  });
+
+  check(res, { 'WebSocket 101': (r) => r && r.status === 101 });
+  for (let i = 0; i < sent; i++) {
+    deliveryRate.add(i < received);
+  }
+  http.post(`${API_URL}/chat-rooms/${roomId}/leave?userId=${userId}`, null, { headers: JSON_HEADERS });
+}
+
+export function handleSummary(data) {
+  return {
+    [`tests/load/results/ws-stomp-channels-${SETTING}-summary.json`]: JSON.stringify(data, null, 2),
+  };
+}